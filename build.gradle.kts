@@ -1,9 +1,17 @@
+import java.io.IOException
+import java.net.HttpURLConnection
+import java.net.ServerSocket
+import java.net.URI
+import java.util.concurrent.TimeUnit
+
 plugins {
     id("java")
     id("org.springframework.boot") version "3.5.10"
+    id("org.springframework.boot.aot") version "3.5.10"
     id("io.spring.dependency-management") version "1.1.4"
     id("jacoco")
     id("org.openapi.generator") version "7.4.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.velocity"
@@ -60,7 +68,8 @@ dependencies {
     // Database
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
-    runtimeOnly("org.postgresql:postgresql")
+    // compile scope for the COPY API used by the booking import
+    implementation("org.postgresql:postgresql")
     runtimeOnly("com.h2database:h2")
 
     // Lombok
@@ -86,6 +95,10 @@ dependencies {
     testImplementation("org.testcontainers:kafka")
     testImplementation("org.awaitility:awaitility:4.2.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks (src/jmh)
+    "jmh"("org.testcontainers:postgresql")
+    "jmh"("org.postgresql:postgresql")
 }
 
 tasks.test {
@@ -113,6 +126,15 @@ tasks.register<Test>("allTests") {
     useJUnitPlatform()
 }
 
+// JMH benchmarks (./gradlew jmh). The gc profiler reports allocation per operation.
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -175,3 +197,142 @@ sourceSets {
 tasks.compileJava {
     dependsOn(tasks.openApiGenerate)
 }
+
+// One-shot booking export, e.g.
+// ./gradlew exportBookings -Pfrom=2026-01-01 -Pto=2026-01-31 -Pformat=CSV -Poutput=build/bookings.csv.gz
+tasks.register<JavaExec>("exportBookings") {
+    description = "Streams bookings in a rental-date range to a file"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.velocity.carservice.CarBookingApplication")
+    args = listOf(
+        "--spring.profiles.active=${findProperty("profiles") ?: "local"},export",
+        "--app.export.from=${findProperty("from") ?: ""}",
+        "--app.export.to=${findProperty("to") ?: ""}",
+        "--app.export.format=${findProperty("format") ?: "NDJSON"}",
+        "--app.export.output=${findProperty("output") ?: "build/bookings.ndjson"}"
+    )
+}
+
+// One-shot booking CSV import, e.g.
+// ./gradlew importBookings -Pfile=/data/brand-bookings.csv
+tasks.register<JavaExec>("importBookings") {
+    description = "Imports a booking CSV through COPY; re-run after a failure to resume"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.velocity.carservice.CarBookingApplication")
+    args = listOf(
+        "--spring.profiles.active=${findProperty("profiles") ?: "local"},import",
+        "--app.import.file=${findProperty("file") ?: ""}"
+    )
+}
+
+// Bank statement file, dry run unless -PdryRun=false, e.g.
+// ./gradlew applyStatement -Pfile=/data/eod-2026-03-01.sta -Pformat=MT940
+tasks.register<JavaExec>("applyStatement") {
+    description = "Applies the payments of a bank statement file and writes a reconciliation report"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.velocity.carservice.CarBookingApplication")
+    args = listOf(
+        "--spring.profiles.active=${findProperty("profiles") ?: "local"},statement",
+        "--app.statement.file=${findProperty("file") ?: ""}",
+        "--app.statement.format=${findProperty("format") ?: "CSV"}",
+        "--app.statement.dry-run=${findProperty("dryRun") ?: "true"}"
+    )
+}
+
+// Spring AOT: bean definitions are generated at build time for the profiles given here, so conditions such as
+// @ConditionalOnProperty and @Profile are evaluated once, against these profiles. The generated code is used only
+// when the application is started with -Dspring.aot.enabled=true.
+tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+    args("--spring.profiles.active=${findProperty("aotProfiles") ?: "prod"}")
+}
+
+// The tests run on the regular context. Processing them ahead of time would refresh every test context during the
+// build, including the Testcontainers ones, so `test` would need Docker.
+tasks.named("processTestAot") {
+    enabled = false
+}
+
+// AppCDS: extract the boot jar into the layout the JVM can map from a shared archive, then record the classes
+// loaded while the context starts. The archive is only valid for the JVM and class path it was created with.
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsJava = "${System.getProperty("java.home")}/bin/java"
+
+tasks.register<Exec>("extractBootJar") {
+    description = "Extracts the boot jar into build/cds/application"
+    group = "build"
+    dependsOn(tasks.bootJar)
+    commandLine(cdsJava, "-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+        "extract", "--force", "--destination", cdsDir.get().dir("application").asFile.absolutePath)
+}
+
+tasks.register<Exec>("trainCds") {
+    description = "Creates the AppCDS archive from a training run of the extracted application"
+    group = "build"
+    dependsOn("extractBootJar")
+    workingDir(cdsDir.get().dir("application"))
+    commandLine(cdsJava, "-XX:ArchiveClassesAtExit=application.jsa", "-Dspring.aot.enabled=true",
+        "-Dspring.context.exit=onRefresh", "-Dspring.profiles.active=prod,cds-training",
+        "-jar", tasks.bootJar.get().archiveFileName.get())
+}
+
+// Time until /actuator/health/readiness reports UP, with and without the AOT code and the CDS archive, e.g.
+// ./gradlew startupBenchmark -PstartupRuns=10
+tasks.register("startupBenchmark") {
+    description = "Reports time-to-ready of the extracted application with and without AOT and AppCDS"
+    group = "verification"
+    dependsOn("trainCds")
+    doLast {
+        val appDir = cdsDir.get().dir("application").asFile
+        val jar = tasks.bootJar.get().archiveFileName.get()
+        val runs = (findProperty("startupRuns") ?: "5").toString().toInt()
+        val variants = linkedMapOf(
+            "baseline" to listOf<String>(),
+            "aot" to listOf("-Dspring.aot.enabled=true"),
+            "cds" to listOf("-XX:SharedArchiveFile=application.jsa"),
+            "aot+cds" to listOf("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa")
+        )
+        variants.forEach { (variant, flags) ->
+            val times = (1..runs).map { timeToReady(appDir, jar, flags) }.sorted()
+            println(String.format("%-9s median %5d ms   min %5d ms   max %5d ms   (%d runs)",
+                variant, times[times.size / 2], times.first(), times.last(), runs))
+        }
+    }
+}
+
+fun timeToReady(appDir: File, jar: String, flags: List<String>): Long {
+    val port = ServerSocket(0).use { it.localPort }
+    val command = listOf(cdsJava) + flags + listOf("-Dspring.profiles.active=prod,cds-training",
+        "-Dserver.port=$port", "-jar", jar)
+    val started = System.nanoTime()
+    val process = ProcessBuilder(command).directory(appDir).redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD).start()
+    try {
+        val readiness = URI("http://localhost:$port/actuator/health/readiness").toURL()
+        val deadline = started + TimeUnit.MINUTES.toNanos(2)
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive) {
+                throw GradleException("Application exited with ${process.exitValue()}: ${command.joinToString(" ")}")
+            }
+            val ready = try {
+                (readiness.openConnection() as HttpURLConnection).run {
+                    connectTimeout = 100
+                    readTimeout = 1000
+                    responseCode == 200
+                }
+            } catch (e: IOException) {
+                false
+            }
+            if (ready) {
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+            }
+            Thread.sleep(20)
+        }
+        throw GradleException("Application not ready within 2 minutes: ${command.joinToString(" ")}")
+    } finally {
+        process.destroy()
+        process.waitFor()
+    }
+}
@@ -1 +1,9 @@
-rootProject.name = "car-booking-service"
\ No newline at end of file
+pluginManagement {
+    repositories {
+        gradlePluginPortal()
+        // The Spring Boot AOT plugin marker is published to Maven Central only
+        mavenCentral()
+    }
+}
+
+rootProject.name = "car-booking-service"
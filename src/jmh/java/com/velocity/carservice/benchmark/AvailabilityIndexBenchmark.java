@@ -0,0 +1,88 @@
+package com.velocity.carservice.benchmark;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+import com.velocity.carservice.infrastructure.inventory.AvailabilityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Availability searches over a fleet of {@code vehicles} vehicles, each booked for about half of a 90-day
+ * horizon in rentals of 1-14 days. Each search is for a random category and 1-21 days. Sampled, so the report
+ * includes the p0.99 latency; the target is under 1 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityIndexBenchmark {
+
+    private static final int HORIZON_DAYS = 90;
+    private static final int SEARCHES = 4096;
+
+    @Param({"10000"})
+    private int vehicles;
+
+    private AvailabilityIndex index;
+    private VehicleCategory[] categories;
+    private LocalDate[] starts;
+    private LocalDate[] ends;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate origin = LocalDate.of(2026, 6, 1);
+        Random random = new Random(42);
+        index = new AvailabilityIndex(origin, HORIZON_DAYS);
+        VehicleCategory[] all = VehicleCategory.values();
+        int bookingId = 0;
+        for (int v = 0; v < vehicles; v++) {
+            String vehicleId = "VH-" + v;
+            index.addVehicle(vehicleId, all[v % all.length]);
+            int day = random.nextInt(7);
+            while (day < HORIZON_DAYS) {
+                int length = 1 + random.nextInt(14);
+                index.reserve(new VehicleRental("B" + bookingId++, vehicleId,
+                        origin.plusDays(day), origin.plusDays(day + length)));
+                day += length + 1 + random.nextInt(14);
+            }
+        }
+
+        categories = new VehicleCategory[SEARCHES];
+        starts = new LocalDate[SEARCHES];
+        ends = new LocalDate[SEARCHES];
+        for (int i = 0; i < SEARCHES; i++) {
+            int length = 1 + random.nextInt(21);
+            categories[i] = all[random.nextInt(all.length)];
+            starts[i] = origin.plusDays(random.nextInt(HORIZON_DAYS - length));
+            ends[i] = starts[i].plusDays(length);
+        }
+    }
+
+    @Benchmark
+    public AvailabilityIndex.CategoryAvailability searchCategory() {
+        int i = next();
+        return index.availability(categories[i], starts[i], ends[i], 50);
+    }
+
+    @Benchmark
+    public boolean anyFree() {
+        int i = next();
+        return index.anyFree(categories[i], starts[i], ends[i]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SEARCHES - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,186 @@
+package com.velocity.carservice.benchmark;
+
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.repository.BookingRepositoryImpl;
+import com.velocity.carservice.infrastructure.repository.JdbcBookingRepository;
+import com.velocity.carservice.infrastructure.repository.JpaBookingRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Hibernate and plain-JDBC {@link BookingRepository} implementations on the hot paths.
+ * Runs against a real PostgreSQL (Testcontainers); run with {@code ./gradlew jmh} and read the
+ * {@code gc.alloc.rate.norm} column for bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingRepositoryBenchmark {
+
+    private static final int BOOKING_COUNT = 20_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"jpa", "jdbc"})
+    private String implementation;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private BookingRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private List<String> bookingIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+        postgres.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(4);
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.velocity.carservice.domain.model");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.afterPropertiesSet();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        JdbcBookingRepository jdbcRepository = new JdbcBookingRepository(new JdbcTemplate(dataSource), 500);
+        seed(jdbcRepository);
+
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        repository = switch (implementation) {
+            case "jpa" -> new BookingRepositoryImpl(
+                    new JpaRepositoryFactory(sharedEntityManager).getRepository(JpaBookingRepository.class),
+                    sharedEntityManager, 500);
+            case "jdbc" -> jdbcRepository;
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    /**
+     * Puts every booking back to PENDING_PAYMENT so each iteration cancels fresh rows.
+     */
+    @Setup(Level.Iteration)
+    public void resetStatuses() {
+        transactionTemplate.executeWithoutResult(status ->
+                JdbcClient.create(dataSource)
+                        .sql("UPDATE bookings SET status = 'PENDING_PAYMENT'")
+                        .update());
+        cursor = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Object lookupByBookingId() {
+        return transactionTemplate.execute(status -> repository.findByBookingId(nextBookingId()));
+    }
+
+    @Benchmark
+    public Object statusProjection() {
+        return transactionTemplate.execute(status -> repository.findStatusByBookingId(nextBookingId()));
+    }
+
+    @Benchmark
+    public Object cancelIfPending() {
+        return transactionTemplate.execute(status -> repository.cancelIfPending(nextBookingId()));
+    }
+
+    @Benchmark
+    public Object loadModifySave() {
+        return transactionTemplate.execute(status -> {
+            Booking booking = repository.findByBookingId(nextBookingId()).orElseThrow();
+            booking.setAmountReceived(booking.getAmountReceived().add(BigDecimal.ONE));
+            return repository.save(booking);
+        });
+    }
+
+    @Benchmark
+    public Integer batchUpdateStatus() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(nextBookingId());
+        }
+        return transactionTemplate.execute(status -> repository.batchUpdateStatus(batch, BookingStatus.CONFIRMED));
+    }
+
+    private String nextBookingId() {
+        String bookingId = bookingIds.get(cursor);
+        cursor = (cursor + 1) % bookingIds.size();
+        return bookingId;
+    }
+
+    private void seed(BookingRepository seeder) {
+        bookingIds = new ArrayList<>(BOOKING_COUNT);
+        LocalDate start = LocalDate.now().plusDays(10);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BOOKING_COUNT; i++) {
+                String bookingId = String.format("BKG%07d", i);
+                // Each vehicle's bookings follow one another, as the V9 exclusion constraint requires
+                LocalDate rentalStart = start.plusDays(3L * (i / 500));
+                seeder.save(Booking.builder()
+                        .bookingId(bookingId)
+                        .customerName("Benchmark Customer " + i)
+                        .vehicleId("VH-" + (i % 500))
+                        .vehicleCategory(VehicleCategory.values()[i % VehicleCategory.values().length])
+                        .rentalStartDate(rentalStart)
+                        .rentalEndDate(rentalStart.plusDays(3))
+                        .paymentMode(PaymentMode.BANK_TRANSFER)
+                        .paymentReference("BT-" + i)
+                        .status(BookingStatus.PENDING_PAYMENT)
+                        .paymentAmount(new BigDecimal("300.00"))
+                        .amountReceived(BigDecimal.ZERO)
+                        .build());
+                bookingIds.add(bookingId);
+            }
+        });
+    }
+}
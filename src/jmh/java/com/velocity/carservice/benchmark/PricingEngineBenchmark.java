@@ -0,0 +1,110 @@
+package com.velocity.carservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.Tariff;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.service.PricingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prices random rentals of 1-21 days with the {@link PricingEngine} and, for comparison, with a straightforward
+ * per-day {@link BigDecimal} evaluation of the same bundled tariff. Run with {@code ./gradlew jmh}; the
+ * {@code gc.alloc.rate.norm} column of {@code priceCents} should be zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingEngineBenchmark {
+
+    private static final int RENTALS = 4096;
+
+    private Tariff tariff;
+    private PricingEngine pricingEngine;
+    private VehicleCategory[] categories;
+    private LocalDate[] starts;
+    private LocalDate[] ends;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/pricing/tariff.json")) {
+            tariff = new ObjectMapper().readValue(in, Tariff.class);
+        }
+        pricingEngine = new PricingEngine();
+        pricingEngine.load(tariff);
+
+        Random random = new Random(42);
+        categories = new VehicleCategory[RENTALS];
+        starts = new LocalDate[RENTALS];
+        ends = new LocalDate[RENTALS];
+        LocalDate first = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < RENTALS; i++) {
+            categories[i] = VehicleCategory.values()[random.nextInt(VehicleCategory.values().length)];
+            starts[i] = first.plusDays(random.nextInt(730));
+            ends[i] = starts[i].plusDays(1 + random.nextInt(21));
+        }
+    }
+
+    @Benchmark
+    public long priceCents() {
+        int i = next();
+        return pricingEngine.priceCents(categories[i], starts[i], ends[i]);
+    }
+
+    @Benchmark
+    public BigDecimal perDayBigDecimal() {
+        int i = next();
+        BigDecimal total = BigDecimal.ZERO;
+        int days = 0;
+        for (LocalDate day = starts[i]; day.isBefore(ends[i]); day = day.plusDays(1)) {
+            long cents = tariff.dailyRatesCents().get(categories[i]).get(seasonOf(day));
+            total = total.add(BigDecimal.valueOf(cents, 2));
+            days++;
+        }
+        BigDecimal percent = BigDecimal.ZERO;
+        for (Tariff.LengthDiscount discount : tariff.lengthDiscounts()) {
+            if (days >= discount.minDays() && discount.percent().compareTo(percent) > 0) {
+                percent = discount.percent();
+            }
+        }
+        BigDecimal factor = BigDecimal.ONE.subtract(percent.movePointLeft(2));
+        return total.multiply(factor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private String seasonOf(LocalDate day) {
+        MonthDay monthDay = MonthDay.from(day);
+        String season = tariff.defaultSeason();
+        for (Tariff.Season candidate : tariff.seasons()) {
+            MonthDay from = MonthDay.parse("--" + candidate.from());
+            MonthDay to = MonthDay.parse("--" + candidate.to());
+            boolean inRange = from.isAfter(to)
+                    ? !monthDay.isBefore(from) || !monthDay.isAfter(to)
+                    : !monthDay.isBefore(from) && !monthDay.isAfter(to);
+            if (inRange) {
+                season = candidate.name();
+            }
+        }
+        return season;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (RENTALS - 1);
+        return cursor;
+    }
+}
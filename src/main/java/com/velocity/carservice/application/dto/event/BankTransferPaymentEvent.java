@@ -1,5 +1,7 @@
 package com.velocity.carservice.application.dto.event;
 
+import com.velocity.carservice.domain.model.BookingIdCodec;
+
 import java.math.BigDecimal;
 
 public record BankTransferPaymentEvent(
@@ -11,12 +13,24 @@ public record BankTransferPaymentEvent(
     /**
      * Extracts the booking ID from transactionDetails
      * Format: <TxnRef (12 chars)> <BookingId (10 chars)>
+     * Returns null when the booking ID is malformed or fails its check character.
      */
     public String extractBookingId() {
         if (transactionDetails == null || transactionDetails.length() < 23) {
             return null;
         }
-        return transactionDetails.substring(13).trim();
+        int start = 13;
+        int end = transactionDetails.length();
+        while (start < end && Character.isWhitespace(transactionDetails.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(transactionDetails.charAt(end - 1))) {
+            end--;
+        }
+        if (!BookingIdCodec.isValid(transactionDetails, start, end)) {
+            return null;
+        }
+        return transactionDetails.substring(start, end);
     }
 
     /**
@@ -0,0 +1,14 @@
+package com.velocity.carservice.application.dto.event;
+
+import java.util.List;
+
+/**
+ * Published when bookings change outside the {@code @CacheEvict}-annotated service methods, such as in a batch
+ * update; their cache entries are evicted in bulk once the transaction has committed.
+ */
+public record BookingCacheEvictionEvent(List<String> bookingIds) {
+
+    public static BookingCacheEvictionEvent of(List<String> bookingIds) {
+        return new BookingCacheEvictionEvent(List.copyOf(bookingIds));
+    }
+}
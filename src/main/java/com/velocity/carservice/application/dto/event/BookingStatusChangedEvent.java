@@ -0,0 +1,37 @@
+package com.velocity.carservice.application.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.VehicleRental;
+
+import java.time.Instant;
+
+/**
+ * Published when a booking is created or changes status, and broadcast to every node once committed.
+ * A creation event also carries the booking's {@code rental}, so nodes can update their fleet inventory without
+ * loading the booking.
+ */
+public record BookingStatusChangedEvent(
+        String bookingId,
+        BookingStatus status,
+        Instant occurredAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) VehicleRental rental
+) {
+    public static BookingStatusChangedEvent of(String bookingId, BookingStatus status) {
+        return new BookingStatusChangedEvent(bookingId, status, Instant.now(), null);
+    }
+
+    public static BookingStatusChangedEvent created(Booking booking) {
+        return new BookingStatusChangedEvent(booking.getBookingId(), booking.getStatus(), Instant.now(),
+                new VehicleRental(booking.getBookingId(), booking.getVehicleId(), booking.getRentalStartDate(),
+                        booking.getRentalEndDate()));
+    }
+
+    /**
+     * @return the event as sent to clients, without the rental
+     */
+    public BookingStatusChangedEvent withoutRental() {
+        return rental == null ? this : new BookingStatusChangedEvent(bookingId, status, occurredAt, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.velocity.carservice.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.velocity.carservice.shared.constant.AppConstants.MAX_BATCH_GET_BOOKING_IDS;
+
+public record BookingBatchGetRequestDTO(
+        @NotEmpty(message = "At least one booking ID is required")
+        @Size(max = MAX_BATCH_GET_BOOKING_IDS,
+                message = "At most " + MAX_BATCH_GET_BOOKING_IDS + " booking IDs per request")
+        List<@NotBlank(message = "Booking IDs must not be blank") String> bookingIds
+) {
+}
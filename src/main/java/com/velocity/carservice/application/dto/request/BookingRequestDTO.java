@@ -33,6 +33,16 @@ public record BookingRequestDTO(
         PaymentMode paymentMode,
 
         @NotBlank(message = "Payment reference is required")
-        String paymentReference
+        String paymentReference,
+
+        // Optional token from POST /api/v1/quotes; the booking is charged the quoted amount
+        String holdToken
 ) {
+
+    public BookingRequestDTO(String customerName, String vehicleId, VehicleCategory vehicleCategory,
+                             LocalDate rentalStartDate, LocalDate rentalEndDate, PaymentMode paymentMode,
+                             String paymentReference) {
+        this(customerName, vehicleId, vehicleCategory, rentalStartDate, rentalEndDate, paymentMode,
+                paymentReference, null);
+    }
 }
@@ -0,0 +1,17 @@
+package com.velocity.carservice.application.dto.request;
+
+/**
+ * One line of a bulk NDJSON upload: {@code {"op": "CREATE", "booking": {...}}} with the same fields as
+ * {@link BookingRequestDTO}, or {@code {"op": "CANCEL", "bookingId": "..."}}.
+ */
+public record BulkOperationDTO(
+        Operation op,
+        BookingRequestDTO booking,
+        String bookingId
+) {
+
+    public enum Operation {
+        CREATE,
+        CANCEL
+    }
+}
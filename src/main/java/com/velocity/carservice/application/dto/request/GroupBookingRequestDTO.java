@@ -0,0 +1,61 @@
+package com.velocity.carservice.application.dto.request;
+
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.velocity.carservice.shared.constant.AppConstants.MAX_GROUP_BOOKING_VEHICLES;
+
+public record GroupBookingRequestDTO(
+        @NotBlank(message = "Customer name is required")
+        @Size(min = 2, max = 100, message = "Customer name must be between 2 and 100 characters")
+        String customerName,
+
+        @NotNull(message = "Rental start date is required")
+        @FutureOrPresent(message = "Rental start date must be today or in the future")
+        LocalDate rentalStartDate,
+
+        @NotNull(message = "Rental end date is required")
+        @Future(message = "Rental end date must be in the future")
+        LocalDate rentalEndDate,
+
+        @NotNull(message = "Payment mode is required")
+        PaymentMode paymentMode,
+
+        @NotBlank(message = "Payment reference is required")
+        String paymentReference,
+
+        @NotEmpty(message = "At least one vehicle is required")
+        @Size(max = MAX_GROUP_BOOKING_VEHICLES,
+                message = "At most " + MAX_GROUP_BOOKING_VEHICLES + " vehicles per group booking")
+        List<@Valid @NotNull(message = "Vehicles must not be null") Vehicle> vehicles
+) {
+
+    /**
+     * @return the booking of each vehicle, in order
+     */
+    public List<BookingRequestDTO> bookings() {
+        return vehicles.stream()
+                .map(vehicle -> new BookingRequestDTO(customerName, vehicle.vehicleId(), vehicle.vehicleCategory(),
+                        rentalStartDate, rentalEndDate, paymentMode, paymentReference))
+                .toList();
+    }
+
+    public record Vehicle(
+            @NotBlank(message = "Vehicle ID is required")
+            String vehicleId,
+
+            @NotNull(message = "Vehicle category is required")
+            VehicleCategory vehicleCategory
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.velocity.carservice.application.dto.request;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record QuoteRequestDTO(
+        @NotBlank(message = "Vehicle ID is required")
+        String vehicleId,
+
+        @NotNull(message = "Vehicle category is required")
+        VehicleCategory vehicleCategory,
+
+        @NotNull(message = "Rental start date is required")
+        @FutureOrPresent(message = "Rental start date must be today or in the future")
+        LocalDate rentalStartDate,
+
+        @NotNull(message = "Rental end date is required")
+        @Future(message = "Rental end date must be in the future")
+        LocalDate rentalEndDate
+) {
+}
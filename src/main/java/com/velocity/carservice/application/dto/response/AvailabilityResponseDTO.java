@@ -0,0 +1,21 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AvailabilityResponseDTO(
+        LocalDate from,
+        LocalDate to,
+        List<CategoryAvailability> categories
+) {
+
+    public record CategoryAvailability(
+            VehicleCategory category,
+            int fleetSize,
+            int availableCount,
+            List<String> vehicleIds
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.velocity.carservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Bookings found, in request order, plus the requested IDs that do not exist.
+ */
+public record BookingBatchGetResponseDTO(
+        List<BookingResponseDTO> bookings,
+        List<String> notFound
+) {
+}
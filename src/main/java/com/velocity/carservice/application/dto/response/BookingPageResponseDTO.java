@@ -0,0 +1,14 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.velocity.carservice.domain.model.BookingSummary;
+
+import java.util.List;
+
+/**
+ * One page of a booking search. {@code nextCursor} is null on the last page.
+ */
+public record BookingPageResponseDTO(
+        List<BookingSummary> bookings,
+        String nextCursor
+) {
+}
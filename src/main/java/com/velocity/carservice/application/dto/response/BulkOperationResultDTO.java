@@ -0,0 +1,27 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.velocity.carservice.application.dto.request.BulkOperationDTO.Operation;
+import com.velocity.carservice.domain.model.BookingStatus;
+
+/**
+ * Outcome of one line of a bulk upload. {@code line} is the 1-based line number in the upload; {@code error} is
+ * only set, and {@code bookingStatus} only unset, when the operation was not applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOperationResultDTO(
+        long line,
+        Operation op,
+        String bookingId,
+        BookingStatus bookingStatus,
+        String error
+) {
+
+    public static BulkOperationResultDTO applied(long line, Operation op, String bookingId, BookingStatus status) {
+        return new BulkOperationResultDTO(line, op, bookingId, status, null);
+    }
+
+    public static BulkOperationResultDTO failed(long line, Operation op, String bookingId, String error) {
+        return new BulkOperationResultDTO(line, op, bookingId, null, error);
+    }
+}
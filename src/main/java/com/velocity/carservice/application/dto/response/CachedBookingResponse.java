@@ -0,0 +1,42 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+
+/**
+ * Entry of the {@code bookings} cache: the {@link BookingResponseDTO} already encoded as the JSON response body,
+ * plus the status and version needed for ETag and Cache-Control. A cache hit is written to the client as-is,
+ * without any object mapping.
+ *
+ * @param body UTF-8 JSON of the {@link BookingResponseDTO}; must not be modified
+ */
+public record CachedBookingResponse(
+        String bookingId,
+        BookingStatus status,
+        long version,
+        byte[] body
+) {
+
+    public static CachedBookingResponse of(BookingStatusView booking, ObjectMapper objectMapper) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new BookingResponseDTO(booking.bookingId(), booking.status()));
+            long version = booking.version() != null ? booking.version() : 0L;
+            return new CachedBookingResponse(booking.bookingId(), booking.status(), version, body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode booking response for " + booking.bookingId(), e);
+        }
+    }
+
+    /**
+     * Strong ETag from the optimistic-lock version, which changes on every status transition.
+     */
+    public String eTag() {
+        return "\"" + version + "\"";
+    }
+
+    public BookingStatusView toStatusView() {
+        return new BookingStatusView(bookingId, status, version);
+    }
+}
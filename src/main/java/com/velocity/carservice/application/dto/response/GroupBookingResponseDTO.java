@@ -0,0 +1,20 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.velocity.carservice.domain.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record GroupBookingResponseDTO(
+        BookingStatus status,
+        BigDecimal totalAmount,
+        List<GroupedBooking> bookings
+) {
+
+    public record GroupedBooking(
+            String bookingId,
+            String vehicleId,
+            BigDecimal amount
+    ) {
+    }
+}
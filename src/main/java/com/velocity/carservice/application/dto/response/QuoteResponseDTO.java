@@ -0,0 +1,25 @@
+package com.velocity.carservice.application.dto.response;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleHold;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record QuoteResponseDTO(
+        String holdToken,
+        String vehicleId,
+        VehicleCategory vehicleCategory,
+        LocalDate rentalStartDate,
+        LocalDate rentalEndDate,
+        BigDecimal amount,
+        Instant expiresAt
+) {
+
+    public static QuoteResponseDTO of(VehicleHold hold) {
+        return new QuoteResponseDTO(hold.token(), hold.vehicleId(), hold.vehicleCategory(),
+                hold.rentalStartDate(), hold.rentalEndDate(), BigDecimal.valueOf(hold.amountCents(), 2),
+                Instant.ofEpochMilli(hold.expiresAtMillis()));
+    }
+}
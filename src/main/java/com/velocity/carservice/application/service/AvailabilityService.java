@@ -0,0 +1,79 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.response.AvailabilityResponseDTO;
+import com.velocity.carservice.application.dto.response.AvailabilityResponseDTO.CategoryAvailability;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.InventoryNotReadyException;
+import com.velocity.carservice.infrastructure.inventory.AvailabilityIndex;
+import com.velocity.carservice.infrastructure.inventory.FleetInventory;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Answers availability searches from this node's {@link FleetInventory}, without querying the database.
+ * Results can lag a booking made on another node by the time its event takes to arrive, and do not account for
+ * quote holds; booking a vehicle that has just been taken fails with 409.
+ */
+@Service
+public class AvailabilityService {
+
+    private final FleetInventory fleetInventory;
+    private final BookingMetrics bookingMetrics;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public AvailabilityService(
+            FleetInventory fleetInventory,
+            BookingMetrics bookingMetrics,
+            @Value("${app.availability.default-limit:50}") int defaultLimit,
+            @Value("${app.availability.max-limit:500}") int maxLimit) {
+        this.fleetInventory = fleetInventory;
+        this.bookingMetrics = bookingMetrics;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param category the category to search, or null for all
+     * @param limit    maximum vehicle IDs listed per category, or null for the default
+     */
+    public AvailabilityResponseDTO findAvailable(VehicleCategory category, LocalDate from, LocalDate to,
+                                                 Integer limit) {
+        long startTime = System.nanoTime();
+        int vehicleLimit = limit != null ? limit : defaultLimit;
+        if (vehicleLimit < 0 || vehicleLimit > maxLimit) {
+            throw new BookingValidationException("Limit must be between 0 and " + maxLimit);
+        }
+        if (!from.isBefore(to)) {
+            throw new BookingValidationException("'to' must be after 'from'");
+        }
+        AvailabilityIndex index = fleetInventory.index()
+                .orElseThrow(() -> new InventoryNotReadyException("Fleet inventory is still loading"));
+        if (!index.covers(from, to)) {
+            throw new BookingValidationException("Availability is known from " + index.origin()
+                    + " up to " + index.end());
+        }
+
+        List<CategoryAvailability> categories = category != null
+                ? List.of(evaluate(index, category, from, to, vehicleLimit))
+                : Arrays.stream(VehicleCategory.values())
+                        .map(each -> evaluate(index, each, from, to, vehicleLimit))
+                        .toList();
+
+        bookingMetrics.recordAvailabilityLookup(System.nanoTime() - startTime);
+        return new AvailabilityResponseDTO(from, to, categories);
+    }
+
+    private static CategoryAvailability evaluate(AvailabilityIndex index, VehicleCategory category,
+                                                 LocalDate from, LocalDate to, int limit) {
+        AvailabilityIndex.CategoryAvailability availability = index.availability(category, from, to, limit);
+        return new CategoryAvailability(category, availability.fleetSize(), availability.freeCount(),
+                availability.vehicleIds());
+    }
+}
@@ -0,0 +1,292 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent.ProcessingStatus;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.infrastructure.repository.ProcessedPaymentEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies bank transfer payments, one at a time for the Kafka consumer or in batches for sources that deliver
+ * many at once such as end-of-day statement files. Each batch is one transaction with one query for already
+ * processed payment IDs and one for the bookings paid; every payment is then validated, deduplicated, applied
+ * and recorded in {@code processed_payment_events} the same way whatever its source, so a payment is applied
+ * once whichever source delivers it first.
+ * <p>
+ * A {@link Run} carries what a source's batches share. In a dry run nothing is written and no events are
+ * published; the batch is rolled back, and payments are applied to copies of the bookings kept by the run, so
+ * later batches see the effect of earlier ones just as they would when applied.
+ */
+@Service
+@Slf4j
+public class BankTransferPaymentService {
+
+    private final BookingRepository bookingRepository;
+    private final ProcessedPaymentEventRepository processedPaymentEventRepository;
+    private final PricingEngine pricingEngine;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+
+    public BankTransferPaymentService(BookingRepository bookingRepository,
+                                      ProcessedPaymentEventRepository processedPaymentEventRepository,
+                                      PricingEngine pricingEngine,
+                                      BookingMetrics bookingMetrics,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.processedPaymentEventRepository = processedPaymentEventRepository;
+        this.pricingEngine = pricingEngine;
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Applies one payment event in its own transaction, as the Kafka consumer receives it.
+     */
+    public PaymentOutcome apply(BankTransferPaymentEvent payment) {
+        return apply(List.of(payment), Run.live()).get(0);
+    }
+
+    /**
+     * Applies the payments in order and returns one outcome per payment. If the transaction fails, nothing of
+     * the batch is applied and the exception is rethrown; applying the batch again is safe.
+     */
+    public List<PaymentOutcome> apply(List<BankTransferPaymentEvent> payments, Run run) {
+        List<PaymentOutcome> outcomes = transaction.execute(status -> {
+            List<PaymentOutcome> applied = applyInTransaction(payments, run);
+            if (run.dryRun) {
+                status.setRollbackOnly();
+            }
+            return applied;
+        });
+        if (!run.dryRun) {
+            recordMetrics(outcomes);
+        }
+        return outcomes;
+    }
+
+    private List<PaymentOutcome> applyInTransaction(List<BankTransferPaymentEvent> payments, Run run) {
+        List<String> paymentIds = payments.stream()
+                .map(BankTransferPaymentEvent::paymentId)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> processed = paymentIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(processedPaymentEventRepository.findProcessedPaymentIds(paymentIds));
+        Map<String, Booking> bookings = loadBookings(payments, run);
+
+        List<PaymentOutcome> outcomes = new ArrayList<>(payments.size());
+        List<ProcessedPaymentEvent> records = new ArrayList<>();
+        Map<String, Booking> paid = new LinkedHashMap<>();
+        List<String> confirmed = new ArrayList<>();
+        Set<String> batchPaymentIds = new HashSet<>();
+
+        for (BankTransferPaymentEvent payment : payments) {
+            String problem = validate(payment);
+            if (problem != null) {
+                outcomes.add(new PaymentOutcome(payment, null, Result.INVALID, problem));
+                continue;
+            }
+            String paymentId = payment.paymentId();
+            if (processed.contains(paymentId) || !batchPaymentIds.add(paymentId) || !run.firstSeen(paymentId)) {
+                outcomes.add(new PaymentOutcome(payment, null, Result.DUPLICATE, "Payment already processed"));
+                continue;
+            }
+
+            String bookingId = payment.extractBookingId();
+            if (bookingId == null) {
+                String reason = "Could not extract booking ID from transactionDetails";
+                records.add(record(paymentId, "UNKNOWN", ProcessingStatus.SKIPPED, reason));
+                outcomes.add(new PaymentOutcome(payment, null, Result.UNMATCHED, reason));
+                continue;
+            }
+            Booking booking = bookings.get(bookingId);
+            if (booking == null) {
+                String reason = "Booking not found: " + bookingId;
+                records.add(record(paymentId, bookingId, ProcessingStatus.FAILED, reason));
+                outcomes.add(new PaymentOutcome(payment, bookingId, Result.UNKNOWN_BOOKING, reason));
+                continue;
+            }
+
+            records.add(record(paymentId, bookingId, ProcessingStatus.SUCCESS, null));
+            if (booking.getStatus() != BookingStatus.PENDING_PAYMENT) {
+                outcomes.add(new PaymentOutcome(payment, bookingId, Result.NOT_PENDING,
+                        "Booking is " + booking.getStatus()));
+                continue;
+            }
+            // Bookings created before pricing was introduced have no amount due yet
+            if (booking.getPaymentAmount() == null) {
+                booking.setPaymentAmount(pricingEngine.price(
+                        booking.getVehicleCategory(), booking.getRentalStartDate(), booking.getRentalEndDate()));
+            }
+            paid.put(bookingId, booking);
+            if (booking.receivePayment(payment.paymentAmount())) {
+                confirmed.add(bookingId);
+                outcomes.add(new PaymentOutcome(payment, bookingId, Result.CONFIRMED, null));
+            } else {
+                outcomes.add(new PaymentOutcome(payment, bookingId, Result.PARTIAL,
+                        "Received " + booking.getAmountReceived() + " of " + booking.getPaymentAmount()));
+            }
+        }
+
+        if (run.dryRun) {
+            run.bookings.putAll(paid);
+            return outcomes;
+        }
+        paid.values().forEach(bookingRepository::save);
+        processedPaymentEventRepository.saveAll(records);
+        confirmed.forEach(bookingId ->
+                eventPublisher.publishEvent(BookingStatusChangedEvent.of(bookingId, BookingStatus.CONFIRMED)));
+        if (!paid.isEmpty()) {
+            eventPublisher.publishEvent(BookingCacheEvictionEvent.of(List.copyOf(paid.keySet())));
+        }
+        log.info("Applied {} payments: {} bookings paid, {} confirmed", payments.size(), paid.size(), confirmed.size());
+        return outcomes;
+    }
+
+    /**
+     * Bookings of the batch by booking ID; in a dry run, those already paid earlier in the run are its copies.
+     */
+    private Map<String, Booking> loadBookings(List<BankTransferPaymentEvent> payments, Run run) {
+        Set<String> bookingIds = new HashSet<>();
+        for (BankTransferPaymentEvent payment : payments) {
+            String bookingId = payment.extractBookingId();
+            if (bookingId != null) {
+                bookingIds.add(bookingId);
+            }
+        }
+        Map<String, Booking> bookings = new HashMap<>();
+        for (String bookingId : bookingIds) {
+            Booking simulated = run.bookings.get(bookingId);
+            if (simulated != null) {
+                bookings.put(bookingId, simulated);
+            }
+        }
+        bookingIds.removeAll(bookings.keySet());
+        for (Booking booking : bookingRepository.findByBookingIds(bookingIds)) {
+            bookings.put(booking.getBookingId(), run.dryRun ? booking.toBuilder().build() : booking);
+        }
+        return bookings;
+    }
+
+    /**
+     * The schema checks of a payment event.
+     */
+    private static String validate(BankTransferPaymentEvent payment) {
+        if (payment.paymentId() == null || payment.paymentId().isBlank()) {
+            return "paymentId is required";
+        }
+        if (payment.paymentAmount() == null || payment.paymentAmount().signum() <= 0) {
+            return "paymentAmount must be positive";
+        }
+        if (payment.transactionDetails() == null || payment.transactionDetails().isBlank()) {
+            return "transactionDetails is required";
+        }
+        return null;
+    }
+
+    private static ProcessedPaymentEvent record(String paymentId, String bookingId, ProcessingStatus status,
+                                                String errorMessage) {
+        return ProcessedPaymentEvent.builder()
+                .paymentId(paymentId)
+                .bookingId(bookingId)
+                .status(status)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    private void recordMetrics(List<PaymentOutcome> outcomes) {
+        for (PaymentOutcome outcome : outcomes) {
+            bookingMetrics.incrementPaymentEventsReceived();
+            switch (outcome.result()) {
+                case CONFIRMED, PARTIAL, NOT_PENDING -> bookingMetrics.incrementPaymentEventsProcessed();
+                case INVALID -> bookingMetrics.incrementPaymentEventsFailed("schema_validation");
+                case UNKNOWN_BOOKING -> bookingMetrics.incrementPaymentEventsFailed("processing_error");
+                case UNMATCHED, DUPLICATE -> {
+                }
+            }
+        }
+    }
+
+    public enum Result {
+        /** Paid in full; the booking is now CONFIRMED */
+        CONFIRMED,
+        /** Added to the amount received; the booking is still PENDING_PAYMENT */
+        PARTIAL,
+        /** Recorded, but the booking was no longer waiting for payment */
+        NOT_PENDING,
+        /** No booking has the booking ID in the transaction details */
+        UNKNOWN_BOOKING,
+        /** The transaction details hold no valid booking ID */
+        UNMATCHED,
+        /** The payment ID was processed before, or appeared earlier in the run */
+        DUPLICATE,
+        /** The payment fails the event schema checks and is not recorded */
+        INVALID
+    }
+
+    public record PaymentOutcome(BankTransferPaymentEvent payment, String bookingId, Result result, String detail) {
+
+        public BigDecimal amount() {
+            return payment.paymentAmount();
+        }
+    }
+
+    /**
+     * What the batches of one source share: whether it is a dry run, the payment IDs seen so far and, in a dry
+     * run, the bookings paid so far. Not thread-safe; apply a run's batches one after another.
+     */
+    public static final class Run {
+
+        private final boolean dryRun;
+        private final Set<String> paymentIds = new HashSet<>();
+        private final Map<String, Booking> bookings = new HashMap<>();
+
+        private Run(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        public static Run live() {
+            return new Run(false);
+        }
+
+        public static Run dryRun() {
+            return new Run(true);
+        }
+
+        public boolean isDryRun() {
+            return dryRun;
+        }
+
+        /**
+         * In a dry run, false for a payment ID already seen in an earlier batch. When applying, the ledger
+         * already has those, so no IDs are kept.
+         */
+        private boolean firstSeen(String paymentId) {
+            return !dryRun || paymentIds.add(paymentId);
+        }
+    }
+}
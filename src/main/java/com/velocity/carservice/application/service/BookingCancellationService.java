@@ -1,11 +1,14 @@
 package com.velocity.carservice.application.service;
 
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.domain.model.Booking;
 import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.repository.BookingRepository;
 import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,7 @@ public class BookingCancellationService {
 
     private final BookingRepository bookingRepository;
     private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int cancelUnpaidBankTransferBookings() {
@@ -38,6 +42,10 @@ public class BookingCancellationService {
         int cancelledCount = bookingRepository.batchUpdateStatus(bookingIdsToCancel, BookingStatus.CANCELLED);
 
         bookingMetrics.incrementBookingsAutoCancelled(cancelledCount);
+        // The batch update bypasses @CacheEvict; without this, GETs would serve PENDING_PAYMENT until the TTL ran out
+        eventPublisher.publishEvent(BookingCacheEvictionEvent.of(bookingIdsToCancel));
+        bookingIdsToCancel.forEach(bookingId ->
+                eventPublisher.publishEvent(BookingStatusChangedEvent.of(bookingId, BookingStatus.CANCELLED)));
 
         log.info("Batch cancellation completed. Cancelled {} bookings", cancelledCount);
         return cancelledCount;
@@ -52,6 +60,8 @@ public class BookingCancellationService {
         bookingRepository.save(booking);
 
         bookingMetrics.incrementBookingsCancelled();
+        eventPublisher.publishEvent(BookingCacheEvictionEvent.of(List.of(booking.getBookingId())));
+        eventPublisher.publishEvent(BookingStatusChangedEvent.of(booking.getBookingId(), BookingStatus.CANCELLED));
 
         log.info("Booking {} cancelled due to unpaid bank transfer", booking.getBookingId());
     }
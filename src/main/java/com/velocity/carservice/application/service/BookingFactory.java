@@ -0,0 +1,65 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates new bookings for the single, group and bulk booking paths: the booking under an ID allocated by the
+ * caller, charged the given amount, with the status its payment mode gives it. Creating a booking processes its
+ * payment, which may call an external service, and throws if the payment is refused. Nothing is saved.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingFactory {
+
+    private final PaymentStrategyFactory paymentStrategyFactory;
+
+    public Booking create(String bookingId, BookingRequestDTO request, BigDecimal paymentAmount) {
+        Booking booking = build(bookingId, request, paymentAmount);
+        booking.setStatus(paymentStrategyFactory.getStrategy(request.paymentMode())
+                .processPayment(booking, request.paymentReference()));
+        return booking;
+    }
+
+    /**
+     * Creates bookings that share one payment. It is processed once, on behalf of the first booking, and every
+     * booking takes the resulting status.
+     *
+     * @param requests       one per booking, with the same payment mode and reference
+     * @param paymentAmounts the amount of each booking, in the same order
+     */
+    public List<Booking> createPaidTogether(List<String> bookingIds, List<BookingRequestDTO> requests,
+                                            List<BigDecimal> paymentAmounts) {
+        List<Booking> bookings = new ArrayList<>(requests.size());
+        bookings.add(create(bookingIds.get(0), requests.get(0), paymentAmounts.get(0)));
+        BookingStatus status = bookings.get(0).getStatus();
+        for (int i = 1; i < requests.size(); i++) {
+            Booking booking = build(bookingIds.get(i), requests.get(i), paymentAmounts.get(i));
+            booking.setStatus(status);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    private static Booking build(String bookingId, BookingRequestDTO request, BigDecimal paymentAmount) {
+        return Booking.builder()
+                .bookingId(bookingId)
+                .customerName(request.customerName())
+                .vehicleId(request.vehicleId())
+                .vehicleCategory(request.vehicleCategory())
+                .rentalStartDate(request.rentalStartDate())
+                .rentalEndDate(request.rentalEndDate())
+                .paymentMode(request.paymentMode())
+                .paymentReference(request.paymentReference())
+                .paymentAmount(paymentAmount)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.response.BookingBatchGetResponseDTO;
+import com.velocity.carservice.application.dto.response.BookingPageResponseDTO;
+import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.domain.model.BookingIdCodec;
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.cache.BookingStatusCache;
+import com.velocity.carservice.infrastructure.cache.UnknownBookingGuard;
+import com.velocity.carservice.infrastructure.export.BookingExportFormat;
+import com.velocity.carservice.infrastructure.export.BookingExporter;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-side booking queries that return more than one booking.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingQueryService {
+
+    private static final char CURSOR_SEPARATOR = '|';
+
+    private final BookingRepository bookingRepository;
+    private final BookingExporter bookingExporter;
+    private final BookingStatusCache bookingStatusCache;
+    private final UnknownBookingGuard unknownBookingGuard;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public BookingQueryService(
+            BookingRepository bookingRepository,
+            BookingExporter bookingExporter,
+            BookingStatusCache bookingStatusCache,
+            UnknownBookingGuard unknownBookingGuard,
+            @Value("${app.booking-search.default-page-size:50}") int defaultPageSize,
+            @Value("${app.booking-search.max-page-size:200}") int maxPageSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingExporter = bookingExporter;
+        this.bookingStatusCache = bookingStatusCache;
+        this.unknownBookingGuard = unknownBookingGuard;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Keyset-paginated search ordered by rental start date, then booking ID.
+     *
+     * @param cursor   opaque cursor from the previous page's {@code nextCursor}, or null for the first page
+     * @param pageSize requested page size; defaults when null and is capped at the configured maximum
+     */
+    public BookingPageResponseDTO searchBookings(BookingSearchCriteria criteria, String cursor, Integer pageSize) {
+        if (criteria.rentalFrom() != null && criteria.rentalTo() != null
+                && criteria.rentalTo().isBefore(criteria.rentalFrom())) {
+            throw new BookingValidationException("rentalTo must not be before rentalFrom");
+        }
+
+        int limit = resolvePageSize(pageSize);
+        BookingKeyset after = cursor != null ? decodeCursor(cursor) : null;
+
+        // One extra row tells us whether another page exists without a count query
+        List<BookingSummary> rows = bookingRepository.searchSummaries(criteria, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new BookingPageResponseDTO(rows, null);
+        }
+
+        List<BookingSummary> page = List.copyOf(rows.subList(0, limit));
+        String nextCursor = encodeCursor(BookingKeyset.of(page.get(limit - 1)));
+        log.debug("Search returned a full page of {} bookings, next cursor {}", limit, nextCursor);
+        return new BookingPageResponseDTO(page, nextCursor);
+    }
+
+    /**
+     * Resolves many bookings in three round trips regardless of count: one cache MGET, one IN query
+     * for the misses and one pipelined cache write-back. IDs known not to exist skip all three.
+     */
+    public BookingBatchGetResponseDTO batchGetBookings(List<String> bookingIds) {
+        List<String> distinctIds = bookingIds.stream().distinct().toList();
+        List<String> candidateIds = distinctIds.stream()
+                .filter(id -> BookingIdCodec.isValid(id) && !unknownBookingGuard.isKnownAbsent(id))
+                .toList();
+        Map<String, BookingStatusView> found = new HashMap<>(bookingStatusCache.getAll(candidateIds));
+
+        List<String> misses = candidateIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            List<BookingStatusView> loaded = bookingRepository.findStatusesByBookingIds(misses);
+            bookingStatusCache.putAll(loaded);
+            loaded.forEach(booking -> found.put(booking.bookingId(), booking));
+            misses.stream().filter(id -> !found.containsKey(id)).forEach(unknownBookingGuard::recordMiss);
+        }
+        log.debug("Batch get of {} bookings: {} malformed or known absent, {} cache misses",
+                distinctIds.size(), distinctIds.size() - candidateIds.size(), misses.size());
+
+        List<BookingResponseDTO> bookings = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String bookingId : distinctIds) {
+            BookingStatusView booking = found.get(bookingId);
+            if (booking != null) {
+                bookings.add(new BookingResponseDTO(booking.bookingId(), booking.status()));
+            } else {
+                notFound.add(bookingId);
+            }
+        }
+        return new BookingBatchGetResponseDTO(bookings, notFound);
+    }
+
+    /**
+     * Streams every booking whose rental starts within [from, to] to {@code out}.
+     * Runs in one read-only transaction so the export reads through a database cursor.
+     *
+     * @return number of bookings written
+     */
+    public long exportBookings(LocalDate from, LocalDate to, BookingExportFormat format, OutputStream out) {
+        validateExportRange(from, to);
+        return bookingExporter.export(from, to, format, out);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void validateExportRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new BookingValidationException("Export range start and end are required");
+        }
+        if (to.isBefore(from)) {
+            throw new BookingValidationException("Export range end must not be before its start");
+        }
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        if (pageSize < 1) {
+            throw new BookingValidationException("Page size must be at least 1");
+        }
+        return Math.min(pageSize, maxPageSize);
+    }
+
+    static String encodeCursor(BookingKeyset keyset) {
+        String raw = keyset.rentalStartDate().toString() + CURSOR_SEPARATOR + keyset.bookingId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BookingKeyset decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new BookingValidationException("Invalid cursor");
+            }
+            return new BookingKeyset(LocalDate.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BookingValidationException("Invalid cursor");
+        }
+    }
+}
@@ -1,21 +1,32 @@
 package com.velocity.carservice.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.application.dto.request.BookingRequestDTO;
 import com.velocity.carservice.application.dto.response.BookingResponseDTO;
-import com.velocity.carservice.application.strategy.PaymentStrategy;
-import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
 import com.velocity.carservice.domain.model.Booking;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.VehicleHold;
 import com.velocity.carservice.domain.repository.BookingRepository;
 import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.cache.UnknownBookingGuard;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingNotFoundException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.HoldExpiredException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
 import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.shared.constant.AppConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -26,17 +37,25 @@ import java.math.BigDecimal;
 @Transactional
 public class BookingService {
 
-    private static final String BOOKINGS_CACHE = "bookings";
+    private static final String BOOKINGS_CACHE = AppConstants.CACHE_BOOKINGS;
 
     private final BookingRepository bookingRepository;
     private final BookingDomainService bookingDomainService;
-    private final PaymentStrategyFactory paymentStrategyFactory;
+    private final BookingFactory bookingFactory;
     private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnknownBookingGuard unknownBookingGuard;
+    private final ObjectMapper objectMapper;
+    private final PricingEngine pricingEngine;
+    private final VehicleHoldStore vehicleHoldStore;
 
-    @CachePut(value = BOOKINGS_CACHE, key = "#result.bookingId()")
+    /**
+     * Books a vehicle. With a hold token from a quote the booking is charged the quoted amount and the hold
+     * stands in for the availability check; the hold is given back if the booking fails. Without one the
+     * vehicle must be neither booked nor held for the dates, and the rental is priced now. Either way, a concurrent
+     * booking of the vehicle for overlapping dates that commits first makes the database refuse this one.
+     */
     public BookingResponseDTO confirmBooking(BookingRequestDTO request) {
-        long startTime = System.currentTimeMillis();
-
         log.info("Processing booking request for customer: {}, payment mode: {}",
                 request.customerName(), request.paymentMode());
 
@@ -44,22 +63,50 @@ public class BookingService {
 
         bookingDomainService.validateVehicleId(request.vehicleId());
 
+        if (request.holdToken() == null) {
+            ensureAvailable(request);
+            return confirmBooking(request, pricingEngine.price(
+                    request.vehicleCategory(), request.rentalStartDate(), request.rentalEndDate()));
+        }
+
+        VehicleHold hold = vehicleHoldStore.redeem(request.holdToken())
+                .orElseThrow(() -> new HoldExpiredException(
+                        "Hold " + request.holdToken() + " has expired or was already used"));
+        try {
+            if (!hold.covers(request.vehicleId(), request.vehicleCategory(),
+                    request.rentalStartDate(), request.rentalEndDate())) {
+                throw new BookingValidationException("Booking does not match the vehicle and dates of hold "
+                        + hold.token());
+            }
+            // A plain booking may have been inserted between the quote's availability check and its hold
+            if (bookingRepository.existsActiveBookingForVehicle(
+                    request.vehicleId(), request.rentalStartDate(), request.rentalEndDate())) {
+                throw new VehicleUnavailableException(
+                        "Vehicle " + request.vehicleId() + " is not available for the requested dates");
+            }
+            return confirmBooking(request, BigDecimal.valueOf(hold.amountCents(), 2));
+        } catch (RuntimeException e) {
+            vehicleHoldStore.release(hold);
+            throw e;
+        }
+    }
+
+    private void ensureAvailable(BookingRequestDTO request) {
+        if (bookingRepository.existsActiveBookingForVehicle(
+                request.vehicleId(), request.rentalStartDate(), request.rentalEndDate())
+                || vehicleHoldStore.isHeld(request.vehicleId(), request.rentalStartDate(), request.rentalEndDate())) {
+            throw new VehicleUnavailableException(
+                    "Vehicle " + request.vehicleId() + " is not available for the requested dates");
+        }
+    }
+
+    private BookingResponseDTO confirmBooking(BookingRequestDTO request, BigDecimal paymentAmount) {
+        long startTime = System.currentTimeMillis();
+
         String bookingId = bookingDomainService.generateBookingId();
 
-        Booking booking = Booking.builder()
-                .bookingId(bookingId)
-                .customerName(request.customerName())
-                .vehicleId(request.vehicleId())
-                .vehicleCategory(request.vehicleCategory())
-                .rentalStartDate(request.rentalStartDate())
-                .rentalEndDate(request.rentalEndDate())
-                .paymentMode(request.paymentMode())
-                .paymentReference(request.paymentReference())
-                .build();
-
-        PaymentStrategy paymentStrategy = paymentStrategyFactory.getStrategy(request.paymentMode());
-        BookingStatus status = paymentStrategy.processPayment(booking, request.paymentReference());
-        booking.setStatus(status);
+        Booking booking = bookingFactory.create(bookingId, request, paymentAmount);
+        BookingStatus status = booking.getStatus();
 
         Booking savedBooking = bookingRepository.save(booking);
 
@@ -71,71 +118,54 @@ public class BookingService {
             bookingMetrics.incrementBookingsConfirmed(request.paymentMode());
         }
 
+        eventPublisher.publishEvent(BookingStatusChangedEvent.created(savedBooking));
+
         log.info("Booking {} created with status: {}", savedBooking.getBookingId(), savedBooking.getStatus());
 
         return new BookingResponseDTO(savedBooking.getBookingId(), savedBooking.getStatus());
     }
 
     /**
-     * Processes bank transfer payment received via Kafka event
+     * Get booking by booking ID - cached for performance.
+     * Reads only the status projection, not the full entity. The cached entry is the encoded response
+     * body plus the optimistic-lock version, so a hit needs neither the database nor object mapping.
+     * IDs known not to exist are rejected before the database, and without opening a transaction.
      */
-    @CacheEvict(value = BOOKINGS_CACHE, key = "#bookingId")
-    public void processBankTransferPayment(String bookingId, BigDecimal amountReceived) {
-        log.info("Processing bank transfer payment for booking: {}, amount: {}", bookingId, amountReceived);
-
-        Booking booking = bookingRepository.findByBookingId(bookingId)
-                .orElseThrow(() -> new BookingNotFoundException("Booking not found: " + bookingId));
-
-        if (booking.getStatus() != BookingStatus.PENDING_PAYMENT) {
-            log.warn("Booking {} is not in PENDING_PAYMENT status, current: {}", bookingId, booking.getStatus());
-            return;
-        }
-
-        BigDecimal totalReceived = booking.getAmountReceived() != null
-                ? booking.getAmountReceived().add(amountReceived)
-                : amountReceived;
-        booking.setAmountReceived(totalReceived);
-
-        // Check if full payment received
-        if (booking.isFullPaymentReceived()) {
-            booking.confirm();
-            log.info("Full payment received for booking {}. Status changed to CONFIRMED", bookingId);
-        } else {
-            log.info("Partial payment received for booking {}. Total received: {}, Required: {}",
-                    bookingId, totalReceived, booking.getPaymentAmount());
-        }
-
-        bookingRepository.save(booking);
-    }
-
-    /**
-     * Get booking by booking ID - cached for performance
-     */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     @Cacheable(value = BOOKINGS_CACHE, key = "#bookingId")
-    public BookingResponseDTO getBookingById(String bookingId) {
+    public CachedBookingResponse getBookingById(String bookingId) {
+        if (unknownBookingGuard.isKnownAbsent(bookingId)) {
+            throw new BookingNotFoundException("Booking not found: " + bookingId);
+        }
         log.info("Fetching booking from database: {}", bookingId);
-        Booking booking = bookingRepository.findByBookingId(bookingId)
-                .orElseThrow(() -> new BookingNotFoundException("Booking not found: " + bookingId));
-        return new BookingResponseDTO(booking.getBookingId(), booking.getStatus());
+        BookingStatusView booking = bookingRepository.findStatusByBookingId(bookingId)
+                .orElseThrow(() -> {
+                    unknownBookingGuard.recordMiss(bookingId);
+                    return new BookingNotFoundException("Booking not found: " + bookingId);
+                });
+        return CachedBookingResponse.of(booking, objectMapper);
     }
 
     /**
-     * Cancel a booking - evicts from cache
+     * Cancel a booking - evicts from cache.
+     * Uses a single conditional update, which also enforces that only PENDING_PAYMENT bookings can be cancelled;
+     * the booking is only read again when the cancel did not apply.
      */
     @CacheEvict(value = BOOKINGS_CACHE, key = "#bookingId")
     public BookingResponseDTO cancelBooking(String bookingId) {
         log.info("Cancelling booking: {}", bookingId);
 
-        Booking booking = bookingRepository.findByBookingId(bookingId)
-                .orElseThrow(() -> new BookingNotFoundException("Booking not found: " + bookingId));
-
-        bookingDomainService.validateBookingForCancellation(booking);
-
-        booking.cancel();
-        Booking savedBooking = bookingRepository.save(booking);
+        BookingStatusView cancelled = bookingRepository.cancelIfPending(bookingId)
+                .orElseThrow(() -> cancellationRejected(bookingId));
+        eventPublisher.publishEvent(BookingStatusChangedEvent.of(cancelled.bookingId(), cancelled.status()));
 
         log.info("Booking {} cancelled successfully", bookingId);
-        return new BookingResponseDTO(savedBooking.getBookingId(), savedBooking.getStatus());
+        return new BookingResponseDTO(cancelled.bookingId(), cancelled.status());
+    }
+
+    private RuntimeException cancellationRejected(String bookingId) {
+        BookingStatusView current = bookingRepository.findStatusByBookingId(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException("Booking not found: " + bookingId));
+        return new IllegalStateException("Booking cannot be cancelled. Current status: " + current.status());
     }
 }
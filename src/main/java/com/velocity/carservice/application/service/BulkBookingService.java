@@ -0,0 +1,452 @@
+package com.velocity.carservice.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.dto.request.BulkOperationDTO;
+import com.velocity.carservice.application.dto.request.BulkOperationDTO.Operation;
+import com.velocity.carservice.application.dto.response.BulkOperationResultDTO;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.infrastructure.repository.BookingConstraints;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies an NDJSON stream of create and cancel operations, writing one NDJSON result per line.
+ * <p>
+ * Lines are read one at a time and applied in groups of {@code app.bulk.batch-size}. The creates of a group are
+ * checked with one availability query, given one block of booking IDs and have their payments processed before
+ * the group's transaction is opened, so the transaction holds no connection while a payment service is called;
+ * it only runs one batched insert and one cancel statement. A line that fails validation, availability or payment
+ * is reported and the rest of its group goes ahead; if the transaction itself fails, for instance because another
+ * request booked one of its vehicles after the availability query, every line it would have applied is reported
+ * as failed and the next group is applied. The results of a group are written and flushed once it has committed.
+ * <p>
+ * Reading, applying and writing happen on one thread, so the next group is not read until the previous one's
+ * results have been written. A client that uploads faster than the groups commit, or reads results slowly, is
+ * held back by TCP flow control, and memory stays bounded by one group of lines of at most
+ * {@code app.bulk.max-line-length} characters, whatever the upload size.
+ */
+@Service
+@Slf4j
+public class BulkBookingService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BookingRepository bookingRepository;
+    private final BookingDomainService bookingDomainService;
+    private final BookingFactory bookingFactory;
+    private final PricingEngine pricingEngine;
+    private final VehicleHoldStore vehicleHoldStore;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transaction;
+    private final ObjectReader operationReader;
+    private final ObjectWriter resultWriter;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public BulkBookingService(BookingRepository bookingRepository,
+                              BookingDomainService bookingDomainService,
+                              BookingFactory bookingFactory,
+                              PricingEngine pricingEngine,
+                              VehicleHoldStore vehicleHoldStore,
+                              BookingMetrics bookingMetrics,
+                              ApplicationEventPublisher eventPublisher,
+                              Validator validator,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${app.bulk.batch-size:200}") int batchSize,
+                              @Value("${app.bulk.max-line-length:16384}") int maxLineLength) {
+        this.bookingRepository = bookingRepository;
+        this.bookingDomainService = bookingDomainService;
+        this.bookingFactory = bookingFactory;
+        this.pricingEngine = pricingEngine;
+        this.vehicleHoldStore = vehicleHoldStore;
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.operationReader = objectMapper.readerFor(BulkOperationDTO.class);
+        this.resultWriter = objectMapper.writerFor(BulkOperationResultDTO.class);
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Applies every operation read from {@code in} and writes their results to {@code out}, in line order. Blank
+     * lines are skipped. The output is flushed but not closed.
+     *
+     * @return number of operations read
+     */
+    public long ingest(InputStream in, OutputStream out) throws IOException {
+        LineReader lines = new LineReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE), maxLineLength);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        List<BulkLine> group = new ArrayList<>(batchSize);
+        long operations = 0;
+        String line;
+        while ((line = lines.next()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            group.add(parse(lines.lineNumber(), line, lines.overlong()));
+            operations++;
+            if (group.size() == batchSize) {
+                write(apply(group), writer);
+                group.clear();
+            }
+        }
+        if (!group.isEmpty()) {
+            write(apply(group), writer);
+        }
+        log.info("Bulk upload of {} operations applied", operations);
+        return operations;
+    }
+
+    private BulkLine parse(long lineNumber, String line, boolean overlong) {
+        if (overlong) {
+            return BulkLine.rejected(lineNumber, "Line is longer than " + maxLineLength + " characters");
+        }
+        try {
+            BulkOperationDTO operation = operationReader.readValue(line);
+            return new BulkLine(lineNumber, operation, validate(operation));
+        } catch (JsonProcessingException e) {
+            return BulkLine.rejected(lineNumber, "Malformed operation: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * @return why the operation cannot be applied, or null if it is well-formed
+     */
+    private String validate(BulkOperationDTO operation) {
+        if (operation == null || operation.op() == null) {
+            return "Operation is required";
+        }
+        if (operation.op() == Operation.CANCEL) {
+            return operation.bookingId() == null || operation.bookingId().isBlank() ? "Booking ID is required" : null;
+        }
+        BookingRequestDTO booking = operation.booking();
+        if (booking == null) {
+            return "Booking is required";
+        }
+        Set<ConstraintViolation<BookingRequestDTO>> violations = validator.validate(booking);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+        }
+        if (booking.holdToken() != null) {
+            return "Hold tokens are not accepted in bulk uploads";
+        }
+        try {
+            bookingDomainService.validateRentalDates(booking.rentalStartDate(), booking.rentalEndDate());
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private List<BulkOperationResultDTO> apply(List<BulkLine> group) {
+        BulkOperationResultDTO[] results = new BulkOperationResultDTO[group.size()];
+        List<Integer> creates = new ArrayList<>();
+        List<Integer> cancels = new ArrayList<>();
+        for (int i = 0; i < group.size(); i++) {
+            BulkLine line = group.get(i);
+            if (line.error() != null) {
+                results[i] = line.failed(line.error());
+            } else if (line.operation().op() == Operation.CREATE) {
+                creates.add(i);
+            } else {
+                cancels.add(i);
+            }
+        }
+        if (creates.isEmpty() && cancels.isEmpty()) {
+            return List.of(results);
+        }
+
+        // Payments may call an external service, so they are processed before the transaction is opened
+        PreparedCreates prepared = prepareCreates(group, creates, results);
+        try {
+            BulkOperationResultDTO[] applied = transaction.execute(status -> {
+                BulkOperationResultDTO[] outcomes = new BulkOperationResultDTO[group.size()];
+                insert(group, prepared, outcomes);
+                applyCancels(group, cancels, outcomes);
+                return outcomes;
+            });
+            for (int i = 0; i < results.length; i++) {
+                if (applied[i] != null) {
+                    results[i] = applied[i];
+                }
+            }
+            recordMetrics(group, creates, results);
+        } catch (RuntimeException e) {
+            log.warn("Bulk group of {} lines starting at line {} rolled back: {}",
+                    group.size(), group.get(0).number(), e.getMessage());
+            String reason = BookingConstraints.isVehicleOverlap(e)
+                    ? "a vehicle was booked for the same dates by another request" : e.getMessage();
+            for (int i : concat(prepared.lines(), cancels)) {
+                results[i] = group.get(i).failed("Not applied, its group was rolled back: " + reason);
+            }
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Builds the bookings of the creates that are available and whose payment goes through; the others are
+     * reported in {@code outcomes}.
+     */
+    private PreparedCreates prepareCreates(List<BulkLine> group, List<Integer> creates,
+                                           BulkOperationResultDTO[] outcomes) {
+        if (creates.isEmpty()) {
+            return new PreparedCreates(List.of(), List.of());
+        }
+        List<Integer> available = available(group, creates, outcomes);
+
+        List<String> bookingIds = bookingDomainService.generateBookingIds(available.size());
+        List<Booking> bookings = new ArrayList<>(available.size());
+        List<Integer> lines = new ArrayList<>(available.size());
+        for (int j = 0; j < available.size(); j++) {
+            int i = available.get(j);
+            BookingRequestDTO request = group.get(i).operation().booking();
+            try {
+                bookings.add(bookingFactory.create(bookingIds.get(j), request, pricingEngine.price(
+                        request.vehicleCategory(), request.rentalStartDate(), request.rentalEndDate())));
+            } catch (RuntimeException e) {
+                outcomes[i] = group.get(i).failed(e.getMessage());
+                continue;
+            }
+            lines.add(i);
+        }
+        return new PreparedCreates(bookings, lines);
+    }
+
+    private void insert(List<BulkLine> group, PreparedCreates prepared, BulkOperationResultDTO[] outcomes) {
+        if (prepared.bookings().isEmpty()) {
+            return;
+        }
+        List<Booking> saved = bookingRepository.saveAll(prepared.bookings());
+        for (int j = 0; j < saved.size(); j++) {
+            Booking booking = saved.get(j);
+            int i = prepared.lines().get(j);
+            eventPublisher.publishEvent(BookingStatusChangedEvent.created(booking));
+            outcomes[i] = BulkOperationResultDTO.applied(
+                    group.get(i).number(), Operation.CREATE, booking.getBookingId(), booking.getStatus());
+        }
+    }
+
+    /**
+     * Checks every create of the group against existing bookings and holds with one query and one hold lookup
+     * over the whole date span of the group; only vehicles those flag are checked again for their own dates.
+     * Creates that overlap an earlier create of the same group are refused as well.
+     *
+     * @return the creates that can go ahead
+     */
+    private List<Integer> available(List<BulkLine> group, List<Integer> creates, BulkOperationResultDTO[] outcomes) {
+        Set<String> vehicleIds = new LinkedHashSet<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (int i : creates) {
+            BookingRequestDTO request = group.get(i).operation().booking();
+            vehicleIds.add(request.vehicleId());
+            from = request.rentalStartDate().isBefore(from) ? request.rentalStartDate() : from;
+            to = request.rentalEndDate().isAfter(to) ? request.rentalEndDate() : to;
+        }
+        Set<String> flagged = new HashSet<>(bookingRepository.findVehicleIdsWithActiveBookings(vehicleIds, from, to));
+        flagged.addAll(vehicleHoldStore.heldVehicles(vehicleIds, from, to));
+
+        Map<String, List<BookingRequestDTO>> accepted = new HashMap<>();
+        List<Integer> available = new ArrayList<>(creates.size());
+        for (int i : creates) {
+            BookingRequestDTO request = group.get(i).operation().booking();
+            List<BookingRequestDTO> sameVehicle = accepted.computeIfAbsent(request.vehicleId(), v -> new ArrayList<>());
+            boolean taken = sameVehicle.stream().anyMatch(other -> overlaps(other, request))
+                    || flagged.contains(request.vehicleId())
+                    && (bookingRepository.existsActiveBookingForVehicle(
+                            request.vehicleId(), request.rentalStartDate(), request.rentalEndDate())
+                    || vehicleHoldStore.isHeld(request.vehicleId(), request.rentalStartDate(), request.rentalEndDate()));
+            if (taken) {
+                outcomes[i] = group.get(i).failed(
+                        "Vehicle " + request.vehicleId() + " is not available for the requested dates");
+            } else {
+                sameVehicle.add(request);
+                available.add(i);
+            }
+        }
+        return available;
+    }
+
+    private void applyCancels(List<BulkLine> group, List<Integer> cancels, BulkOperationResultDTO[] outcomes) {
+        if (cancels.isEmpty()) {
+            return;
+        }
+        Set<String> bookingIds = new LinkedHashSet<>();
+        cancels.forEach(i -> bookingIds.add(group.get(i).operation().bookingId()));
+
+        Map<String, BookingStatusView> cancelled = bookingRepository.cancelAllIfPending(bookingIds).stream()
+                .collect(Collectors.toMap(BookingStatusView::bookingId, Function.identity()));
+        Set<String> notCancelled = new TreeSet<>(bookingIds);
+        notCancelled.removeAll(cancelled.keySet());
+        Map<String, BookingStatus> current = bookingRepository.findStatusesByBookingIds(notCancelled).stream()
+                .collect(Collectors.toMap(BookingStatusView::bookingId, BookingStatusView::status));
+
+        for (int i : cancels) {
+            BulkLine line = group.get(i);
+            String bookingId = line.operation().bookingId();
+            if (cancelled.containsKey(bookingId)) {
+                outcomes[i] = BulkOperationResultDTO.applied(line.number(), Operation.CANCEL, bookingId,
+                        BookingStatus.CANCELLED);
+            } else if (current.containsKey(bookingId)) {
+                outcomes[i] = line.failed("Booking cannot be cancelled. Current status: " + current.get(bookingId));
+            } else {
+                outcomes[i] = line.failed("Booking not found: " + bookingId);
+            }
+        }
+
+        if (!cancelled.isEmpty()) {
+            List<String> cancelledIds = List.copyOf(cancelled.keySet());
+            // The bulk cancel bypasses @CacheEvict
+            eventPublisher.publishEvent(BookingCacheEvictionEvent.of(cancelledIds));
+            cancelledIds.forEach(bookingId ->
+                    eventPublisher.publishEvent(BookingStatusChangedEvent.of(bookingId, BookingStatus.CANCELLED)));
+        }
+    }
+
+    private void recordMetrics(List<BulkLine> group, List<Integer> creates, BulkOperationResultDTO[] results) {
+        for (int i : creates) {
+            if (results[i].bookingStatus() == null) {
+                continue;
+            }
+            BookingRequestDTO request = group.get(i).operation().booking();
+            bookingMetrics.incrementBookingsCreated(request.paymentMode(), request.vehicleCategory());
+            if (results[i].bookingStatus() == BookingStatus.CONFIRMED) {
+                bookingMetrics.incrementBookingsConfirmed(request.paymentMode());
+            }
+        }
+    }
+
+    private void write(List<BulkOperationResultDTO> results, Writer writer) throws IOException {
+        for (BulkOperationResultDTO result : results) {
+            writer.write(resultWriter.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static boolean overlaps(BookingRequestDTO a, BookingRequestDTO b) {
+        return a.rentalStartDate().isBefore(b.rentalEndDate()) && b.rentalStartDate().isBefore(a.rentalEndDate());
+    }
+
+    private static List<Integer> concat(List<Integer> first, List<Integer> second) {
+        List<Integer> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    /**
+     * The bookings ready to insert, and the index in the group of the line each one came from.
+     */
+    private record PreparedCreates(List<Booking> bookings, List<Integer> lines) {
+    }
+
+    private record BulkLine(long number, BulkOperationDTO operation, String error) {
+
+        static BulkLine rejected(long number, String error) {
+            return new BulkLine(number, null, error);
+        }
+
+        BulkOperationResultDTO failed(String message) {
+            Operation op = operation != null ? operation.op() : null;
+            String bookingId = operation != null ? operation.bookingId() : null;
+            return BulkOperationResultDTO.failed(number, op, bookingId, message);
+        }
+    }
+
+    /**
+     * Reads {@code \n}- or {@code \r\n}-terminated lines, keeping at most {@code maxLength} characters of each so
+     * that a single huge line cannot exhaust the heap.
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private long lineNumber;
+        private boolean overlong;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return the next line without its terminator, or null at the end of the input
+         */
+        String next() throws IOException {
+            line.setLength(0);
+            overlong = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (line.length() < maxLength) {
+                    line.append((char) c);
+                } else {
+                    overlong = true;
+                }
+            }
+            if (c == -1 && line.isEmpty() && !overlong) {
+                return null;
+            }
+            lineNumber++;
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return line.toString();
+        }
+
+        long lineNumber() {
+            return lineNumber;
+        }
+
+        boolean overlong() {
+            return overlong;
+        }
+    }
+}
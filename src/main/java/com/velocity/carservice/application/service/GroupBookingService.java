@@ -0,0 +1,108 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.dto.request.GroupBookingRequestDTO;
+import com.velocity.carservice.application.dto.response.GroupBookingResponseDTO;
+import com.velocity.carservice.application.dto.response.GroupBookingResponseDTO.GroupedBooking;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Books several vehicles for one customer and the same dates as a single unit: either every vehicle is booked
+ * or none is.
+ * <p>
+ * Availability of the whole group is checked in one query plus one pipelined hold lookup, booking IDs come
+ * from one block of the sequence, the payment reference is validated once for the group, and the bookings
+ * are inserted in one JDBC batch inside one transaction. If another request books one of the vehicles after the
+ * check, the database refuses the overlapping insert and the whole group rolls back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBookingService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingDomainService bookingDomainService;
+    private final BookingFactory bookingFactory;
+    private final PricingEngine pricingEngine;
+    private final VehicleHoldStore vehicleHoldStore;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public GroupBookingResponseDTO confirmGroupBooking(GroupBookingRequestDTO request) {
+        long startTime = System.currentTimeMillis();
+        log.info("Processing group booking of {} vehicles for customer: {}, payment mode: {}",
+                request.vehicles().size(), request.customerName(), request.paymentMode());
+
+        bookingDomainService.validateRentalDates(request.rentalStartDate(), request.rentalEndDate());
+        Set<String> vehicleIds = new LinkedHashSet<>();
+        for (GroupBookingRequestDTO.Vehicle vehicle : request.vehicles()) {
+            bookingDomainService.validateVehicleId(vehicle.vehicleId());
+            if (!vehicleIds.add(vehicle.vehicleId())) {
+                throw new BookingValidationException("Vehicle " + vehicle.vehicleId() + " is listed more than once");
+            }
+        }
+        ensureAvailable(vehicleIds, request);
+
+        List<String> bookingIds = bookingDomainService.generateBookingIds(vehicleIds.size());
+        List<BookingRequestDTO> bookingRequests = request.bookings();
+        List<BigDecimal> amounts = bookingRequests.stream()
+                .map(booking -> pricingEngine.price(
+                        booking.vehicleCategory(), booking.rentalStartDate(), booking.rentalEndDate()))
+                .toList();
+        // One payment covers the whole group, so the reference is validated once
+        List<Booking> bookings = bookingFactory.createPaidTogether(bookingIds, bookingRequests, amounts);
+        BookingStatus status = bookings.get(0).getStatus();
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<GroupedBooking> grouped = new ArrayList<>(savedBookings.size());
+        for (Booking booking : savedBookings) {
+            bookingMetrics.incrementBookingsCreated(booking.getPaymentMode(), booking.getVehicleCategory());
+            if (status == BookingStatus.CONFIRMED) {
+                bookingMetrics.incrementBookingsConfirmed(booking.getPaymentMode());
+            }
+            eventPublisher.publishEvent(BookingStatusChangedEvent.created(booking));
+            totalAmount = totalAmount.add(booking.getPaymentAmount());
+            grouped.add(new GroupedBooking(booking.getBookingId(), booking.getVehicleId(), booking.getPaymentAmount()));
+        }
+        bookingMetrics.recordBookingCreationTime(System.currentTimeMillis() - startTime);
+
+        log.info("Group booking of {} vehicles created for customer {} with status: {}",
+                savedBookings.size(), request.customerName(), status);
+        return new GroupBookingResponseDTO(status, totalAmount, grouped);
+    }
+
+    private void ensureAvailable(Set<String> vehicleIds, GroupBookingRequestDTO request) {
+        Set<String> unavailable = new TreeSet<>(bookingRepository.findVehicleIdsWithActiveBookings(
+                vehicleIds, request.rentalStartDate(), request.rentalEndDate()));
+        unavailable.addAll(vehicleHoldStore.heldVehicles(
+                vehicleIds, request.rentalStartDate(), request.rentalEndDate()));
+        if (!unavailable.isEmpty()) {
+            throw new VehicleUnavailableException(
+                    "Vehicles " + unavailable + " are not available for the requested dates");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.request.QuoteRequestDTO;
+import com.velocity.carservice.application.dto.response.QuoteResponseDTO;
+import com.velocity.carservice.domain.model.VehicleHold;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Prices a rental and holds the vehicle for the quoted dates, so that booking it within
+ * {@code app.holds.ttl} needs no repricing and cannot lose the vehicle to another quote. The booking is still
+ * checked against the database, since a plain booking can commit between this availability check and the hold.
+ */
+@Service
+@Slf4j
+public class QuoteService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingDomainService bookingDomainService;
+    private final PricingEngine pricingEngine;
+    private final VehicleHoldStore vehicleHoldStore;
+    private final Duration holdTtl;
+
+    public QuoteService(BookingRepository bookingRepository, BookingDomainService bookingDomainService,
+                        PricingEngine pricingEngine, VehicleHoldStore vehicleHoldStore,
+                        @Value("${app.holds.ttl:10m}") Duration holdTtl) {
+        this.bookingRepository = bookingRepository;
+        this.bookingDomainService = bookingDomainService;
+        this.pricingEngine = pricingEngine;
+        this.vehicleHoldStore = vehicleHoldStore;
+        this.holdTtl = holdTtl;
+    }
+
+    @Transactional(readOnly = true)
+    public QuoteResponseDTO createQuote(QuoteRequestDTO request) {
+        bookingDomainService.validateRentalDates(request.rentalStartDate(), request.rentalEndDate());
+        bookingDomainService.validateVehicleId(request.vehicleId());
+
+        if (bookingRepository.existsActiveBookingForVehicle(
+                request.vehicleId(), request.rentalStartDate(), request.rentalEndDate())) {
+            throw unavailable(request.vehicleId());
+        }
+
+        VehicleHold hold = new VehicleHold(
+                UUID.randomUUID().toString(),
+                request.vehicleId(),
+                request.vehicleCategory(),
+                request.rentalStartDate(),
+                request.rentalEndDate(),
+                pricingEngine.priceCents(request.vehicleCategory(), request.rentalStartDate(), request.rentalEndDate()),
+                System.currentTimeMillis() + holdTtl.toMillis());
+        if (!vehicleHoldStore.tryHold(hold)) {
+            throw unavailable(request.vehicleId());
+        }
+
+        log.info("Vehicle {} held from {} to {} with hold {}",
+                hold.vehicleId(), hold.rentalStartDate(), hold.rentalEndDate(), hold.token());
+        return QuoteResponseDTO.of(hold);
+    }
+
+    private static VehicleUnavailableException unavailable(String vehicleId) {
+        return new VehicleUnavailableException("Vehicle " + vehicleId + " is not available for the requested dates");
+    }
+}
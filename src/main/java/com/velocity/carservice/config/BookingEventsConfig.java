@@ -0,0 +1,33 @@
+package com.velocity.carservice.config;
+
+import com.velocity.carservice.infrastructure.events.RedisBookingEventBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this node to the booking event channel when events are broadcast over Redis.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.booking-events.broadcast", havingValue = "redis")
+public class BookingEventsConfig {
+
+    @Bean
+    public RedisMessageListenerContainer bookingEventListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisBookingEventBroadcaster broadcaster) {
+        // Subscribing waits for Redis; DeferredInfrastructureInitializer starts it after the context is up
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(broadcaster.getChannel()));
+        return container;
+    }
+}
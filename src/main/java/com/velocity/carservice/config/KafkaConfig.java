@@ -38,6 +38,9 @@ public class KafkaConfig {
     @Value("${app.kafka.topics.bank-transfer-payment-events-dlq:bank-transfer-payment-events-dlq}")
     private String bankTransferPaymentEventsDlqTopic;
 
+    @Value("${app.kafka.listeners-enabled:true}")
+    private boolean listenersEnabled;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -78,6 +81,7 @@ public class KafkaConfig {
         factory.setConcurrency(3);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3)));
+        factory.setAutoStartup(listenersEnabled);
         return factory;
     }
 
@@ -1,13 +1,27 @@
 package com.velocity.carservice.config;
 
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.infrastructure.cache.BookingStatusTtlFunction;
+import com.velocity.carservice.infrastructure.cache.CachedBookingResponseSerializer;
+import com.velocity.carservice.infrastructure.cache.ResilientRedisCacheWriter;
+import com.velocity.carservice.infrastructure.cache.TimedRedisCacheWriter;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -15,10 +29,15 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+
+import static com.velocity.carservice.shared.constant.AppConstants.CACHE_BOOKINGS;
+import static com.velocity.carservice.shared.constant.AppConstants.CACHE_CONNECTION_FACTORY;
+import static com.velocity.carservice.shared.constant.AppConstants.RESILIENCE_REDIS_CACHE;
 
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
 
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
@@ -29,15 +48,50 @@ public class RedisConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
 
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration redisTimeout;
+
+    @Value("${app.cache.redis.command-timeout:100ms}")
+    private Duration cacheCommandTimeout;
+
+    @Value("${app.cache.fallback.max-entries:10000}")
+    private int fallbackMaxEntries;
+
+    @Value("${app.cache.bookings.ttl.pending-payment:1m}")
+    private Duration pendingPaymentTtl;
+
+    @Value("${app.cache.bookings.ttl.confirmed:6h}")
+    private Duration confirmedTtl;
+
+    @Value("${app.cache.bookings.ttl.cancelled:6h}")
+    private Duration cancelledTtl;
+
     @Bean
+    @Primary
     public LettuceConnectionFactory redisConnectionFactory() {
+        return connectionFactory(redisTimeout);
+    }
+
+    /**
+     * A cache that answers slower than the database is useless, so cache commands give up quickly and the
+     * caller falls back instead of waiting out the general Redis timeout.
+     */
+    @Bean(CACHE_CONNECTION_FACTORY)
+    public LettuceConnectionFactory cacheRedisConnectionFactory() {
+        return connectionFactory(cacheCommandTimeout);
+    }
+
+    private LettuceConnectionFactory connectionFactory(Duration commandTimeout) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(redisHost);
         config.setPort(redisPort);
         if (redisPassword != null && !redisPassword.isEmpty()) {
             config.setPassword(redisPassword);
         }
-        return new LettuceConnectionFactory(config);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .build();
+        return new LettuceConnectionFactory(config, clientConfiguration);
     }
 
     @Bean
@@ -53,7 +107,10 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(
+            @Qualifier(CACHE_CONNECTION_FACTORY) RedisConnectionFactory connectionFactory,
+            BookingMetrics bookingMetrics,
+            CircuitBreakerRegistry circuitBreakerRegistry) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .disableCachingNullValues()
@@ -62,12 +119,41 @@ public class RedisConfig {
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheWriter cacheWriter = new ResilientRedisCacheWriter(
+                new TimedRedisCacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), bookingMetrics),
+                circuitBreakerRegistry.circuitBreaker(RESILIENCE_REDIS_CACHE),
+                fallbackMaxEntries);
+
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(cacheConfiguration)
-                .withCacheConfiguration("bookings",
-                        RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(15)))
-                .withCacheConfiguration("customers",
-                        RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofHours(1)))
+                .withCacheConfiguration(CACHE_BOOKINGS, bookingsCacheConfiguration(cacheConfiguration))
+                .withCacheConfiguration("customers", cacheConfiguration.entryTtl(Duration.ofHours(1)))
                 .build();
     }
+
+    /**
+     * Cache failures that get past the cache writer (for example an entry that no longer deserializes) are
+     * logged and treated as misses, so the call falls through to the database instead of failing.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    /**
+     * Booking entries hold the pre-encoded response body, so hits are served without object mapping.
+     * The distinct key prefix keeps them apart from entries written with the generic JSON serializer.
+     * Their TTL follows the booking status: short while payment is pending, long once settled.
+     */
+    private RedisCacheConfiguration bookingsCacheConfiguration(RedisCacheConfiguration defaults) {
+        Map<BookingStatus, Duration> ttlByStatus = Map.of(
+                BookingStatus.PENDING_PAYMENT, pendingPaymentTtl,
+                BookingStatus.CONFIRMED, confirmedTtl,
+                BookingStatus.CANCELLED, cancelledTtl);
+        return defaults
+                .entryTtl(new BookingStatusTtlFunction(ttlByStatus, Duration.ofMinutes(15)))
+                .computePrefixWith(cacheName -> cacheName + ":bytes::")
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new CachedBookingResponseSerializer()));
+    }
 }
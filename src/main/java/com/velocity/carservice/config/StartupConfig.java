@@ -0,0 +1,48 @@
+package com.velocity.carservice.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * Keeps beans that only serve the API documentation out of startup.
+ * <p>
+ * Springdoc's beans are marked lazy, so they are created on the first request to {@code /api-docs} or the
+ * Swagger UI instead of before the HTTP port opens. Handler mappings still register the documentation
+ * endpoints, because they only need the bean types.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyApiDocumentationBeans() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String source = declaringClassName(definition);
+                if (source != null && source.startsWith(SPRINGDOC_PACKAGE)
+                        && definition.getRole() == BeanDefinition.ROLE_APPLICATION) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * The configuration class declaring a {@code @Bean} method, otherwise the bean's own class.
+     */
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
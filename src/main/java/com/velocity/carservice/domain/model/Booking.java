@@ -28,7 +28,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Booking {
 
     @Id
@@ -94,12 +94,22 @@ public class Booking {
         this.status = BookingStatus.PENDING_PAYMENT;
     }
 
-    public boolean canBeCancelled() {
+    public boolean isPendingPayment() {
         return this.status == BookingStatus.PENDING_PAYMENT;
     }
 
-    public boolean isPendingPayment() {
-        return this.status == BookingStatus.PENDING_PAYMENT;
+    /**
+     * Adds a bank transfer to the amount received, and confirms the booking once it is paid in full.
+     *
+     * @return true if this payment confirmed the booking
+     */
+    public boolean receivePayment(BigDecimal amount) {
+        amountReceived = amountReceived != null ? amountReceived.add(amount) : amount;
+        if (!isFullPaymentReceived()) {
+            return false;
+        }
+        confirm();
+        return true;
     }
 
     public boolean isFullPaymentReceived() {
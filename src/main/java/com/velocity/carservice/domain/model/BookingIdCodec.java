@@ -0,0 +1,154 @@
+package com.velocity.carservice.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Encodes and verifies booking IDs.
+ * <p>
+ * Format: {@code BKG} + 6 payload characters + 1 check character, all from the Crockford base-32
+ * alphabet (no I, L, O or U). The check character is Luhn mod 32 over the payload, so every single-character
+ * typo and most adjacent transpositions are caught without touching the database. The first payload character
+ * is always a letter, which keeps new IDs apart from legacy IDs ({@code BKG} + 7 digits); those carry no
+ * checksum and are still accepted.
+ * <p>
+ * Verification only reads characters, so it can run on every request and message without allocating.
+ */
+public final class BookingIdCodec {
+
+    public static final int LENGTH = 10;
+    public static final String PREFIX = "BKG";
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int RADIX = ALPHABET.length;
+    private static final int PAYLOAD_LENGTH = 6;
+    private static final int PAYLOAD_START = PREFIX.length();
+    private static final int CHECK_INDEX = LENGTH - 1;
+
+    /** Smallest payload value whose leading character is a letter ({@code A} = 10). */
+    private static final long PAYLOAD_OFFSET = 10L * pow(RADIX, PAYLOAD_LENGTH - 1);
+
+    /** Number of distinct IDs the format can hold. */
+    public static final long CAPACITY = pow(RADIX, PAYLOAD_LENGTH) - PAYLOAD_OFFSET;
+
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private BookingIdCodec() {
+    }
+
+    /**
+     * Encodes a sequence number (0 to {@link #CAPACITY} - 1) as a checksummed booking ID.
+     */
+    public static String encode(long sequence) {
+        if (sequence < 0 || sequence >= CAPACITY) {
+            throw new IllegalArgumentException("Booking sequence out of range: " + sequence);
+        }
+        char[] id = new char[LENGTH];
+        PREFIX.getChars(0, PAYLOAD_START, id, 0);
+        long payload = PAYLOAD_OFFSET + sequence;
+        for (int i = CHECK_INDEX - 1; i >= PAYLOAD_START; i--) {
+            id[i] = ALPHABET[(int) (payload % RADIX)];
+            payload /= RADIX;
+        }
+        id[CHECK_INDEX] = ALPHABET[checkValue(id)];
+        return new String(id);
+    }
+
+    /**
+     * True when the value is a well-formed booking ID: either a new ID with a valid check character
+     * or a legacy {@code BKG} + 7 digit ID.
+     */
+    public static boolean isValid(CharSequence id) {
+        return id != null && isValid(id, 0, id.length());
+    }
+
+    /**
+     * Same as {@link #isValid(CharSequence)} for the region {@code [start, end)}, so callers can verify
+     * an ID embedded in a larger string before cutting it out.
+     */
+    public static boolean isValid(CharSequence text, int start, int end) {
+        return end - start == LENGTH && hasPrefix(text, start)
+                && (isLegacyBody(text, start) || hasValidChecksum(text, start));
+    }
+
+    /**
+     * True for IDs issued before check characters were introduced ({@code BKG} + 7 digits).
+     */
+    public static boolean isLegacy(CharSequence id) {
+        return id != null && id.length() == LENGTH && hasPrefix(id, 0) && isLegacyBody(id, 0);
+    }
+
+    private static boolean hasPrefix(CharSequence text, int start) {
+        for (int i = 0; i < PAYLOAD_START; i++) {
+            if (text.charAt(start + i) != PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLegacyBody(CharSequence text, int start) {
+        for (int i = PAYLOAD_START; i < LENGTH; i++) {
+            char c = text.charAt(start + i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Luhn mod N check: walking from the check character leftwards, every second value is doubled and its
+     * base-N digits summed; a valid ID sums to a multiple of N.
+     */
+    private static boolean hasValidChecksum(CharSequence text, int start) {
+        if (valueOf(text.charAt(start + PAYLOAD_START)) < 10) {
+            return false;
+        }
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = CHECK_INDEX; i >= PAYLOAD_START; i--) {
+            int value = valueOf(text.charAt(start + i));
+            if (value < 0) {
+                return false;
+            }
+            sum += doubled ? luhnDouble(value) : value;
+            doubled = !doubled;
+        }
+        return sum % RADIX == 0;
+    }
+
+    private static int checkValue(char[] id) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = CHECK_INDEX - 1; i >= PAYLOAD_START; i--) {
+            int value = valueOf(id[i]);
+            sum += doubled ? luhnDouble(value) : value;
+            doubled = !doubled;
+        }
+        return (RADIX - sum % RADIX) % RADIX;
+    }
+
+    private static int luhnDouble(int value) {
+        int doubled = value * 2;
+        return doubled / RADIX + doubled % RADIX;
+    }
+
+    private static int valueOf(char c) {
+        return c < VALUES.length ? VALUES[c] : -1;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+package com.velocity.carservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Position in the (rental start date, booking ID) ordering used by keyset-paginated searches.
+ * The next page starts strictly after this position.
+ */
+public record BookingKeyset(
+        LocalDate rentalStartDate,
+        String bookingId
+) {
+    public static BookingKeyset of(BookingSummary summary) {
+        return new BookingKeyset(summary.rentalStartDate(), summary.bookingId());
+    }
+}
@@ -0,0 +1,17 @@
+package com.velocity.carservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for booking searches. A null field means "no filter";
+ * the rental range applies to the rental start date (inclusive on both ends).
+ */
+public record BookingSearchCriteria(
+        String customerName,
+        String vehicleId,
+        BookingStatus status,
+        PaymentMode paymentMode,
+        LocalDate rentalFrom,
+        LocalDate rentalTo
+) {
+}
@@ -0,0 +1,12 @@
+package com.velocity.carservice.domain.model;
+
+/**
+ * Minimal read model of a booking: its business ID, current status and optimistic-lock version.
+ * Used by hot paths that never need the full {@link Booking} entity.
+ */
+public record BookingStatusView(
+        String bookingId,
+        BookingStatus status,
+        Long version
+) {
+}
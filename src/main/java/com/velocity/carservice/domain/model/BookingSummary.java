@@ -0,0 +1,19 @@
+package com.velocity.carservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for booking listings. Carries the columns list views need and nothing else
+ * (no amounts, audit timestamps or version).
+ */
+public record BookingSummary(
+        String bookingId,
+        String customerName,
+        String vehicleId,
+        VehicleCategory vehicleCategory,
+        LocalDate rentalStartDate,
+        LocalDate rentalEndDate,
+        PaymentMode paymentMode,
+        BookingStatus status
+) {
+}
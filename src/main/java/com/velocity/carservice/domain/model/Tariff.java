@@ -0,0 +1,31 @@
+package com.velocity.carservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rental tariff as maintained by pricing: a daily rate per vehicle category and season, and discounts by
+ * rental length. Compiled into a {@code RateTable} before use.
+ *
+ * @param version         identifies the tariff in logs and reports
+ * @param defaultSeason   season of every day not covered by {@code seasons}
+ * @param seasons         date ranges of the other seasons, as {@code MM-dd}; a range may wrap the year end,
+ *                        and later ranges win where ranges overlap
+ * @param dailyRatesCents daily rate in cents per category and season name
+ * @param lengthDiscounts discount for rentals of at least {@code minDays} days; the largest applicable wins
+ */
+public record Tariff(
+        String version,
+        String defaultSeason,
+        List<Season> seasons,
+        Map<VehicleCategory, Map<String, Long>> dailyRatesCents,
+        List<LengthDiscount> lengthDiscounts
+) {
+
+    public record Season(String name, String from, String to) {
+    }
+
+    public record LengthDiscount(int minDays, BigDecimal percent) {
+    }
+}
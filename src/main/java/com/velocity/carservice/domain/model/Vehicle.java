@@ -0,0 +1,46 @@
+package com.velocity.carservice.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A vehicle of the fleet. Inactive vehicles (sold, in long-term repair) are kept for their booking history but
+ * are not offered.
+ */
+@Entity
+@Table(name = "vehicles")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Vehicle {
+
+    @Id
+    @Column(name = "vehicle_id", length = 50)
+    private String vehicleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_category", nullable = false, length = 20)
+    private VehicleCategory vehicleCategory;
+
+    @Builder.Default
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
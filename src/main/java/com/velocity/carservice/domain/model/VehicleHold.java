@@ -0,0 +1,37 @@
+package com.velocity.carservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * A quoted price with the vehicle reserved for the quoted dates until {@code expiresAtMillis}. Redeeming the
+ * token when booking skips repricing and the hold check; existing bookings are still checked.
+ */
+public record VehicleHold(
+        String token,
+        String vehicleId,
+        VehicleCategory vehicleCategory,
+        LocalDate rentalStartDate,
+        LocalDate rentalEndDate,
+        long amountCents,
+        long expiresAtMillis
+) {
+
+    /**
+     * Whether the hold reserves any day from {@code startDate} up to but excluding {@code endDate}.
+     */
+    public boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        return rentalStartDate.isBefore(endDate) && startDate.isBefore(rentalEndDate);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * Whether a booking request is for exactly what was quoted.
+     */
+    public boolean covers(String vehicleId, VehicleCategory vehicleCategory, LocalDate startDate, LocalDate endDate) {
+        return this.vehicleId.equals(vehicleId) && this.vehicleCategory == vehicleCategory
+                && rentalStartDate.equals(startDate) && rentalEndDate.equals(endDate);
+    }
+}
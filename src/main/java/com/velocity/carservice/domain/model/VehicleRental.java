@@ -0,0 +1,14 @@
+package com.velocity.carservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * The days a booking takes its vehicle: from {@code rentalStartDate} up to but excluding {@code rentalEndDate}.
+ */
+public record VehicleRental(
+        String bookingId,
+        String vehicleId,
+        LocalDate rentalStartDate,
+        LocalDate rentalEndDate
+) {
+}
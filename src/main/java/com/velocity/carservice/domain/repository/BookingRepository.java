@@ -1,33 +1,119 @@
 package com.velocity.carservice.domain.repository;
 
 import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
 import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleRental;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BookingRepository {
 
     Booking save(Booking booking);
 
+    /**
+     * Inserts new bookings as one batch. All of them are written or, if any insert fails, none are.
+     */
+    List<Booking> saveAll(List<Booking> bookings);
+
     Optional<Booking> findById(UUID id);
 
     Optional<Booking> findByBookingId(String bookingId);
 
+    Optional<BookingStatusView> findStatusByBookingId(String bookingId);
+
+    /**
+     * Status views for all given booking IDs in one query; unknown IDs are simply absent from the result.
+     */
+    List<BookingStatusView> findStatusesByBookingIds(Collection<String> bookingIds);
+
+    /**
+     * Bookings for all given booking IDs in one query; unknown IDs are simply absent from the result.
+     */
+    List<Booking> findByBookingIds(Collection<String> bookingIds);
+
     List<Booking> findByStatus(BookingStatus status);
 
     List<Booking> findByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status);
 
+    /**
+     * Keyset page of summaries ordered by booking ID.
+     *
+     * @param afterBookingId last booking ID of the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     */
+    List<BookingSummary> findSummariesByStatus(BookingStatus status, String afterBookingId, int limit);
+
+    List<BookingSummary> findSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status,
+                                                             String afterBookingId, int limit);
+
+    /**
+     * Streams all matching summaries through a database cursor. Must be consumed inside a
+     * transaction and closed by the caller.
+     */
+    Stream<BookingSummary> streamSummariesByStatus(BookingStatus status);
+
+    Stream<BookingSummary> streamSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status);
+
+    /**
+     * Streams the rentals of bookings that are not cancelled and take their vehicle for any day from
+     * {@code from} up to but excluding {@code to}. Same contract as {@link #streamSummariesByStatus}.
+     */
+    Stream<VehicleRental> streamActiveRentals(LocalDate from, LocalDate to);
+
+    /**
+     * Keyset page of summaries matching the criteria, ordered by rental start date then booking ID.
+     *
+     * @param after position of the last row of the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     */
+    List<BookingSummary> searchSummaries(BookingSearchCriteria criteria, BookingKeyset after, int limit);
+
     List<Booking> findPendingBankTransferBookingsBeforeDate(LocalDate date);
 
     boolean existsByBookingId(String bookingId);
 
+    /**
+     * Whether a booking that is not cancelled has the vehicle for any day from {@code startDate} up to but
+     * excluding {@code endDate}.
+     */
+    boolean existsActiveBookingForVehicle(String vehicleId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * The given vehicles that a booking that is not cancelled has for any day from {@code startDate} up to but
+     * excluding {@code endDate}, in one query.
+     */
+    List<String> findVehicleIdsWithActiveBookings(Collection<String> vehicleIds, LocalDate startDate,
+                                                  LocalDate endDate);
+
     void deleteById(UUID id);
 
     int batchUpdateStatus(List<String> bookingIds, BookingStatus newStatus);
 
+    /**
+     * Cancels the booking only if it is still PENDING_PAYMENT. This is the only place the cancellation rule is
+     * checked: the status test is part of the update, so a payment committed concurrently cannot be cancelled.
+     *
+     * @return the cancelled booking's status view, or empty if the booking does not exist
+     *         or is no longer cancellable
+     */
+    Optional<BookingStatusView> cancelIfPending(String bookingId);
+
+    /**
+     * Cancels, in one statement, those of the given bookings that are still PENDING_PAYMENT.
+     *
+     * @return status views of the bookings that were cancelled
+     */
+    List<BookingStatusView> cancelAllIfPending(Collection<String> bookingIds);
+
     List<String> findBookingIdsForAutoCancellation(int daysBeforeRental);
 }
@@ -1,6 +1,7 @@
 package com.velocity.carservice.domain.service;
 
 import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingIdCodec;
 import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Service
@@ -20,11 +23,23 @@ public class BookingDomainService {
 
     /**
      * Generates a unique 10-character booking ID
-     * Format: BKG followed by 7-digit sequential number (e.g., BKG0012345)
+     * Format: BKG followed by 6 base-32 characters and a check character (e.g., BKGA00C1SA)
      */
     public String generateBookingId() {
         long sequence = bookingSequence.getAndIncrement();
-        return String.format("BKG%07d", sequence % 10000000);
+        return BookingIdCodec.encode(sequence % BookingIdCodec.CAPACITY);
+    }
+
+    /**
+     * Generates {@code count} booking IDs from one block of the sequence, in sequence order
+     */
+    public List<String> generateBookingIds(int count) {
+        long first = bookingSequence.getAndAdd(count);
+        List<String> bookingIds = new ArrayList<>(count);
+        for (long sequence = first; sequence < first + count; sequence++) {
+            bookingIds.add(BookingIdCodec.encode(sequence % BookingIdCodec.CAPACITY));
+        }
+        return bookingIds;
     }
 
     /**
@@ -86,11 +101,4 @@ public class BookingDomainService {
         LocalDate cancellationDeadline = booking.getRentalStartDate().minusDays(2);
         return !LocalDate.now().isBefore(cancellationDeadline);
     }
-
-    public void validateBookingForCancellation(Booking booking) {
-        if (!booking.canBeCancelled()) {
-            throw new IllegalStateException(
-                    "Booking cannot be cancelled. Current status: " + booking.getStatus());
-        }
-    }
 }
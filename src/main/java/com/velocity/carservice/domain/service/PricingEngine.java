@@ -0,0 +1,60 @@
+package com.velocity.carservice.domain.service;
+
+import com.velocity.carservice.domain.model.Tariff;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Prices rentals from the current {@link RateTable}.
+ * <p>
+ * A new tariff is compiled off to the side and swapped in with a single volatile write, so prices are never
+ * computed from a half-updated table and readers take no lock. A tariff that fails validation is rejected and
+ * the current one stays in effect.
+ */
+@Service
+@Slf4j
+public class PricingEngine {
+
+    private volatile RateTable rateTable;
+
+    /**
+     * Compiles the tariff and makes it current.
+     *
+     * @throws IllegalArgumentException if the tariff is invalid; the current tariff is kept
+     */
+    public void load(Tariff tariff) {
+        RateTable compiled = RateTable.compile(tariff);
+        RateTable previous = rateTable;
+        rateTable = compiled;
+        log.info("Tariff {} loaded{}", compiled.version(),
+                previous != null ? ", replacing " + previous.version() : "");
+    }
+
+    public long priceCents(VehicleCategory category, LocalDate rentalStartDate, LocalDate rentalEndDate) {
+        return currentTable().priceCents(category, rentalStartDate, rentalEndDate);
+    }
+
+    /**
+     * The rental price as the two-decimal amount stored on bookings.
+     */
+    public BigDecimal price(VehicleCategory category, LocalDate rentalStartDate, LocalDate rentalEndDate) {
+        return BigDecimal.valueOf(priceCents(category, rentalStartDate, rentalEndDate), 2);
+    }
+
+    public String tariffVersion() {
+        RateTable current = rateTable;
+        return current != null ? current.version() : null;
+    }
+
+    private RateTable currentTable() {
+        RateTable current = rateTable;
+        if (current == null) {
+            throw new IllegalStateException("No tariff loaded");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,174 @@
+package com.velocity.carservice.domain.service;
+
+import com.velocity.carservice.domain.model.Tariff;
+import com.velocity.carservice.domain.model.VehicleCategory;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Tariff} compiled into flat arrays, so that a price is a handful of array reads and integer
+ * arithmetic with no allocation.
+ * <p>
+ * For every category, and separately for leap and common years, {@code cumulativeCents} holds the running sum
+ * of daily rates from the start of the year, so the base price of any date range is one subtraction per
+ * calendar year it touches. {@code discountBasisPoints} is indexed by rental length; lengths past its end take
+ * the last entry. Instances are immutable and replaced as a whole when the tariff changes.
+ */
+public final class RateTable {
+
+    private static final int CATEGORIES = VehicleCategory.values().length;
+    private static final int DAYS_STRIDE = 367;
+    private static final int LEAP_REFERENCE_YEAR = 2024;
+    private static final int COMMON_REFERENCE_YEAR = 2025;
+    private static final long BASIS_POINTS = 10_000;
+
+    private final String version;
+    private final long[] cumulativeCents;
+    private final int[] discountBasisPoints;
+
+    private RateTable(String version, long[] cumulativeCents, int[] discountBasisPoints) {
+        this.version = version;
+        this.cumulativeCents = cumulativeCents;
+        this.discountBasisPoints = discountBasisPoints;
+    }
+
+    /**
+     * Validates and compiles a tariff.
+     *
+     * @throws IllegalArgumentException if a category has no rate for a season, or a range or discount is invalid
+     */
+    public static RateTable compile(Tariff tariff) {
+        List<String> seasons = seasonNames(tariff);
+        long[] ratesBySeason = ratesBySeason(tariff, seasons);
+
+        long[] cumulative = new long[CATEGORIES * 2 * DAYS_STRIDE];
+        for (int leap = 0; leap <= 1; leap++) {
+            int[] seasonOfDay = seasonOfDay(tariff, seasons, leap == 1 ? LEAP_REFERENCE_YEAR : COMMON_REFERENCE_YEAR);
+            for (int category = 0; category < CATEGORIES; category++) {
+                int offset = (category * 2 + leap) * DAYS_STRIDE;
+                for (int day = 1; day < seasonOfDay.length; day++) {
+                    cumulative[offset + day] = cumulative[offset + day - 1]
+                            + ratesBySeason[category * seasons.size() + seasonOfDay[day]];
+                }
+            }
+        }
+        return new RateTable(tariff.version(), cumulative, discountBasisPoints(tariff));
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Price in cents of renting a vehicle of the category from {@code start} to {@code end}: one daily rate for
+     * each day from {@code start} up to but excluding {@code end}, less the rental-length discount, rounded
+     * half up to the cent.
+     */
+    public long priceCents(VehicleCategory category, LocalDate start, LocalDate end) {
+        int days = (int) (end.toEpochDay() - start.toEpochDay());
+        if (days <= 0) {
+            throw new IllegalArgumentException("Rental end date must be after rental start date");
+        }
+        long baseCents = 0;
+        int year = start.getYear();
+        int dayOfYear = start.getDayOfYear();
+        int remaining = days;
+        while (remaining > 0) {
+            boolean leap = Year.isLeap(year);
+            int daysThisYear = Math.min(remaining, (leap ? 366 : 365) - dayOfYear + 1);
+            int offset = (category.ordinal() * 2 + (leap ? 1 : 0)) * DAYS_STRIDE;
+            baseCents += cumulativeCents[offset + dayOfYear + daysThisYear - 1]
+                    - cumulativeCents[offset + dayOfYear - 1];
+            remaining -= daysThisYear;
+            year++;
+            dayOfYear = 1;
+        }
+        long discount = discountBasisPoints[Math.min(days, discountBasisPoints.length - 1)];
+        return (baseCents * (BASIS_POINTS - discount) + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    private static List<String> seasonNames(Tariff tariff) {
+        if (tariff.defaultSeason() == null) {
+            throw new IllegalArgumentException("Tariff " + tariff.version() + " has no default season");
+        }
+        List<String> names = new ArrayList<>();
+        names.add(tariff.defaultSeason());
+        for (Tariff.Season season : seasons(tariff)) {
+            if (!names.contains(season.name())) {
+                names.add(season.name());
+            }
+        }
+        return names;
+    }
+
+    private static long[] ratesBySeason(Tariff tariff, List<String> seasons) {
+        long[] rates = new long[CATEGORIES * seasons.size()];
+        Map<VehicleCategory, Map<String, Long>> dailyRates = tariff.dailyRatesCents() != null
+                ? tariff.dailyRatesCents() : Map.of();
+        for (VehicleCategory category : VehicleCategory.values()) {
+            Map<String, Long> categoryRates = dailyRates.getOrDefault(category, Map.of());
+            for (int season = 0; season < seasons.size(); season++) {
+                Long rate = categoryRates.get(seasons.get(season));
+                if (rate == null || rate < 0) {
+                    throw new IllegalArgumentException("Tariff " + tariff.version() + " has no valid " + category
+                            + " rate for season " + seasons.get(season));
+                }
+                rates[category.ordinal() * seasons.size() + season] = rate;
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * Season index of every day of the reference year, by day of year (index 0 is unused).
+     */
+    private static int[] seasonOfDay(Tariff tariff, List<String> seasons, int referenceYear) {
+        int yearLength = Year.of(referenceYear).length();
+        int[] seasonOfDay = new int[yearLength + 1];
+        for (Tariff.Season season : seasons(tariff)) {
+            int from = dayOfYear(season.from(), referenceYear, tariff);
+            int to = dayOfYear(season.to(), referenceYear, tariff);
+            int length = Math.floorMod(to - from, yearLength) + 1;
+            int index = seasons.indexOf(season.name());
+            for (int i = 0; i < length; i++) {
+                seasonOfDay[(from - 1 + i) % yearLength + 1] = index;
+            }
+        }
+        return seasonOfDay;
+    }
+
+    private static int dayOfYear(String monthDay, int referenceYear, Tariff tariff) {
+        try {
+            return MonthDay.parse("--" + monthDay).atYear(referenceYear).getDayOfYear();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Tariff " + tariff.version() + " has an invalid season date: "
+                    + monthDay, e);
+        }
+    }
+
+    private static int[] discountBasisPoints(Tariff tariff) {
+        List<Tariff.LengthDiscount> discounts = tariff.lengthDiscounts() != null ? tariff.lengthDiscounts() : List.of();
+        int maxDays = Math.max(0, discounts.stream().mapToInt(Tariff.LengthDiscount::minDays).max().orElse(0));
+        int[] basisPoints = new int[maxDays + 1];
+        for (Tariff.LengthDiscount discount : discounts) {
+            int points = discount.percent().movePointRight(2).intValueExact();
+            if (discount.minDays() < 1 || points < 0 || points > BASIS_POINTS) {
+                throw new IllegalArgumentException("Tariff " + tariff.version() + " has an invalid discount: "
+                        + discount);
+            }
+            for (int days = discount.minDays(); days <= maxDays; days++) {
+                basisPoints[days] = Math.max(basisPoints[days], points);
+            }
+        }
+        return basisPoints;
+    }
+
+    private static List<Tariff.Season> seasons(Tariff tariff) {
+        return tariff.seasons() != null ? tariff.seasons() : List.of();
+    }
+}
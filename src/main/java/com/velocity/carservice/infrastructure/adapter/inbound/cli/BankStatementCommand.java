@@ -0,0 +1,68 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.cli;
+
+import com.velocity.carservice.infrastructure.importer.BankStatementJob;
+import com.velocity.carservice.infrastructure.importer.BankStatementReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * One-shot application of a bank statement file, e.g.
+ *
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=prod,statement --app.statement.file=/data/eod-2026-03-01.sta \
+ *      --app.statement.format=MT940 --app.statement.dry-run=false
+ * </pre>
+ *
+ * Runs as a dry run unless {@code app.statement.dry-run} is false. The reconciliation report is written next to
+ * the statement unless {@code app.statement.report} names another file. The application exits when done.
+ */
+@Component
+@Profile("statement")
+@RequiredArgsConstructor
+@Slf4j
+public class BankStatementCommand implements ApplicationRunner {
+
+    private final BankStatementJob bankStatementJob;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${app.statement.file}")
+    private Path file;
+
+    @Value("${app.statement.format:CSV}")
+    private BankStatementReader.Format format;
+
+    @Value("${app.statement.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${app.statement.report:}")
+    private String report;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path reportFile = report.isBlank() ? Path.of(file + ".reconciliation.csv") : Path.of(report);
+        log.info("{} {} statement {}, report to {}", dryRun ? "Dry run of" : "Applying", format, file, reportFile);
+        int exitCode = 0;
+
+        try {
+            BankStatementJob.StatementReport result = bankStatementJob.run(file, format, dryRun, reportFile);
+            log.info("Statement {} in {} ms: {} lines; counts {}; amounts {}",
+                    result.dryRun() ? "checked" : "applied", result.elapsedMillis(), result.lines(),
+                    result.counts(), result.amounts());
+        } catch (Exception e) {
+            log.error("Statement failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
@@ -0,0 +1,82 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.cli;
+
+import com.velocity.carservice.application.service.BookingQueryService;
+import com.velocity.carservice.infrastructure.export.BookingExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One-shot booking export for batch jobs, e.g. the nightly finance export:
+ *
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=prod,export \
+ *     --app.export.from=2026-01-01 --app.export.to=2026-01-31 \
+ *     --app.export.format=CSV --app.export.output=/data/bookings.csv.gz
+ * </pre>
+ *
+ * The output is gzip-compressed when the file name ends in {@code .gz}. The application exits
+ * once the export completes.
+ */
+@Component
+@Profile("export")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExportCommand implements ApplicationRunner {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final BookingQueryService bookingQueryService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${app.export.from}")
+    private LocalDate from;
+
+    @Value("${app.export.to}")
+    private LocalDate to;
+
+    @Value("${app.export.format:NDJSON}")
+    private BookingExportFormat format;
+
+    @Value("${app.export.output}")
+    private Path output;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Exporting bookings from {} to {} as {} into {}", from, to, format, output);
+        long startTime = System.currentTimeMillis();
+        int exitCode = 0;
+
+        try (OutputStream out = openOutput()) {
+            long rows = bookingQueryService.exportBookings(from, to, format, out);
+            log.info("Export completed: {} bookings in {} ms", rows, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Export failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    private OutputStream openOutput() throws IOException {
+        OutputStream file = new BufferedOutputStream(Files.newOutputStream(output), OUTPUT_BUFFER_SIZE);
+        return output.getFileName().toString().endsWith(".gz")
+                ? new GZIPOutputStream(file, OUTPUT_BUFFER_SIZE)
+                : file;
+    }
+}
@@ -0,0 +1,57 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.cli;
+
+import com.velocity.carservice.infrastructure.importer.BookingImportJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * One-shot import of a booking CSV, e.g. a dump from an acquired rental brand:
+ *
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=prod,import --app.import.file=/data/brand-bookings.csv
+ * </pre>
+ *
+ * The application exits once the import completes. An import that fails can be run again with the same
+ * arguments; it resumes after the last committed chunk.
+ */
+@Component
+@Profile("import")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingImportCommand implements ApplicationRunner {
+
+    private final BookingImportJob bookingImportJob;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${app.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Importing bookings from {}", file);
+        int exitCode = 0;
+
+        try {
+            BookingImportJob.ImportReport report = bookingImportJob.run(file);
+            log.info("Import completed in {} ms: {} chunks ({} from earlier runs), {} rows, {} inserted, "
+                            + "{} repeated within a chunk, {} already existing, {} rejected",
+                    report.elapsedMillis(), report.chunks(), report.chunksSkipped(), report.rows(),
+                    report.inserted(), report.repeated(), report.conflicts(), report.rejected());
+        } catch (Exception e) {
+            log.error("Import failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
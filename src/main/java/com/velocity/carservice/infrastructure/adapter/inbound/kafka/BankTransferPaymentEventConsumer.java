@@ -3,11 +3,13 @@ package com.velocity.carservice.infrastructure.adapter.inbound.kafka;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
-import com.velocity.carservice.application.service.BookingService;
+import com.velocity.carservice.application.service.BankTransferPaymentService;
+import com.velocity.carservice.application.service.BankTransferPaymentService.PaymentOutcome;
 import com.velocity.carservice.domain.model.ProcessedPaymentEvent;
 import com.velocity.carservice.domain.model.ProcessedPaymentEvent.ProcessingStatus;
 import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
 import com.velocity.carservice.infrastructure.repository.ProcessedPaymentEventRepository;
+import com.velocity.carservice.shared.constant.AppConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -16,7 +18,6 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -25,7 +26,7 @@ public class BankTransferPaymentEventConsumer {
 
     private static final int MAX_RETRY_ATTEMPTS = 3;
 
-    private final BookingService bookingService;
+    private final BankTransferPaymentService bankTransferPaymentService;
     private final ObjectMapper objectMapper;
     private final ProcessedPaymentEventRepository processedPaymentEventRepository;
     private final KafkaTemplate<String, String> kafkaTemplate;
@@ -36,7 +37,6 @@ public class BankTransferPaymentEventConsumer {
             groupId = "${app.kafka.consumer-group}",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    @Transactional
     public void consumeBankTransferPaymentEvent(
             String message,
             Acknowledgment acknowledgment,
@@ -47,96 +47,57 @@ public class BankTransferPaymentEventConsumer {
         log.info("Received message from topic={}, partition={}, offset={}", topic, partition, offset);
         log.debug("Message payload: {}", message);
 
-        bookingMetrics.incrementPaymentEventsReceived();
-
-        BankTransferPaymentEvent event = null;
-        String paymentId = null;
-        String bookingId = null;
-
+        BankTransferPaymentEvent event;
         try {
-            event = deserializeAndValidate(message);
-            paymentId = event.paymentId();
-            bookingId = event.extractBookingId();
-
-            if (isDuplicateEvent(paymentId)) {
-                log.warn("Duplicate payment event detected, skipping. paymentId={}", paymentId);
-                acknowledgment.acknowledge();
-                return;
-            }
-
-            if (bookingId == null || bookingId.isBlank()) {
-                handleInvalidBookingId(event, paymentId, message, acknowledgment);
-                return;
-            }
-
-            log.info("Processing payment: paymentId={}, bookingId={}, amount={}",
-                    paymentId, bookingId, event.paymentAmount());
-
-            bookingService.processBankTransferPayment(bookingId, event.paymentAmount());
-
-            recordProcessedEvent(paymentId, bookingId, ProcessingStatus.SUCCESS, null);
-
-            bookingMetrics.incrementPaymentEventsProcessed();
-
-            acknowledgment.acknowledge();
-            log.info("Successfully processed payment event: paymentId={}, bookingId={}", paymentId, bookingId);
-
+            event = objectMapper.readValue(message, BankTransferPaymentEvent.class);
         } catch (JsonProcessingException e) {
+            bookingMetrics.incrementPaymentEventsReceived();
             bookingMetrics.incrementPaymentEventsFailed("invalid_json");
             handlePoisonMessage(message, "Invalid JSON format: " + e.getMessage(), acknowledgment);
-
-        } catch (InvalidEventException e) {
+            return;
+        }
+        if (event == null) {
+            bookingMetrics.incrementPaymentEventsReceived();
             bookingMetrics.incrementPaymentEventsFailed("schema_validation");
-            handlePoisonMessage(message, "Schema validation failed: " + e.getMessage(), acknowledgment);
+            handlePoisonMessage(message, "Schema validation failed: message is null", acknowledgment);
+            return;
+        }
 
+        // Validation, deduplication, recording and metrics are shared with statement files
+        PaymentOutcome outcome;
+        try {
+            outcome = bankTransferPaymentService.apply(event);
         } catch (Exception e) {
+            bookingMetrics.incrementPaymentEventsReceived();
             bookingMetrics.incrementPaymentEventsFailed("processing_error");
-            handleProcessingError(event, paymentId, bookingId, message, e, acknowledgment);
+            handleProcessingError(event, message, e, acknowledgment);
+            return;
         }
-    }
-
-    /**
-     * Deserialize and validate the message schema.
-     */
-    private BankTransferPaymentEvent deserializeAndValidate(String message) throws JsonProcessingException {
-        BankTransferPaymentEvent event = objectMapper.readValue(message, BankTransferPaymentEvent.class);
 
-        if (event.paymentId() == null || event.paymentId().isBlank()) {
-            throw new InvalidEventException("paymentId is required");
-        }
-        if (event.paymentAmount() == null || event.paymentAmount().doubleValue() <= 0) {
-            throw new InvalidEventException("paymentAmount must be positive");
-        }
-        if (event.transactionDetails() == null || event.transactionDetails().isBlank()) {
-            throw new InvalidEventException("transactionDetails is required");
+        switch (outcome.result()) {
+            case CONFIRMED, PARTIAL, NOT_PENDING -> log.info(
+                    "Successfully processed payment event: paymentId={}, bookingId={}, result={}",
+                    event.paymentId(), outcome.bookingId(), outcome.result());
+            case DUPLICATE -> log.warn("Duplicate payment event detected, skipping. paymentId={}", event.paymentId());
+            case INVALID -> {
+                log.error("Poison message detected: {}", outcome.detail());
+                sendToDeadLetterQueue(message, "Schema validation failed: " + outcome.detail());
+            }
+            case UNMATCHED -> {
+                log.error("Could not extract booking ID from transaction details: {}", event.transactionDetails());
+                sendToDeadLetterQueue(message, "Invalid transactionDetails format - cannot extract bookingId");
+            }
+            case UNKNOWN_BOOKING -> {
+                log.error("Failed to process payment event: paymentId={}, error={}", event.paymentId(),
+                        outcome.detail());
+                sendToDeadLetterQueue(message, "Processing failed: " + outcome.detail());
+            }
         }
-
-        return event;
-    }
-
-    /**
-     * Check if this payment event has already been processed (idempotency check).
-     */
-    private boolean isDuplicateEvent(String paymentId) {
-        return processedPaymentEventRepository.existsByPaymentId(paymentId);
-    }
-
-    /**
-     * Handle case where booking ID cannot be extracted from transaction details.
-     */
-    private void handleInvalidBookingId(BankTransferPaymentEvent event, String paymentId,
-                                         String originalMessage, Acknowledgment acknowledgment) {
-        log.error("Could not extract booking ID from transaction details: {}", event.transactionDetails());
-
-        recordProcessedEvent(paymentId, "UNKNOWN", ProcessingStatus.SKIPPED,
-                "Could not extract booking ID from transactionDetails");
-
-        sendToDeadLetterQueue(originalMessage, "Invalid transactionDetails format - cannot extract bookingId");
         acknowledgment.acknowledge();
     }
 
     /**
-     * Handle poison messages (invalid JSON, schema validation failures).
+     * Handle poison messages (invalid JSON, or no event at all).
      * These are non-retryable and go directly to DLQ.
      */
     private void handlePoisonMessage(String message, String errorReason, Acknowledgment acknowledgment) {
@@ -146,14 +107,15 @@ public class BankTransferPaymentEventConsumer {
     }
 
     /**
-     * Handle processing errors with retry logic.
+     * Handle a payment whose transaction failed: nothing of it was applied, so it is recorded as failed on its own.
      */
-    private void handleProcessingError(BankTransferPaymentEvent event, String paymentId,
-                                        String bookingId, String originalMessage,
+    private void handleProcessingError(BankTransferPaymentEvent event, String originalMessage,
                                         Exception e, Acknowledgment acknowledgment) {
+        String paymentId = event.paymentId();
         log.error("Failed to process payment event: paymentId={}, error={}", paymentId, e.getMessage(), e);
 
-        if (paymentId != null) {
+        if (paymentId != null && !paymentId.isBlank()) {
+            String bookingId = event.extractBookingId();
             recordProcessedEvent(paymentId, bookingId != null ? bookingId : "UNKNOWN",
                     ProcessingStatus.FAILED, e.getMessage());
         }
@@ -201,18 +163,15 @@ public class BankTransferPaymentEventConsumer {
     /**
      * Dead letter queue consumer for failed messages.
      * Messages here require manual intervention.
+     * Started after startup by {@code DeferredInfrastructureInitializer}, not with the context.
      */
     @KafkaListener(
+            id = AppConstants.LISTENER_BANK_TRANSFER_PAYMENT_EVENTS_DLQ,
             topics = "${app.kafka.topics.bank-transfer-payment-events-dlq:bank-transfer-payment-events-dlq}",
-            groupId = "${app.kafka.consumer-group}-dlq"
+            groupId = "${app.kafka.consumer-group}-dlq",
+            autoStartup = "false"
     )
     public void consumeDeadLetterQueue(String message) {
         log.error("DLQ Message received - manual intervention required: {}", message);
     }
-
-    private static class InvalidEventException extends RuntimeException {
-        public InvalidEventException(String message) {
-            super(message);
-        }
-    }
 }
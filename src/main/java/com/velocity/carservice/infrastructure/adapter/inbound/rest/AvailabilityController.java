@@ -0,0 +1,44 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.rest;
+
+import com.velocity.carservice.application.dto.response.AvailabilityResponseDTO;
+import com.velocity.carservice.application.service.AvailabilityService;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@RequiredArgsConstructor
+@Tag(name = "Car Booking", description = "Car Rental Booking API - Velocity Motors")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping
+    @Operation(summary = "Search available vehicles",
+            description = "Vehicles free on every day from 'from' up to but excluding 'to', per category. "
+                    + "Omit category to search all categories.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Available vehicles per category"),
+            @ApiResponse(responseCode = "400", description = "Invalid dates, dates outside the horizon or invalid limit"),
+            @ApiResponse(responseCode = "503", description = "Fleet inventory still loading")
+    })
+    public ResponseEntity<AvailabilityResponseDTO> findAvailable(
+            @RequestParam(required = false) VehicleCategory category,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(availabilityService.findAvailable(category, from, to, limit));
+    }
+}
@@ -0,0 +1,92 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.rest;
+
+import com.velocity.carservice.application.dto.request.BookingBatchGetRequestDTO;
+import com.velocity.carservice.application.dto.request.GroupBookingRequestDTO;
+import com.velocity.carservice.application.dto.response.BookingBatchGetResponseDTO;
+import com.velocity.carservice.application.dto.response.GroupBookingResponseDTO;
+import com.velocity.carservice.application.service.BookingQueryService;
+import com.velocity.carservice.application.service.BulkBookingService;
+import com.velocity.carservice.application.service.GroupBookingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Custom methods on the bookings collection ({@code /api/v1/bookings:<method>}). They live apart from
+ * {@link BookingController} because a class-level {@code /bookings} mapping would always insert a slash
+ * before the colon.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Car Booking", description = "Car Rental Booking API - Velocity Motors")
+public class BookingBatchController {
+
+    private final BookingQueryService bookingQueryService;
+    private final GroupBookingService groupBookingService;
+    private final BulkBookingService bulkBookingService;
+
+    @PostMapping("/bookings:batchGet")
+    @Operation(summary = "Get many bookings by ID",
+            description = "Resolves up to 500 booking IDs in one request; unknown IDs are listed in notFound")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bookings resolved"),
+            @ApiResponse(responseCode = "400", description = "No booking IDs or too many booking IDs")
+    })
+    public ResponseEntity<BookingBatchGetResponseDTO> batchGetBookings(
+            @Valid @RequestBody BookingBatchGetRequestDTO request) {
+        log.debug("Batch get of {} bookings", request.bookingIds().size());
+        return ResponseEntity.ok(bookingQueryService.batchGetBookings(request.bookingIds()));
+    }
+
+    @PostMapping("/bookings:batchCreate")
+    @Operation(summary = "Book several vehicles at once",
+            description = "Books up to 50 vehicles for one customer and the same dates with a single payment. "
+                    + "Either every vehicle is booked or none is.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All vehicles booked"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or validation failed"),
+            @ApiResponse(responseCode = "409", description = "A vehicle is already booked or held for these dates"),
+            @ApiResponse(responseCode = "422", description = "Payment validation failed")
+    })
+    public ResponseEntity<GroupBookingResponseDTO> batchCreateBookings(
+            @Valid @RequestBody GroupBookingRequestDTO request) {
+        log.info("Received group booking request for {} vehicles", request.vehicles().size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(groupBookingService.confirmGroupBooking(request));
+    }
+
+    @PostMapping(value = "/bookings:bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Apply create and cancel operations in bulk",
+            description = "Reads an NDJSON stream of {\"op\": \"CREATE\", \"booking\": {...}} and "
+                    + "{\"op\": \"CANCEL\", \"bookingId\": \"...\"} lines and streams back one NDJSON result per "
+                    + "line, in line order, as each group of lines commits. A failed line does not stop the others.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Result stream, one line per operation")
+    })
+    public ResponseEntity<StreamingResponseBody> bulkBookings(HttpServletRequest request) throws IOException {
+        // Taken on the request thread; the body is then read as the response is written, group by group
+        InputStream in = request.getInputStream();
+        StreamingResponseBody body = out -> bulkBookingService.ingest(in, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
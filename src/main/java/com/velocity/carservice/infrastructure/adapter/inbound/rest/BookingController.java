@@ -1,24 +1,51 @@
 package com.velocity.carservice.infrastructure.adapter.inbound.rest;
 
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.dto.response.BookingPageResponseDTO;
 import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.application.service.BookingQueryService;
 import com.velocity.carservice.application.service.BookingService;
+import com.velocity.carservice.domain.model.BookingIdCodec;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.infrastructure.events.BookingEventHub;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.export.BookingExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/bookings")
@@ -27,7 +54,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Car Booking", description = "Car Rental Booking API - Velocity Motors")
 public class BookingController {
 
+    private static final Duration SETTLED_BOOKING_MAX_AGE = Duration.ofMinutes(10);
+
     private final BookingService bookingService;
+    private final BookingQueryService bookingQueryService;
+    private final BookingEventHub bookingEventHub;
 
     @PostMapping
     @Operation(summary = "Confirm a car booking",
@@ -35,6 +66,8 @@ public class BookingController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Booking created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data or validation failed"),
+            @ApiResponse(responseCode = "409", description = "Vehicle already booked or held for these dates"),
+            @ApiResponse(responseCode = "410", description = "Hold token expired or already used"),
             @ApiResponse(responseCode = "422", description = "Payment validation failed")
     })
     public ResponseEntity<BookingResponseDTO> createBooking(
@@ -44,28 +77,223 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping
+    @Operation(summary = "Search bookings",
+            description = "Keyset-paginated booking search ordered by rental start date. "
+                    + "Pass the previous page's nextCursor as cursor to fetch the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of matching bookings"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, cursor or page size")
+    })
+    public ResponseEntity<BookingPageResponseDTO> searchBookings(
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) String vehicleId,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) PaymentMode paymentMode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rentalFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate rentalTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        BookingSearchCriteria criteria = new BookingSearchCriteria(
+                customerName, vehicleId, status, paymentMode, rentalFrom, rentalTo);
+        return ResponseEntity.ok(bookingQueryService.searchBookings(criteria, cursor, size));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings",
+            description = "Streams all bookings whose rental starts in [from, to] as NDJSON or CSV. "
+                    + "The body is gzip-encoded when the client accepts gzip.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "NDJSON") BookingExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("Exporting bookings from {} to {} as {}", from, to, format);
+        // Validate before the response is committed; failures inside the stream can no longer be reported
+        bookingQueryService.validateExportRange(from, to);
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                bookingQueryService.exportBookings(from, to, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                bookingQueryService.exportBookings(from, to, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings-" + from + "-" + to
+                        + "." + format.getFileExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/{bookingId}")
-    @Operation(summary = "Get booking by ID", description = "Retrieves booking details by booking ID")
+    @Operation(summary = "Get booking by ID",
+            description = "Retrieves booking details by booking ID. Supports conditional requests via If-None-Match")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Booking found"),
+            @ApiResponse(responseCode = "200", description = "Booking found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BookingResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Booking unchanged since the supplied ETag"),
+            @ApiResponse(responseCode = "400", description = "Malformed booking ID"),
             @ApiResponse(responseCode = "404", description = "Booking not found")
     })
-    public ResponseEntity<BookingResponseDTO> getBooking(@PathVariable String bookingId) {
-        log.info("Fetching booking: {}", bookingId);
-        BookingResponseDTO response = bookingService.getBookingById(bookingId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getBooking(
+            @PathVariable String bookingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching booking: {}", bookingId);
+        requireValidBookingId(bookingId);
+        CachedBookingResponse booking = bookingService.getBookingById(bookingId);
+        String eTag = booking.eTag();
+        CacheControl cacheControl = cacheControlFor(booking.status());
+
+        if (eTagMatches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        // The cached body is the encoded BookingResponseDTO; write it out without another round of mapping
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(booking.body());
+    }
+
+    @GetMapping(value = "/{bookingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream booking status changes",
+            description = "Server-sent events: the current status first, then every status change")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "400", description = "Malformed booking ID"),
+            @ApiResponse(responseCode = "404", description = "Booking not found")
+    })
+    public SseEmitter streamBookingEvents(@PathVariable String bookingId) {
+        log.debug("Opening event stream for booking: {}", bookingId);
+        return openEventStream(List.of(bookingId));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream status changes for several bookings",
+            description = "Server-sent events for all listed bookings over one connection")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "400", description = "No booking IDs, too many or a malformed booking ID"),
+            @ApiResponse(responseCode = "404", description = "One of the bookings was not found")
+    })
+    public SseEmitter streamMultipleBookingEvents(@RequestParam List<String> ids) {
+        log.debug("Opening event stream for {} bookings", ids.size());
+        return openEventStream(ids);
     }
 
     @DeleteMapping("/{bookingId}")
     @Operation(summary = "Cancel a booking", description = "Cancels an existing booking")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Booking cancelled successfully"),
+            @ApiResponse(responseCode = "400", description = "Malformed booking ID"),
             @ApiResponse(responseCode = "404", description = "Booking not found"),
             @ApiResponse(responseCode = "409", description = "Booking cannot be cancelled")
     })
     public ResponseEntity<BookingResponseDTO> cancelBooking(@PathVariable String bookingId) {
         log.info("Cancelling booking: {}", bookingId);
+        requireValidBookingId(bookingId);
         BookingResponseDTO response = bookingService.cancelBooking(bookingId);
         return ResponseEntity.ok(response);
     }
+
+    private SseEmitter openEventStream(List<String> bookingIds) {
+        List<String> distinctIds = bookingIds.stream().distinct().toList();
+        bookingEventHub.validateSubscription(distinctIds);
+        distinctIds.forEach(BookingController::requireValidBookingId);
+        // Subscribe before reading the current status, so a change committed in between still reaches the client
+        return bookingEventHub.subscribe(distinctIds, () -> distinctIds.stream()
+                .map(bookingService::getBookingById)
+                .map(booking -> BookingStatusChangedEvent.of(booking.bookingId(), booking.status()))
+                .toList());
+    }
+
+    /**
+     * Rejects IDs that fail the format or check-character test before any cache or database lookup.
+     */
+    private static void requireValidBookingId(String bookingId) {
+        if (!BookingIdCodec.isValid(bookingId)) {
+            throw new BookingValidationException("Malformed booking ID: " + bookingId);
+        }
+    }
+
+    /**
+     * Pending bookings are what clients poll, so they must revalidate on every request (cheap with
+     * If-None-Match). Confirmed and cancelled bookings no longer change and may be reused for a while.
+     */
+    private static CacheControl cacheControlFor(BookingStatus status) {
+        return switch (status) {
+            case PENDING_PAYMENT -> CacheControl.noCache().cachePrivate();
+            case CONFIRMED, CANCELLED -> CacheControl.maxAge(SETTLED_BOOKING_MAX_AGE).cachePrivate();
+        };
+    }
+
+    /**
+     * Accept-Encoding per RFC 9110 section 12.5.3: an explicit {@code gzip} (or {@code x-gzip}) entry decides,
+     * otherwise {@code *} does. A q-value of 0 means "not acceptable"; an unparsable one is treated the same.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * If-None-Match uses weak comparison (RFC 9110 section 13.1.2), so a {@code W/} prefix is ignored.
+     */
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
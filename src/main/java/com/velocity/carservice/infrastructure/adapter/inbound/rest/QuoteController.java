@@ -0,0 +1,42 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.rest;
+
+import com.velocity.carservice.application.dto.request.QuoteRequestDTO;
+import com.velocity.carservice.application.dto.response.QuoteResponseDTO;
+import com.velocity.carservice.application.service.QuoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/quotes")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Car Booking", description = "Car Rental Booking API - Velocity Motors")
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    @PostMapping
+    @Operation(summary = "Quote and hold a vehicle",
+            description = "Prices the rental and holds the vehicle for the requested dates. "
+                    + "Pass the returned holdToken when confirming the booking before the hold expires.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Vehicle held at the quoted price"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data or validation failed"),
+            @ApiResponse(responseCode = "409", description = "Vehicle already booked or held for these dates")
+    })
+    public ResponseEntity<QuoteResponseDTO> createQuote(@Valid @RequestBody QuoteRequestDTO request) {
+        log.info("Received quote request for vehicle: {}", request.vehicleId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(quoteService.createQuote(request));
+    }
+}
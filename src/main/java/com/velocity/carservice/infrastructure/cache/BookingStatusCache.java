@@ -0,0 +1,244 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.infrastructure.events.BookingEventSink;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static com.velocity.carservice.shared.constant.AppConstants.CACHE_BOOKINGS;
+import static com.velocity.carservice.shared.constant.AppConstants.CACHE_CONNECTION_FACTORY;
+import static com.velocity.carservice.shared.constant.AppConstants.RESILIENCE_REDIS_CACHE;
+
+/**
+ * Multi-key access to the {@code bookings} cache, which Spring's cache abstraction only offers one key at a time.
+ * With Redis, a lookup is a single MGET and a write-back a single pipeline; keys, values and TTLs are
+ * encoded exactly as {@link RedisCache} does, so entries are interchangeable with {@code @Cacheable} ones
+ * ({@link CachedBookingResponse}, converted to and from {@link BookingStatusView} here).
+ * Cache failures are logged and treated as misses: the database remains the source of truth.
+ * Bulk calls share the cache writer's circuit breaker; while it is open they go key by key through the cache,
+ * which serves them from the local fallback.
+ * <p>
+ * As a {@link BookingEventSink} it also drops changed bookings from this node's local fallback cache, so every
+ * status change broadcast to the cluster invalidates the near-caches of all nodes.
+ */
+@Component
+@Slf4j
+public class BookingStatusCache implements BookingEventSink {
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BookingMetrics bookingMetrics;
+    private final CircuitBreaker circuitBreaker;
+    private final int evictionChunkSize;
+
+    public BookingStatusCache(CacheManager cacheManager,
+                              @Qualifier(CACHE_CONNECTION_FACTORY) RedisConnectionFactory redisConnectionFactory,
+                              ObjectMapper objectMapper, BookingMetrics bookingMetrics,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              @Value("${app.cache.bookings.eviction-chunk-size:1000}") int evictionChunkSize) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        this.objectMapper = objectMapper;
+        this.bookingMetrics = bookingMetrics;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_REDIS_CACHE);
+        this.evictionChunkSize = evictionChunkSize;
+    }
+
+    /**
+     * @return cached entries keyed by booking ID; IDs not in the cache are absent
+     */
+    public Map<String, BookingStatusView> getAll(List<String> bookingIds) {
+        Cache cache = cacheManager.getCache(CACHE_BOOKINGS);
+        if (bookingIds.isEmpty() || cache == null) {
+            return Map.of();
+        }
+        if (!(cache instanceof RedisCache redisCache)) {
+            return getEach(cache, bookingIds);
+        }
+        try {
+            return circuitBreaker.executeSupplier(() -> multiGet(redisCache.getCacheConfiguration(), bookingIds));
+        } catch (CallNotPermittedException e) {
+            return getEach(cache, bookingIds);
+        } catch (RuntimeException e) {
+            log.warn("Bulk cache lookup failed, loading {} bookings from the database: {}",
+                    bookingIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    public void putAll(Collection<BookingStatusView> bookings) {
+        Cache cache = cacheManager.getCache(CACHE_BOOKINGS);
+        if (bookings.isEmpty() || cache == null) {
+            return;
+        }
+        if (!(cache instanceof RedisCache redisCache)) {
+            putEach(cache, bookings);
+            return;
+        }
+        try {
+            circuitBreaker.executeRunnable(() -> pipelinedSet(redisCache.getCacheConfiguration(), bookings));
+        } catch (CallNotPermittedException e) {
+            putEach(cache, bookings);
+        } catch (RuntimeException e) {
+            log.warn("Bulk cache write-back of {} bookings failed: {}", bookings.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts the given bookings with one pipelined round trip: an {@code UNLINK} per chunk of keys, so Redis frees
+     * the values off its main thread. If Redis cannot be reached the evictions are queued on the cache writer and
+     * replayed when it recovers, rather than retried one key at a time.
+     */
+    public void evictAll(Collection<String> bookingIds) {
+        Cache cache = cacheManager.getCache(CACHE_BOOKINGS);
+        if (bookingIds.isEmpty() || cache == null) {
+            return;
+        }
+        if (!(cache instanceof RedisCache redisCache)) {
+            bookingIds.forEach(cache::evict);
+            return;
+        }
+        RedisCacheConfiguration configuration = redisCache.getCacheConfiguration();
+        List<byte[]> keys = bookingIds.stream()
+                .map(bookingId -> cacheKey(configuration, bookingId))
+                .toList();
+        try {
+            circuitBreaker.executeRunnable(() -> pipelinedUnlink(keys));
+            forEachLocal(redisCache, keys, ResilientRedisCacheWriter::evictLocal);
+        } catch (RuntimeException e) {
+            log.warn("Bulk cache eviction of {} bookings failed, deferring until Redis recovers: {}",
+                    keys.size(), e.getMessage());
+            forEachLocal(redisCache, keys, (writer, key) -> writer.evictLater(CACHE_BOOKINGS, key));
+        }
+    }
+
+    /**
+     * Evicts bookings changed by a batch update once its transaction has committed, so a concurrent read cannot
+     * put the old status back in between.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCacheEviction(BookingCacheEvictionEvent event) {
+        evictAll(event.bookingIds());
+    }
+
+    @Override
+    public void deliver(BookingStatusChangedEvent event) {
+        if (cacheManager.getCache(CACHE_BOOKINGS) instanceof RedisCache redisCache) {
+            byte[] key = cacheKey(redisCache.getCacheConfiguration(), event.bookingId());
+            forEachLocal(redisCache, List.of(key), ResilientRedisCacheWriter::evictLocal);
+        }
+    }
+
+    private void pipelinedUnlink(List<byte[]> keys) {
+        long start = System.nanoTime();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += evictionChunkSize) {
+                List<byte[]> chunk = keys.subList(from, Math.min(from + evictionChunkSize, keys.size()));
+                connection.keyCommands().unlink(chunk.toArray(byte[][]::new));
+            }
+            return null;
+        });
+        bookingMetrics.recordCacheLatency(CACHE_BOOKINGS, "bulk_evict", System.nanoTime() - start);
+    }
+
+    private static void forEachLocal(RedisCache cache, List<byte[]> keys,
+                                     BiConsumer<ResilientRedisCacheWriter, byte[]> action) {
+        if (cache.getNativeCache() instanceof ResilientRedisCacheWriter writer) {
+            keys.forEach(key -> action.accept(writer, key));
+        }
+    }
+
+    private Map<String, BookingStatusView> multiGet(RedisCacheConfiguration configuration, List<String> bookingIds) {
+        byte[][] keys = bookingIds.stream()
+                .map(bookingId -> cacheKey(configuration, bookingId))
+                .toArray(byte[][]::new);
+        long start = System.nanoTime();
+        List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+        bookingMetrics.recordCacheLatency(CACHE_BOOKINGS, "mget", System.nanoTime() - start);
+
+        Map<String, BookingStatusView> hits = new HashMap<>();
+        if (values == null) {
+            return hits;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            byte[] value = values.get(i);
+            if (value != null
+                    && configuration.getValueSerializationPair().read(ByteBuffer.wrap(value))
+                    instanceof CachedBookingResponse booking) {
+                hits.put(bookingIds.get(i), booking.toStatusView());
+            }
+        }
+        bookingMetrics.recordCacheRequests(CACHE_BOOKINGS, hits.size(), keys.length - hits.size());
+        return hits;
+    }
+
+    private Map<String, BookingStatusView> getEach(Cache cache, List<String> bookingIds) {
+        Map<String, BookingStatusView> hits = new HashMap<>();
+        for (String bookingId : bookingIds) {
+            CachedBookingResponse booking = cache.get(bookingId, CachedBookingResponse.class);
+            if (booking != null) {
+                hits.put(bookingId, booking.toStatusView());
+            }
+        }
+        return hits;
+    }
+
+    private void putEach(Cache cache, Collection<BookingStatusView> bookings) {
+        bookings.forEach(booking -> cache.put(booking.bookingId(), CachedBookingResponse.of(booking, objectMapper)));
+    }
+
+    private void pipelinedSet(RedisCacheConfiguration configuration, Collection<BookingStatusView> bookings) {
+        long start = System.nanoTime();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (BookingStatusView booking : bookings) {
+                CachedBookingResponse entry = CachedBookingResponse.of(booking, objectMapper);
+                byte[] value = ByteUtils.getBytes(configuration.getValueSerializationPair().write(entry));
+                connection.stringCommands().set(cacheKey(configuration, booking.bookingId()), value,
+                        expiration(configuration, entry), SetOption.upsert());
+            }
+            return null;
+        });
+        bookingMetrics.recordCacheLatency(CACHE_BOOKINGS, "mset", System.nanoTime() - start);
+    }
+
+    private static byte[] cacheKey(RedisCacheConfiguration configuration, String bookingId) {
+        String key = configuration.getKeyPrefixFor(CACHE_BOOKINGS) + bookingId;
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(key));
+    }
+
+    private static Expiration expiration(RedisCacheConfiguration configuration, CachedBookingResponse booking) {
+        Duration ttl = configuration.getTtlFunction().getTimeToLive(booking.bookingId(), booking);
+        return ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+}
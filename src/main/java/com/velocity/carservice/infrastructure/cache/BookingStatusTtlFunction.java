@@ -0,0 +1,34 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingStatus;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Chooses the TTL of a {@code bookings} cache entry from the booking's status. Pending bookings are about to
+ * change, so they expire quickly; confirmed and cancelled bookings never change again and can stay longer.
+ * Any other value gets the fallback TTL.
+ */
+public class BookingStatusTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final Map<BookingStatus, Duration> ttlByStatus;
+    private final Duration fallbackTtl;
+
+    public BookingStatusTtlFunction(Map<BookingStatus, Duration> ttlByStatus, Duration fallbackTtl) {
+        this.ttlByStatus = new EnumMap<>(ttlByStatus);
+        this.fallbackTtl = fallbackTtl;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        if (value instanceof CachedBookingResponse booking) {
+            return ttlByStatus.getOrDefault(booking.status(), fallbackTtl);
+        }
+        return fallbackTtl;
+    }
+}
@@ -0,0 +1,101 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically estimates how many entries each Redis cache holds and how many bytes they take, and publishes
+ * both as gauges. Keys are counted with an incremental SCAN over the cache's key prefix; the byte size is
+ * extrapolated from the key and value lengths of the first few keys, so it excludes Redis' per-key overhead.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.metrics.size-sampling-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CacheSizeSampler {
+
+    private static final long SCAN_BATCH_SIZE = 1000;
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final BookingMetrics bookingMetrics;
+    private final int sampledKeys;
+    private final Map<String, CacheSize> sizes = new ConcurrentHashMap<>();
+
+    public CacheSizeSampler(
+            CacheManager cacheManager,
+            RedisConnectionFactory redisConnectionFactory,
+            BookingMetrics bookingMetrics,
+            @Value("${app.cache.metrics.size-sample-keys:20}") int sampledKeys) {
+        this.cacheManager = cacheManager;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.bookingMetrics = bookingMetrics;
+        this.sampledKeys = sampledKeys;
+    }
+
+    @Scheduled(initialDelayString = "${app.cache.metrics.size-sample-interval:300000}",
+            fixedDelayString = "${app.cache.metrics.size-sample-interval:300000}")
+    public void sample() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof RedisCache redisCache) {
+                try {
+                    sample(cacheName, redisCache.getCacheConfiguration().getKeyPrefixFor(cacheName));
+                } catch (RuntimeException e) {
+                    log.warn("Could not sample size of cache {}: {}", cacheName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void sample(String cacheName, String keyPrefix) {
+        long entries = 0;
+        List<byte[]> sample = new ArrayList<>(sampledKeys);
+        try (RedisConnection connection = redisConnectionFactory.getConnection();
+             Cursor<byte[]> keys = connection.keyCommands().scan(
+                     ScanOptions.scanOptions().match(keyPrefix + "*").count(SCAN_BATCH_SIZE).build())) {
+            while (keys.hasNext()) {
+                byte[] key = keys.next();
+                if (sample.size() < sampledKeys) {
+                    sample.add(key);
+                }
+                entries++;
+            }
+
+            long sampledBytes = 0;
+            for (byte[] key : sample) {
+                Long valueLength = connection.stringCommands().strLen(key);
+                sampledBytes += key.length + (valueLength != null ? valueLength : 0);
+            }
+            long estimatedBytes = sample.isEmpty() ? 0 : sampledBytes * entries / sample.size();
+
+            CacheSize size = sizes.computeIfAbsent(cacheName, name -> {
+                CacheSize created = new CacheSize(new AtomicLong(), new AtomicLong());
+                bookingMetrics.registerCacheSize(name, created.entries(), created.bytes());
+                return created;
+            });
+            size.entries().set(entries);
+            size.bytes().set(estimatedBytes);
+        }
+        log.debug("Cache {}: ~{} entries", cacheName, entries);
+    }
+
+    private record CacheSize(AtomicLong entries, AtomicLong bytes) {
+    }
+}
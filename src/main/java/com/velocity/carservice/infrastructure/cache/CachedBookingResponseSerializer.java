@@ -0,0 +1,61 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingStatus;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Binary Redis encoding of {@link CachedBookingResponse}: a format byte, the version, the length-prefixed status
+ * and booking ID, then the response body verbatim. Reading back copies the body bytes and never parses JSON.
+ * Values in any other format (e.g. entries written before this encoding) read as {@code null}, which the cache
+ * treats as a miss.
+ */
+public class CachedBookingResponseSerializer implements RedisSerializer<CachedBookingResponse> {
+
+    private static final byte FORMAT = 1;
+
+    @Override
+    public byte[] serialize(CachedBookingResponse value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        byte[] status = value.status().name().getBytes(StandardCharsets.US_ASCII);
+        byte[] bookingId = value.bookingId().getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocate(1 + Long.BYTES + 1 + status.length + 1 + bookingId.length + value.body().length)
+                .put(FORMAT)
+                .putLong(value.version())
+                .put((byte) status.length).put(status)
+                .put((byte) bookingId.length).put(bookingId)
+                .put(value.body())
+                .array();
+    }
+
+    @Override
+    public CachedBookingResponse deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            long version = buffer.getLong();
+            BookingStatus status = BookingStatus.valueOf(readAscii(buffer));
+            String bookingId = readAscii(buffer);
+            byte[] body = Arrays.copyOfRange(bytes, buffer.position(), bytes.length);
+            return new CachedBookingResponse(bookingId, status, version, body);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Corrupt cached booking response", e);
+        }
+    }
+
+    private static String readAscii(ByteBuffer buffer) {
+        int length = buffer.get();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.US_ASCII);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
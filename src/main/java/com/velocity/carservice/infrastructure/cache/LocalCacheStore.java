@@ -0,0 +1,100 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, in-process store of serialized cache entries keyed by their full Redis key, used while Redis is
+ * unavailable. Least recently used entries are dropped once {@code maxEntries} is reached; entries honour the
+ * TTL they were written with.
+ */
+class LocalCacheStore {
+
+    private final Map<ByteBuffer, Entry> entries;
+
+    LocalCacheStore(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized byte[] get(byte[] key) {
+        ByteBuffer storeKey = ByteBuffer.wrap(key);
+        Entry entry = entries.get(storeKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(storeKey);
+            return null;
+        }
+        return entry.value();
+    }
+
+    synchronized void put(byte[] key, byte[] value, Duration ttl) {
+        entries.put(ByteBuffer.wrap(key.clone()), Entry.of(value, ttl));
+    }
+
+    synchronized byte[] putIfAbsent(byte[] key, byte[] value, Duration ttl) {
+        byte[] existing = get(key);
+        if (existing == null) {
+            put(key, value, ttl);
+        }
+        return existing;
+    }
+
+    synchronized void remove(byte[] key) {
+        entries.remove(ByteBuffer.wrap(key));
+    }
+
+    /**
+     * Removes keys matching a Redis glob; only the trailing {@code *} form used by cache clears is supported,
+     * anything else is matched exactly.
+     */
+    synchronized void removeMatching(byte[] pattern) {
+        if (pattern.length > 0 && pattern[pattern.length - 1] == '*') {
+            byte[] prefix = Arrays.copyOf(pattern, pattern.length - 1);
+            entries.keySet().removeIf(key -> startsWith(key, prefix));
+        } else {
+            remove(pattern);
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static boolean startsWith(ByteBuffer key, byte[] prefix) {
+        if (key.remaining() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (key.get(key.position() + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(byte[] value, long expiresAtNanos) {
+
+        static Entry of(byte[] value, Duration ttl) {
+            boolean expires = ttl != null && !ttl.isZero() && !ttl.isNegative();
+            return new Entry(value, expires ? System.nanoTime() + ttl.toNanos() : Long.MAX_VALUE);
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtNanos != Long.MAX_VALUE && now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link RedisCacheWriter} decorator that keeps caching available while Redis is slow or down.
+ * <p>
+ * Every Redis call runs through a circuit breaker. A failed call, or any call while the circuit is open, is
+ * served from a bounded in-process {@link LocalCacheStore} instead, so an outage costs at most one command
+ * timeout per call until the circuit opens and nothing after that. Evictions that could not reach Redis are
+ * remembered and replayed once the circuit closes again, and the local store is dropped at that point, so
+ * neither side serves entries that were invalidated on the other.
+ */
+@Slf4j
+public class ResilientRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final LocalCacheStore localStore;
+    private final Map<ByteBuffer, String> pendingEvictions;
+
+    public ResilientRedisCacheWriter(RedisCacheWriter delegate, CircuitBreaker circuitBreaker, int maxLocalEntries) {
+        this(delegate, circuitBreaker, new LocalCacheStore(maxLocalEntries), boundedEvictionLog(maxLocalEntries));
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                log.info("Redis cache available again, replaying evictions and dropping the local fallback cache");
+                localStore.clear();
+                CompletableFuture.runAsync(this::replayEvictions);
+            } else if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+                log.warn("Redis cache unavailable, serving cache operations from the local fallback cache");
+            }
+        });
+    }
+
+    private ResilientRedisCacheWriter(RedisCacheWriter delegate, CircuitBreaker circuitBreaker,
+                                      LocalCacheStore localStore, Map<ByteBuffer, String> pendingEvictions) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.localStore = localStore;
+        this.pendingEvictions = pendingEvictions;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return guarded(() -> delegate.get(name, key), () -> localStore.get(key));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return guarded(() -> delegate.get(name, key, ttl), () -> localStore.get(key));
+    }
+
+    /**
+     * Looks up and loads without Redis' locking semantics; the loader runs outside the circuit breaker so a slow
+     * database is not mistaken for a slow cache.
+     */
+    @Override
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader, Duration ttl, boolean timeToIdleEnabled) {
+        byte[] value = timeToIdleEnabled ? get(name, key, ttl) : get(name, key);
+        if (value == null) {
+            value = valueLoader.get();
+            put(name, key, value, ttl);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key, ttl));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        guarded(() -> {
+            delegate.put(name, key, value, ttl);
+            return null;
+        }, () -> {
+            localStore.put(key, value, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return guarded(() -> delegate.putIfAbsent(name, key, value, ttl),
+                () -> localStore.putIfAbsent(key, value, ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        localStore.remove(key);
+        guarded(() -> {
+            delegate.remove(name, key);
+            return null;
+        }, () -> {
+            recordPendingEviction(name, key);
+            return null;
+        });
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        localStore.removeMatching(pattern);
+        guarded(() -> {
+            delegate.clean(name, pattern);
+            return null;
+        }, () -> {
+            log.warn("Could not clear Redis cache '{}'; its entries expire with their TTL", name);
+            return null;
+        });
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new ResilientRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector),
+                circuitBreaker, localStore, pendingEvictions);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    /**
+     * Drops a key from this node's fallback cache only, for entries another node has changed or evicted.
+     */
+    public void evictLocal(byte[] key) {
+        localStore.remove(key);
+    }
+
+    /**
+     * Evicts a key locally and queues its Redis eviction for replay once Redis is reachable again, for bulk
+     * callers that could not reach Redis and should not retry key by key.
+     */
+    public void evictLater(String name, byte[] key) {
+        localStore.remove(key);
+        recordPendingEviction(name, key);
+    }
+
+    int pendingEvictionCount() {
+        synchronized (pendingEvictions) {
+            return pendingEvictions.size();
+        }
+    }
+
+    /**
+     * Deletes in Redis what was evicted while it was unreachable. Runs after the circuit closes; whatever fails
+     * again stays queued for the next recovery.
+     */
+    void replayEvictions() {
+        List<Map.Entry<ByteBuffer, String>> evictions;
+        synchronized (pendingEvictions) {
+            evictions = new ArrayList<>(pendingEvictions.entrySet());
+            pendingEvictions.clear();
+        }
+        for (Map.Entry<ByteBuffer, String> eviction : evictions) {
+            remove(eviction.getValue(), eviction.getKey().array());
+        }
+        if (!evictions.isEmpty()) {
+            log.info("Replayed {} cache evictions against Redis", evictions.size());
+        }
+    }
+
+    private <T> T guarded(Supplier<T> redisCall, Supplier<T> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(redisCall);
+        } catch (CallNotPermittedException e) {
+            return fallback.get();
+        } catch (RuntimeException e) {
+            log.debug("Redis cache call failed, using the local fallback cache: {}", e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    private void recordPendingEviction(String name, byte[] key) {
+        synchronized (pendingEvictions) {
+            pendingEvictions.put(ByteBuffer.wrap(key.clone()), name);
+        }
+    }
+
+    /**
+     * Oldest evictions are dropped first once the log is full; those entries then live out their TTL in Redis.
+     */
+    private static Map<ByteBuffer, String> boundedEvictionLog(int maxEntries) {
+        return new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link RedisCacheWriter} decorator that records per-cache hits, misses and round-trip latency.
+ * Every {@code @Cacheable} lookup and eviction on a {@code RedisCache} goes through here.
+ */
+public class TimedRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final BookingMetrics bookingMetrics;
+
+    public TimedRedisCacheWriter(RedisCacheWriter delegate, BookingMetrics bookingMetrics) {
+        this.delegate = delegate;
+        this.bookingMetrics = bookingMetrics;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key);
+        recordLookup(name, value != null, start);
+        return value;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key, ttl);
+        recordLookup(name, value != null, start);
+        return value;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader, Duration ttl, boolean timeToIdleEnabled) {
+        long start = System.nanoTime();
+        boolean[] loaded = new boolean[1];
+        byte[] value = delegate.get(name, key, () -> {
+            loaded[0] = true;
+            return valueLoader.get();
+        }, ttl, timeToIdleEnabled);
+        // Includes the loader's time on a miss
+        recordLookup(name, !loaded[0], start);
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        long start = System.nanoTime();
+        return delegate.retrieve(name, key, ttl)
+                .whenComplete((value, error) -> {
+                    if (error == null) {
+                        recordLookup(name, value != null, start);
+                    }
+                });
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        delegate.put(name, key, value, ttl);
+        record(name, "put", start);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        return delegate.store(name, key, value, ttl)
+                .whenComplete((result, error) -> record(name, "put", start));
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] existing = delegate.putIfAbsent(name, key, value, ttl);
+        record(name, "put", start);
+        return existing;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        long start = System.nanoTime();
+        delegate.remove(name, key);
+        record(name, "evict", start);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        long start = System.nanoTime();
+        delegate.clean(name, pattern);
+        record(name, "clear", start);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new TimedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), bookingMetrics);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private void recordLookup(String name, boolean hit, long start) {
+        record(name, "get", start);
+        bookingMetrics.recordCacheRequests(name, hit ? 1 : 0, hit ? 0 : 1);
+    }
+
+    private void record(String name, String operation, long start) {
+        bookingMetrics.recordCacheLatency(name, operation, System.nanoTime() - start);
+    }
+}
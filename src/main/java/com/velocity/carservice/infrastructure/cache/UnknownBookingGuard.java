@@ -0,0 +1,118 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.infrastructure.events.BookingEventSink;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Answers "this booking does not exist" without a database query, so repeated probes for the same unknown ID
+ * stay off Postgres. IDs the database did not find are kept in a short-TTL negative cache. Malformed IDs and IDs
+ * with a wrong check character never get this far; they are rejected by the callers with
+ * {@link com.velocity.carservice.domain.model.BookingIdCodec}.
+ * <p>
+ * Bookings committed on this node, and those broadcast by other nodes, are remembered for the same TTL, so a
+ * lookup that raced the insert cannot put a new booking in the negative cache.
+ */
+@Component
+public class UnknownBookingGuard implements BookingEventSink {
+
+    private final BookingMetrics bookingMetrics;
+    private final boolean enabled;
+    private final long negativeTtlNanos;
+    private final int negativeCacheMaxSize;
+
+    private final ConcurrentMap<String, Long> negativeCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> recentlyCreated = new ConcurrentHashMap<>();
+
+    public UnknownBookingGuard(
+            BookingMetrics bookingMetrics,
+            @Value("${app.unknown-booking-guard.enabled:true}") boolean enabled,
+            @Value("${app.unknown-booking-guard.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${app.unknown-booking-guard.negative-cache-max-size:100000}") int negativeCacheMaxSize) {
+        this.bookingMetrics = bookingMetrics;
+        this.enabled = enabled;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.negativeCacheMaxSize = negativeCacheMaxSize;
+    }
+
+    /**
+     * @return true only if the booking is known not to exist; false means "look it up"
+     */
+    public boolean isKnownAbsent(String bookingId) {
+        if (!enabled) {
+            return false;
+        }
+        Long expiresAt = negativeCache.get(bookingId);
+        if (expiresAt != null) {
+            if (System.nanoTime() - expiresAt < 0) {
+                bookingMetrics.incrementUnknownBookingLookupsRejected("negative_cache");
+                return true;
+            }
+            negativeCache.remove(bookingId, expiresAt);
+        }
+        return false;
+    }
+
+    /**
+     * Remembers that the database did not find the booking, unless it was created since the lookup may have
+     * started.
+     */
+    public void recordMiss(String bookingId) {
+        if (!enabled) {
+            return;
+        }
+        Long createdUntil = recentlyCreated.get(bookingId);
+        if (createdUntil != null && System.nanoTime() - createdUntil < 0) {
+            return;
+        }
+        put(negativeCache, bookingId);
+    }
+
+    /**
+     * Registers a booking that now exists. Called when a booking change commits on this node and for every
+     * broadcast booking event, including creations.
+     */
+    public void recordExisting(String bookingId) {
+        if (!enabled) {
+            return;
+        }
+        put(recentlyCreated, bookingId);
+        negativeCache.remove(bookingId);
+    }
+
+    /**
+     * Runs in the committing thread, so the booking is known here before the request that created it returns,
+     * whether or not the broadcast reaches this node.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        recordExisting(event.bookingId());
+    }
+
+    @Override
+    public void deliver(BookingStatusChangedEvent event) {
+        recordExisting(event.bookingId());
+    }
+
+    /**
+     * Adds the ID for the TTL. When the map is full, expired entries are dropped first; if it is still full the
+     * ID is not added.
+     */
+    private void put(ConcurrentMap<String, Long> entries, String bookingId) {
+        if (entries.size() >= negativeCacheMaxSize) {
+            long now = System.nanoTime();
+            entries.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (entries.size() >= negativeCacheMaxSize) {
+                return;
+            }
+        }
+        entries.put(bookingId, System.nanoTime() + negativeTtlNanos);
+    }
+}
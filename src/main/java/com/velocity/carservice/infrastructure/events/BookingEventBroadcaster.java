@@ -0,0 +1,12 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+
+/**
+ * Carries committed status changes to the {@link BookingEventSink}s of every node, so a client receives
+ * the event regardless of which node holds its SSE connection.
+ */
+public interface BookingEventBroadcaster {
+
+    void broadcast(BookingStatusChangedEvent event);
+}
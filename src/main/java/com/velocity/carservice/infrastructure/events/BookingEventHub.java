@@ -0,0 +1,284 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * In-process fan-out of booking status changes to the SSE streams held open on this node.
+ * Subscriptions are indexed by booking ID, so delivering an event touches only the streams that
+ * follow that booking.
+ * <p>
+ * Delivering never writes to a connection. Each stream has a queue of at most
+ * {@code app.booking-events.max-queued-events} events, drained by one virtual thread at a time, so a slow or
+ * stalled client cannot hold up the committing request, the payment consumer, the broadcast listener or the
+ * other streams. A stream whose queue overflows is closed; the client reconnects and starts from a fresh
+ * snapshot.
+ */
+@Component
+@Slf4j
+public class BookingEventHub implements BookingEventSink {
+
+    static final String STATUS_EVENT_NAME = "booking-status";
+
+    private final ConcurrentMap<String, Set<Subscription>> subscriptionsByBooking = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final long emitterTimeoutMillis;
+    private final int maxBookingsPerStream;
+    private final int maxQueuedEvents;
+    private final Executor senders;
+
+    @Autowired
+    public BookingEventHub(
+            @Value("${app.booking-events.emitter-timeout:1800000}") long emitterTimeoutMillis,
+            @Value("${app.booking-events.max-bookings-per-stream:100}") int maxBookingsPerStream,
+            @Value("${app.booking-events.max-queued-events:64}") int maxQueuedEvents) {
+        this(emitterTimeoutMillis, maxBookingsPerStream, maxQueuedEvents,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 0).factory()));
+    }
+
+    BookingEventHub(long emitterTimeoutMillis, int maxBookingsPerStream, int maxQueuedEvents, Executor senders) {
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxBookingsPerStream = maxBookingsPerStream;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.senders = senders;
+    }
+
+    /**
+     * Rejects streams that follow no bookings or more than {@code app.booking-events.max-bookings-per-stream}.
+     */
+    public void validateSubscription(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            throw new BookingValidationException("At least one booking ID is required");
+        }
+        if (bookingIds.size() > maxBookingsPerStream) {
+            throw new BookingValidationException(
+                    "A stream can follow at most " + maxBookingsPerStream + " bookings");
+        }
+    }
+
+    /**
+     * Opens a stream for the given bookings and sends their current state first. The stream is registered
+     * before the snapshot is read, so a change committed in between is not lost: events delivered while the
+     * snapshot is being read are queued behind it. If reading the snapshot fails, the stream is closed again
+     * and the exception propagates.
+     */
+    public SseEmitter subscribe(Collection<String> bookingIds, Supplier<List<BookingStatusChangedEvent>> snapshot) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscription subscription = new Subscription(emitter, Set.copyOf(bookingIds), maxQueuedEvents);
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+
+        subscriptions.add(subscription);
+        for (String bookingId : subscription.bookingIds()) {
+            subscriptionsByBooking.compute(bookingId, (id, followers) -> {
+                Set<Subscription> updated = followers != null ? followers : ConcurrentHashMap.newKeySet();
+                updated.add(subscription);
+                return updated;
+            });
+        }
+
+        List<BookingStatusChangedEvent> current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException e) {
+            unsubscribe(subscription);
+            throw e;
+        }
+        subscription.start(current.stream().map(BookingEventHub::statusEvent).toList());
+        schedule(subscription);
+        return emitter;
+    }
+
+    /**
+     * Queues the event for every local stream following the booking.
+     */
+    @Override
+    public void deliver(BookingStatusChangedEvent event) {
+        Set<Subscription> followers = subscriptionsByBooking.get(event.bookingId());
+        if (followers == null) {
+            return;
+        }
+        for (Subscription subscription : followers) {
+            enqueue(subscription, statusEvent(event));
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away without closing. A client
+     * that has stopped reading overflows its queue with heartbeats and is dropped.
+     */
+    @Scheduled(fixedRateString = "${app.booking-events.heartbeat-interval:15000}")
+    public void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public int getActiveSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SseEventBuilder statusEvent(BookingStatusChangedEvent event) {
+        return SseEmitter.event()
+                .name(STATUS_EVENT_NAME)
+                .data(event.withoutRental(), MediaType.APPLICATION_JSON);
+    }
+
+    private void enqueue(Subscription subscription, SseEventBuilder event) {
+        if (!subscription.offer(event)) {
+            log.info("Dropping SSE subscription for bookings {}: more than {} events waiting to be sent",
+                    subscription.bookingIds(), maxQueuedEvents);
+            unsubscribe(subscription);
+            return;
+        }
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.claimDrain()) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException e) {
+            unsubscribe(subscription);
+        }
+    }
+
+    /**
+     * Sends the queued events in order. Only one drain runs per stream at a time.
+     */
+    private void drain(Subscription subscription) {
+        SseEventBuilder event;
+        while ((event = subscription.next()) != null) {
+            try {
+                subscription.emitter().send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping SSE subscription for bookings {}: {}", subscription.bookingIds(), e.getMessage());
+                unsubscribe(subscription);
+                return;
+            }
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        for (String bookingId : subscription.bookingIds()) {
+            subscriptionsByBooking.computeIfPresent(bookingId, (id, followers) -> {
+                followers.remove(subscription);
+                return followers.isEmpty() ? null : followers;
+            });
+        }
+        // Completing waits for a send in progress on the same emitter, so it must not run on the caller's thread
+        try {
+            senders.execute(subscription.emitter()::complete);
+        } catch (RejectedExecutionException e) {
+            subscription.emitter().complete();
+        }
+    }
+
+    /**
+     * Compared by identity: one instance per open stream. The queue and the drain flag are guarded by the
+     * instance's lock, which is never held while sending.
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<String> bookingIds;
+        private final int capacity;
+        private final ArrayDeque<SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean started;
+        private boolean draining;
+
+        private Subscription(SseEmitter emitter, Set<String> bookingIds, int capacity) {
+            this.emitter = emitter;
+            this.bookingIds = bookingIds;
+            this.capacity = capacity;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Set<String> bookingIds() {
+            return bookingIds;
+        }
+
+        /**
+         * @return false if the queue is full
+         */
+        synchronized boolean offer(SseEventBuilder event) {
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            queue.add(event);
+            return true;
+        }
+
+        /**
+         * Puts the snapshot ahead of the events queued while it was read, and allows draining. The snapshot does
+         * not count against the capacity.
+         */
+        synchronized void start(List<SseEventBuilder> snapshot) {
+            for (int i = snapshot.size() - 1; i >= 0; i--) {
+                queue.addFirst(snapshot.get(i));
+            }
+            started = true;
+        }
+
+        /**
+         * @return true if the caller must start a drain: there is something to send and no drain is running
+         */
+        synchronized boolean claimDrain() {
+            if (!started || draining || queue.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        /**
+         * @return the next event to send, or null once the queue is empty, which ends the drain
+         */
+        synchronized SseEventBuilder next() {
+            SseEventBuilder event = queue.poll();
+            if (event == null) {
+                draining = false;
+            }
+            return event;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards status changes to the broadcaster only once the transaction that made them has committed,
+ * so subscribers never see a change that was later rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingEventRelay {
+
+    private final BookingEventBroadcaster bookingEventBroadcaster;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        bookingEventBroadcaster.broadcast(event);
+    }
+}
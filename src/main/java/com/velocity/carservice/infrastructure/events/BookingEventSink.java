@@ -0,0 +1,11 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+
+/**
+ * Node-local consumer of broadcast booking events. Every sink on every node receives each event once.
+ */
+public interface BookingEventSink {
+
+    void deliver(BookingStatusChangedEvent event);
+}
@@ -0,0 +1,24 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Single-node broadcaster: hands events straight to the local sinks.
+ */
+@Component
+@ConditionalOnProperty(name = "app.booking-events.broadcast", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalBookingEventBroadcaster implements BookingEventBroadcaster {
+
+    private final List<BookingEventSink> sinks;
+
+    @Override
+    public void broadcast(BookingStatusChangedEvent event) {
+        sinks.forEach(sink -> sink.deliver(event));
+    }
+}
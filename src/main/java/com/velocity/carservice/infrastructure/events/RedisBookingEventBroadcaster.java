@@ -0,0 +1,69 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Multi-node broadcaster over Redis pub/sub. Every node, including the publisher, receives the message
+ * through its subscription and delivers it to its own sinks. Pub/sub is fire-and-forget: a node that is
+ * briefly disconnected misses events, which clients recover from with the snapshot sent on (re)subscribe.
+ */
+@Component
+@ConditionalOnProperty(name = "app.booking-events.broadcast", havingValue = "redis")
+@Slf4j
+public class RedisBookingEventBroadcaster implements BookingEventBroadcaster, MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<BookingEventSink> sinks;
+    private final String channel;
+
+    public RedisBookingEventBroadcaster(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            List<BookingEventSink> sinks,
+            @Value("${app.booking-events.channel:booking-status-events}") String channel) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.objectMapper = objectMapper;
+        this.sinks = sinks;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void broadcast(BookingStatusChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize booking event for booking {}: {}", event.bookingId(), e.getMessage());
+        } catch (RuntimeException e) {
+            // Subscribers fall back to their last snapshot; the status change itself is already committed
+            log.warn("Failed to broadcast booking event for booking {}: {}", event.bookingId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            BookingStatusChangedEvent event = objectMapper.readValue(message.getBody(), BookingStatusChangedEvent.class);
+            sinks.forEach(sink -> sink.deliver(event));
+        } catch (IOException e) {
+            log.error("Discarding malformed booking event on channel {}: {}", channel, e.getMessage());
+        }
+    }
+}
@@ -32,6 +32,24 @@ public class CustomExceptions {
         }
     }
 
+    public static class VehicleUnavailableException extends RuntimeException {
+        public VehicleUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    public static class HoldExpiredException extends RuntimeException {
+        public HoldExpiredException(String message) {
+            super(message);
+        }
+    }
+
+    public static class InventoryNotReadyException extends RuntimeException {
+        public InventoryNotReadyException(String message) {
+            super(message);
+        }
+    }
+
     public static class CreditCardServiceUnavailableException extends RuntimeException {
         public CreditCardServiceUnavailableException(String message) {
             super(message);
@@ -3,17 +3,23 @@ package com.velocity.carservice.infrastructure.exception;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingNotFoundException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.CreditCardServiceUnavailableException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.HoldExpiredException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.InventoryNotReadyException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.InvalidBookingStateException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.PaymentFailedException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.UnsupportedPaymentModeException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.repository.BookingConstraints;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -67,6 +73,54 @@ public class GlobalExceptionHandler {
                 ErrorCode.INVALID_BOOKING_STATE, request.getRequestURI());
     }
 
+    /**
+     * Handle vehicle already booked or held for the requested dates - 409
+     */
+    @ExceptionHandler(VehicleUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleVehicleUnavailableException(
+            VehicleUnavailableException ex, HttpServletRequest request) {
+        log.info("Vehicle unavailable: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(),
+                ErrorCode.VEHICLE_UNAVAILABLE, request.getRequestURI());
+    }
+
+    /**
+     * Handle a booking that lost the race for its vehicle to a concurrent one - 409. The availability check
+     * passed, but the database refused the overlapping rental when it was inserted.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        if (!BookingConstraints.isVehicleOverlap(ex)) {
+            return handleGenericException(ex, request);
+        }
+        log.info("Vehicle booked concurrently: {}", ex.getMostSpecificCause().getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Vehicle is not available for the requested dates",
+                ErrorCode.VEHICLE_UNAVAILABLE, request.getRequestURI());
+    }
+
+    /**
+     * Handle expired, unknown or already redeemed hold tokens - 410
+     */
+    @ExceptionHandler(HoldExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleHoldExpiredException(
+            HoldExpiredException ex, HttpServletRequest request) {
+        log.info("Hold expired: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.GONE, ex.getMessage(),
+                ErrorCode.HOLD_EXPIRED, request.getRequestURI());
+    }
+
+    /**
+     * Handle availability searches before the fleet inventory is built - 503
+     */
+    @ExceptionHandler(InventoryNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleInventoryNotReadyException(
+            InventoryNotReadyException ex, HttpServletRequest request) {
+        log.warn("Fleet inventory not ready: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(),
+                ErrorCode.INVENTORY_NOT_READY, request.getRequestURI());
+    }
+
     /**
      * Handle unsupported payment mode - 400
      */
@@ -105,6 +159,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handle unparseable request parameters (e.g. unknown enum value, malformed date) - 400
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        log.warn("Invalid request parameter {}: {}", ex.getName(), ex.getValue());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'",
+                ErrorCode.VALIDATION_ERROR, request.getRequestURI());
+    }
+
     /**
      * Handle illegal state - 409
      */
@@ -176,6 +241,9 @@ public class GlobalExceptionHandler {
         PAYMENT_REJECTED,
         INVALID_BOOKING_STATE,
         UNSUPPORTED_PAYMENT_MODE,
+        VEHICLE_UNAVAILABLE,
+        HOLD_EXPIRED,
+        INVENTORY_NOT_READY,
 
         // System errors (5xx)
         EXTERNAL_SERVICE_UNAVAILABLE,
@@ -0,0 +1,221 @@
+package com.velocity.carservice.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Streams bookings straight from a JDBC cursor to an output stream, one row at a time.
+ *
+ * Nothing is materialized: each row is written as soon as it is read, and a slow reader
+ * blocks the writer, which in turn stops the cursor from fetching. Heap use is bounded by
+ * the fetch size and the write buffer, whatever the row count.
+ *
+ * PostgreSQL only uses a server-side cursor inside a transaction, so callers must run
+ * {@link #export} in one.
+ */
+@Component
+@Slf4j
+public class BookingExporter {
+
+    static final String[] COLUMNS = {
+            "booking_id", "customer_name", "vehicle_id", "vehicle_category", "rental_start_date",
+            "rental_end_date", "payment_mode", "payment_reference", "status", "payment_amount",
+            "amount_received", "created_at", "updated_at"
+    };
+
+    private static final String EXPORT_QUERY = "SELECT " + String.join(", ", COLUMNS) + " FROM bookings " +
+            "WHERE rental_start_date BETWEEN ? AND ? ORDER BY rental_start_date, booking_id";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final JsonFactory jsonFactory;
+
+    public BookingExporter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Writes all bookings whose rental starts within [from, to] to {@code out}.
+     * The stream is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long export(LocalDate from, LocalDate to, BookingExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try {
+            RowWriter rowWriter = format == BookingExportFormat.CSV
+                    ? new CsvRowWriter(writer)
+                    : new NdjsonRowWriter(jsonFactory.createGenerator(writer));
+            RowCountingHandler handler = new RowCountingHandler(rowWriter);
+
+            exportJdbcTemplate.query(EXPORT_QUERY, handler, from, to);
+
+            rowWriter.finish();
+            writer.flush();
+            log.info("Exported {} bookings ({} to {}) as {}", handler.rowCount, from, to, format);
+            return handler.rowCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Booking export failed", e);
+        }
+    }
+
+    private static final class RowCountingHandler implements RowCallbackHandler {
+
+        private final RowWriter rowWriter;
+        private long rowCount;
+
+        private RowCountingHandler(RowWriter rowWriter) {
+            this.rowWriter = rowWriter;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                rowWriter.write(rs);
+                rowCount++;
+            } catch (IOException e) {
+                // Typically the client went away; abort the query rather than reading on
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            // Lines are separated explicitly below, and the writer is owned by the caller
+            this.generator.setRootValueSeparator(null);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("bookingId", rs.getString("booking_id"));
+            generator.writeStringField("customerName", rs.getString("customer_name"));
+            generator.writeStringField("vehicleId", rs.getString("vehicle_id"));
+            generator.writeStringField("vehicleCategory", rs.getString("vehicle_category"));
+            generator.writeStringField("rentalStartDate", text(rs.getObject("rental_start_date", LocalDate.class)));
+            generator.writeStringField("rentalEndDate", text(rs.getObject("rental_end_date", LocalDate.class)));
+            generator.writeStringField("paymentMode", rs.getString("payment_mode"));
+            generator.writeStringField("paymentReference", rs.getString("payment_reference"));
+            generator.writeStringField("status", rs.getString("status"));
+            writeDecimal("paymentAmount", rs.getBigDecimal("payment_amount"));
+            writeDecimal("amountReceived", rs.getBigDecimal("amount_received"));
+            generator.writeStringField("createdAt", text(rs.getObject("created_at", LocalDateTime.class)));
+            generator.writeStringField("updatedAt", text(rs.getObject("updated_at", LocalDateTime.class)));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeDecimal(String field, BigDecimal value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writeField(rs.getString("booking_id"));
+            writeField(rs.getString("customer_name"));
+            writeField(rs.getString("vehicle_id"));
+            writeField(rs.getString("vehicle_category"));
+            writeField(text(rs.getObject("rental_start_date", LocalDate.class)));
+            writeField(text(rs.getObject("rental_end_date", LocalDate.class)));
+            writeField(rs.getString("payment_mode"));
+            writeField(rs.getString("payment_reference"));
+            writeField(rs.getString("status"));
+            writeField(decimal(rs.getBigDecimal("payment_amount")));
+            writeField(decimal(rs.getBigDecimal("amount_received")));
+            writeField(text(rs.getObject("created_at", LocalDateTime.class)));
+            writer.write(escape(text(rs.getObject("updated_at", LocalDateTime.class))));
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(escape(value));
+            writer.write(',');
+        }
+
+        private static String decimal(BigDecimal value) {
+            return value != null ? value.toPlainString() : null;
+        }
+
+        /**
+         * RFC 4180 quoting; only fields containing a delimiter, quote or line break are quoted.
+         */
+        static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            boolean needsQuoting = false;
+            for (int i = 0; i < value.length() && !needsQuoting; i++) {
+                char c = value.charAt(i);
+                needsQuoting = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            return needsQuoting ? '"' + value.replace("\"", "\"\"") + '"' : value;
+        }
+
+        @Override
+        public void finish() {
+            // Nothing buffered beyond the shared writer
+        }
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -11,24 +11,26 @@ import java.time.Duration;
 /**
  * Custom health indicator for Credit Card Validation Service.
  * Checks if the external credit card service is reachable.
+ * The WebClient, and with it the HTTP client resources, is built on the first check rather than at startup.
  */
 @Component
 public class CreditCardServiceHealthIndicator implements HealthIndicator {
 
-    private final WebClient webClient;
+    private final WebClient.Builder webClientBuilder;
     private final String creditCardServiceUrl;
+    private volatile WebClient webClient;
 
     public CreditCardServiceHealthIndicator(
             WebClient.Builder webClientBuilder,
             @Value("${app.external-services.credit-card-validation.url:http://localhost:8081}") String creditCardServiceUrl) {
-        this.webClient = webClientBuilder.build();
+        this.webClientBuilder = webClientBuilder;
         this.creditCardServiceUrl = creditCardServiceUrl;
     }
 
     @Override
     public Health health() {
         try {
-            webClient.head()
+            webClient().head()
                     .uri(creditCardServiceUrl + "/health")
                     .retrieve()
                     .toBodilessEntity()
@@ -46,5 +48,19 @@ public class CreditCardServiceHealthIndicator implements HealthIndicator {
                     .build();
         }
     }
+
+    private WebClient webClient() {
+        WebClient client = webClient;
+        if (client == null) {
+            synchronized (this) {
+                client = webClient;
+                if (client == null) {
+                    client = webClientBuilder.build();
+                    webClient = client;
+                }
+            }
+        }
+        return client;
+    }
 }
 
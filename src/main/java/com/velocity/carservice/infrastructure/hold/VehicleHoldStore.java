@@ -0,0 +1,335 @@
+package com.velocity.carservice.infrastructure.hold;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.VehicleHold;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.velocity.carservice.shared.constant.AppConstants.CACHE_CONNECTION_FACTORY;
+import static com.velocity.carservice.shared.constant.AppConstants.RESILIENCE_REDIS_CACHE;
+
+/**
+ * Vehicle holds handed out with quotes. A hold blocks other quotes and bookings for the same vehicle and dates
+ * until it is redeemed or expires.
+ * <p>
+ * Holds are kept in this node's memory and mirrored to Redis, so they are honoured cluster-wide. Neither copy
+ * is actively expired: an expired hold is ignored by every lookup and dropped when its vehicle is next held,
+ * with a periodic sweep for vehicles that are not. In Redis each vehicle's holds are one hash
+ * ({@code holds:vehicle:<id>}, token to {@code startEpochDay:endEpochDay:expiresAtMillis}), checked and
+ * extended by a single script; each hold is also stored under its token with a TTL, so redeeming it is one
+ * {@code GETDEL}. Redis calls share the cache circuit breaker; while Redis is unavailable holds are local to
+ * this node. A hold that was mirrored is redeemed through Redis only, so a token redeemed on another node is
+ * not honoured again from this node's copy; the local copy is used only while Redis cannot be reached.
+ */
+@Component
+@Slf4j
+public class VehicleHoldStore {
+
+    static final String TOKEN_KEY_PREFIX = "holds:token:";
+    static final String VEHICLE_KEY_PREFIX = "holds:vehicle:";
+
+    /**
+     * KEYS: vehicle hash, token key. ARGV: token, start epoch day, end epoch day, expiry millis, now millis,
+     * TTL millis, hold JSON. Returns 0 if a live hold overlaps, after dropping any expired ones.
+     */
+    private static final RedisScript<Long> PLACE_HOLD = RedisScript.of("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+              local s, e, x = string.match(entries[i + 1], '^(%d+):(%d+):(%d+)$')
+              if tonumber(x) <= tonumber(ARGV[5]) then
+                redis.call('HDEL', KEYS[1], entries[i])
+              elseif tonumber(s) < tonumber(ARGV[3]) and tonumber(ARGV[2]) < tonumber(e) then
+                return 0
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. ARGV[3] .. ':' .. ARGV[4])
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[6]) then
+              redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            end
+            redis.call('SET', KEYS[2], ARGV[7], 'PX', ARGV[6])
+            return 1
+            """, Long.class);
+
+    private final Map<String, VehicleHold> holdsByToken = new ConcurrentHashMap<>();
+    private final Map<String, List<VehicleHold>> holdsByVehicle = new ConcurrentHashMap<>();
+    /** Tokens of holds placed while Redis was unavailable, which only this node knows. */
+    private final Set<String> unmirroredTokens = ConcurrentHashMap.newKeySet();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+
+    @Autowired
+    public VehicleHoldStore(@Qualifier(CACHE_CONNECTION_FACTORY) RedisConnectionFactory redisConnectionFactory,
+                            ObjectMapper objectMapper, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this(new StringRedisTemplate(redisConnectionFactory), objectMapper, circuitBreakerRegistry);
+    }
+
+    VehicleHoldStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                     CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_REDIS_CACHE);
+    }
+
+    /**
+     * Places the hold unless a live hold on the same vehicle overlaps its dates.
+     *
+     * @return false if the vehicle is already held for any of the dates
+     */
+    public boolean tryHold(VehicleHold hold) {
+        long now = System.currentTimeMillis();
+        if (!placeLocally(hold, now)) {
+            return false;
+        }
+        if (!placeInRedis(hold, now)) {
+            removeLocally(hold);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the hold so its token cannot be used again.
+     *
+     * @return the hold, or empty if the token is unknown, expired or already redeemed
+     */
+    public Optional<VehicleHold> redeem(String token) {
+        long now = System.currentTimeMillis();
+        VehicleHold local = holdsByToken.remove(token);
+        boolean unmirrored = unmirroredTokens.remove(token) && local != null;
+        if (local != null) {
+            removeLocally(local);
+        }
+        Redemption redemption = redeemInRedis(token);
+        VehicleHold hold = switch (redemption.outcome()) {
+            case REDEEMED -> redemption.hold();
+            // Redeemed or expired elsewhere; only a hold Redis never had is still ours to hand out
+            case ABSENT -> unmirrored ? local : null;
+            case UNAVAILABLE -> local;
+        };
+        return hold != null && !hold.isExpired(now) ? Optional.of(hold) : Optional.empty();
+    }
+
+    /**
+     * Gives back a redeemed hold whose booking could not be completed, so the customer can retry with the same
+     * token. It is not restored if it expired meanwhile or the vehicle was held again.
+     */
+    public void release(VehicleHold hold) {
+        if (!hold.isExpired(System.currentTimeMillis()) && !tryHold(hold)) {
+            log.debug("Hold {} not restored, vehicle {} held again", hold.token(), hold.vehicleId());
+        }
+    }
+
+    /**
+     * Whether a live hold on the vehicle overlaps any day from {@code startDate} up to but excluding
+     * {@code endDate}.
+     */
+    public boolean isHeld(String vehicleId, LocalDate startDate, LocalDate endDate) {
+        long now = System.currentTimeMillis();
+        for (VehicleHold hold : holdsByVehicle.getOrDefault(vehicleId, List.of())) {
+            if (!hold.isExpired(now) && hold.overlaps(startDate, endDate)) {
+                return true;
+            }
+        }
+        return isHeldInRedis(vehicleId, startDate.toEpochDay(), endDate.toEpochDay(), now);
+    }
+
+    /**
+     * The given vehicles that a live hold takes for any day from {@code startDate} up to but excluding
+     * {@code endDate}. Vehicles not held on this node are checked in Redis in one pipelined round trip.
+     */
+    public Set<String> heldVehicles(Collection<String> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        long now = System.currentTimeMillis();
+        Set<String> held = new HashSet<>();
+        List<String> unchecked = new ArrayList<>();
+        for (String vehicleId : vehicleIds) {
+            boolean heldLocally = holdsByVehicle.getOrDefault(vehicleId, List.of()).stream()
+                    .anyMatch(hold -> !hold.isExpired(now) && hold.overlaps(startDate, endDate));
+            if (heldLocally) {
+                held.add(vehicleId);
+            } else {
+                unchecked.add(vehicleId);
+            }
+        }
+        if (!unchecked.isEmpty()) {
+            held.addAll(heldInRedis(unchecked, startDate.toEpochDay(), endDate.toEpochDay(), now));
+        }
+        return held;
+    }
+
+    /**
+     * Drops expired holds of vehicles that have not been held since they expired. Redis drops its copies
+     * through their TTLs.
+     */
+    @Scheduled(initialDelayString = "${app.holds.sweep-interval:60000}",
+            fixedDelayString = "${app.holds.sweep-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        holdsByToken.values().removeIf(hold -> hold.isExpired(now));
+        unmirroredTokens.retainAll(holdsByToken.keySet());
+        holdsByVehicle.replaceAll((vehicleId, holds) -> live(holds, now));
+        holdsByVehicle.values().removeIf(List::isEmpty);
+    }
+
+    int localHoldCount() {
+        return holdsByToken.size();
+    }
+
+    private boolean placeLocally(VehicleHold hold, long now) {
+        boolean[] placed = {false};
+        holdsByVehicle.compute(hold.vehicleId(), (vehicleId, holds) -> {
+            List<VehicleHold> live = live(holds, now);
+            if (live.stream().anyMatch(h -> h.overlaps(hold.rentalStartDate(), hold.rentalEndDate()))) {
+                return live.isEmpty() ? null : live;
+            }
+            List<VehicleHold> updated = new ArrayList<>(live);
+            updated.add(hold);
+            placed[0] = true;
+            return List.copyOf(updated);
+        });
+        if (placed[0]) {
+            holdsByToken.put(hold.token(), hold);
+        }
+        return placed[0];
+    }
+
+    private void removeLocally(VehicleHold hold) {
+        holdsByToken.remove(hold.token(), hold);
+        unmirroredTokens.remove(hold.token());
+        holdsByVehicle.computeIfPresent(hold.vehicleId(), (vehicleId, holds) -> {
+            List<VehicleHold> remaining = holds.stream().filter(h -> !h.token().equals(hold.token())).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    private static List<VehicleHold> live(List<VehicleHold> holds, long now) {
+        if (holds == null) {
+            return List.of();
+        }
+        return holds.stream().anyMatch(h -> h.isExpired(now))
+                ? holds.stream().filter(h -> !h.isExpired(now)).toList()
+                : holds;
+    }
+
+    /**
+     * @return false only if Redis holds an overlapping hold; true if placed, or if Redis is unavailable
+     */
+    private boolean placeInRedis(VehicleHold hold, long now) {
+        try {
+            long ttlMillis = Math.max(1, hold.expiresAtMillis() - now);
+            String json = objectMapper.writeValueAsString(hold);
+            Long placed = circuitBreaker.executeSupplier(() -> redisTemplate.execute(PLACE_HOLD,
+                    List.of(VEHICLE_KEY_PREFIX + hold.vehicleId(), TOKEN_KEY_PREFIX + hold.token()),
+                    hold.token(), String.valueOf(hold.rentalStartDate().toEpochDay()),
+                    String.valueOf(hold.rentalEndDate().toEpochDay()), String.valueOf(hold.expiresAtMillis()),
+                    String.valueOf(now), String.valueOf(ttlMillis), json));
+            return placed == null || placed != 0;
+        } catch (CallNotPermittedException e) {
+            unmirroredTokens.add(hold.token());
+            return true;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Hold {} not mirrored to Redis, held on this node only: {}", hold.token(), e.getMessage());
+            unmirroredTokens.add(hold.token());
+            return true;
+        }
+    }
+
+    private Redemption redeemInRedis(String token) {
+        try {
+            String json = circuitBreaker.executeSupplier(
+                    () -> redisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + token));
+            if (json == null) {
+                return Redemption.ABSENT;
+            }
+            VehicleHold hold = objectMapper.readValue(json, VehicleHold.class);
+            circuitBreaker.executeRunnable(
+                    () -> redisTemplate.opsForHash().delete(VEHICLE_KEY_PREFIX + hold.vehicleId(), token));
+            return new Redemption(RedemptionOutcome.REDEEMED, hold);
+        } catch (CallNotPermittedException e) {
+            return Redemption.UNAVAILABLE;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Hold {} not redeemed in Redis: {}", token, e.getMessage());
+            return Redemption.UNAVAILABLE;
+        }
+    }
+
+    private boolean isHeldInRedis(String vehicleId, long startEpochDay, long endEpochDay, long now) {
+        try {
+            Map<Object, Object> entries = circuitBreaker.executeSupplier(
+                    () -> redisTemplate.opsForHash().entries(VEHICLE_KEY_PREFIX + vehicleId));
+            return anyLiveOverlap(entries.values(), startEpochDay, endEpochDay, now);
+        } catch (CallNotPermittedException e) {
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Holds of vehicle {} not checked in Redis: {}", vehicleId, e.getMessage());
+            return false;
+        }
+    }
+
+    private List<String> heldInRedis(List<String> vehicleIds, long startEpochDay, long endEpochDay, long now) {
+        try {
+            List<Object> results = circuitBreaker.executeSupplier(() -> redisTemplate.executePipelined(
+                    (RedisCallback<Object>) connection -> {
+                        for (String vehicleId : vehicleIds) {
+                            connection.hashCommands().hGetAll(
+                                    (VEHICLE_KEY_PREFIX + vehicleId).getBytes(StandardCharsets.UTF_8));
+                        }
+                        return null;
+                    }));
+            List<String> held = new ArrayList<>();
+            for (int i = 0; i < vehicleIds.size(); i++) {
+                if (results.get(i) instanceof Map<?, ?> entries
+                        && anyLiveOverlap(entries.values(), startEpochDay, endEpochDay, now)) {
+                    held.add(vehicleIds.get(i));
+                }
+            }
+            return held;
+        } catch (CallNotPermittedException e) {
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("Holds of {} vehicles not checked in Redis: {}", vehicleIds.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static boolean anyLiveOverlap(Collection<?> entries, long startEpochDay, long endEpochDay, long now) {
+        for (Object entry : entries) {
+            String[] fields = entry.toString().split(":");
+            if (Long.parseLong(fields[2]) > now
+                    && Long.parseLong(fields[0]) < endEpochDay && startEpochDay < Long.parseLong(fields[1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum RedemptionOutcome { REDEEMED, ABSENT, UNAVAILABLE }
+
+    private record Redemption(RedemptionOutcome outcome, VehicleHold hold) {
+
+        static final Redemption ABSENT = new Redemption(RedemptionOutcome.ABSENT, null);
+        static final Redemption UNAVAILABLE = new Redemption(RedemptionOutcome.UNAVAILABLE, null);
+    }
+}
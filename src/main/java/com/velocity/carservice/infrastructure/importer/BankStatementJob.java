@@ -0,0 +1,183 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+import com.velocity.carservice.application.service.BankTransferPaymentService;
+import com.velocity.carservice.application.service.BankTransferPaymentService.PaymentOutcome;
+import com.velocity.carservice.application.service.BankTransferPaymentService.Result;
+import com.velocity.carservice.application.service.BankTransferPaymentService.Run;
+import com.velocity.carservice.infrastructure.importer.BankStatementReader.Entry;
+import com.velocity.carservice.infrastructure.importer.BankStatementReader.Format;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the payments of a bank statement file, for banks that deliver end-of-day files instead of Kafka events.
+ * <p>
+ * Entries are streamed from the {@link BankStatementReader} and applied by the
+ * {@link BankTransferPaymentService} in batches of {@code app.statement.batch-size}, each committed on its own.
+ * Every entry gets a line in a CSV reconciliation report: the payment, the booking it matched and the outcome.
+ * In a dry run the report is produced and nothing is applied. If a batch fails, the file can be applied again:
+ * payments of committed batches are reported as duplicates.
+ */
+@Component
+@Slf4j
+public class BankStatementJob {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final BankTransferPaymentService bankTransferPaymentService;
+    private final BookingMetrics bookingMetrics;
+    private final int batchSize;
+    private final long windowSize;
+
+    public BankStatementJob(BankTransferPaymentService bankTransferPaymentService,
+                            BookingMetrics bookingMetrics,
+                            @Value("${app.statement.batch-size:500}") int batchSize,
+                            @Value("${app.statement.window-size:16MB}") DataSize windowSize) {
+        this.bankTransferPaymentService = bankTransferPaymentService;
+        this.bookingMetrics = bookingMetrics;
+        this.batchSize = batchSize;
+        this.windowSize = windowSize.toBytes();
+    }
+
+    public StatementReport run(Path file, Format format, boolean dryRun, Path reportFile) throws IOException {
+        try (BankStatementReader reader = BankStatementReader.open(file, format, windowSize);
+             Writer report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            report.write("line,payment_id,booking_id,amount,result,detail\n");
+            Reconciliation reconciliation = new Reconciliation(format, dryRun ? Run.dryRun() : Run.live(), report);
+            List<Entry> batch = new ArrayList<>(batchSize);
+            try {
+                reader.read(entry -> {
+                    batch.add(entry);
+                    if (batch.size() == batchSize) {
+                        reconciliation.apply(batch);
+                        batch.clear();
+                    }
+                });
+                if (!batch.isEmpty()) {
+                    reconciliation.apply(batch);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Statement " + file + " stopped after " + reconciliation.lines
+                        + " lines; run it again to apply the rest: " + e.getMessage(), e);
+            }
+            bookingMetrics.recordStatementFile(format.name(), reader.size());
+            return reconciliation.toReport();
+        }
+    }
+
+    /**
+     * Counts and amounts per result; {@code lines} counts the entries read, skipped MT940 debits excluded.
+     */
+    public record StatementReport(boolean dryRun, long lines, Map<Result, Long> counts,
+                                  Map<Result, BigDecimal> amounts, long elapsedMillis) {
+    }
+
+    private final class Reconciliation {
+
+        private final Format format;
+        private final Run run;
+        private final long startNanos = System.nanoTime();
+        private final Map<Result, Long> counts = new EnumMap<>(Result.class);
+        private final Map<Result, BigDecimal> amounts = new EnumMap<>(Result.class);
+        private final Writer report;
+        private long lines;
+        private long lastProgressNanos = startNanos;
+
+        private Reconciliation(Format format, Run run, Writer report) {
+            this.format = format;
+            this.run = run;
+            this.report = report;
+        }
+
+        void apply(List<Entry> batch) {
+            long batchStart = System.nanoTime();
+            List<BankTransferPaymentEvent> payments = new ArrayList<>(batch.size());
+            for (Entry entry : batch) {
+                if (entry.payment() != null) {
+                    payments.add(entry.payment());
+                }
+            }
+            List<PaymentOutcome> outcomes = payments.isEmpty()
+                    ? List.of()
+                    : bankTransferPaymentService.apply(payments, run);
+
+            int next = 0;
+            for (Entry entry : batch) {
+                if (entry.payment() == null) {
+                    count(Result.INVALID, null);
+                    write(entry.line(), null, null, null, Result.INVALID, entry.error());
+                } else {
+                    PaymentOutcome outcome = outcomes.get(next++);
+                    count(outcome.result(), outcome.amount());
+                    write(entry.line(), entry.payment().paymentId(), outcome.bookingId(), outcome.amount(),
+                            outcome.result(), outcome.detail());
+                }
+            }
+            lines += batch.size();
+
+            long now = System.nanoTime();
+            bookingMetrics.recordStatementBatch(format.name(), batch.size(), now - batchStart);
+            if (now - lastProgressNanos >= PROGRESS_INTERVAL_NANOS) {
+                lastProgressNanos = now;
+                log.info("{} {} lines, {} lines/s: {}", run.isDryRun() ? "Dry run checked" : "Applied", lines,
+                        Math.round(lines / Math.max(1e-3, (now - startNanos) / 1e9)), counts);
+            }
+        }
+
+        private void count(Result result, BigDecimal amount) {
+            counts.merge(result, 1L, Long::sum);
+            if (amount != null) {
+                amounts.merge(result, amount, BigDecimal::add);
+            }
+        }
+
+        private void write(long line, String paymentId, String bookingId, BigDecimal amount, Result result,
+                           String detail) {
+            try {
+                report.write(line + "," + escape(paymentId) + "," + escape(bookingId) + ","
+                        + (amount != null ? amount.toPlainString() : "") + "," + result + "," + escape(detail) + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        StatementReport toReport() {
+            return new StatementReport(run.isDryRun(), lines, counts, amounts,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * RFC 4180 quoting; only fields containing a delimiter, quote or line break are quoted.
+     */
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuoting = false;
+        for (int i = 0; i < value.length() && !needsQuoting; i++) {
+            char c = value.charAt(i);
+            needsQuoting = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuoting ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,244 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streams the credits of a bank statement file as {@link BankTransferPaymentEvent}s. The file is memory-mapped a
+ * window of {@code windowSize} bytes at a time, so memory use does not grow with the file.
+ * <ul>
+ *     <li>{@link Format#CSV}: a header line naming the event's fields, as {@code payment_id} or {@code paymentId},
+ *     then one payment per line. {@code sender_account_number} may be missing.</li>
+ *     <li>{@link Format#MT940}: every credit {@code :61:} statement line, with the text of its {@code :86:} field
+ *     as the transaction details. The payment ID is the bank reference or, if there is none,
+ *     {@code MT940-} and the SHA-256 of the value date and the {@code :61:} line: the customer reference is set
+ *     by the payer and need not be unique. Debits are skipped; the sender account is not read.</li>
+ * </ul>
+ */
+public final class BankStatementReader implements AutoCloseable {
+
+    private static final List<String> CSV_FIELDS = List.of(
+            "paymentid", "senderaccountnumber", "paymentamount", "transactiondetails");
+    private static final Pattern MT940_TAG = Pattern.compile("^:\\d{2}[A-Z]?:");
+    // Value date, optional entry date, debit/credit mark, optional funds code, amount, transaction type, references
+    private static final Pattern MT940_STATEMENT_LINE = Pattern.compile(
+            "^:61:(\\d{6})(\\d{4})?(RC|RD|C|D)[A-Z]?(\\d{1,12},\\d{0,2})[NSF][A-Z0-9]{3}(.*)$");
+
+    private final MappedCsvFile file;
+    private final Format format;
+    private final long windowSize;
+
+    private BankStatementReader(MappedCsvFile file, Format format, long windowSize) {
+        this.file = file;
+        this.format = format;
+        this.windowSize = windowSize;
+    }
+
+    public static BankStatementReader open(Path path, Format format, long windowSize) throws IOException {
+        return new BankStatementReader(MappedCsvFile.open(path), format, windowSize);
+    }
+
+    public long size() {
+        return file.size();
+    }
+
+    /**
+     * Passes every entry to {@code sink} in file order, then returns.
+     *
+     * @throws IllegalArgumentException if a CSV header lacks a required field
+     */
+    public void read(Consumer<Entry> sink) throws IOException {
+        if (format == Format.CSV) {
+            readCsv(sink);
+        } else {
+            readMt940(sink);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private void readCsv(Consumer<Entry> sink) throws IOException {
+        int[] positions = new int[CSV_FIELDS.size()];
+        List<String> header = file.header().stream()
+                .map(column -> column.replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        for (int field = 0; field < positions.length; field++) {
+            positions[field] = header.indexOf(CSV_FIELDS.get(field));
+            if (positions[field] < 0 && !CSV_FIELDS.get(field).equals("senderaccountnumber")) {
+                throw new IllegalArgumentException("Statement header has no " + CSV_FIELDS.get(field) + " column");
+            }
+        }
+
+        long line = 1;
+        List<String> fields = new ArrayList<>(header.size());
+        for (MappedCsvFile.Chunk chunk : file.chunks(windowSize)) {
+            CsvRecordReader reader = new CsvRecordReader(file.map(chunk));
+            while (reader.next(fields)) {
+                line++;
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                if (fields.size() != header.size()) {
+                    sink.accept(Entry.invalid(line, "Expected " + header.size() + " fields, found " + fields.size()));
+                    continue;
+                }
+                try {
+                    sink.accept(new Entry(line, new BankTransferPaymentEvent(
+                            field(fields, positions[0]),
+                            field(fields, positions[1]),
+                            amount(field(fields, positions[2])),
+                            field(fields, positions[3])), null));
+                } catch (NumberFormatException e) {
+                    sink.accept(Entry.invalid(line, "Invalid amount: " + fields.get(positions[2])));
+                }
+            }
+        }
+    }
+
+    private static String field(List<String> fields, int position) {
+        if (position < 0) {
+            return null;
+        }
+        String value = fields.get(position).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal amount(String value) {
+        return value != null ? new BigDecimal(value) : null;
+    }
+
+    private void readMt940(Consumer<Entry> sink) throws IOException {
+        Mt940Entry pending = null;
+        boolean inDetails = false;
+        long line = 0;
+        for (MappedCsvFile.Chunk chunk : file.chunksFromFirstLine(windowSize)) {
+            ByteBuffer data = file.map(chunk);
+            int start = 0;
+            while (start < data.limit()) {
+                int end = start;
+                while (end < data.limit() && data.get(end) != '\n') {
+                    end++;
+                }
+                String text = decodeLine(data, start, end);
+                start = end + 1;
+                line++;
+
+                if (text.startsWith(":61:")) {
+                    emit(pending, sink);
+                    pending = Mt940Entry.parse(line, text);
+                    inDetails = false;
+                } else if (text.startsWith(":86:") && pending != null) {
+                    pending.details.append(text.substring(4));
+                    inDetails = true;
+                } else if (MT940_TAG.matcher(text).find() || text.startsWith("-")) {
+                    emit(pending, sink);
+                    pending = null;
+                    inDetails = false;
+                } else if (inDetails) {
+                    // :86: is wrapped at 65 characters; continuation lines carry on the same text
+                    pending.details.append(text);
+                }
+            }
+        }
+        emit(pending, sink);
+    }
+
+    private static String decodeLine(ByteBuffer data, int start, int end) {
+        int length = end > start && data.get(end - 1) == '\r' ? end - start - 1 : end - start;
+        byte[] bytes = new byte[length];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void emit(Mt940Entry pending, Consumer<Entry> sink) {
+        if (pending != null && pending.credit) {
+            sink.accept(pending.toEntry());
+        }
+    }
+
+    public enum Format {
+        CSV,
+        MT940
+    }
+
+    /**
+     * One payment of the statement, or why the line holding it could not be read. {@code line} is the 1-based
+     * line number, of the {@code :61:} line for MT940.
+     */
+    public record Entry(long line, BankTransferPaymentEvent payment, String error) {
+
+        static Entry invalid(long line, String error) {
+            return new Entry(line, null, error);
+        }
+    }
+
+    private static final class Mt940Entry {
+
+        private final long line;
+        private final boolean credit;
+        private final String paymentId;
+        private final BigDecimal amount;
+        private final String error;
+        private final StringBuilder details = new StringBuilder();
+
+        private Mt940Entry(long line, boolean credit, String paymentId, BigDecimal amount, String error) {
+            this.line = line;
+            this.credit = credit;
+            this.paymentId = paymentId;
+            this.amount = amount;
+            this.error = error;
+        }
+
+        static Mt940Entry parse(long line, String text) {
+            Matcher matcher = MT940_STATEMENT_LINE.matcher(text);
+            if (!matcher.matches()) {
+                return new Mt940Entry(line, true, null, null, "Unreadable :61: statement line");
+            }
+            boolean credit = matcher.group(3).equals("C");
+            BigDecimal amount = new BigDecimal(matcher.group(4).replace(',', '.'));
+            String references = matcher.group(5);
+            int separator = references.indexOf("//");
+            String bankReference = separator < 0 ? "" : references.substring(separator + 2).strip();
+            String paymentId = !bankReference.isEmpty() ? bankReference : "MT940-" + sha256(matcher.group(1), text);
+            return new Mt940Entry(line, credit, paymentId, amount, null);
+        }
+
+        private static String sha256(String valueDate, String text) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+            digest.update(valueDate.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        Entry toEntry() {
+            if (error != null) {
+                return Entry.invalid(line, error);
+            }
+            String transactionDetails = details.toString().strip();
+            return new Entry(line, new BankTransferPaymentEvent(
+                    paymentId, null, amount, transactionDetails.isEmpty() ? null : transactionDetails), null);
+        }
+    }
+}
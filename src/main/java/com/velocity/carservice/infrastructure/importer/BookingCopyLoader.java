@@ -0,0 +1,118 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.infrastructure.importer.BookingCsvParser.ParsedChunk;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Loads parsed chunks into {@code bookings}, one transaction per chunk: the chunk is streamed with {@code COPY}
+ * into a temporary staging table, merged into {@code bookings} skipping booking IDs that already exist and active
+ * rentals that overlap another active booking of the same vehicle (the latest {@code updated_at} wins among
+ * duplicates within the chunk), and recorded in {@code booking_import_chunks}. A chunk is therefore loaded
+ * completely or not at all, and a recorded chunk is never loaded twice. Rows that were not inserted are counted
+ * as repeated within the chunk or as conflicting with a booking that already exists.
+ * <p>
+ * Requires PostgreSQL.
+ */
+@Component
+public class BookingCopyLoader {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE booking_import_staging (
+                booking_id VARCHAR(10), customer_name VARCHAR(100), vehicle_id VARCHAR(50),
+                vehicle_category VARCHAR(20), rental_start_date DATE, rental_end_date DATE,
+                payment_mode VARCHAR(20), payment_reference VARCHAR(100), status VARCHAR(20),
+                payment_amount DECIMAL(10, 2), amount_received DECIMAL(10, 2),
+                created_at TIMESTAMP, updated_at TIMESTAMP
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = "COPY booking_import_staging ("
+            + String.join(", ", BookingCsvParser.STAGING_COLUMNS) + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COUNT_STAGED_IDS = "SELECT COUNT(DISTINCT booking_id) FROM booking_import_staging";
+
+    private static final String MERGE_STAGING = """
+            INSERT INTO bookings (id, booking_id, customer_name, vehicle_id, vehicle_category, rental_start_date,
+                                  rental_end_date, payment_mode, payment_reference, status, payment_amount,
+                                  amount_received, version, created_at, updated_at)
+            SELECT gen_random_uuid(), booking_id, customer_name, vehicle_id, vehicle_category, rental_start_date,
+                   rental_end_date, payment_mode, payment_reference, status, payment_amount,
+                   COALESCE(amount_received, 0), 0, COALESCE(created_at, CURRENT_TIMESTAMP),
+                   COALESCE(updated_at, created_at, CURRENT_TIMESTAMP)
+            FROM (SELECT DISTINCT ON (booking_id) *
+                  FROM booking_import_staging
+                  ORDER BY booking_id, updated_at DESC NULLS LAST) staged
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String RECORD_CHUNK = """
+            INSERT INTO booking_import_chunks (source, chunk_index, rows_staged, rows_inserted)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public BookingCopyLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Indexes of the chunks of {@code source} that earlier runs committed.
+     */
+    public Set<Integer> committedChunks(String source) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT chunk_index FROM booking_import_chunks WHERE source = ?", Integer.class, source));
+    }
+
+    public LoadResult load(String source, ParsedChunk chunk) {
+        return transaction.execute(status -> jdbcTemplate.execute((ConnectionCallback<LoadResult>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_STAGING, new ByteArrayInputStream(chunk.copyData()));
+                int distinct;
+                try (ResultSet count = statement.executeQuery(COUNT_STAGED_IDS)) {
+                    count.next();
+                    distinct = count.getInt(1);
+                }
+                int inserted = statement.executeUpdate(MERGE_STAGING);
+                try (PreparedStatement record = connection.prepareStatement(RECORD_CHUNK)) {
+                    record.setString(1, source);
+                    record.setInt(2, chunk.chunk().index());
+                    record.setInt(3, chunk.staged());
+                    record.setInt(4, inserted);
+                    record.executeUpdate();
+                }
+                return new LoadResult(inserted, chunk.staged() - distinct, distinct - inserted);
+            } catch (IOException e) {
+                throw new UncheckedIOException("COPY of chunk " + chunk.chunk().index() + " failed", e);
+            }
+        }));
+    }
+
+    /**
+     * What became of a chunk's valid rows.
+     *
+     * @param repeated  rows skipped because an earlier row of the chunk has the same booking ID
+     * @param conflicts rows skipped because their booking ID is already in {@code bookings}, or because their
+     *                  vehicle is already booked for overlapping dates
+     */
+    public record LoadResult(int inserted, int repeated, int conflicts) {
+    }
+}
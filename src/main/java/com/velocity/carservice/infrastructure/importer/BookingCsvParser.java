@@ -0,0 +1,180 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.domain.model.BookingIdCodec;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.service.BookingDomainService;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses the rows of one chunk of a booking CSV, validates each with the {@link BookingDomainService} rules,
+ * {@link BookingIdCodec} and the column limits of {@code bookings}, and writes the valid ones as COPY input for the staging table, in the
+ * order of {@link #STAGING_COLUMNS}.
+ * <p>
+ * The input columns are those of the booking export, matched by header name in any order; {@code
+ * payment_reference}, the amounts and the timestamps may be missing or empty. Fields are RFC 4180 CSV. Rows are
+ * parsed straight from the mapped bytes; only field values are decoded. One parser per file can be shared by
+ * threads, each parsing its own chunks.
+ */
+public final class BookingCsvParser {
+
+    public static final List<String> STAGING_COLUMNS = List.of(
+            "booking_id", "customer_name", "vehicle_id", "vehicle_category", "rental_start_date",
+            "rental_end_date", "payment_mode", "payment_reference", "status", "payment_amount",
+            "amount_received", "created_at", "updated_at");
+
+    private static final Set<String> OPTIONAL_COLUMNS = Set.of(
+            "payment_reference", "payment_amount", "amount_received", "created_at", "updated_at");
+    private static final int MAX_SAMPLE_ERRORS = 5;
+
+    private final BookingDomainService bookingDomainService;
+    private final int fieldCount;
+    // For every staging column, its position in the input, or -1 when the input has no such column
+    private final int[] positions = new int[STAGING_COLUMNS.size()];
+
+    /**
+     * @throws IllegalArgumentException if the header lacks a required column
+     */
+    public BookingCsvParser(List<String> header, BookingDomainService bookingDomainService) {
+        this.bookingDomainService = bookingDomainService;
+        this.fieldCount = header.size();
+        for (int column = 0; column < positions.length; column++) {
+            positions[column] = header.indexOf(STAGING_COLUMNS.get(column));
+            if (positions[column] < 0 && isRequired(column)) {
+                throw new IllegalArgumentException("CSV header has no " + STAGING_COLUMNS.get(column) + " column");
+            }
+        }
+    }
+
+    public ParsedChunk parse(MappedCsvFile.Chunk chunk, ByteBuffer data) {
+        ByteArrayOutputStream copyData = new ByteArrayOutputStream(data.limit());
+        List<String> errors = new ArrayList<>();
+        CsvRecordReader reader = new CsvRecordReader(data);
+        int rows = 0;
+        int rejected = 0;
+        List<String> fields = new ArrayList<>(fieldCount);
+        while (reader.next(fields)) {
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            rows++;
+            try {
+                writeCopyRow(fields, copyData);
+            } catch (RuntimeException e) {
+                rejected++;
+                if (errors.size() < MAX_SAMPLE_ERRORS) {
+                    errors.add("row " + rows + ": " + e.getMessage());
+                }
+            }
+        }
+        return new ParsedChunk(chunk, copyData.toByteArray(), rows, rejected, errors);
+    }
+
+    /**
+     * Validates the row and appends it to {@code out} as one COPY CSV line.
+     *
+     * @throws RuntimeException describing the first problem if the row is invalid
+     */
+    private void writeCopyRow(List<String> fields, ByteArrayOutputStream out) {
+        if (fields.size() != fieldCount) {
+            throw new IllegalArgumentException("Expected " + fieldCount + " fields, found " + fields.size());
+        }
+        String[] values = new String[STAGING_COLUMNS.size()];
+        for (int column = 0; column < values.length; column++) {
+            String value = positions[column] >= 0 ? fields.get(positions[column]).strip() : "";
+            if (value.isEmpty() && isRequired(column)) {
+                throw new IllegalArgumentException(STAGING_COLUMNS.get(column) + " is required");
+            }
+            values[column] = value.isEmpty() ? null : value;
+        }
+
+        if (!BookingIdCodec.isValid(values[0])) {
+            throw new IllegalArgumentException("booking_id " + values[0] + " is not a valid booking ID");
+        }
+        checkLength(values, 1, 2, 100);
+        bookingDomainService.validateVehicleId(values[2]);
+        checkLength(values, 2, 1, 50);
+        VehicleCategory.valueOf(values[3]);
+        bookingDomainService.validateRentalDates(LocalDate.parse(values[4]), LocalDate.parse(values[5]));
+        PaymentMode.valueOf(values[6]);
+        checkLength(values, 7, 0, 100);
+        BookingStatus.valueOf(values[8]);
+        decimal(values[9]);
+        decimal(values[10]);
+        timestamp(values[11]);
+        timestamp(values[12]);
+
+        for (int column = 0; column < values.length; column++) {
+            if (column > 0) {
+                out.write(',');
+            }
+            writeCopyValue(values[column], out);
+        }
+        out.write('\n');
+    }
+
+    private static boolean isRequired(int column) {
+        return !OPTIONAL_COLUMNS.contains(STAGING_COLUMNS.get(column));
+    }
+
+    private static void checkLength(String[] values, int column, int min, int max) {
+        String value = values[column];
+        int length = value != null ? value.length() : 0;
+        if (length < min || length > max) {
+            throw new IllegalArgumentException(STAGING_COLUMNS.get(column) + " must be between " + min + " and "
+                    + max + " characters");
+        }
+    }
+
+    private static void decimal(String value) {
+        if (value != null && new BigDecimal(value).scale() > 2) {
+            throw new IllegalArgumentException("Amount " + value + " has more than 2 decimal places");
+        }
+    }
+
+    private static void timestamp(String value) {
+        if (value != null) {
+            LocalDateTime.parse(value);
+        }
+    }
+
+    /**
+     * Empty and unquoted for NULL, otherwise quoted, so an empty string is never read back as NULL.
+     */
+    private static void writeCopyValue(String value, ByteArrayOutputStream out) {
+        if (value == null) {
+            return;
+        }
+        out.write('"');
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            if (b == '"') {
+                out.write('"');
+            }
+            out.write(b);
+        }
+        out.write('"');
+    }
+
+    /**
+     * A parsed chunk: COPY input for its valid rows, how many rows it had and rejected, and the first few
+     * rejection reasons.
+     */
+    public record ParsedChunk(MappedCsvFile.Chunk chunk, byte[] copyData, int rows, int rejected,
+                              List<String> sampleErrors) {
+
+        public int staged() {
+            return rows - rejected;
+        }
+    }
+}
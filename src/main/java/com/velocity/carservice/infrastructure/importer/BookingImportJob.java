@@ -0,0 +1,151 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.infrastructure.importer.BookingCopyLoader.LoadResult;
+import com.velocity.carservice.infrastructure.importer.BookingCsvParser.ParsedChunk;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports a booking CSV, e.g. a dump from an acquired rental brand, into {@code bookings}.
+ * <p>
+ * The file is memory-mapped and split into line-aligned chunks of {@code app.import.chunk-size}. Up to
+ * {@code app.import.parallelism} chunks are parsed, validated and loaded at once, each committed on its own by
+ * the {@link BookingCopyLoader}; invalid rows are counted and skipped. Progress and throughput are logged as
+ * chunks commit. Rows whose booking ID already exists, or whose vehicle is already booked for overlapping dates,
+ * are skipped and reported as conflicts. If the import fails, the chunks that committed stay committed: running
+ * it again on a file with the same contents, under any name, and the same chunk size skips them and resumes with
+ * the rest.
+ */
+@Component
+@Slf4j
+public class BookingImportJob {
+
+    private final BookingDomainService bookingDomainService;
+    private final BookingCopyLoader bookingCopyLoader;
+    private final long chunkSize;
+    private final int parallelism;
+
+    public BookingImportJob(BookingDomainService bookingDomainService,
+                            BookingCopyLoader bookingCopyLoader,
+                            @Value("${app.import.chunk-size:32MB}") DataSize chunkSize,
+                            @Value("${app.import.parallelism:4}") int parallelism) {
+        this.bookingDomainService = bookingDomainService;
+        this.bookingCopyLoader = bookingCopyLoader;
+        this.chunkSize = chunkSize.toBytes();
+        this.parallelism = parallelism;
+    }
+
+    public ImportReport run(Path file) throws IOException, InterruptedException {
+        try (MappedCsvFile csv = MappedCsvFile.open(file)) {
+            BookingCsvParser parser = new BookingCsvParser(csv.header(), bookingDomainService);
+            List<MappedCsvFile.Chunk> chunks = csv.chunks(chunkSize);
+            // Chunk boundaries only repeat for the same file contents and chunk size
+            String source = csv.sha256() + ":" + chunkSize;
+            Set<Integer> committed = bookingCopyLoader.committedChunks(source);
+            List<MappedCsvFile.Chunk> pending = chunks.stream()
+                    .filter(chunk -> !committed.contains(chunk.index()))
+                    .toList();
+            if (!committed.isEmpty()) {
+                log.info("Resuming import of {}: {} of {} chunks already committed", file, committed.size(), chunks.size());
+            }
+
+            Progress progress = new Progress(chunks.size(), committed.size(),
+                    pending.stream().mapToLong(MappedCsvFile.Chunk::length).sum());
+            ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<?>> results = new ArrayList<>(pending.size());
+                for (MappedCsvFile.Chunk chunk : pending) {
+                    results.add(workers.submit(() -> {
+                        ParsedChunk parsed = parser.parse(chunk, csv.map(chunk));
+                        progress.committed(parsed, bookingCopyLoader.load(source, parsed));
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Import of " + file + " stopped after " + progress.chunksDone.get()
+                        + " of " + chunks.size() + " chunks; run it again to resume: " + e.getCause().getMessage(),
+                        e.getCause());
+            } finally {
+                workers.shutdownNow();
+                workers.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            return progress.report();
+        }
+    }
+
+    /**
+     * Totals of one run; chunks committed by earlier runs are counted in {@code chunksSkipped} only.
+     */
+    public record ImportReport(int chunks, int chunksSkipped, long rows, long rejected, long inserted,
+                               long repeated, long conflicts, long elapsedMillis) {
+    }
+
+    private static final class Progress {
+
+        private final int chunks;
+        private final int chunksSkipped;
+        private final long pendingBytes;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger chunksDone = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong repeated = new AtomicLong();
+        private final AtomicLong conflicts = new AtomicLong();
+
+        private Progress(int chunks, int chunksSkipped, long pendingBytes) {
+            this.chunks = chunks;
+            this.chunksSkipped = chunksSkipped;
+            this.pendingBytes = pendingBytes;
+        }
+
+        void committed(ParsedChunk parsed, LoadResult loaded) {
+            int done = chunksDone.incrementAndGet() + chunksSkipped;
+            long bytesDone = bytes.addAndGet(parsed.chunk().length());
+            long rowsDone = rows.addAndGet(parsed.rows());
+            rejected.addAndGet(parsed.rejected());
+            inserted.addAndGet(loaded.inserted());
+            repeated.addAndGet(loaded.repeated());
+            conflicts.addAndGet(loaded.conflicts());
+            double seconds = Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+
+            if (parsed.rejected() > 0) {
+                log.warn("Chunk {} rejected {} of {} rows, e.g. {}", parsed.chunk().index(), parsed.rejected(),
+                        parsed.rows(), parsed.sampleErrors());
+            }
+            if (loaded.conflicts() > 0) {
+                log.warn("Chunk {} skipped {} rows whose booking ID or vehicle dates are already taken", parsed.chunk().index(),
+                        loaded.conflicts());
+            }
+            log.info("Chunk {} committed ({}/{}): {} rows, {} inserted; {}% of remaining data, {} rows/s, {} MB/s",
+                    parsed.chunk().index(), done, chunks, parsed.rows(), loaded.inserted(),
+                    pendingBytes > 0 ? 100 * bytesDone / pendingBytes : 100,
+                    Math.round(rowsDone / seconds), String.format("%.1f", bytesDone / seconds / (1 << 20)));
+        }
+
+        ImportReport report() {
+            return new ImportReport(chunks, chunksSkipped, rows.get(), rejected.get(), inserted.get(), repeated.get(),
+                    conflicts.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+}
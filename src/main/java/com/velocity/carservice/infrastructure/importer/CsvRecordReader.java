@@ -0,0 +1,72 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records from a buffer. Delimiters and quotes are ASCII, so they can be found in UTF-8
+ * without decoding.
+ */
+final class CsvRecordReader {
+
+    private final ByteBuffer data;
+    private int position;
+    private byte[] field = new byte[256];
+    private int fieldLength;
+
+    CsvRecordReader(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Reads the next record's fields into {@code fields}.
+     *
+     * @return false at the end of the buffer
+     */
+    boolean next(List<String> fields) {
+        fields.clear();
+        int limit = data.limit();
+        if (position >= limit) {
+            return false;
+        }
+        boolean quoted = false;
+        while (position < limit) {
+            byte b = data.get(position++);
+            if (quoted) {
+                if (b != '"') {
+                    append(b);
+                } else if (position < limit && data.get(position) == '"') {
+                    append(b);
+                    position++;
+                } else {
+                    quoted = false;
+                }
+            } else if (b == '"') {
+                quoted = true;
+            } else if (b == ',') {
+                fields.add(takeField());
+            } else if (b == '\n') {
+                break;
+            } else if (b != '\r') {
+                append(b);
+            }
+        }
+        fields.add(takeField());
+        return true;
+    }
+
+    private void append(byte b) {
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = b;
+    }
+
+    private String takeField() {
+        String value = new String(field, 0, fieldLength, StandardCharsets.UTF_8);
+        fieldLength = 0;
+        return value;
+    }
+}
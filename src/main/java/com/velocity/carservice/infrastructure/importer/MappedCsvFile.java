@@ -0,0 +1,164 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * A CSV file opened for import: its header line, and its data split into chunks that each start at the
+ * beginning of a line and end just after a line break, so that every chunk can be mapped and parsed on its own.
+ * <p>
+ * Chunk boundaries depend only on the file and the chunk size, so an import split the same way again gets the
+ * same chunks. Records must not contain line breaks inside quoted fields, since a chunk boundary could fall
+ * between them.
+ */
+public final class MappedCsvFile implements AutoCloseable {
+
+    private static final int SCAN_WINDOW = 64 * 1024;
+    private static final int HASH_WINDOW = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final String header;
+    private final long dataStart;
+
+    private MappedCsvFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.dataStart = nextLineStart(0);
+        // A byte order mark, which some exporters write, is not part of the first column name
+        this.header = decode(0, dataStart).replace("\uFEFF", "").strip();
+    }
+
+    public static MappedCsvFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedCsvFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * The hex SHA-256 of the whole file, which identifies its contents whatever the file is called.
+     */
+    public String sha256() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (long position = 0; position < size; position += HASH_WINDOW) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(HASH_WINDOW, size - position)));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The column names of the header line.
+     */
+    public List<String> header() {
+        List<String> columns = new ArrayList<>();
+        for (String column : header.split(",", -1)) {
+            columns.add(column.strip().replace("\"", ""));
+        }
+        return columns;
+    }
+
+    /**
+     * Splits the data after the header into chunks of about {@code chunkSize} bytes, each extended to the end of
+     * the line it would otherwise cut.
+     *
+     * @throws IllegalArgumentException if a chunk would need to be longer than a mapping allows
+     */
+    public List<Chunk> chunks(long chunkSize) throws IOException {
+        return split(dataStart, chunkSize);
+    }
+
+    /**
+     * Like {@link #chunks(long)}, but from the first line, for files that have no header line.
+     */
+    public List<Chunk> chunksFromFirstLine(long chunkSize) throws IOException {
+        return split(0, chunkSize);
+    }
+
+    private List<Chunk> split(long start, long chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1 byte");
+        }
+        List<Chunk> chunks = new ArrayList<>();
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(start + chunkSize);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Chunk " + chunks.size() + " is longer than 2 GB; use a smaller chunk size");
+            }
+            chunks.add(new Chunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps the chunk read-only. The mapping stays valid after this file is closed, until it is garbage collected.
+     */
+    public MappedByteBuffer map(Chunk chunk) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Position just after the first line break at {@code position - 1} or later, or the end of the file. For a
+     * position that already starts a line this is the position itself; for 0 it is the start of the second line.
+     */
+    private long nextLineStart(long position) throws IOException {
+        long scan = Math.max(0, position - 1);
+        while (scan < size) {
+            int length = (int) Math.min(SCAN_WINDOW, size - scan);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, scan, length);
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '\n') {
+                    return scan + i + 1;
+                }
+            }
+            scan += length;
+        }
+        return size;
+    }
+
+    private String decode(long from, long to) throws IOException {
+        if (to - from > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Header line is too long");
+        }
+        byte[] bytes = new byte[(int) (to - from)];
+        channel.map(FileChannel.MapMode.READ_ONLY, from, bytes.length).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bytes {@code [start, end)} of the file; {@code index} is the chunk's position in the file, from 0.
+     */
+    public record Chunk(int index, long start, long end) {
+
+        public int length() {
+            return (int) (end - start);
+        }
+    }
+}
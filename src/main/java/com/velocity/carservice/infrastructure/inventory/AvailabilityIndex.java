@@ -0,0 +1,424 @@
+package com.velocity.carservice.infrastructure.inventory;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Day-by-day availability of the fleet over a fixed horizon of days from {@code origin}, as bitsets with one bit
+ * per day.
+ * <ul>
+ *     <li>Every vehicle has a bitset of its booked days.</li>
+ *     <li>Every category has a bitset of the days on which at least one of its vehicles is free, recomputed
+ *         word by word as bookings change.</li>
+ * </ul>
+ * Whether a vehicle is free for a date range is one AND per 64 days; whether any vehicle of a category is,
+ * the same test on the category bitset, which rules out most fully booked ranges, then on its vehicles until
+ * one is free.
+ * <p>
+ * The index remembers the rental of every booking it holds, so a booking can be released by ID; releasing
+ * one rebuilds its vehicle's days from the remaining rentals, so overlapping bookings of one vehicle are
+ * handled. Rentals of vehicles not in the index, and days outside the horizon, are ignored. Thread-safe;
+ * queries share a read lock.
+ */
+public final class AvailabilityIndex {
+
+    private final LocalDate origin;
+    private final int days;
+    private final int words;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slotsByVehicle = new HashMap<>();
+    private final List<String> vehicleIds = new ArrayList<>();
+    private final List<VehicleCategory> vehicleCategories = new ArrayList<>();
+    private final List<long[]> bookedDays = new ArrayList<>();
+    private final List<List<Rental>> rentalsBySlot = new ArrayList<>();
+    private final Map<String, Rental> rentalsByBooking = new HashMap<>();
+    private final CategoryDays[] categories = new CategoryDays[VehicleCategory.values().length];
+
+    public AvailabilityIndex(LocalDate origin, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Availability horizon must be at least one day");
+        }
+        this.origin = origin;
+        this.days = days;
+        this.words = (days + 63) >>> 6;
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = new CategoryDays(new long[words]);
+        }
+    }
+
+    public LocalDate origin() {
+        return origin;
+    }
+
+    /**
+     * First day after the horizon.
+     */
+    public LocalDate end() {
+        return origin.plusDays(days);
+    }
+
+    /**
+     * Whether the index knows every day from {@code start} up to but excluding {@code end}.
+     */
+    public boolean covers(LocalDate start, LocalDate end) {
+        return !start.isBefore(origin) && !end.isAfter(end()) && start.isBefore(end);
+    }
+
+    /**
+     * Adds a vehicle, free on every day. Adding a vehicle already in the index does nothing.
+     */
+    public void addVehicle(String vehicleId, VehicleCategory category) {
+        lock.writeLock().lock();
+        try {
+            if (slotsByVehicle.containsKey(vehicleId)) {
+                return;
+            }
+            int slot = vehicleIds.size();
+            slotsByVehicle.put(vehicleId, slot);
+            vehicleIds.add(vehicleId);
+            vehicleCategories.add(category);
+            bookedDays.add(new long[words]);
+            rentalsBySlot.add(new ArrayList<>());
+            CategoryDays categoryDays = categories[category.ordinal()];
+            categoryDays.add(slot);
+            for (int word = 0; word < words; word++) {
+                categoryDays.freeDays[word] = wordMask(word);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the booking's days as taken. Applying the same booking again does nothing.
+     *
+     * @return false if the vehicle is not in the index or the rental is outside the horizon
+     */
+    public boolean reserve(VehicleRental rental) {
+        lock.writeLock().lock();
+        try {
+            if (rentalsByBooking.containsKey(rental.bookingId())) {
+                return true;
+            }
+            Integer slot = slotsByVehicle.get(rental.vehicleId());
+            int from = (int) Math.max(0, rental.rentalStartDate().toEpochDay() - origin.toEpochDay());
+            int to = (int) Math.min(days, rental.rentalEndDate().toEpochDay() - origin.toEpochDay());
+            if (slot == null || from >= to) {
+                return false;
+            }
+            Rental entry = new Rental(slot, from, to);
+            rentalsByBooking.put(rental.bookingId(), entry);
+            rentalsBySlot.get(slot).add(entry);
+            setRange(bookedDays.get(slot), from, to);
+            refreshCategory(slot, from, to);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Frees the booking's days, unless another booking of the vehicle also takes them.
+     *
+     * @return false if the index does not hold the booking
+     */
+    public boolean release(String bookingId) {
+        lock.writeLock().lock();
+        try {
+            Rental rental = rentalsByBooking.remove(bookingId);
+            if (rental == null) {
+                return false;
+            }
+            List<Rental> remaining = rentalsBySlot.get(rental.slot());
+            remaining.remove(rental);
+            long[] booked = bookedDays.get(rental.slot());
+            clearRange(booked, rental.from(), rental.to());
+            for (Rental other : remaining) {
+                if (other.from() < rental.to() && rental.from() < other.to()) {
+                    setRange(booked, Math.max(other.from(), rental.from()), Math.min(other.to(), rental.to()));
+                }
+            }
+            refreshCategory(rental.slot(), rental.from(), rental.to());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean holdsBooking(String bookingId) {
+        lock.readLock().lock();
+        try {
+            return rentalsByBooking.containsKey(bookingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean hasVehicle(String vehicleId) {
+        lock.readLock().lock();
+        try {
+            return slotsByVehicle.containsKey(vehicleId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the vehicle is free on every day from {@code start} up to but excluding {@code end}.
+     *
+     * @throws IllegalArgumentException if the vehicle is not in the index or the range is not covered
+     */
+    public boolean isVehicleFree(String vehicleId, LocalDate start, LocalDate end) {
+        int from = dayIndex(start, end);
+        int to = from + (int) (end.toEpochDay() - start.toEpochDay());
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByVehicle.get(vehicleId);
+            if (slot == null) {
+                throw new IllegalArgumentException("Vehicle " + vehicleId + " is not in the inventory");
+            }
+            return noneSet(bookedDays.get(slot), from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether any vehicle of the category is free on every day from {@code start} up to but excluding
+     * {@code end}.
+     *
+     * @throws IllegalArgumentException if the range is not covered
+     */
+    public boolean anyFree(VehicleCategory category, LocalDate start, LocalDate end) {
+        return !freeVehicles(category, start, end, 1).isEmpty();
+    }
+
+    /**
+     * Vehicles of the category free on every day from {@code start} up to but excluding {@code end}, in the
+     * order they were added.
+     *
+     * @param limit maximum number of vehicles to return
+     * @throws IllegalArgumentException if the range is not covered
+     */
+    public List<String> freeVehicles(VehicleCategory category, LocalDate start, LocalDate end, int limit) {
+        int from = dayIndex(start, end);
+        int to = from + (int) (end.toEpochDay() - start.toEpochDay());
+        lock.readLock().lock();
+        try {
+            CategoryDays categoryDays = categories[category.ordinal()];
+            List<String> free = new ArrayList<>();
+            if (!allSet(categoryDays.freeDays, from, to)) {
+                return free;
+            }
+            for (int i = 0; i < categoryDays.size && free.size() < limit; i++) {
+                int slot = categoryDays.slots[i];
+                if (noneSet(bookedDays.get(slot), from, to)) {
+                    free.add(vehicleIds.get(slot));
+                }
+            }
+            return free;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the vehicles of the category free on every day from {@code start} up to but excluding {@code end},
+     * and lists the first {@code limit} of them.
+     *
+     * @throws IllegalArgumentException if the range is not covered
+     */
+    public CategoryAvailability availability(VehicleCategory category, LocalDate start, LocalDate end, int limit) {
+        int from = dayIndex(start, end);
+        int to = from + (int) (end.toEpochDay() - start.toEpochDay());
+        lock.readLock().lock();
+        try {
+            CategoryDays categoryDays = categories[category.ordinal()];
+            List<String> free = new ArrayList<>();
+            int freeCount = 0;
+            if (allSet(categoryDays.freeDays, from, to)) {
+                for (int i = 0; i < categoryDays.size; i++) {
+                    int slot = categoryDays.slots[i];
+                    if (noneSet(bookedDays.get(slot), from, to)) {
+                        if (freeCount++ < limit) {
+                            free.add(vehicleIds.get(slot));
+                        }
+                    }
+                }
+            }
+            return new CategoryAvailability(category, categoryDays.size, freeCount, free);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of vehicles of the category free on every day from {@code start} up to but excluding {@code end}.
+     *
+     * @throws IllegalArgumentException if the range is not covered
+     */
+    public int countFree(VehicleCategory category, LocalDate start, LocalDate end) {
+        return availability(category, start, end, 0).freeCount();
+    }
+
+    public int vehicleCount(VehicleCategory category) {
+        lock.readLock().lock();
+        try {
+            return categories[category.ordinal()].size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int bookingCount() {
+        lock.readLock().lock();
+        try {
+            return rentalsByBooking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of the bookings this index holds that take any day from {@code start} up to but excluding {@code end}.
+     */
+    public Set<String> bookingIds(LocalDate start, LocalDate end) {
+        long from = start.toEpochDay() - origin.toEpochDay();
+        long to = end.toEpochDay() - origin.toEpochDay();
+        lock.readLock().lock();
+        try {
+            Set<String> bookingIds = new HashSet<>();
+            rentalsByBooking.forEach((bookingId, rental) -> {
+                if (rental.from() < to && from < rental.to()) {
+                    bookingIds.add(bookingId);
+                }
+            });
+            return bookingIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int dayIndex(LocalDate start, LocalDate end) {
+        if (!covers(start, end)) {
+            throw new IllegalArgumentException("Dates " + start + " to " + end + " are outside the availability "
+                    + "horizon " + origin + " to " + end());
+        }
+        return (int) (start.toEpochDay() - origin.toEpochDay());
+    }
+
+    /**
+     * Recomputes the category's free days in the words spanning {@code from} to {@code to}.
+     */
+    private void refreshCategory(int slot, int from, int to) {
+        CategoryDays categoryDays = categories[vehicleCategories.get(slot).ordinal()];
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long free = 0;
+            long valid = wordMask(word);
+            for (int i = 0; i < categoryDays.size && free != valid; i++) {
+                free |= ~bookedDays.get(categoryDays.slots[i])[word];
+            }
+            categoryDays.freeDays[word] = free & valid;
+        }
+    }
+
+    /**
+     * Bits of the word that fall inside the horizon.
+     */
+    private long wordMask(int word) {
+        int remaining = days - (word << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            bits[word] |= rangeMask(word, from, to);
+        }
+    }
+
+    private static void clearRange(long[] bits, int from, int to) {
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            bits[word] &= ~rangeMask(word, from, to);
+        }
+    }
+
+    private static boolean noneSet(long[] bits, int from, int to) {
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            if ((bits[word] & rangeMask(word, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allSet(long[] bits, int from, int to) {
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long mask = rangeMask(word, from, to);
+            if ((bits[word] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bits of the word that fall in {@code from} to {@code to}, which must overlap the word.
+     */
+    private static long rangeMask(int word, int from, int to) {
+        int first = word << 6;
+        long mask = -1L;
+        if (from > first) {
+            mask &= -1L << (from - first);
+        }
+        if (to < first + 64) {
+            mask &= -1L >>> (first + 64 - to);
+        }
+        return mask;
+    }
+
+    /**
+     * @param fleetSize    vehicles of the category in the index
+     * @param freeCount    how many of them are free for the whole range
+     * @param vehicleIds   the first of the free vehicles, in the order they were added
+     */
+    public record CategoryAvailability(
+            VehicleCategory category,
+            int fleetSize,
+            int freeCount,
+            List<String> vehicleIds
+    ) {
+    }
+
+    private record Rental(int slot, int from, int to) {
+    }
+
+    private static final class CategoryDays {
+
+        private final long[] freeDays;
+        private int[] slots = new int[16];
+        private int size;
+
+        private CategoryDays(long[] freeDays) {
+            this.freeDays = freeDays;
+        }
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
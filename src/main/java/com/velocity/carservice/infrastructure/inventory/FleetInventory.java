@@ -0,0 +1,173 @@
+package com.velocity.carservice.infrastructure.inventory;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.Vehicle;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.events.BookingEventSink;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.infrastructure.repository.VehicleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * This node's {@link AvailabilityIndex} of the active fleet, over {@code app.inventory.horizon-days} from today.
+ * <ul>
+ *     <li>Built from the {@code vehicles} table and the bookings in the horizon at startup, and reconciled
+ *         with the database by rebuilding it periodically, which also moves the horizon forward and repairs
+ *         the index if an event was lost.</li>
+ *     <li>Kept current by the broadcast booking events, so bookings made on any node update it without a
+ *         database query: a cancellation releases the booking's days, and a creation event reserves the rental
+ *         it carries, unless its vehicle is not part of the fleet.</li>
+ * </ul>
+ * Until the first build completes nothing is known and every query returns empty. The index can lag the
+ * database by an event's delivery time, so it answers searches; the booking path still checks the database.
+ */
+@Component
+@Slf4j
+public class FleetInventory implements BookingEventSink {
+
+    private final VehicleRepository vehicleRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BookingMetrics bookingMetrics;
+    private final int horizonDays;
+
+    private volatile AvailabilityIndex index;
+    private volatile AvailabilityIndex indexUnderConstruction;
+    private final Set<String> releasedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public FleetInventory(
+            VehicleRepository vehicleRepository,
+            BookingRepository bookingRepository,
+            PlatformTransactionManager transactionManager,
+            BookingMetrics bookingMetrics,
+            @Value("${app.inventory.horizon-days:365}") int horizonDays) {
+        this.vehicleRepository = vehicleRepository;
+        this.bookingRepository = bookingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bookingMetrics = bookingMetrics;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * @return the current index, or empty until the first build completes
+     */
+    public Optional<AvailabilityIndex> index() {
+        return Optional.ofNullable(index);
+    }
+
+    /**
+     * Whether any vehicle of the category is free from {@code start} up to but excluding {@code end}.
+     *
+     * @return empty if the index is not built yet or the dates are outside its horizon
+     */
+    public Optional<Boolean> anyFree(VehicleCategory category, LocalDate start, LocalDate end) {
+        AvailabilityIndex current = index;
+        if (current == null || !current.covers(start, end)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.anyFree(category, start, end));
+    }
+
+    @Override
+    public void deliver(BookingStatusChangedEvent event) {
+        AvailabilityIndex current = index;
+        AvailabilityIndex building = indexUnderConstruction;
+        if (event.status() == BookingStatus.CANCELLED) {
+            release(current, event.bookingId());
+            // A rebuild's scan may still pick up the booking from before it was cancelled
+            if (building != null) {
+                releasedDuringRebuild.add(event.bookingId());
+                building.release(event.bookingId());
+            }
+            return;
+        }
+        VehicleRental rental = event.rental();
+        if (rental == null) {
+            return;
+        }
+        reserve(current, rental);
+        reserve(building, rental);
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in. Bookings the new index disagrees with the current
+     * one about, within the dates both cover, were missed by the event stream and are reported as drift.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.rebuild-interval:900000}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        AvailabilityIndex fresh = new AvailabilityIndex(today, horizonDays);
+        releasedDuringRebuild.clear();
+        indexUnderConstruction = fresh;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                List<Vehicle> vehicles = vehicleRepository.findByActiveTrue();
+                if (vehicles.isEmpty()) {
+                    log.warn("No active vehicles are registered; availability searches will find none");
+                }
+                vehicles.forEach(vehicle -> fresh.addVehicle(vehicle.getVehicleId(), vehicle.getVehicleCategory()));
+                try (Stream<VehicleRental> rentals = bookingRepository.streamActiveRentals(today, fresh.end())) {
+                    rentals.forEach(fresh::reserve);
+                }
+            });
+            releasedDuringRebuild.forEach(fresh::release);
+            AvailabilityIndex previous = index;
+            index = fresh;
+            if (previous != null) {
+                reportDrift(previous, fresh);
+            }
+            log.info("Rebuilt fleet inventory with {} bookings from {} to {} in {} ms", fresh.bookingCount(),
+                    fresh.origin(), fresh.end(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild fleet inventory, keeping the previous one: {}", e.getMessage());
+        } finally {
+            indexUnderConstruction = null;
+            releasedDuringRebuild.clear();
+        }
+    }
+
+    private void reportDrift(AvailabilityIndex previous, AvailabilityIndex fresh) {
+        LocalDate end = previous.end().isBefore(fresh.end()) ? previous.end() : fresh.end();
+        if (!fresh.origin().isBefore(end)) {
+            return;
+        }
+        Set<String> held = previous.bookingIds(fresh.origin(), end);
+        Set<String> actual = fresh.bookingIds(fresh.origin(), end);
+        int missedReservations = (int) actual.stream().filter(bookingId -> !held.contains(bookingId)).count();
+        int missedReleases = (int) held.stream().filter(bookingId -> !actual.contains(bookingId)).count();
+        bookingMetrics.recordInventoryDrift(missedReservations, missedReleases);
+        if (missedReservations > 0 || missedReleases > 0) {
+            log.warn("Fleet inventory had drifted from the database: {} bookings missing, {} stale",
+                    missedReservations, missedReleases);
+        }
+    }
+
+    private static void reserve(AvailabilityIndex target, VehicleRental rental) {
+        if (target != null) {
+            target.reserve(rental);
+        }
+    }
+
+    private static void release(AvailabilityIndex target, String bookingId) {
+        if (target != null) {
+            target.release(bookingId);
+        }
+    }
+}
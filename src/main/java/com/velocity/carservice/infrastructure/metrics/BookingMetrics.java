@@ -4,11 +4,13 @@ import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.domain.model.VehicleCategory;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Custom metrics for car booking service observability.
@@ -108,6 +110,14 @@ public class BookingMetrics {
         bookingCreationTimer.record(durationMs, TimeUnit.MILLISECONDS);
     }
 
+    public void incrementUnknownBookingLookupsRejected(String source) {
+        Counter.builder(METRIC_PREFIX + "unknown_booking_lookups_rejected_total")
+                .description("Lookups of non-existent booking IDs answered without a database query")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
     // ==================== Payment Metrics ====================
 
     public void incrementPaymentEventsReceived() {
@@ -130,6 +140,30 @@ public class BookingMetrics {
         paymentValidationTimer.record(durationMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Records one batch of a bank statement file: its lines, and how long reading and applying them took.
+     */
+    public void recordStatementBatch(String format, int lines, long durationNanos) {
+        Counter.builder(METRIC_PREFIX + "statement_lines_total")
+                .description("Lines of bank statement files processed")
+                .tag("format", format)
+                .register(meterRegistry)
+                .increment(lines);
+        Timer.builder(METRIC_PREFIX + "statement_batch_duration_seconds")
+                .description("Time to read and apply one batch of a bank statement file")
+                .tag("format", format)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStatementFile(String format, long bytes) {
+        Counter.builder(METRIC_PREFIX + "statement_bytes_total")
+                .description("Bytes of bank statement files processed")
+                .tag("format", format)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+
     // ==================== Status Gauge ====================
 
     public void recordBookingStatusChange(BookingStatus oldStatus, BookingStatus newStatus) {
@@ -137,5 +171,73 @@ public class BookingMetrics {
             incrementBookingsConfirmed(PaymentMode.BANK_TRANSFER);
         }
     }
-}
 
+    // ==================== Inventory Metrics ====================
+
+    /**
+     * Records what a reconciliation of the fleet inventory with the database found missing: bookings the
+     * inventory did not have, and cancelled or deleted bookings it still had.
+     */
+    public void recordInventoryDrift(int missedReservations, int missedReleases) {
+        inventoryDriftCounter("missed_reservation").increment(missedReservations);
+        inventoryDriftCounter("missed_release").increment(missedReleases);
+    }
+
+    public void recordAvailabilityLookup(long durationNanos) {
+        Timer.builder(METRIC_PREFIX + "availability_lookup_duration_seconds")
+                .description("Time to answer an availability search from the fleet inventory")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ==================== Cache Metrics ====================
+
+    public void recordCacheRequests(String cache, int hits, int misses) {
+        if (hits > 0) {
+            cacheRequestCounter(cache, "hit").increment(hits);
+        }
+        if (misses > 0) {
+            cacheRequestCounter(cache, "miss").increment(misses);
+        }
+    }
+
+    public void recordCacheLatency(String cache, String operation, long durationNanos) {
+        Timer.builder(METRIC_PREFIX + "cache_latency")
+                .description("Round trip of cache operations")
+                .tag("cache", cache)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers gauges for a cache's sampled size; the caller keeps updating the two values.
+     */
+    public void registerCacheSize(String cache, AtomicLong entries, AtomicLong bytes) {
+        Gauge.builder(METRIC_PREFIX + "cache_entries", entries, AtomicLong::get)
+                .description("Estimated number of entries in the cache")
+                .tag("cache", cache)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "cache_size_bytes", bytes, AtomicLong::get)
+                .description("Estimated key and value bytes held by the cache, excluding Redis overhead")
+                .tag("cache", cache)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private Counter inventoryDriftCounter(String kind) {
+        return Counter.builder(METRIC_PREFIX + "inventory_drift_total")
+                .description("Bookings the fleet inventory had wrong, found when reconciling with the database")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private Counter cacheRequestCounter(String cache, String result) {
+        return Counter.builder(METRIC_PREFIX + "cache_requests_total")
+                .description("Cache lookups by result")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
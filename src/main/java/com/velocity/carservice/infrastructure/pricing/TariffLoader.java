@@ -0,0 +1,82 @@
+package com.velocity.carservice.infrastructure.pricing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.Tariff;
+import com.velocity.carservice.domain.service.PricingEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the tariff from {@code app.pricing.tariff-location} into the {@link PricingEngine} at startup, and
+ * reloads it whenever the file's modification time changes.
+ * <p>
+ * Point the location at a file (e.g. {@code file:/etc/car-booking/tariff.json}) to update tariffs without a
+ * restart. Startup fails if the initial tariff cannot be loaded; a later update that cannot be read or fails
+ * validation is logged and the previous tariff stays in effect until the file is fixed.
+ */
+@Component
+@Slf4j
+public class TariffLoader {
+
+    private final PricingEngine pricingEngine;
+    private final ObjectMapper objectMapper;
+    private final Resource tariffResource;
+    private volatile long loadedModified;
+
+    public TariffLoader(
+            PricingEngine pricingEngine,
+            ObjectMapper objectMapper,
+            ResourceLoader resourceLoader,
+            @Value("${app.pricing.tariff-location:classpath:pricing/tariff.json}") String tariffLocation)
+            throws IOException {
+        this.pricingEngine = pricingEngine;
+        this.objectMapper = objectMapper;
+        this.tariffResource = resourceLoader.getResource(tariffLocation);
+        load(lastModified());
+    }
+
+    /**
+     * Reloads the tariff if the file changed since it was last loaded.
+     *
+     * @return true if a new tariff was loaded
+     */
+    @Scheduled(initialDelayString = "${app.pricing.reload-interval:30000}",
+            fixedDelayString = "${app.pricing.reload-interval:30000}")
+    public boolean reloadIfChanged() {
+        long modified = lastModified();
+        if (modified == loadedModified) {
+            return false;
+        }
+        try {
+            load(modified);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Tariff update from {} rejected, keeping tariff {}: {}",
+                    tariffResource, pricingEngine.tariffVersion(), e.getMessage());
+            loadedModified = modified;
+            return false;
+        }
+    }
+
+    private void load(long modified) throws IOException {
+        try (InputStream in = tariffResource.getInputStream()) {
+            pricingEngine.load(objectMapper.readValue(in, Tariff.class));
+        }
+        loadedModified = modified;
+    }
+
+    private long lastModified() {
+        try {
+            return tariffResource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
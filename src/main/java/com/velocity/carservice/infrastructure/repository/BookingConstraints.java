@@ -0,0 +1,28 @@
+package com.velocity.carservice.infrastructure.repository;
+
+import java.sql.SQLException;
+
+/**
+ * Recognises violations of the database constraints on {@code bookings} that callers answer as business errors.
+ */
+public final class BookingConstraints {
+
+    /** SQLState of an exclusion constraint violation in PostgreSQL. */
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private BookingConstraints() {
+    }
+
+    /**
+     * True when {@code e} was caused by inserting an active booking whose vehicle is already booked for
+     * overlapping dates (V9 {@code bookings_vehicle_rental_no_overlap}).
+     */
+    public static boolean isVehicleOverlap(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
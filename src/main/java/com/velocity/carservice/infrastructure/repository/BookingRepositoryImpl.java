@@ -1,30 +1,64 @@
 package com.velocity.carservice.infrastructure.repository;
 
 import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
 import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleRental;
 import com.velocity.carservice.domain.repository.BookingRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Hibernate-backed {@link BookingRepository}. Active unless
+ * {@code app.persistence.booking-repository} selects the plain-JDBC implementation.
+ */
 @Repository
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.persistence.booking-repository", havingValue = "jpa", matchIfMissing = true)
 public class BookingRepositoryImpl implements BookingRepository {
 
     private static final int AUTO_CANCEL_DAYS_BEFORE_RENTAL = 2;
 
     private final JpaBookingRepository jpaBookingRepository;
+    private final EntityManager entityManager;
+    private final int streamFetchSize;
+
+    public BookingRepositoryImpl(JpaBookingRepository jpaBookingRepository,
+                                 EntityManager entityManager,
+                                 @Value("${app.persistence.stream-fetch-size:500}") int streamFetchSize) {
+        this.jpaBookingRepository = jpaBookingRepository;
+        this.entityManager = entityManager;
+        this.streamFetchSize = streamFetchSize;
+    }
 
     @Override
     public Booking save(Booking booking) {
         return jpaBookingRepository.save(booking);
     }
 
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        // Inserts are flushed as JDBC batches (spring.jpa.properties.hibernate.jdbc.batch_size)
+        return jpaBookingRepository.saveAll(bookings);
+    }
+
     @Override
     public Optional<Booking> findById(UUID id) {
         return jpaBookingRepository.findById(id);
@@ -35,6 +69,45 @@ public class BookingRepositoryImpl implements BookingRepository {
         return jpaBookingRepository.findByBookingId(bookingId);
     }
 
+    @Override
+    public Optional<BookingStatusView> findStatusByBookingId(String bookingId) {
+        return jpaBookingRepository.findStatusByBookingId(bookingId);
+    }
+
+    @Override
+    public List<BookingStatusView> cancelAllIfPending(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> pending = jpaBookingRepository.findStatusesByBookingIdIn(bookingIds).stream()
+                .filter(view -> view.status() == BookingStatus.PENDING_PAYMENT)
+                .map(BookingStatusView::bookingId)
+                .toList();
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        jpaBookingRepository.cancelAllIfPending(pending, BookingStatus.PENDING_PAYMENT, BookingStatus.CANCELLED);
+        return jpaBookingRepository.findStatusesByBookingIdIn(pending).stream()
+                .filter(view -> view.status() == BookingStatus.CANCELLED)
+                .toList();
+    }
+
+    @Override
+    public List<BookingStatusView> findStatusesByBookingIds(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaBookingRepository.findStatusesByBookingIdIn(bookingIds);
+    }
+
+    @Override
+    public List<Booking> findByBookingIds(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaBookingRepository.findByBookingIdIn(bookingIds);
+    }
+
     @Override
     public List<Booking> findByStatus(BookingStatus status) {
         return jpaBookingRepository.findByStatus(status);
@@ -45,6 +118,100 @@ public class BookingRepositoryImpl implements BookingRepository {
         return jpaBookingRepository.findByPaymentModeAndStatus(paymentMode, status);
     }
 
+    @Override
+    public List<BookingSummary> findSummariesByStatus(BookingStatus status, String afterBookingId, int limit) {
+        return jpaBookingRepository.findSummariesByStatus(status, keysetStart(afterBookingId), Limit.of(limit));
+    }
+
+    @Override
+    public List<BookingSummary> findSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status,
+                                                                    String afterBookingId, int limit) {
+        return jpaBookingRepository.findSummariesByPaymentModeAndStatus(
+                paymentMode, status, keysetStart(afterBookingId), Limit.of(limit));
+    }
+
+    @Override
+    public Stream<BookingSummary> streamSummariesByStatus(BookingStatus status) {
+        return stream(JpaBookingRepository.SUMMARY_SELECT + "WHERE b.status = :status ORDER BY b.bookingId",
+                BookingSummary.class)
+                .setParameter("status", status)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<BookingSummary> streamSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status) {
+        return stream(JpaBookingRepository.SUMMARY_SELECT
+                + "WHERE b.paymentMode = :paymentMode AND b.status = :status ORDER BY b.bookingId", BookingSummary.class)
+                .setParameter("paymentMode", paymentMode)
+                .setParameter("status", status)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<VehicleRental> streamActiveRentals(LocalDate from, LocalDate to) {
+        return stream("SELECT new com.velocity.carservice.domain.model.VehicleRental("
+                + "b.bookingId, b.vehicleId, b.rentalStartDate, b.rentalEndDate) FROM Booking b "
+                + "WHERE b.status <> 'CANCELLED' AND b.rentalStartDate < :to AND b.rentalEndDate > :from",
+                VehicleRental.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultStream();
+    }
+
+    /**
+     * A read-only query fetching {@code app.persistence.stream-fetch-size} rows per round trip, as the JDBC
+     * implementation does.
+     */
+    private <T> TypedQuery<T> stream(String jpql, Class<T> type) {
+        return entityManager.createQuery(jpql, type)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    @Override
+    public List<BookingSummary> searchSummaries(BookingSearchCriteria criteria, BookingKeyset after, int limit) {
+        StringBuilder jpql = new StringBuilder(JpaBookingRepository.SUMMARY_SELECT).append("WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        // Only bind the filters that are present so the planner can pick the matching index
+        if (criteria.customerName() != null) {
+            jpql.append(" AND b.customerName = :customerName");
+            params.put("customerName", criteria.customerName());
+        }
+        if (criteria.vehicleId() != null) {
+            jpql.append(" AND b.vehicleId = :vehicleId");
+            params.put("vehicleId", criteria.vehicleId());
+        }
+        if (criteria.status() != null) {
+            jpql.append(" AND b.status = :status");
+            params.put("status", criteria.status());
+        }
+        if (criteria.paymentMode() != null) {
+            jpql.append(" AND b.paymentMode = :paymentMode");
+            params.put("paymentMode", criteria.paymentMode());
+        }
+        if (criteria.rentalFrom() != null) {
+            jpql.append(" AND b.rentalStartDate >= :rentalFrom");
+            params.put("rentalFrom", criteria.rentalFrom());
+        }
+        if (criteria.rentalTo() != null) {
+            jpql.append(" AND b.rentalStartDate <= :rentalTo");
+            params.put("rentalTo", criteria.rentalTo());
+        }
+        if (after != null) {
+            // A row-value comparison, as in the JDBC repository, so the planner seeks the
+            // (rental_start_date, booking_id) index instead of filtering an OR
+            jpql.append(" AND (b.rentalStartDate, b.bookingId) > (:afterDate, :afterBookingId)");
+            params.put("afterDate", after.rentalStartDate());
+            params.put("afterBookingId", after.bookingId());
+        }
+        jpql.append(" ORDER BY b.rentalStartDate, b.bookingId");
+
+        TypedQuery<BookingSummary> query = entityManager.createQuery(jpql.toString(), BookingSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
     @Override
     public List<Booking> findPendingBankTransferBookingsBeforeDate(LocalDate date) {
         return jpaBookingRepository.findPendingBankTransferBookingsBeforeDate(date);
@@ -55,6 +222,20 @@ public class BookingRepositoryImpl implements BookingRepository {
         return jpaBookingRepository.existsByBookingId(bookingId);
     }
 
+    @Override
+    public boolean existsActiveBookingForVehicle(String vehicleId, LocalDate startDate, LocalDate endDate) {
+        return jpaBookingRepository.existsActiveBookingForVehicle(vehicleId, startDate, endDate);
+    }
+
+    @Override
+    public List<String> findVehicleIdsWithActiveBookings(Collection<String> vehicleIds, LocalDate startDate,
+                                                         LocalDate endDate) {
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaBookingRepository.findVehicleIdsWithActiveBookings(vehicleIds, startDate, endDate);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaBookingRepository.deleteById(id);
@@ -68,9 +249,23 @@ public class BookingRepositoryImpl implements BookingRepository {
         return jpaBookingRepository.batchUpdateStatus(bookingIds, newStatus);
     }
 
+    @Override
+    public Optional<BookingStatusView> cancelIfPending(String bookingId) {
+        int updated = jpaBookingRepository.cancelIfPending(
+                bookingId, BookingStatus.PENDING_PAYMENT, BookingStatus.CANCELLED);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jpaBookingRepository.findStatusByBookingId(bookingId);
+    }
+
     @Override
     public List<String> findBookingIdsForAutoCancellation(int daysBeforeRental) {
         LocalDate deadline = LocalDate.now().plusDays(daysBeforeRental);
         return jpaBookingRepository.findBookingIdsForAutoCancellation(deadline);
     }
+
+    private static String keysetStart(String afterBookingId) {
+        return afterBookingId != null ? afterBookingId : "";
+    }
 }
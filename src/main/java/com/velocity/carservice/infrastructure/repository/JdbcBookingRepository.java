@@ -0,0 +1,491 @@
+package com.velocity.carservice.infrastructure.repository;
+
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleRental;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Plain-JDBC {@link BookingRepository} for the hot paths (lookup, cancel, status projection,
+ * batch status updates). Uses hand-written PostgreSQL statements, so there is no entity
+ * hydration, dirty checking or merge on save.
+ *
+ * Enabled with {@code app.persistence.booking-repository=jdbc}. Requires PostgreSQL
+ * ({@code RETURNING}, {@code = ANY(array)}).
+ */
+@Repository
+@ConditionalOnProperty(name = "app.persistence.booking-repository", havingValue = "jdbc")
+public class JdbcBookingRepository implements BookingRepository {
+
+    private static final String BOOKING_COLUMNS = """
+            id, booking_id, customer_name, vehicle_id, vehicle_category, rental_start_date,
+            rental_end_date, payment_mode, payment_reference, status, payment_amount,
+            amount_received, version, created_at, updated_at
+            """;
+
+    private static final String SELECT_BOOKINGS = "SELECT " + BOOKING_COLUMNS + " FROM bookings ";
+
+    private static final String INSERT_BOOKING = """
+            INSERT INTO bookings (id, booking_id, customer_name, vehicle_id, vehicle_category,
+                                  rental_start_date, rental_end_date, payment_mode, payment_reference,
+                                  status, payment_amount, amount_received, version, created_at, updated_at)
+            VALUES (:id, :bookingId, :customerName, :vehicleId, :vehicleCategory,
+                    :rentalStartDate, :rentalEndDate, :paymentMode, :paymentReference,
+                    :status, :paymentAmount, :amountReceived, :version, :createdAt, :updatedAt)
+            """;
+
+    private static final String UPDATE_BOOKING = """
+            UPDATE bookings
+            SET customer_name = :customerName, vehicle_id = :vehicleId, vehicle_category = :vehicleCategory,
+                rental_start_date = :rentalStartDate, rental_end_date = :rentalEndDate,
+                payment_mode = :paymentMode, payment_reference = :paymentReference, status = :status,
+                payment_amount = :paymentAmount, amount_received = :amountReceived,
+                version = version + 1, updated_at = :updatedAt
+            WHERE id = :id AND version = :version
+            """;
+
+    private static final String CANCEL_IF_PENDING = """
+            UPDATE bookings
+            SET status = 'CANCELLED', version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE booking_id = :bookingId AND status = 'PENDING_PAYMENT'
+            RETURNING booking_id, status, version
+            """;
+
+    private static final String CANCEL_ALL_IF_PENDING = """
+            UPDATE bookings
+            SET status = 'CANCELLED', version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE booking_id = ANY(:bookingIds) AND status = 'PENDING_PAYMENT'
+            RETURNING booking_id, status, version
+            """;
+
+    private static final String BATCH_UPDATE_STATUS = """
+            UPDATE bookings
+            SET status = :newStatus, version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE booking_id = ANY(:bookingIds)
+            """;
+
+    private static final String SELECT_SUMMARIES = """
+            SELECT booking_id, customer_name, vehicle_id, vehicle_category, rental_start_date,
+                   rental_end_date, payment_mode, status
+            FROM bookings
+            """;
+
+    private static final String PENDING_BANK_TRANSFER_FILTER = """
+            WHERE payment_mode = 'BANK_TRANSFER'
+              AND status = 'PENDING_PAYMENT'
+              AND rental_start_date <= :deadline
+            """;
+
+    private static final RowMapper<Booking> BOOKING_ROW_MAPPER = (rs, rowNum) -> Booking.builder()
+            .id(rs.getObject("id", UUID.class))
+            .bookingId(rs.getString("booking_id"))
+            .customerName(rs.getString("customer_name"))
+            .vehicleId(rs.getString("vehicle_id"))
+            .vehicleCategory(VehicleCategory.valueOf(rs.getString("vehicle_category")))
+            .rentalStartDate(rs.getObject("rental_start_date", LocalDate.class))
+            .rentalEndDate(rs.getObject("rental_end_date", LocalDate.class))
+            .paymentMode(PaymentMode.valueOf(rs.getString("payment_mode")))
+            .paymentReference(rs.getString("payment_reference"))
+            .status(BookingStatus.valueOf(rs.getString("status")))
+            .paymentAmount(rs.getBigDecimal("payment_amount"))
+            .amountReceived(rs.getBigDecimal("amount_received"))
+            .version(rs.getLong("version"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private static final RowMapper<BookingStatusView> STATUS_VIEW_ROW_MAPPER = (rs, rowNum) ->
+            new BookingStatusView(
+                    rs.getString("booking_id"),
+                    BookingStatus.valueOf(rs.getString("status")),
+                    rs.getLong("version"));
+
+    private static final RowMapper<BookingSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> new BookingSummary(
+            rs.getString("booking_id"),
+            rs.getString("customer_name"),
+            rs.getString("vehicle_id"),
+            VehicleCategory.valueOf(rs.getString("vehicle_category")),
+            rs.getObject("rental_start_date", LocalDate.class),
+            rs.getObject("rental_end_date", LocalDate.class),
+            PaymentMode.valueOf(rs.getString("payment_mode")),
+            BookingStatus.valueOf(rs.getString("status")));
+
+    private final JdbcClient jdbcClient;
+    private final JdbcClient streamingJdbcClient;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public JdbcBookingRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.persistence.stream-fetch-size:500}") int streamFetchSize) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        // PostgreSQL only opens a server-side cursor when a fetch size is set (and inside a transaction)
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(streamFetchSize);
+        this.streamingJdbcClient = JdbcClient.create(streamingTemplate);
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        LocalDateTime now = LocalDateTime.now();
+        if (booking.getId() == null) {
+            booking.setId(UUID.randomUUID());
+            booking.setVersion(0L);
+            booking.setCreatedAt(now);
+            booking.setUpdatedAt(now);
+            namedParameterJdbcTemplate.update(INSERT_BOOKING, insertParameters(booking));
+            return booking;
+        }
+
+        int updated = jdbcClient.sql(UPDATE_BOOKING)
+                .param("id", booking.getId())
+                .param("customerName", booking.getCustomerName())
+                .param("vehicleId", booking.getVehicleId())
+                .param("vehicleCategory", booking.getVehicleCategory().name())
+                .param("rentalStartDate", booking.getRentalStartDate())
+                .param("rentalEndDate", booking.getRentalEndDate())
+                .param("paymentMode", booking.getPaymentMode().name())
+                .param("paymentReference", booking.getPaymentReference())
+                .param("status", booking.getStatus().name())
+                .param("paymentAmount", booking.getPaymentAmount())
+                .param("amountReceived", booking.getAmountReceived())
+                .param("version", booking.getVersion())
+                .param("updatedAt", now)
+                .update();
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(
+                    "Booking " + booking.getBookingId() + " was updated concurrently (version " + booking.getVersion() + ")");
+        }
+        booking.setVersion(booking.getVersion() + 1);
+        booking.setUpdatedAt(now);
+        return booking;
+    }
+
+    /**
+     * Sends every insert in one JDBC batch; with {@code reWriteBatchedInserts=true} on the PostgreSQL driver
+     * the batch is a single multi-row statement.
+     */
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = new SqlParameterSource[bookings.size()];
+        for (int i = 0; i < batch.length; i++) {
+            Booking booking = bookings.get(i);
+            booking.setId(UUID.randomUUID());
+            booking.setVersion(0L);
+            booking.setCreatedAt(now);
+            booking.setUpdatedAt(now);
+            batch[i] = insertParameters(booking);
+        }
+        namedParameterJdbcTemplate.batchUpdate(INSERT_BOOKING, batch);
+        return bookings;
+    }
+
+    @Override
+    public Optional<Booking> findById(UUID id) {
+        return jdbcClient.sql(SELECT_BOOKINGS + "WHERE id = :id")
+                .param("id", id)
+                .query(BOOKING_ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public Optional<Booking> findByBookingId(String bookingId) {
+        return jdbcClient.sql(SELECT_BOOKINGS + "WHERE booking_id = :bookingId")
+                .param("bookingId", bookingId)
+                .query(BOOKING_ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public Optional<BookingStatusView> findStatusByBookingId(String bookingId) {
+        return jdbcClient.sql("SELECT booking_id, status, version FROM bookings WHERE booking_id = :bookingId")
+                .param("bookingId", bookingId)
+                .query(STATUS_VIEW_ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<BookingStatusView> cancelAllIfPending(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(CANCEL_ALL_IF_PENDING)
+                .param("bookingIds", bookingIds.toArray(String[]::new))
+                .query(STATUS_VIEW_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<BookingStatusView> findStatusesByBookingIds(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT booking_id, status, version FROM bookings WHERE booking_id = ANY(:bookingIds)")
+                .param("bookingIds", bookingIds.toArray(String[]::new))
+                .query(STATUS_VIEW_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<Booking> findByBookingIds(Collection<String> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(SELECT_BOOKINGS + "WHERE booking_id = ANY(:bookingIds)")
+                .param("bookingIds", bookingIds.toArray(String[]::new))
+                .query(BOOKING_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<Booking> findByStatus(BookingStatus status) {
+        return jdbcClient.sql(SELECT_BOOKINGS + "WHERE status = :status")
+                .param("status", status.name())
+                .query(BOOKING_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<Booking> findByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status) {
+        return jdbcClient.sql(SELECT_BOOKINGS + "WHERE payment_mode = :paymentMode AND status = :status")
+                .param("paymentMode", paymentMode.name())
+                .param("status", status.name())
+                .query(BOOKING_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<BookingSummary> findSummariesByStatus(BookingStatus status, String afterBookingId, int limit) {
+        return jdbcClient.sql(SELECT_SUMMARIES +
+                        "WHERE status = :status AND booking_id > :after ORDER BY booking_id LIMIT :limit")
+                .param("status", status.name())
+                .param("after", keysetStart(afterBookingId))
+                .param("limit", limit)
+                .query(SUMMARY_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<BookingSummary> findSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status,
+                                                                    String afterBookingId, int limit) {
+        return jdbcClient.sql(SELECT_SUMMARIES +
+                        "WHERE payment_mode = :paymentMode AND status = :status AND booking_id > :after " +
+                        "ORDER BY booking_id LIMIT :limit")
+                .param("paymentMode", paymentMode.name())
+                .param("status", status.name())
+                .param("after", keysetStart(afterBookingId))
+                .param("limit", limit)
+                .query(SUMMARY_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public Stream<BookingSummary> streamSummariesByStatus(BookingStatus status) {
+        return streamingJdbcClient.sql(SELECT_SUMMARIES + "WHERE status = :status ORDER BY booking_id")
+                .param("status", status.name())
+                .query(SUMMARY_ROW_MAPPER)
+                .stream();
+    }
+
+    @Override
+    public Stream<BookingSummary> streamSummariesByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status) {
+        return streamingJdbcClient.sql(SELECT_SUMMARIES +
+                        "WHERE payment_mode = :paymentMode AND status = :status ORDER BY booking_id")
+                .param("paymentMode", paymentMode.name())
+                .param("status", status.name())
+                .query(SUMMARY_ROW_MAPPER)
+                .stream();
+    }
+
+    @Override
+    public Stream<VehicleRental> streamActiveRentals(LocalDate from, LocalDate to) {
+        return streamingJdbcClient.sql("SELECT booking_id, vehicle_id, rental_start_date, rental_end_date "
+                        + "FROM bookings WHERE status <> 'CANCELLED' "
+                        + "AND rental_start_date < :to AND rental_end_date > :from")
+                .param("from", from)
+                .param("to", to)
+                .query((rs, rowNum) -> new VehicleRental(
+                        rs.getString("booking_id"),
+                        rs.getString("vehicle_id"),
+                        rs.getObject("rental_start_date", LocalDate.class),
+                        rs.getObject("rental_end_date", LocalDate.class)))
+                .stream();
+    }
+
+    @Override
+    public List<BookingSummary> searchSummaries(BookingSearchCriteria criteria, BookingKeyset after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARIES).append("WHERE TRUE");
+        Map<String, Object> params = new HashMap<>();
+
+        // Only bind the filters that are present so the planner can pick the matching index
+        if (criteria.customerName() != null) {
+            sql.append(" AND customer_name = :customerName");
+            params.put("customerName", criteria.customerName());
+        }
+        if (criteria.vehicleId() != null) {
+            sql.append(" AND vehicle_id = :vehicleId");
+            params.put("vehicleId", criteria.vehicleId());
+        }
+        if (criteria.status() != null) {
+            sql.append(" AND status = :status");
+            params.put("status", criteria.status().name());
+        }
+        if (criteria.paymentMode() != null) {
+            sql.append(" AND payment_mode = :paymentMode");
+            params.put("paymentMode", criteria.paymentMode().name());
+        }
+        if (criteria.rentalFrom() != null) {
+            sql.append(" AND rental_start_date >= :rentalFrom");
+            params.put("rentalFrom", criteria.rentalFrom());
+        }
+        if (criteria.rentalTo() != null) {
+            sql.append(" AND rental_start_date <= :rentalTo");
+            params.put("rentalTo", criteria.rentalTo());
+        }
+        if (after != null) {
+            // Row-value comparison is a single index range condition in PostgreSQL
+            sql.append(" AND (rental_start_date, booking_id) > (:afterDate, :afterBookingId)");
+            params.put("afterDate", after.rentalStartDate());
+            params.put("afterBookingId", after.bookingId());
+        }
+        sql.append(" ORDER BY rental_start_date, booking_id LIMIT :limit");
+        params.put("limit", limit);
+
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query(SUMMARY_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<Booking> findPendingBankTransferBookingsBeforeDate(LocalDate date) {
+        return jdbcClient.sql(SELECT_BOOKINGS + PENDING_BANK_TRANSFER_FILTER)
+                .param("deadline", date)
+                .query(BOOKING_ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public boolean existsByBookingId(String bookingId) {
+        return jdbcClient.sql("SELECT EXISTS (SELECT 1 FROM bookings WHERE booking_id = :bookingId)")
+                .param("bookingId", bookingId)
+                .query(Boolean.class)
+                .single();
+    }
+
+    @Override
+    public List<String> findVehicleIdsWithActiveBookings(Collection<String> vehicleIds, LocalDate startDate,
+                                                         LocalDate endDate) {
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT DISTINCT vehicle_id FROM bookings WHERE vehicle_id = ANY(:vehicleIds) "
+                        + "AND status <> 'CANCELLED' AND rental_start_date < :endDate "
+                        + "AND rental_end_date > :startDate")
+                .param("vehicleIds", vehicleIds.toArray(String[]::new))
+                .param("startDate", startDate)
+                .param("endDate", endDate)
+                .query(String.class)
+                .list();
+    }
+
+    @Override
+    public boolean existsActiveBookingForVehicle(String vehicleId, LocalDate startDate, LocalDate endDate) {
+        return jdbcClient.sql("SELECT EXISTS (SELECT 1 FROM bookings WHERE vehicle_id = :vehicleId "
+                        + "AND status <> 'CANCELLED' AND rental_start_date < :endDate "
+                        + "AND rental_end_date > :startDate)")
+                .param("vehicleId", vehicleId)
+                .param("startDate", startDate)
+                .param("endDate", endDate)
+                .query(Boolean.class)
+                .single();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        jdbcClient.sql("DELETE FROM bookings WHERE id = :id")
+                .param("id", id)
+                .update();
+    }
+
+    @Override
+    public int batchUpdateStatus(List<String> bookingIds, BookingStatus newStatus) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return 0;
+        }
+        // A single array parameter keeps one prepared statement regardless of list size
+        return jdbcClient.sql(BATCH_UPDATE_STATUS)
+                .param("newStatus", newStatus.name())
+                .param("bookingIds", bookingIds.toArray(String[]::new))
+                .update();
+    }
+
+    @Override
+    public Optional<BookingStatusView> cancelIfPending(String bookingId) {
+        return jdbcClient.sql(CANCEL_IF_PENDING)
+                .param("bookingId", bookingId)
+                .query(STATUS_VIEW_ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<String> findBookingIdsForAutoCancellation(int daysBeforeRental) {
+        LocalDate deadline = LocalDate.now().plusDays(daysBeforeRental);
+        return jdbcClient.sql("SELECT booking_id FROM bookings " + PENDING_BANK_TRANSFER_FILTER +
+                        "AND (amount_received IS NULL OR amount_received < payment_amount)")
+                .param("deadline", deadline)
+                .query(String.class)
+                .list();
+    }
+
+    private static String keysetStart(String afterBookingId) {
+        return afterBookingId != null ? afterBookingId : "";
+    }
+
+    private static SqlParameterSource insertParameters(Booking booking) {
+        return new MapSqlParameterSource()
+                .addValue("id", booking.getId())
+                .addValue("bookingId", booking.getBookingId())
+                .addValue("customerName", booking.getCustomerName())
+                .addValue("vehicleId", booking.getVehicleId())
+                .addValue("vehicleCategory", booking.getVehicleCategory().name())
+                .addValue("rentalStartDate", booking.getRentalStartDate())
+                .addValue("rentalEndDate", booking.getRentalEndDate())
+                .addValue("paymentMode", booking.getPaymentMode().name())
+                .addValue("paymentReference", booking.getPaymentReference())
+                .addValue("status", booking.getStatus().name())
+                .addValue("paymentAmount", booking.getPaymentAmount())
+                .addValue("amountReceived", booking.getAmountReceived())
+                .addValue("version", booking.getVersion())
+                .addValue("createdAt", booking.getCreatedAt())
+                .addValue("updatedAt", booking.getUpdatedAt());
+    }
+}
@@ -2,7 +2,10 @@ package com.velocity.carservice.infrastructure.repository;
 
 import com.velocity.carservice.domain.model.Booking;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
 import com.velocity.carservice.domain.model.PaymentMode;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,12 +21,38 @@ import java.util.UUID;
 @Repository
 public interface JpaBookingRepository extends JpaRepository<Booking, UUID> {
 
+    String SUMMARY_SELECT = "SELECT new com.velocity.carservice.domain.model.BookingSummary(" +
+            "b.bookingId, b.customerName, b.vehicleId, b.vehicleCategory, b.rentalStartDate, " +
+            "b.rentalEndDate, b.paymentMode, b.status) FROM Booking b ";
+
     Optional<Booking> findByBookingId(String bookingId);
 
+    @Query("SELECT new com.velocity.carservice.domain.model.BookingStatusView(b.bookingId, b.status, b.version) " +
+           "FROM Booking b WHERE b.bookingId = :bookingId")
+    Optional<BookingStatusView> findStatusByBookingId(@Param("bookingId") String bookingId);
+
+    @Query("SELECT new com.velocity.carservice.domain.model.BookingStatusView(b.bookingId, b.status, b.version) " +
+           "FROM Booking b WHERE b.bookingId IN :bookingIds")
+    List<BookingStatusView> findStatusesByBookingIdIn(@Param("bookingIds") Collection<String> bookingIds);
+
+    List<Booking> findByBookingIdIn(Collection<String> bookingIds);
+
     List<Booking> findByStatus(BookingStatus status);
 
     List<Booking> findByPaymentModeAndStatus(PaymentMode paymentMode, BookingStatus status);
 
+    @Query(SUMMARY_SELECT + "WHERE b.status = :status AND b.bookingId > :after ORDER BY b.bookingId")
+    List<BookingSummary> findSummariesByStatus(@Param("status") BookingStatus status,
+                                               @Param("after") String afterBookingId,
+                                               Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE b.paymentMode = :paymentMode AND b.status = :status " +
+           "AND b.bookingId > :after ORDER BY b.bookingId")
+    List<BookingSummary> findSummariesByPaymentModeAndStatus(@Param("paymentMode") PaymentMode paymentMode,
+                                                             @Param("status") BookingStatus status,
+                                                             @Param("after") String afterBookingId,
+                                                             Limit limit);
+
     @Query("SELECT b FROM Booking b WHERE b.paymentMode = 'BANK_TRANSFER' " +
            "AND b.status = 'PENDING_PAYMENT' " +
            "AND b.rentalStartDate <= :deadline")
@@ -30,12 +60,47 @@ public interface JpaBookingRepository extends JpaRepository<Booking, UUID> {
 
     boolean existsByBookingId(String bookingId);
 
+    @Query("SELECT COUNT(b) > 0 FROM Booking b " +
+           "WHERE b.vehicleId = :vehicleId " +
+           "AND b.status <> 'CANCELLED' " +
+           "AND b.rentalStartDate < :endDate " +
+           "AND b.rentalEndDate > :startDate")
+    boolean existsActiveBookingForVehicle(@Param("vehicleId") String vehicleId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT DISTINCT b.vehicleId FROM Booking b " +
+           "WHERE b.vehicleId IN :vehicleIds " +
+           "AND b.status <> 'CANCELLED' " +
+           "AND b.rentalStartDate < :endDate " +
+           "AND b.rentalEndDate > :startDate")
+    List<String> findVehicleIdsWithActiveBookings(@Param("vehicleIds") Collection<String> vehicleIds,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     @Modifying
-    @Query("UPDATE Booking b SET b.status = :newStatus, b.updatedAt = CURRENT_TIMESTAMP " +
+    @Query("UPDATE Booking b SET b.status = :newStatus, b.version = b.version + 1, " +
+           "b.updatedAt = CURRENT_TIMESTAMP " +
            "WHERE b.bookingId IN :bookingIds")
     int batchUpdateStatus(@Param("bookingIds") List<String> bookingIds,
                           @Param("newStatus") BookingStatus newStatus);
 
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :cancelled, b.version = b.version + 1, " +
+           "b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.bookingId = :bookingId AND b.status = :pending")
+    int cancelIfPending(@Param("bookingId") String bookingId,
+                        @Param("pending") BookingStatus pending,
+                        @Param("cancelled") BookingStatus cancelled);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :cancelled, b.version = b.version + 1, " +
+           "b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.bookingId IN :bookingIds AND b.status = :pending")
+    int cancelAllIfPending(@Param("bookingIds") Collection<String> bookingIds,
+                           @Param("pending") BookingStatus pending,
+                           @Param("cancelled") BookingStatus cancelled);
+
     @Query("SELECT b.bookingId FROM Booking b " +
            "WHERE b.paymentMode = 'BANK_TRANSFER' " +
            "AND b.status = 'PENDING_PAYMENT' " +
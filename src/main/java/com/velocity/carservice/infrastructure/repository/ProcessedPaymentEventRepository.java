@@ -2,13 +2,22 @@ package com.velocity.carservice.infrastructure.repository;
 
 import com.velocity.carservice.domain.model.ProcessedPaymentEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ProcessedPaymentEventRepository extends JpaRepository<ProcessedPaymentEvent, UUID> {
     
     boolean existsByPaymentId(String paymentId);
-}
 
+    /**
+     * The given payment IDs that have already been processed, in one query.
+     */
+    @Query("SELECT e.paymentId FROM ProcessedPaymentEvent e WHERE e.paymentId IN :paymentIds")
+    List<String> findProcessedPaymentIds(@Param("paymentIds") Collection<String> paymentIds);
+}
@@ -0,0 +1,13 @@
+package com.velocity.carservice.infrastructure.repository;
+
+import com.velocity.carservice.domain.model.Vehicle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VehicleRepository extends JpaRepository<Vehicle, String> {
+
+    List<Vehicle> findByActiveTrue();
+}
@@ -0,0 +1,98 @@
+package com.velocity.carservice.infrastructure.startup;
+
+import com.velocity.carservice.shared.constant.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes infrastructure the booking API does not need to serve requests, after the context is up rather
+ * than during refresh.
+ * <p>
+ * Kafka topic provisioning ({@code spring.kafka.admin.auto-create} is off), the dead letter queue listener and
+ * the Redis booking event subscription each wait on a broker round trip, up to their timeouts when the broker is
+ * unreachable. They start on a background thread once the context has been refreshed, so the HTTP port
+ * opens without waiting for them; the startup warm-up runs at the same time, which keeps the instance out of
+ * the load balancer until most of this has finished anyway. Topics are provisioned before the DLQ listener
+ * subscribes to them.
+ */
+@Component
+@Slf4j
+public class DeferredInfrastructureInitializer {
+
+    private final ObjectProvider<KafkaAdmin> kafkaAdmin;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry;
+    private final ObjectProvider<RedisMessageListenerContainer> redisListenerContainers;
+    private final boolean provisionTopics;
+    private final boolean listenersEnabled;
+
+    public DeferredInfrastructureInitializer(
+            ObjectProvider<KafkaAdmin> kafkaAdmin,
+            ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry,
+            ObjectProvider<RedisMessageListenerContainer> redisListenerContainers,
+            @Value("${app.kafka.provision-topics:true}") boolean provisionTopics,
+            @Value("${app.kafka.listeners-enabled:true}") boolean listenersEnabled) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.listenerRegistry = listenerRegistry;
+        this.redisListenerContainers = redisListenerContainers;
+        this.provisionTopics = provisionTopics;
+        this.listenersEnabled = listenersEnabled;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        CompletableFuture.runAsync(this::initialize);
+    }
+
+    void initialize() {
+        long start = System.nanoTime();
+        redisListenerContainers.orderedStream().forEach(this::startRedisListener);
+        KafkaAdmin admin = kafkaAdmin.getIfAvailable();
+        if (provisionTopics && admin != null) {
+            provisionTopics(admin);
+        }
+        if (listenersEnabled) {
+            startDeadLetterListener();
+        }
+        log.info("Deferred infrastructure initialized in {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void startRedisListener(RedisMessageListenerContainer container) {
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            log.warn("Could not subscribe to Redis booking events: {}", e.getMessage());
+        }
+    }
+
+    private void provisionTopics(KafkaAdmin admin) {
+        try {
+            if (!admin.initialize()) {
+                log.warn("Kafka topics not provisioned, broker unavailable");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Kafka topics not provisioned: {}", e.getMessage());
+        }
+    }
+
+    private void startDeadLetterListener() {
+        KafkaListenerEndpointRegistry registry = listenerRegistry.getIfAvailable();
+        MessageListenerContainer container = registry != null
+                ? registry.getListenerContainer(AppConstants.LISTENER_BANK_TRANSFER_PAYMENT_EVENTS_DLQ)
+                : null;
+        if (container != null && !container.isRunning()) {
+            container.start();
+        }
+    }
+}
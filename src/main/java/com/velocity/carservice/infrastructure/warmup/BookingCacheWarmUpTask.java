@@ -0,0 +1,73 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.cache.BookingStatusCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Preloads the {@code bookings} cache with bookings whose rental starts in the next few days, the ones
+ * customers and staff look up most. Pages through them by keyset and writes each page back in one pipeline.
+ */
+@Component
+@Order(3)
+public class BookingCacheWarmUpTask implements WarmUpTask {
+
+    static final int PAGE_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final BookingStatusCache bookingStatusCache;
+    private final int preloadDays;
+    private final int preloadLimit;
+
+    public BookingCacheWarmUpTask(
+            BookingRepository bookingRepository,
+            BookingStatusCache bookingStatusCache,
+            @Value("${app.warm-up.preload-days:3}") int preloadDays,
+            @Value("${app.warm-up.preload-limit:10000}") int preloadLimit) {
+        this.bookingRepository = bookingRepository;
+        this.bookingStatusCache = bookingStatusCache;
+        this.preloadDays = preloadDays;
+        this.preloadLimit = preloadLimit;
+    }
+
+    @Override
+    public String name() {
+        return "bookingCache";
+    }
+
+    @Override
+    public Map<String, Object> warmUp() {
+        LocalDate today = LocalDate.now();
+        BookingSearchCriteria criteria = new BookingSearchCriteria(
+                null, null, null, null, today, today.plusDays(preloadDays));
+
+        int preloaded = 0;
+        BookingKeyset after = null;
+        while (preloaded < preloadLimit) {
+            int limit = Math.min(PAGE_SIZE, preloadLimit - preloaded);
+            List<BookingSummary> page = bookingRepository.searchSummaries(criteria, after, limit);
+            if (page.isEmpty()) {
+                break;
+            }
+            List<BookingStatusView> bookings = bookingRepository.findStatusesByBookingIds(
+                    page.stream().map(BookingSummary::bookingId).toList());
+            bookingStatusCache.putAll(bookings);
+            preloaded += page.size();
+            if (page.size() < limit) {
+                break;
+            }
+            after = BookingKeyset.of(page.get(page.size() - 1));
+        }
+        return Map.of("bookings", preloaded, "days", preloadDays);
+    }
+}
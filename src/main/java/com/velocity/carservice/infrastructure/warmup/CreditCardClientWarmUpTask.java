@@ -0,0 +1,51 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Opens connections to the credit card service in the card client's reactor-netty pool by sending
+ * concurrent HEAD requests. Any response, even an error status, leaves a connected (and, over HTTPS,
+ * handshaken) channel in the pool for the first payment to reuse.
+ */
+@Component
+@Order(4)
+public class CreditCardClientWarmUpTask implements WarmUpTask {
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final int connections;
+    private final Duration timeout;
+
+    public CreditCardClientWarmUpTask(
+            WebClient webClient,
+            @Value("${app.external-services.credit-card-validation.url:http://localhost:9090}") String baseUrl,
+            @Value("${app.warm-up.http-connections:4}") int connections,
+            @Value("${app.external-services.credit-card-validation.timeout:5000}") int timeoutMillis) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.connections = connections;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public String name() {
+        return "creditCardClient";
+    }
+
+    @Override
+    public Map<String, Object> warmUp() {
+        Flux.range(0, connections)
+                .flatMap(i -> webClient.head().uri(baseUrl).exchangeToMono(ClientResponse::releaseBody), connections)
+                .then()
+                .block(timeout);
+        return Map.of("connections", connections, "url", baseUrl);
+    }
+}
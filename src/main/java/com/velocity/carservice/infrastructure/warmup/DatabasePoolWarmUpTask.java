@@ -0,0 +1,70 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens the pool's minimum number of connections up front. Hikari would otherwise fill the pool in the
+ * background while the first requests wait for connection setup and authentication.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class DatabasePoolWarmUpTask implements WarmUpTask {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+
+    @Override
+    public String name() {
+        return "databasePool";
+    }
+
+    @Override
+    public Map<String, Object> warmUp() {
+        int target = minimumIdle();
+        // Held open together so the pool has to create each one rather than hand out the same connection
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            return Map.of("connections", connections.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open database connections: " + e.getMessage(), e);
+        } finally {
+            connections.forEach(DatabasePoolWarmUpTask::closeQuietly);
+        }
+    }
+
+    private int minimumIdle() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+            }
+        } catch (SQLException e) {
+            // Not a Hikari pool; a single connection still warms the driver
+        }
+        return 1;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Returning a connection to the pool; nothing to recover
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingIdCodec;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.infrastructure.cache.CachedBookingResponseSerializer;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the CPU-bound parts of booking creation, booking reads and payment-event consumption in a loop, so the
+ * JIT has compiled them before real requests arrive instead of running them interpreted or at C1.
+ * <p>
+ * Each iteration parses and validates a booking request, applies the domain rules, encodes the cached GET
+ * response and round-trips it through the cache serializer, parses a bank transfer event and extracts its
+ * booking ID, and records metrics. Nothing leaves the process: there is no database or Redis access, and metrics
+ * go to a private registry that is thrown away. The loop runs for {@code app.warm-up.jit.budget}; the report
+ * includes how long it took until per-iteration latency came within 10% of its final level.
+ */
+@Component
+@Order(5)
+@ConditionalOnProperty(name = "app.warm-up.jit.enabled", havingValue = "true")
+public class JitWarmUpTask implements WarmUpTask {
+
+    static final int WINDOW_ITERATIONS = 200;
+    private static final double STEADY_STATE_TOLERANCE = 1.10;
+    private static final int FINAL_WINDOWS = 5;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BookingDomainService bookingDomainService;
+    private final CachedBookingResponseSerializer cacheSerializer = new CachedBookingResponseSerializer();
+    private final BookingMetrics discardedMetrics = new BookingMetrics(new SimpleMeterRegistry());
+    private final Duration budget;
+    private final byte[] sampleRequest;
+
+    /** Keeps the results observable so the JIT cannot drop the work as dead code. */
+    private volatile long sink;
+
+    public JitWarmUpTask(
+            ObjectMapper objectMapper,
+            Validator validator,
+            BookingDomainService bookingDomainService,
+            @Value("${app.warm-up.jit.budget:10s}") Duration budget) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.bookingDomainService = bookingDomainService;
+        this.budget = budget;
+        LocalDate start = LocalDate.now().plusDays(7);
+        this.sampleRequest = ("{\"customerName\":\"Warm Up\",\"vehicleId\":\"VH-001\",\"vehicleCategory\":\"SEDAN\","
+                + "\"rentalStartDate\":\"" + start + "\",\"rentalEndDate\":\"" + start.plusDays(3) + "\","
+                + "\"paymentMode\":\"BANK_TRANSFER\",\"paymentReference\":\"BT-WARMUP\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String name() {
+        return "jit";
+    }
+
+    @Override
+    public Map<String, Object> warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        List<Long> windowNanos = new ArrayList<>();
+        List<Long> windowEnds = new ArrayList<>();
+        long iterations = 0;
+        long hash = 0;
+
+        while (System.nanoTime() - deadline < 0) {
+            long windowStart = System.nanoTime();
+            for (int i = 0; i < WINDOW_ITERATIONS; i++) {
+                hash += iteration(iterations++);
+            }
+            long windowEnd = System.nanoTime();
+            windowNanos.add((windowEnd - windowStart) / WINDOW_ITERATIONS);
+            windowEnds.add(windowEnd - start);
+        }
+        sink = hash;
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("iterations", iterations);
+        if (!windowNanos.isEmpty()) {
+            long finalNanos = finalLevel(windowNanos);
+            details.put("firstIterationMicros", windowNanos.get(0) / 1_000.0);
+            details.put("steadyIterationMicros", finalNanos / 1_000.0);
+            details.put("steadyStateAfterMs",
+                    TimeUnit.NANOSECONDS.toMillis(windowEnds.get(steadyWindow(windowNanos, finalNanos))));
+        }
+        return details;
+    }
+
+    long iteration(long sequence) {
+        try {
+            BookingRequestDTO request = objectMapper.readValue(sampleRequest, BookingRequestDTO.class);
+            int violations = validator.validate(request).size();
+            bookingDomainService.validateRentalDates(request.rentalStartDate(), request.rentalEndDate());
+            BookingStatus status = bookingDomainService.determineInitialStatus(request.paymentMode());
+
+            String bookingId = BookingIdCodec.encode(sequence % BookingIdCodec.CAPACITY);
+            CachedBookingResponse response = CachedBookingResponse.of(
+                    new BookingStatusView(bookingId, status, sequence), objectMapper);
+            CachedBookingResponse cached = cacheSerializer.deserialize(cacheSerializer.serialize(response));
+
+            BankTransferPaymentEvent event = objectMapper.readValue(
+                    "{\"paymentId\":\"PAY-" + sequence + "\",\"senderAccountNumber\":\"NL91ABNA0417164300\","
+                            + "\"paymentAmount\":300.00,\"transactionDetails\":\"TXN000000001 " + bookingId + "\"}",
+                    BankTransferPaymentEvent.class);
+            String extracted = event.extractBookingId();
+
+            discardedMetrics.incrementPaymentEventsReceived();
+            discardedMetrics.incrementBookingsCreated(request.paymentMode(), request.vehicleCategory());
+            discardedMetrics.recordCacheLatency("bookings", "get", sequence);
+
+            return violations + cached.body().length + (extracted != null ? extracted.length() : 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("JIT warm-up sample could not be parsed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Mean of the last few windows, the latency the code settled at.
+     */
+    static long finalLevel(List<Long> windowNanos) {
+        List<Long> last = windowNanos.subList(Math.max(0, windowNanos.size() - FINAL_WINDOWS), windowNanos.size());
+        return (long) last.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    /**
+     * Index of the first window whose per-iteration latency is within the tolerance of the final level.
+     */
+    static int steadyWindow(List<Long> windowNanos, long finalNanos) {
+        for (int i = 0; i < windowNanos.size(); i++) {
+            if (windowNanos.get(i) <= finalNanos * STEADY_STATE_TOLERANCE) {
+                return i;
+            }
+        }
+        return windowNanos.size() - 1;
+    }
+}
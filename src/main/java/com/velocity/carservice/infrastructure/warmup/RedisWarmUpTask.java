@@ -0,0 +1,37 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pings Redis through every connection factory, which opens Lettuce's shared connection for each of them
+ * (the general one and the short-timeout cache one).
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class RedisWarmUpTask implements WarmUpTask {
+
+    private final List<RedisConnectionFactory> connectionFactories;
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    @Override
+    public Map<String, Object> warmUp() {
+        for (RedisConnectionFactory connectionFactory : connectionFactories) {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.ping();
+            }
+        }
+        return Map.of("connections", connectionFactories.size());
+    }
+}
@@ -0,0 +1,114 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms pools and caches after startup and before the instance takes traffic.
+ * <p>
+ * Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC} only once all application runners have
+ * returned, so while this runs {@code /actuator/health/readiness} reports {@code OUT_OF_SERVICE} and the
+ * load balancer keeps sending requests to the old pods. Liveness is already {@code UP}, so a slow warm-up is
+ * not mistaken for a hung start. Tasks run one after another on a separate thread, each given what is left
+ * of {@code app.warm-up.timeout}. A task still running when the budget is spent is interrupted and reported as
+ * timed out, and the rest are skipped. A failing task is reported but never fails startup.
+ */
+@Component
+@ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class StartupWarmUp implements ApplicationRunner, InfoContributor {
+
+    private final List<WarmUpTask> tasks;
+    private final Duration timeout;
+    private volatile WarmUpReport report = WarmUpReport.running();
+
+    public StartupWarmUp(List<WarmUpTask> tasks, @Value("${app.warm-up.timeout:60s}") Duration timeout) {
+        this.tasks = tasks;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Warming up {} tasks before accepting traffic (budget {})", tasks.size(), timeout);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        List<WarmUpReport.TaskResult> results = new ArrayList<>(tasks.size());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (WarmUpTask task : tasks) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    results.add(new WarmUpReport.TaskResult(task.name(), WarmUpReport.TaskStatus.SKIPPED, 0,
+                            Map.of()));
+                    continue;
+                }
+                results.add(runTask(executor, task, remaining));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        report = new WarmUpReport(WarmUpReport.Status.COMPLETED, elapsedMillis(start), List.copyOf(results));
+        log.info("Warm-up completed in {} ms: {}", report.durationMs(), results);
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("warmUp", report);
+    }
+
+    public WarmUpReport getReport() {
+        return report;
+    }
+
+    private WarmUpReport.TaskResult runTask(ExecutorService executor, WarmUpTask task, long remainingNanos) {
+        long start = System.nanoTime();
+        Future<Map<String, Object>> result = executor.submit(task::warmUp);
+        try {
+            Map<String, Object> details = result.get(remainingNanos, TimeUnit.NANOSECONDS);
+            return new WarmUpReport.TaskResult(task.name(), WarmUpReport.TaskStatus.DONE, elapsedMillis(start), details);
+        } catch (TimeoutException e) {
+            // Interrupts the task; one that ignores interrupts finishes on the daemon thread without holding up startup
+            result.cancel(true);
+            log.warn("Warm-up task {} did not finish within the budget, continuing without it", task.name());
+            return new WarmUpReport.TaskResult(task.name(), WarmUpReport.TaskStatus.TIMED_OUT, elapsedMillis(start),
+                    Map.of());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.warn("Warm-up task {} failed, continuing without it: {}", task.name(), cause.getMessage());
+            return new WarmUpReport.TaskResult(task.name(), WarmUpReport.TaskStatus.FAILED, elapsedMillis(start),
+                    Map.of("error", String.valueOf(cause.getMessage())));
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return new WarmUpReport.TaskResult(task.name(), WarmUpReport.TaskStatus.FAILED, elapsedMillis(start),
+                    Map.of("error", "interrupted"));
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
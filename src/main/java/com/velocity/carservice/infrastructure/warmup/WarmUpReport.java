@@ -0,0 +1,29 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of the startup warm-up, published under {@code warmUp} in {@code /actuator/info}.
+ */
+public record WarmUpReport(
+        Status status,
+        long durationMs,
+        List<TaskResult> tasks
+) {
+    public enum Status { RUNNING, COMPLETED }
+
+    public enum TaskStatus { DONE, FAILED, TIMED_OUT, SKIPPED }
+
+    public record TaskResult(
+            String task,
+            TaskStatus status,
+            long durationMs,
+            Map<String, Object> details
+    ) {
+    }
+
+    static WarmUpReport running() {
+        return new WarmUpReport(Status.RUNNING, 0, List.of());
+    }
+}
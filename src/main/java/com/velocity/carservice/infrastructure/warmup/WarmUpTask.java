@@ -0,0 +1,18 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import java.util.Map;
+
+/**
+ * One step of the startup warm-up that {@link StartupWarmUp} runs before the instance reports ready.
+ * Implementations bound their own run time and throw on failure; a failed task never blocks startup.
+ * Tasks run in {@link org.springframework.core.annotation.Order} order.
+ */
+public interface WarmUpTask {
+
+    String name();
+
+    /**
+     * @return details for the warm-up report, e.g. how many connections were opened
+     */
+    Map<String, Object> warmUp();
+}
@@ -16,11 +16,20 @@ public final class AppConstants {
     public static final String BOOKING_ID_PREFIX = "BKG";
     public static final int MAX_RENTAL_DAYS = 21;
     public static final int BANK_TRANSFER_CANCELLATION_HOURS_BEFORE_RENTAL = 48;
+    public static final int MAX_BATCH_GET_BOOKING_IDS = 500;
+    public static final int MAX_GROUP_BOOKING_VEHICLES = 50;
+
+    // Cache Names
+    public static final String CACHE_BOOKINGS = "bookings";
+    public static final String CACHE_CONNECTION_FACTORY = "cacheRedisConnectionFactory";
 
     // Kafka Topics
     public static final String TOPIC_BANK_TRANSFER_PAYMENT_EVENTS = "bank-transfer-payment-events";
     public static final String TOPIC_BANK_TRANSFER_PAYMENT_EVENTS_DLQ = "bank-transfer-payment-events-dlq";
 
+    // Kafka Listener IDs
+    public static final String LISTENER_BANK_TRANSFER_PAYMENT_EVENTS_DLQ = "bankTransferPaymentEventsDlq";
+
     // Kafka Consumer Groups
     public static final String CONSUMER_GROUP_CAR_BOOKING_SERVICE = "car-booking-service-group";
 
@@ -46,6 +55,7 @@ public final class AppConstants {
 
     // Resilience4j Instance Names
     public static final String RESILIENCE_CREDIT_CARD_SERVICE = "creditCardService";
+    public static final String RESILIENCE_REDIS_CACHE = "redisCache";
 
     // Date/Time Patterns
     public static final String DATE_FORMAT = "yyyy-MM-dd";
@@ -0,0 +1,10 @@
+-- V4__add_booking_keyset_indexes.sql
+-- Composite indexes ending in booking_id so keyset-paginated listings
+-- (WHERE ... AND booking_id > :after ORDER BY booking_id LIMIT n) are a single index seek.
+-- They supersede the single-purpose status indexes from V1.
+
+CREATE INDEX IF NOT EXISTS idx_bookings_status_booking_id ON bookings(status, booking_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_payment_mode_status_booking_id ON bookings(payment_mode, status, booking_id);
+
+DROP INDEX IF EXISTS idx_bookings_status;
+DROP INDEX IF EXISTS idx_bookings_payment_mode_status;
@@ -0,0 +1,18 @@
+-- V5__add_booking_search_indexes.sql
+-- Indexes backing GET /api/v1/bookings. Searches are ordered by (rental_start_date, booking_id)
+-- and paginated with a keyset on that pair, so each filter gets an index of
+-- (filter column, rental_start_date, booking_id): every page is one index seek, however deep.
+
+CREATE INDEX IF NOT EXISTS idx_bookings_rental_start_booking_id
+    ON bookings(rental_start_date, booking_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_customer_rental_start
+    ON bookings(customer_name, rental_start_date, booking_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_vehicle_rental_start
+    ON bookings(vehicle_id, rental_start_date, booking_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_rental_start
+    ON bookings(status, rental_start_date, booking_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_payment_mode_rental_start
+    ON bookings(payment_mode, rental_start_date, booking_id);
+
+-- Superseded by idx_bookings_rental_start_booking_id
+DROP INDEX IF EXISTS idx_bookings_rental_start_date;
@@ -0,0 +1,10 @@
+-- V6__create_vehicles_table.sql
+-- Fleet inventory: the vehicles that can be booked. bookings.vehicle_id is not a foreign key, so bookings
+-- of vehicles that were never registered here remain valid; they are just not part of the inventory.
+
+CREATE TABLE IF NOT EXISTS vehicles (
+    vehicle_id VARCHAR(50) PRIMARY KEY,
+    vehicle_category VARCHAR(20) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,11 @@
+-- V7__create_booking_import_chunks_table.sql
+-- Chunks of a CSV booking import that have been committed, so an interrupted import resumes where it stopped
+
+CREATE TABLE IF NOT EXISTS booking_import_chunks (
+    source VARCHAR(255) NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    rows_staged INTEGER NOT NULL,
+    rows_inserted INTEGER NOT NULL,
+    committed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (source, chunk_index)
+);
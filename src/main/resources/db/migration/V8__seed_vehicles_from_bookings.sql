@@ -0,0 +1,10 @@
+-- V8__seed_vehicles_from_bookings.sql
+-- Registers every vehicle that has been booked so far in the fleet inventory, so the inventory is not empty on
+-- an existing database. A vehicle booked under more than one category is registered under one of them; vehicles
+-- already registered are kept as they are.
+
+INSERT INTO vehicles (vehicle_id, vehicle_category)
+SELECT b.vehicle_id, MAX(b.vehicle_category)
+FROM bookings b
+WHERE NOT EXISTS (SELECT 1 FROM vehicles v WHERE v.vehicle_id = b.vehicle_id)
+GROUP BY b.vehicle_id;
@@ -0,0 +1,15 @@
+-- V9__exclude_overlapping_vehicle_bookings.sql
+-- A vehicle cannot have two active bookings for overlapping dates. The services check availability before they
+-- insert, but two requests can both pass that check; this constraint makes the second insert fail, and the API
+-- answers it with 409. The range is [start, end), matching the availability queries: a rental may start on the
+-- day the previous one ends.
+--
+-- Creating btree_gist needs a role allowed to create extensions. The migration fails if the table already holds
+-- overlapping active bookings; those have to be resolved by hand first.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_vehicle_rental_no_overlap
+    EXCLUDE USING gist (vehicle_id WITH =, daterange(rental_start_date, rental_end_date) WITH &&)
+    WHERE (status <> 'CANCELLED');
@@ -86,6 +86,42 @@ class BankTransferPaymentEventTest {
             // Assert
             assertThat(bookingId).isEqualTo("BKG0012345");
         }
+
+        @Test
+        @DisplayName("Should extract checksummed booking ID")
+        void shouldExtractChecksummedBookingId() {
+            // Arrange
+            BankTransferPaymentEvent event = new BankTransferPaymentEvent(
+                    "PAY-008",
+                    "NL91ABNA0417164300",
+                    new BigDecimal("200.00"),
+                    "TXN987654321 BKGA00C1SA"
+            );
+
+            // Act
+            String bookingId = event.extractBookingId();
+
+            // Assert
+            assertThat(bookingId).isEqualTo("BKGA00C1SA");
+        }
+
+        @Test
+        @DisplayName("Should return null when the booking ID check character does not match")
+        void shouldReturnNullForMistypedBookingId() {
+            // Arrange - one character mistyped by the payer
+            BankTransferPaymentEvent event = new BankTransferPaymentEvent(
+                    "PAY-009",
+                    "NL91ABNA0417164300",
+                    new BigDecimal("200.00"),
+                    "TXN987654321 BKGA00C15A"
+            );
+
+            // Act
+            String bookingId = event.extractBookingId();
+
+            // Assert
+            assertThat(bookingId).isNull();
+        }
     }
 
     @Nested
@@ -0,0 +1,110 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.response.AvailabilityResponseDTO;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.InventoryNotReadyException;
+import com.velocity.carservice.infrastructure.inventory.AvailabilityIndex;
+import com.velocity.carservice.infrastructure.inventory.FleetInventory;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityService Unit Tests")
+class AvailabilityServiceTest {
+
+    private static final LocalDate ORIGIN = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private FleetInventory fleetInventory;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private AvailabilityService availabilityService;
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = new AvailabilityService(fleetInventory, bookingMetrics, 50, 500);
+        index = new AvailabilityIndex(ORIGIN, 90);
+        index.addVehicle("SUV-1", VehicleCategory.SUV);
+        index.addVehicle("SUV-2", VehicleCategory.SUV);
+        index.addVehicle("LUX-1", VehicleCategory.LUXURY);
+        index.reserve(new VehicleRental("BKG0000001", "SUV-1", ORIGIN.plusDays(5), ORIGIN.plusDays(10)));
+    }
+
+    @Test
+    @DisplayName("Should list available vehicles of every category")
+    void shouldSearchAllCategories() {
+        // Arrange
+        when(fleetInventory.index()).thenReturn(Optional.of(index));
+
+        // Act
+        AvailabilityResponseDTO response = availabilityService.findAvailable(
+                null, ORIGIN.plusDays(6), ORIGIN.plusDays(8), null);
+
+        // Assert
+        assertThat(response.categories()).hasSize(VehicleCategory.values().length);
+        assertThat(response.categories())
+                .filteredOn(category -> category.category() == VehicleCategory.SUV)
+                .singleElement()
+                .satisfies(suv -> {
+                    assertThat(suv.fleetSize()).isEqualTo(2);
+                    assertThat(suv.availableCount()).isEqualTo(1);
+                    assertThat(suv.vehicleIds()).containsExactly("SUV-2");
+                });
+    }
+
+    @Test
+    @DisplayName("Should search a single category")
+    void shouldSearchOneCategory() {
+        // Arrange
+        when(fleetInventory.index()).thenReturn(Optional.of(index));
+
+        // Act
+        AvailabilityResponseDTO response = availabilityService.findAvailable(
+                VehicleCategory.LUXURY, ORIGIN, ORIGIN.plusDays(30), null);
+
+        // Assert
+        assertThat(response.categories()).singleElement()
+                .satisfies(luxury -> assertThat(luxury.vehicleIds()).containsExactly("LUX-1"));
+    }
+
+    @Test
+    @DisplayName("Should reject dates outside the inventory horizon")
+    void shouldRejectDatesOutsideHorizon() {
+        // Arrange
+        when(fleetInventory.index()).thenReturn(Optional.of(index));
+
+        // Act & Assert
+        assertThatThrownBy(() -> availabilityService.findAvailable(
+                VehicleCategory.SUV, ORIGIN.plusDays(80), ORIGIN.plusDays(100), null))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should report the inventory as not ready before it is built")
+    void shouldFailBeforeInventoryIsBuilt() {
+        // Arrange
+        when(fleetInventory.index()).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> availabilityService.findAvailable(
+                VehicleCategory.SUV, ORIGIN, ORIGIN.plusDays(1), null))
+                .isInstanceOf(InventoryNotReadyException.class);
+    }
+}
@@ -0,0 +1,260 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.application.service.BankTransferPaymentService.PaymentOutcome;
+import com.velocity.carservice.application.service.BankTransferPaymentService.Result;
+import com.velocity.carservice.application.service.BankTransferPaymentService.Run;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent.ProcessingStatus;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.infrastructure.repository.ProcessedPaymentEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BankTransferPaymentService Unit Tests")
+class BankTransferPaymentServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ProcessedPaymentEventRepository processedPaymentEventRepository;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<ProcessedPaymentEvent>> records;
+
+    private BankTransferPaymentService bankTransferPaymentService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        bankTransferPaymentService = new BankTransferPaymentService(bookingRepository,
+                processedPaymentEventRepository, pricingEngine, bookingMetrics, eventPublisher, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("Applying payments")
+    class ApplyingTests {
+
+        @Test
+        @DisplayName("Should apply a batch with one lookup each for processed payments and bookings")
+        void shouldApplyBatch() {
+            // Arrange
+            Booking first = pendingBooking("BKG0000001", "200.00");
+            Booking second = pendingBooking("BKG0000002", "300.00");
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of());
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(first, second));
+
+            // Act
+            List<PaymentOutcome> outcomes = bankTransferPaymentService.apply(List.of(
+                    payment("PAY-1", "200.00", "BKG0000001"),
+                    payment("PAY-2", "100.00", "BKG0000002")), Run.live());
+
+            // Assert
+            assertThat(outcomes).extracting(PaymentOutcome::result).containsExactly(Result.CONFIRMED, Result.PARTIAL);
+            assertThat(first.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(second.getAmountReceived()).isEqualByComparingTo("100.00");
+            verify(bookingRepository).save(first);
+            verify(bookingRepository).save(second);
+
+            verify(processedPaymentEventRepository).saveAll(records.capture());
+            assertThat(records.getValue()).extracting(ProcessedPaymentEvent::getPaymentId)
+                    .containsExactly("PAY-1", "PAY-2");
+            ArgumentCaptor<BookingStatusChangedEvent> statusEvent = ArgumentCaptor.forClass(BookingStatusChangedEvent.class);
+            verify(eventPublisher).publishEvent(statusEvent.capture());
+            assertThat(statusEvent.getValue().bookingId()).isEqualTo("BKG0000001");
+            assertThat(statusEvent.getValue().status()).isEqualTo(BookingStatus.CONFIRMED);
+            verify(eventPublisher).publishEvent(new BookingCacheEvictionEvent(List.of("BKG0000001", "BKG0000002")));
+        }
+
+        @Test
+        @DisplayName("Should skip processed and repeated payments and record the rest like the Kafka consumer")
+        void shouldHandleEachOutcome() {
+            // Arrange
+            Booking confirmed = pendingBooking("BKG0000003", "200.00");
+            confirmed.confirm();
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of("PAY-1"));
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(confirmed));
+
+            // Act
+            List<PaymentOutcome> outcomes = bankTransferPaymentService.apply(List.of(
+                    payment("PAY-1", "200.00", "BKG0000003"),
+                    payment("PAY-2", "50.00", "BKG0000003"),
+                    payment("PAY-2", "50.00", "BKG0000003"),
+                    payment("PAY-3", "50.00", "BKG0000004"),
+                    new BankTransferPaymentEvent("PAY-4", null, new BigDecimal("50.00"), "no booking reference"),
+                    new BankTransferPaymentEvent("PAY-5", null, BigDecimal.ZERO, "TXN987654321 BKG0000003")),
+                    Run.live());
+
+            // Assert
+            assertThat(outcomes).extracting(PaymentOutcome::result).containsExactly(Result.DUPLICATE,
+                    Result.NOT_PENDING, Result.DUPLICATE, Result.UNKNOWN_BOOKING, Result.UNMATCHED, Result.INVALID);
+            verify(bookingRepository, never()).save(any());
+
+            verify(processedPaymentEventRepository).saveAll(records.capture());
+            assertThat(records.getValue()).extracting(ProcessedPaymentEvent::getPaymentId, ProcessedPaymentEvent::getStatus)
+                    .containsExactly(
+                            tuple("PAY-2", ProcessingStatus.SUCCESS),
+                            tuple("PAY-3", ProcessingStatus.FAILED),
+                            tuple("PAY-4", ProcessingStatus.SKIPPED));
+            verify(bookingMetrics).incrementPaymentEventsFailed("schema_validation");
+            verify(bookingMetrics).incrementPaymentEventsFailed("processing_error");
+        }
+    }
+
+    @Nested
+    @DisplayName("Single payments")
+    class SinglePaymentTests {
+
+        @Test
+        @DisplayName("Should confirm the booking when the full amount is received")
+        void shouldConfirmOnFullPayment() {
+            // Arrange
+            Booking booking = pendingBooking("BKG0000005", "200.00");
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of());
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(booking));
+
+            // Act
+            PaymentOutcome outcome = bankTransferPaymentService.apply(payment("PAY-5", "200.00", "BKG0000005"));
+
+            // Assert
+            assertThat(outcome.result()).isEqualTo(Result.CONFIRMED);
+            assertThat(booking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(booking.getAmountReceived()).isEqualByComparingTo("200.00");
+            verify(bookingRepository).save(booking);
+            verify(bookingMetrics).incrementPaymentEventsProcessed();
+        }
+
+        @Test
+        @DisplayName("Should keep the booking pending on a partial payment")
+        void shouldKeepPendingOnPartialPayment() {
+            // Arrange
+            Booking booking = pendingBooking("BKG0000006", "300.00");
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of());
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(booking));
+
+            // Act
+            PaymentOutcome outcome = bankTransferPaymentService.apply(payment("PAY-6", "100.00", "BKG0000006"));
+
+            // Assert
+            assertThat(outcome.result()).isEqualTo(Result.PARTIAL);
+            assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING_PAYMENT);
+            assertThat(booking.getAmountReceived()).isEqualByComparingTo("100.00");
+            verify(eventPublisher, never()).publishEvent(any(BookingStatusChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should price a booking that has no amount due before applying a payment")
+        void shouldPriceUnpricedBooking() {
+            // Arrange
+            Booking booking = pendingBooking("BKG0000007", "0.00");
+            booking.setPaymentAmount(null);
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of());
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(booking));
+            when(pricingEngine.price(booking.getVehicleCategory(), booking.getRentalStartDate(),
+                    booking.getRentalEndDate())).thenReturn(new BigDecimal("150.00"));
+
+            // Act
+            PaymentOutcome outcome = bankTransferPaymentService.apply(payment("PAY-7", "150.00", "BKG0000007"));
+
+            // Assert
+            assertThat(outcome.result()).isEqualTo(Result.CONFIRMED);
+            assertThat(booking.getPaymentAmount()).isEqualByComparingTo("150.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Dry run")
+    class DryRunTests {
+
+        @Test
+        @DisplayName("Should write nothing and carry earlier payments over to later batches")
+        void shouldCarryPaymentsAcrossBatches() {
+            // Arrange
+            Booking booking = pendingBooking("BKG0000001", "200.00");
+            when(processedPaymentEventRepository.findProcessedPaymentIds(any())).thenReturn(List.of());
+            when(bookingRepository.findByBookingIds(any())).thenReturn(List.of(booking)).thenReturn(List.of());
+            Run run = Run.dryRun();
+
+            // Act
+            List<PaymentOutcome> firstBatch = bankTransferPaymentService.apply(
+                    List.of(payment("PAY-1", "120.00", "BKG0000001")), run);
+            List<PaymentOutcome> secondBatch = bankTransferPaymentService.apply(List.of(
+                    payment("PAY-1", "120.00", "BKG0000001"),
+                    payment("PAY-2", "80.00", "BKG0000001")), run);
+
+            // Assert
+            assertThat(firstBatch).extracting(PaymentOutcome::result).containsExactly(Result.PARTIAL);
+            assertThat(secondBatch).extracting(PaymentOutcome::result)
+                    .containsExactly(Result.DUPLICATE, Result.CONFIRMED);
+            assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING_PAYMENT);
+            assertThat(booking.getAmountReceived()).isEqualByComparingTo("0");
+            verify(bookingRepository, never()).save(any());
+            verify(processedPaymentEventRepository, never()).saveAll(any());
+            verifyNoInteractions(eventPublisher, bookingMetrics);
+        }
+    }
+
+    private static BankTransferPaymentEvent payment(String paymentId, String amount, String bookingId) {
+        return new BankTransferPaymentEvent(paymentId, "NL91ABNA0417164300", new BigDecimal(amount),
+                "TXN987654321 " + bookingId);
+    }
+
+    private static Booking pendingBooking(String bookingId, String amountDue) {
+        return Booking.builder()
+                .bookingId(bookingId)
+                .customerName("Test User")
+                .vehicleId("VH-001")
+                .vehicleCategory(VehicleCategory.SEDAN)
+                .rentalStartDate(LocalDate.now().plusDays(5))
+                .rentalEndDate(LocalDate.now().plusDays(10))
+                .paymentMode(PaymentMode.BANK_TRANSFER)
+                .paymentAmount(new BigDecimal(amountDue))
+                .amountReceived(BigDecimal.ZERO)
+                .status(BookingStatus.PENDING_PAYMENT)
+                .build();
+    }
+}
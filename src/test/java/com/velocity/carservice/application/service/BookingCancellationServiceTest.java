@@ -1,5 +1,7 @@
 package com.velocity.carservice.application.service;
 
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.domain.model.Booking;
 import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.model.PaymentMode;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +41,9 @@ class BookingCancellationServiceTest {
     @Mock
     private BookingMetrics bookingMetrics;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingCancellationService cancellationService;
 
@@ -58,6 +65,8 @@ class BookingCancellationServiceTest {
         assertThat(cancelledCount).isEqualTo(2);
         verify(bookingRepository).findBookingIdsForAutoCancellation(2); // 2 days before rental
         verify(bookingRepository).batchUpdateStatus(bookingIdsToCancel, BookingStatus.CANCELLED);
+        verify(eventPublisher, times(2)).publishEvent(any(BookingStatusChangedEvent.class));
+        verify(eventPublisher).publishEvent(new BookingCacheEvictionEvent(bookingIdsToCancel));
     }
 
     @Test
@@ -74,6 +83,7 @@ class BookingCancellationServiceTest {
         assertThat(cancelledCount).isEqualTo(0);
         verify(bookingRepository).findBookingIdsForAutoCancellation(2);
         verify(bookingRepository, never()).batchUpdateStatus(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(BookingCacheEvictionEvent.class));
     }
 
     @Test
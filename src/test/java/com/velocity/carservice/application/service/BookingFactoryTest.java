@@ -0,0 +1,86 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.strategy.PaymentStrategy;
+import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingFactory Unit Tests")
+class BookingFactoryTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(5);
+    private static final LocalDate END = LocalDate.now().plusDays(10);
+
+    @Mock
+    private PaymentStrategyFactory paymentStrategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    private BookingFactory bookingFactory;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentStrategyFactory.getStrategy(PaymentMode.BANK_TRANSFER)).thenReturn(paymentStrategy);
+        bookingFactory = new BookingFactory(paymentStrategyFactory);
+    }
+
+    @Test
+    @DisplayName("Should create the booking with its ID, amount and the status its payment gives it")
+    void shouldCreateBooking() {
+        // Arrange
+        when(paymentStrategy.processPayment(any(Booking.class), any())).thenReturn(BookingStatus.PENDING_PAYMENT);
+
+        // Act
+        Booking booking = bookingFactory.create("BKG0000001", request("VH-001"), new BigDecimal("250.00"));
+
+        // Assert
+        assertThat(booking.getBookingId()).isEqualTo("BKG0000001");
+        assertThat(booking.getVehicleId()).isEqualTo("VH-001");
+        assertThat(booking.getPaymentAmount()).isEqualByComparingTo("250.00");
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING_PAYMENT);
+        verify(paymentStrategy).processPayment(booking, "BT-REF-001");
+    }
+
+    @Test
+    @DisplayName("Should process a shared payment once and give every booking its status")
+    void shouldCreateBookingsPaidTogether() {
+        // Arrange
+        when(paymentStrategy.processPayment(any(Booking.class), any())).thenReturn(BookingStatus.PENDING_PAYMENT);
+
+        // Act
+        List<Booking> bookings = bookingFactory.createPaidTogether(List.of("BKG0000001", "BKG0000002"),
+                List.of(request("VH-001"), request("VH-002")),
+                List.of(new BigDecimal("250.00"), new BigDecimal("400.00")));
+
+        // Assert
+        assertThat(bookings).extracting(Booking::getBookingId).containsExactly("BKG0000001", "BKG0000002");
+        assertThat(bookings).extracting(Booking::getStatus).containsOnly(BookingStatus.PENDING_PAYMENT);
+        assertThat(bookings.get(1).getPaymentAmount()).isEqualByComparingTo("400.00");
+        verify(paymentStrategy).processPayment(bookings.get(0), "BT-REF-001");
+    }
+
+    private static BookingRequestDTO request(String vehicleId) {
+        return new BookingRequestDTO("John Doe", vehicleId, VehicleCategory.SEDAN, START, END,
+                PaymentMode.BANK_TRANSFER, "BT-REF-001");
+    }
+}
@@ -0,0 +1,269 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.response.BookingBatchGetResponseDTO;
+import com.velocity.carservice.application.dto.response.BookingPageResponseDTO;
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.cache.BookingStatusCache;
+import com.velocity.carservice.infrastructure.cache.UnknownBookingGuard;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.export.BookingExportFormat;
+import com.velocity.carservice.infrastructure.export.BookingExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingQueryService Unit Tests")
+class BookingQueryServiceTest {
+
+    private static final BookingSearchCriteria NO_FILTERS =
+            new BookingSearchCriteria(null, null, null, null, null, null);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingExporter bookingExporter;
+
+    @Mock
+    private BookingStatusCache bookingStatusCache;
+
+    @Mock
+    private UnknownBookingGuard unknownBookingGuard;
+
+    private BookingQueryService bookingQueryService;
+
+    @BeforeEach
+    void setUp() {
+        bookingQueryService = new BookingQueryService(bookingRepository, bookingExporter, bookingStatusCache, unknownBookingGuard, 2, 3);
+    }
+
+    private static List<BookingSummary> summaries(int count) {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BookingSummary(String.format("BKG%07d", i), "Customer " + i, "VH-" + i,
+                        VehicleCategory.SEDAN, start.plusDays(i), start.plusDays(i + 2),
+                        PaymentMode.DIGITAL_WALLET, BookingStatus.CONFIRMED))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should return a next cursor when more rows exist")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            // Arrange - page size 2, repository asked for 3
+            when(bookingRepository.searchSummaries(NO_FILTERS, null, 3)).thenReturn(summaries(3));
+
+            // Act
+            BookingPageResponseDTO page = bookingQueryService.searchBookings(NO_FILTERS, null, null);
+
+            // Assert
+            assertThat(page.bookings()).hasSize(2);
+            assertThat(page.nextCursor()).isNotNull();
+            assertThat(BookingQueryService.decodeCursor(page.nextCursor()))
+                    .isEqualTo(new BookingKeyset(LocalDate.of(2026, 3, 2), "BKG0000001"));
+        }
+
+        @Test
+        @DisplayName("Should return no cursor on the last page")
+        void shouldReturnNoCursorOnLastPage() {
+            // Arrange
+            when(bookingRepository.searchSummaries(NO_FILTERS, null, 3)).thenReturn(summaries(1));
+
+            // Act
+            BookingPageResponseDTO page = bookingQueryService.searchBookings(NO_FILTERS, null, null);
+
+            // Assert
+            assertThat(page.bookings()).hasSize(1);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should resume after the keyset encoded in the cursor")
+        void shouldResumeAfterCursor() {
+            // Arrange
+            BookingKeyset keyset = new BookingKeyset(LocalDate.of(2026, 3, 2), "BKG0000001");
+            String cursor = BookingQueryService.encodeCursor(keyset);
+            when(bookingRepository.searchSummaries(NO_FILTERS, keyset, 3)).thenReturn(List.of());
+
+            // Act
+            BookingPageResponseDTO page = bookingQueryService.searchBookings(NO_FILTERS, cursor, null);
+
+            // Assert
+            assertThat(page.bookings()).isEmpty();
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should cap the page size at the configured maximum")
+        void shouldCapPageSize() {
+            // Arrange - max page size 3, repository asked for 4
+            when(bookingRepository.searchSummaries(eq(NO_FILTERS), isNull(), anyInt())).thenReturn(List.of());
+
+            // Act
+            bookingQueryService.searchBookings(NO_FILTERS, null, 1000);
+
+            // Assert
+            verify(bookingRepository).searchSummaries(NO_FILTERS, null, 4);
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> bookingQueryService.searchBookings(NO_FILTERS, "not a cursor!", null))
+                    .isInstanceOf(BookingValidationException.class)
+                    .hasMessageContaining("cursor");
+            verifyNoInteractions(bookingRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted rental date range")
+        void shouldRejectInvertedDateRange() {
+            BookingSearchCriteria criteria = new BookingSearchCriteria(null, null, null, null,
+                    LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 1));
+
+            assertThatThrownBy(() -> bookingQueryService.searchBookings(criteria, null, null))
+                    .isInstanceOf(BookingValidationException.class);
+            verify(bookingRepository, never()).searchSummaries(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tests")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Should delegate a valid range to the exporter")
+        void shouldDelegateValidRangeToExporter() {
+            // Arrange
+            LocalDate from = LocalDate.of(2026, 1, 1);
+            LocalDate to = LocalDate.of(2026, 1, 31);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            when(bookingExporter.export(from, to, BookingExportFormat.CSV, out)).thenReturn(42L);
+
+            // Act
+            long rows = bookingQueryService.exportBookings(from, to, BookingExportFormat.CSV, out);
+
+            // Assert
+            assertThat(rows).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("Should reject a range that ends before it starts")
+        void shouldRejectInvertedRange() {
+            // Act & Assert
+            assertThatThrownBy(() -> bookingQueryService.exportBookings(LocalDate.of(2026, 2, 1),
+                    LocalDate.of(2026, 1, 1), BookingExportFormat.NDJSON, new ByteArrayOutputStream()))
+                    .isInstanceOf(BookingValidationException.class);
+
+            verifyNoInteractions(bookingExporter);
+        }
+
+        @Test
+        @DisplayName("Should reject a missing range bound")
+        void shouldRejectMissingBound() {
+            // Act & Assert
+            assertThatThrownBy(() -> bookingQueryService.exportBookings(null, LocalDate.of(2026, 1, 1),
+                    BookingExportFormat.NDJSON, new ByteArrayOutputStream()))
+                    .isInstanceOf(BookingValidationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Get Tests")
+    class BatchGetTests {
+
+        private final BookingStatusView pending =
+                new BookingStatusView("BKG0000001", BookingStatus.PENDING_PAYMENT, 0L);
+        private final BookingStatusView confirmed =
+                new BookingStatusView("BKG0000002", BookingStatus.CONFIRMED, 1L);
+
+        @Test
+        @DisplayName("Should load only cache misses and write them back")
+        void shouldLoadOnlyCacheMissesAndWriteThemBack() {
+            // Arrange
+            List<String> ids = List.of("BKG0000001", "BKG0000002", "BKG0000003");
+            when(bookingStatusCache.getAll(ids)).thenReturn(Map.of("BKG0000001", pending));
+            when(bookingRepository.findStatusesByBookingIds(List.of("BKG0000002", "BKG0000003")))
+                    .thenReturn(List.of(confirmed));
+
+            // Act
+            BookingBatchGetResponseDTO response = bookingQueryService.batchGetBookings(ids);
+
+            // Assert
+            assertThat(response.bookings())
+                    .extracting(b -> b.bookingId() + ":" + b.bookingStatus())
+                    .containsExactly("BKG0000001:PENDING_PAYMENT", "BKG0000002:CONFIRMED");
+            assertThat(response.notFound()).containsExactly("BKG0000003");
+            verify(bookingStatusCache).putAll(List.of(confirmed));
+            verify(unknownBookingGuard).recordMiss("BKG0000003");
+        }
+
+        @Test
+        @DisplayName("Should report IDs known not to exist without looking them up")
+        void shouldSkipKnownAbsentIds() {
+            // Arrange
+            when(unknownBookingGuard.isKnownAbsent("BKG0000001")).thenReturn(false);
+            when(unknownBookingGuard.isKnownAbsent("BKG9999999")).thenReturn(true);
+            when(bookingStatusCache.getAll(List.of("BKG0000001"))).thenReturn(Map.of("BKG0000001", pending));
+
+            // Act
+            BookingBatchGetResponseDTO response = bookingQueryService.batchGetBookings(
+                    List.of("BKG0000001", "BKG9999999"));
+
+            // Assert
+            assertThat(response.bookings()).hasSize(1);
+            assertThat(response.notFound()).containsExactly("BKG9999999");
+            verify(bookingRepository, never()).findStatusesByBookingIds(any());
+        }
+
+        @Test
+        @DisplayName("Should skip the database when every booking is cached")
+        void shouldSkipDatabaseWhenAllCached() {
+            // Arrange - duplicates are resolved once
+            when(bookingStatusCache.getAll(List.of("BKG0000002", "BKG0000001")))
+                    .thenReturn(Map.of("BKG0000001", pending, "BKG0000002", confirmed));
+
+            // Act
+            BookingBatchGetResponseDTO response = bookingQueryService.batchGetBookings(
+                    List.of("BKG0000002", "BKG0000001", "BKG0000002"));
+
+            // Assert
+            assertThat(response.bookings()).hasSize(2);
+            assertThat(response.notFound()).isEmpty();
+            verify(bookingRepository, never()).findStatusesByBookingIds(any());
+            verify(bookingStatusCache, never()).putAll(any());
+        }
+    }
+}
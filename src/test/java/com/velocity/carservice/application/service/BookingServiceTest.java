@@ -1,17 +1,28 @@
 package com.velocity.carservice.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.application.dto.request.BookingRequestDTO;
 import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
 import com.velocity.carservice.application.strategy.PaymentStrategy;
 import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
 import com.velocity.carservice.domain.model.Booking;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleHold;
 import com.velocity.carservice.domain.repository.BookingRepository;
 import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.cache.UnknownBookingGuard;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingNotFoundException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.HoldExpiredException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.PaymentFailedException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
 import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +30,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,6 +46,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,13 +68,29 @@ class BookingServiceTest {
     @Mock
     private BookingMetrics bookingMetrics;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UnknownBookingGuard unknownBookingGuard;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private VehicleHoldStore vehicleHoldStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private BookingService bookingService;
 
     private BookingRequestDTO validRequest;
 
     @BeforeEach
     void setUp() {
+        bookingService = new BookingService(bookingRepository, bookingDomainService,
+                new BookingFactory(paymentStrategyFactory), bookingMetrics, eventPublisher, unknownBookingGuard,
+                objectMapper, pricingEngine, vehicleHoldStore);
         validRequest = new BookingRequestDTO(
                 "John Doe",
                 "VH-001",
@@ -162,6 +190,96 @@ class BookingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Availability and Hold Tests")
+    class HoldTests {
+
+        private BookingRequestDTO heldRequest() {
+            return new BookingRequestDTO("John Doe", "VH-001", VehicleCategory.SEDAN,
+                    validRequest.rentalStartDate(), validRequest.rentalEndDate(),
+                    PaymentMode.DIGITAL_WALLET, "PAY-REF-001", "HOLD-1");
+        }
+
+        private VehicleHold hold(String vehicleId) {
+            return new VehicleHold("HOLD-1", vehicleId, VehicleCategory.SEDAN,
+                    validRequest.rentalStartDate(), validRequest.rentalEndDate(), 27_550,
+                    System.currentTimeMillis() + 60_000);
+        }
+
+        @Test
+        @DisplayName("Should reject a booking for a vehicle that is already held")
+        void shouldRejectHeldVehicle() {
+            // Arrange
+            when(vehicleHoldStore.isHeld("VH-001", validRequest.rentalStartDate(), validRequest.rentalEndDate()))
+                    .thenReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.confirmBooking(validRequest))
+                    .isInstanceOf(VehicleUnavailableException.class);
+            verify(bookingRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should charge the quoted amount without repricing when a hold is redeemed")
+        void shouldChargeQuotedAmount() {
+            // Arrange
+            when(vehicleHoldStore.redeem("HOLD-1")).thenReturn(Optional.of(hold("VH-001")));
+            when(bookingDomainService.generateBookingId()).thenReturn("BKG0000001");
+            when(paymentStrategyFactory.getStrategy(PaymentMode.DIGITAL_WALLET)).thenReturn(paymentStrategy);
+            when(paymentStrategy.processPayment(any(Booking.class), anyString())).thenReturn(BookingStatus.CONFIRMED);
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            bookingService.confirmBooking(heldRequest());
+
+            // Assert
+            ArgumentCaptor<Booking> captor = ArgumentCaptor.forClass(Booking.class);
+            verify(bookingRepository).save(captor.capture());
+            assertThat(captor.getValue().getPaymentAmount()).isEqualByComparingTo("275.50");
+            verifyNoInteractions(pricingEngine);
+            verify(vehicleHoldStore, never()).isHeld(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a redeemed hold when the vehicle was booked after the quote was checked")
+        void shouldRecheckAvailabilityOnRedeem() {
+            // Arrange
+            when(vehicleHoldStore.redeem("HOLD-1")).thenReturn(Optional.of(hold("VH-001")));
+            when(bookingRepository.existsActiveBookingForVehicle(
+                    "VH-001", validRequest.rentalStartDate(), validRequest.rentalEndDate())).thenReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.confirmBooking(heldRequest()))
+                    .isInstanceOf(VehicleUnavailableException.class);
+            verify(bookingRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject an expired or used hold token")
+        void shouldRejectExpiredHold() {
+            // Arrange
+            when(vehicleHoldStore.redeem("HOLD-1")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.confirmBooking(heldRequest()))
+                    .isInstanceOf(HoldExpiredException.class);
+            verify(bookingRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should give the hold back when the booking does not match it")
+        void shouldReleaseMismatchedHold() {
+            // Arrange
+            VehicleHold otherVehicle = hold("VH-999");
+            when(vehicleHoldStore.redeem("HOLD-1")).thenReturn(Optional.of(otherVehicle));
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.confirmBooking(heldRequest()))
+                    .isInstanceOf(BookingValidationException.class);
+            verify(vehicleHoldStore).release(otherVehicle);
+        }
+    }
+
     @Nested
     @DisplayName("Bank Transfer Payment Tests")
     class BankTransferPaymentTests {
@@ -181,6 +299,8 @@ class BookingServiceTest {
             );
 
             when(bookingDomainService.generateBookingId()).thenReturn("BKG0000004");
+            when(pricingEngine.price(VehicleCategory.COMPACT, bankTransferRequest.rentalStartDate(),
+                    bankTransferRequest.rentalEndDate())).thenReturn(new BigDecimal("195.00"));
             when(paymentStrategyFactory.getStrategy(PaymentMode.BANK_TRANSFER)).thenReturn(paymentStrategy);
             when(paymentStrategy.processPayment(any(Booking.class), anyString())).thenReturn(BookingStatus.PENDING_PAYMENT);
             when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -192,74 +312,10 @@ class BookingServiceTest {
             assertThat(response.bookingStatus()).isEqualTo(BookingStatus.PENDING_PAYMENT);
             verify(paymentStrategyFactory).getStrategy(PaymentMode.BANK_TRANSFER);
             verify(paymentStrategy).processPayment(any(Booking.class), eq("BT-REF-001"));
-        }
-
-        @Test
-        @DisplayName("Should confirm booking when full payment is received via bank transfer")
-        void shouldConfirmBookingWhenFullPaymentReceived() {
-            // Arrange
-            Booking pendingBooking = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .bookingId("BKG0000005")
-                    .customerName("Test User")
-                    .vehicleId("VH-005")
-                    .vehicleCategory(VehicleCategory.SEDAN)
-                    .rentalStartDate(LocalDate.now().plusDays(5))
-                    .rentalEndDate(LocalDate.now().plusDays(10))
-                    .paymentMode(PaymentMode.BANK_TRANSFER)
-                    .paymentReference("BT-REF-002")
-                    .paymentAmount(new BigDecimal("200.00"))
-                    .amountReceived(BigDecimal.ZERO)
-                    .status(BookingStatus.PENDING_PAYMENT)
-                    .build();
-
-            when(bookingRepository.findByBookingId("BKG0000005")).thenReturn(Optional.of(pendingBooking));
-            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-            // Act
-            bookingService.processBankTransferPayment("BKG0000005", new BigDecimal("200.00"));
 
-            // Assert
             ArgumentCaptor<Booking> bookingCaptor = ArgumentCaptor.forClass(Booking.class);
             verify(bookingRepository).save(bookingCaptor.capture());
-
-            Booking savedBooking = bookingCaptor.getValue();
-            assertThat(savedBooking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
-            assertThat(savedBooking.getAmountReceived()).isEqualByComparingTo(new BigDecimal("200.00"));
-        }
-
-        @Test
-        @DisplayName("Should keep PENDING_PAYMENT status for partial payment")
-        void shouldKeepPendingStatusForPartialPayment() {
-            // Arrange
-            Booking pendingBooking = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .bookingId("BKG0000006")
-                    .customerName("Test User")
-                    .vehicleId("VH-006")
-                    .vehicleCategory(VehicleCategory.SEDAN)
-                    .rentalStartDate(LocalDate.now().plusDays(5))
-                    .rentalEndDate(LocalDate.now().plusDays(10))
-                    .paymentMode(PaymentMode.BANK_TRANSFER)
-                    .paymentReference("BT-REF-003")
-                    .paymentAmount(new BigDecimal("300.00"))
-                    .amountReceived(BigDecimal.ZERO)
-                    .status(BookingStatus.PENDING_PAYMENT)
-                    .build();
-
-            when(bookingRepository.findByBookingId("BKG0000006")).thenReturn(Optional.of(pendingBooking));
-            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-            // Act
-            bookingService.processBankTransferPayment("BKG0000006", new BigDecimal("100.00"));
-
-            // Assert
-            ArgumentCaptor<Booking> bookingCaptor = ArgumentCaptor.forClass(Booking.class);
-            verify(bookingRepository).save(bookingCaptor.capture());
-
-            Booking savedBooking = bookingCaptor.getValue();
-            assertThat(savedBooking.getStatus()).isEqualTo(BookingStatus.PENDING_PAYMENT);
-            assertThat(savedBooking.getAmountReceived()).isEqualByComparingTo(new BigDecimal("100.00"));
+            assertThat(bookingCaptor.getValue().getPaymentAmount()).isEqualByComparingTo("195.00");
         }
     }
 
@@ -271,31 +327,43 @@ class BookingServiceTest {
         @DisplayName("Should return booking when found")
         void shouldReturnBookingWhenFound() {
             // Arrange
-            Booking booking = Booking.builder()
-                    .bookingId("BKG0000007")
-                    .status(BookingStatus.CONFIRMED)
-                    .build();
-
-            when(bookingRepository.findByBookingId("BKG0000007")).thenReturn(Optional.of(booking));
+            when(bookingRepository.findStatusByBookingId("BKG0000007"))
+                    .thenReturn(Optional.of(new BookingStatusView("BKG0000007", BookingStatus.CONFIRMED, 0L)));
 
             // Act
-            BookingResponseDTO response = bookingService.getBookingById("BKG0000007");
+            CachedBookingResponse response = bookingService.getBookingById("BKG0000007");
 
             // Assert
             assertThat(response.bookingId()).isEqualTo("BKG0000007");
-            assertThat(response.bookingStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(response.status()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(response.eTag()).isEqualTo("\"0\"");
+            assertThat(new String(response.body(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"bookingId\":\"BKG0000007\",\"bookingStatus\":\"CONFIRMED\"}");
         }
 
         @Test
         @DisplayName("Should throw exception when booking not found")
         void shouldThrowExceptionWhenBookingNotFound() {
             // Arrange
-            when(bookingRepository.findByBookingId("INVALID")).thenReturn(Optional.empty());
+            when(bookingRepository.findStatusByBookingId("INVALID")).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> bookingService.getBookingById("INVALID"))
                     .isInstanceOf(BookingNotFoundException.class)
                     .hasMessageContaining("Booking not found");
+            verify(unknownBookingGuard).recordMiss("INVALID");
+        }
+
+        @Test
+        @DisplayName("Should reject an ID known not to exist without querying the database")
+        void shouldRejectKnownAbsentIdWithoutQuery() {
+            // Arrange
+            when(unknownBookingGuard.isKnownAbsent("BKG9999999")).thenReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.getBookingById("BKG9999999"))
+                    .isInstanceOf(BookingNotFoundException.class);
+            verifyNoInteractions(bookingRepository);
         }
     }
 
@@ -307,20 +375,44 @@ class BookingServiceTest {
         @DisplayName("Should cancel booking successfully")
         void shouldCancelBookingSuccessfully() {
             // Arrange
-            Booking booking = Booking.builder()
-                    .bookingId("BKG0000008")
-                    .status(BookingStatus.PENDING_PAYMENT)
-                    .build();
-
-            when(bookingRepository.findByBookingId("BKG0000008")).thenReturn(Optional.of(booking));
-            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(bookingRepository.cancelIfPending("BKG0000008"))
+                    .thenReturn(Optional.of(new BookingStatusView("BKG0000008", BookingStatus.CANCELLED, 1L)));
 
             // Act
             BookingResponseDTO response = bookingService.cancelBooking("BKG0000008");
 
             // Assert
+            assertThat(response.bookingId()).isEqualTo("BKG0000008");
             assertThat(response.bookingStatus()).isEqualTo(BookingStatus.CANCELLED);
-            verify(bookingDomainService).validateBookingForCancellation(booking);
+            verify(bookingRepository, never()).findByBookingId(anyString());
+            verify(bookingRepository, never()).save(any(Booking.class));
+            verify(eventPublisher).publishEvent(any(BookingStatusChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should reject cancellation when booking is no longer pending")
+        void shouldRejectCancellationWhenNotPending() {
+            // Arrange
+            when(bookingRepository.cancelIfPending("BKG0000009")).thenReturn(Optional.empty());
+            when(bookingRepository.findStatusByBookingId("BKG0000009"))
+                    .thenReturn(Optional.of(new BookingStatusView("BKG0000009", BookingStatus.CONFIRMED, 2L)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.cancelBooking("BKG0000009"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("CONFIRMED");
+        }
+
+        @Test
+        @DisplayName("Should throw not found when cancelling unknown booking")
+        void shouldThrowNotFoundWhenCancellingUnknownBooking() {
+            // Arrange
+            when(bookingRepository.cancelIfPending("INVALID")).thenReturn(Optional.empty());
+            when(bookingRepository.findStatusByBookingId("INVALID")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> bookingService.cancelBooking("INVALID"))
+                    .isInstanceOf(BookingNotFoundException.class);
         }
     }
 }
@@ -0,0 +1,282 @@
+package com.velocity.carservice.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.event.BookingCacheEvictionEvent;
+import com.velocity.carservice.application.strategy.PaymentStrategy;
+import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.PaymentFailedException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkBookingService Unit Tests")
+class BulkBookingServiceTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(5);
+    private static final LocalDate END = LocalDate.now().plusDays(10);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingDomainService bookingDomainService;
+
+    @Mock
+    private PaymentStrategyFactory paymentStrategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private VehicleHoldStore vehicleHoldStore;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(bookingDomainService.generateBookingIds(anyInt())).thenAnswer(invocation ->
+                IntStream.range(0, invocation.<Integer>getArgument(0))
+                        .mapToObj(i -> "BKG" + i)
+                        .toList());
+        lenient().when(pricingEngine.price(any(), any(), any())).thenReturn(new BigDecimal("250.00"));
+        lenient().when(paymentStrategyFactory.getStrategy(any())).thenReturn(paymentStrategy);
+        lenient().when(paymentStrategy.processPayment(any(Booking.class), any())).thenReturn(BookingStatus.CONFIRMED);
+        lenient().when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("Applying operations")
+    class ApplyingTests {
+
+        @Test
+        @DisplayName("Should create and cancel bookings and report every line in order")
+        void shouldApplyCreatesAndCancels() throws Exception {
+            // Arrange
+            when(bookingRepository.cancelAllIfPending(any())).thenReturn(
+                    List.of(new BookingStatusView("BKG0000001", BookingStatus.CANCELLED, 1L)));
+            when(bookingRepository.findStatusesByBookingIds(any())).thenReturn(
+                    List.of(new BookingStatusView("BKG0000002", BookingStatus.CONFIRMED, 0L)));
+
+            // Act
+            List<JsonNode> results = ingest(service(100),
+                    create("VH-001"),
+                    cancel("BKG0000001"),
+                    "",
+                    cancel("BKG0000002"),
+                    cancel("BKG0000404"),
+                    create("VH-002"));
+
+            // Assert
+            assertThat(results).extracting(result -> result.get("line").asLong()).containsExactly(1L, 2L, 4L, 5L, 6L);
+            assertThat(results.get(0).get("bookingStatus").asText()).isEqualTo("CONFIRMED");
+            assertThat(results.get(1).get("bookingStatus").asText()).isEqualTo("CANCELLED");
+            assertThat(results.get(2).get("error").asText()).contains("Current status: CONFIRMED");
+            assertThat(results.get(3).get("error").asText()).isEqualTo("Booking not found: BKG0000404");
+            assertThat(results.get(4).get("bookingId").asText()).isEqualTo("BKG1");
+            verify(bookingRepository).saveAll(anyList());
+            verify(bookingRepository).cancelAllIfPending(any());
+            verify(bookingDomainService).generateBookingIds(2);
+            verify(eventPublisher).publishEvent(BookingCacheEvictionEvent.of(List.of("BKG0000001")));
+            verify(bookingMetrics, times(2)).incrementBookingsCreated(PaymentMode.DIGITAL_WALLET, VehicleCategory.SEDAN);
+        }
+
+        @Test
+        @DisplayName("Should apply lines in groups of the batch size, one transaction each")
+        void shouldApplyInGroups() throws Exception {
+            // Act
+            List<JsonNode> results = ingest(service(2),
+                    create("VH-001"), create("VH-002"), create("VH-003"), create("VH-004"), create("VH-005"));
+
+            // Assert
+            assertThat(results).hasSize(5).allMatch(result -> result.has("bookingStatus"));
+            verify(bookingRepository, times(3)).saveAll(anyList());
+            verify(transactionManager, times(3)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should report malformed, invalid and overlong lines without failing the others")
+        void shouldReportBadLines() throws Exception {
+            // Act
+            List<JsonNode> results = ingest(service(100),
+                    "{not json",
+                    "{\"op\": \"CREATE\", \"booking\": {\"vehicleId\": \"VH-001\"}}",
+                    "{\"op\": \"CANCEL\"}",
+                    "{\"op\": \"CANCEL\", \"bookingId\": \"" + "X".repeat(300) + "\"}",
+                    create("VH-002"));
+
+            // Assert
+            assertThat(results.get(0).get("error").asText()).startsWith("Malformed operation");
+            assertThat(results.get(1).get("error").asText()).contains("Customer name is required");
+            assertThat(results.get(2).get("error").asText()).isEqualTo("Booking ID is required");
+            assertThat(results.get(3).get("error").asText()).isEqualTo("Line is longer than 256 characters");
+            assertThat(results.get(4).get("bookingStatus").asText()).isEqualTo("CONFIRMED");
+        }
+    }
+
+    @Nested
+    @DisplayName("Refusing operations")
+    class RefusingTests {
+
+        @Test
+        @DisplayName("Should refuse creates for booked vehicles and overlapping creates in the same upload")
+        void shouldRefuseUnavailableVehicles() throws Exception {
+            // Arrange
+            when(bookingRepository.findVehicleIdsWithActiveBookings(any(), eq(START), eq(END)))
+                    .thenReturn(List.of("VH-001"));
+            when(bookingRepository.existsActiveBookingForVehicle("VH-001", START, END)).thenReturn(true);
+
+            // Act
+            List<JsonNode> results = ingest(service(100), create("VH-001"), create("VH-002"), create("VH-002"));
+
+            // Assert
+            assertThat(results.get(0).get("error").asText()).contains("VH-001 is not available");
+            assertThat(results.get(1).get("bookingStatus").asText()).isEqualTo("CONFIRMED");
+            assertThat(results.get(2).get("error").asText()).contains("VH-002 is not available");
+            verify(bookingDomainService).generateBookingIds(1);
+        }
+
+        @Test
+        @DisplayName("Should process payments before opening the transaction and report refused ones")
+        void shouldProcessPaymentsBeforeTransaction() throws Exception {
+            // Arrange
+            when(paymentStrategy.processPayment(any(Booking.class), any()))
+                    .thenThrow(new PaymentFailedException("Payment was not approved"))
+                    .thenReturn(BookingStatus.CONFIRMED);
+
+            // Act
+            List<JsonNode> results = ingest(service(100), create("VH-001"), create("VH-002"));
+
+            // Assert
+            assertThat(results.get(0).get("error").asText()).isEqualTo("Payment was not approved");
+            assertThat(results.get(1).get("bookingStatus").asText()).isEqualTo("CONFIRMED");
+            InOrder inOrder = inOrder(paymentStrategy, transactionManager, bookingRepository);
+            inOrder.verify(paymentStrategy, times(2)).processPayment(any(Booking.class), any());
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(bookingRepository).saveAll(argThat(bookings -> bookings.size() == 1));
+        }
+
+        @Test
+        @DisplayName("Should fail every line of a group that rolls back and go on with the next group")
+        void shouldReportRolledBackGroup() throws Exception {
+            // Arrange
+            List<Integer> calls = new ArrayList<>();
+            when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                calls.add(calls.size());
+                if (calls.size() == 1) {
+                    throw new DataIntegrityViolationException("duplicate key");
+                }
+                return invocation.getArgument(0);
+            });
+
+            // Act
+            List<JsonNode> results = ingest(service(2), create("VH-001"), create("VH-002"), create("VH-003"));
+
+            // Assert
+            assertThat(results.get(0).get("error").asText()).contains("rolled back").contains("duplicate key");
+            assertThat(results.get(1).get("error").asText()).contains("rolled back");
+            assertThat(results.get(2).get("bookingStatus").asText()).isEqualTo("CONFIRMED");
+            verify(transactionManager).rollback(any());
+            verify(bookingMetrics).incrementBookingsCreated(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should say why a group rolled back when another request booked one of its vehicles")
+        void shouldReportConcurrentBookingOfVehicle() throws Exception {
+            // Arrange - the availability query passed, but an overlapping booking committed before the insert
+            when(bookingRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException(
+                    "could not execute batch", new SQLException("conflicting key value violates exclusion constraint "
+                    + "\"bookings_vehicle_rental_no_overlap\"", "23P01")));
+
+            // Act
+            List<JsonNode> results = ingest(service(2), create("VH-001"), create("VH-002"));
+
+            // Assert
+            assertThat(results).extracting(result -> result.get("error").asText()).containsOnly(
+                    "Not applied, its group was rolled back: a vehicle was booked for the same dates by another request");
+            verify(transactionManager).rollback(any());
+        }
+    }
+
+    private BulkBookingService service(int batchSize) {
+        return new BulkBookingService(bookingRepository, bookingDomainService,
+                new BookingFactory(paymentStrategyFactory), pricingEngine,
+                vehicleHoldStore, bookingMetrics, eventPublisher,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, objectMapper,
+                batchSize, 256);
+    }
+
+    private List<JsonNode> ingest(BulkBookingService service, String... lines) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.ingest(new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), out);
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private static String create(String vehicleId) {
+        return "{\"op\": \"CREATE\", \"booking\": {\"customerName\": \"Tour Operator\", \"vehicleId\": \"" + vehicleId
+                + "\", \"vehicleCategory\": \"SEDAN\", \"rentalStartDate\": \"" + START + "\", \"rentalEndDate\": \""
+                + END + "\", \"paymentMode\": \"DIGITAL_WALLET\", \"paymentReference\": \"WALLET-1\"}}";
+    }
+
+    private static String cancel(String bookingId) {
+        return "{\"op\": \"CANCEL\", \"bookingId\": \"" + bookingId + "\"}";
+    }
+}
@@ -0,0 +1,204 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.application.dto.request.GroupBookingRequestDTO;
+import com.velocity.carservice.application.dto.response.GroupBookingResponseDTO;
+import com.velocity.carservice.application.strategy.PaymentStrategy;
+import com.velocity.carservice.application.strategy.PaymentStrategyFactory;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.PaymentFailedException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupBookingService Unit Tests")
+class GroupBookingServiceTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(5);
+    private static final LocalDate END = LocalDate.now().plusDays(10);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingDomainService bookingDomainService;
+
+    @Mock
+    private PaymentStrategyFactory paymentStrategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private VehicleHoldStore vehicleHoldStore;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private GroupBookingService groupBookingService;
+
+    @BeforeEach
+    void setUp() {
+        groupBookingService = new GroupBookingService(bookingRepository, bookingDomainService,
+                new BookingFactory(paymentStrategyFactory), pricingEngine, vehicleHoldStore, bookingMetrics,
+                eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("Booking a group")
+    class BookingTests {
+
+        @Test
+        @DisplayName("Should book every vehicle with one payment, one ID block and one batch insert")
+        void shouldBookAllVehicles() {
+            // Arrange
+            GroupBookingRequestDTO request = request(PaymentMode.CREDIT_CARD, "VH-001", "VH-002", "VH-003");
+            when(bookingDomainService.generateBookingIds(3)).thenReturn(List.of("BKG1", "BKG2", "BKG3"));
+            when(pricingEngine.price(VehicleCategory.SEDAN, START, END)).thenReturn(new BigDecimal("250.00"));
+            when(paymentStrategyFactory.getStrategy(PaymentMode.CREDIT_CARD)).thenReturn(paymentStrategy);
+            when(paymentStrategy.processPayment(any(Booking.class), eq("CARD-123"))).thenReturn(BookingStatus.CONFIRMED);
+            when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            GroupBookingResponseDTO response = groupBookingService.confirmGroupBooking(request);
+
+            // Assert
+            assertThat(response.status()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(response.totalAmount()).isEqualByComparingTo("750.00");
+            assertThat(response.bookings()).extracting(GroupBookingResponseDTO.GroupedBooking::bookingId)
+                    .containsExactly("BKG1", "BKG2", "BKG3");
+            assertThat(response.bookings()).extracting(GroupBookingResponseDTO.GroupedBooking::vehicleId)
+                    .containsExactly("VH-001", "VH-002", "VH-003");
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Booking>> captor = ArgumentCaptor.forClass(List.class);
+            verify(bookingRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).allMatch(booking -> booking.getStatus() == BookingStatus.CONFIRMED
+                    && booking.getCustomerName().equals("Acme Corp"));
+            verify(paymentStrategy, times(1)).processPayment(any(Booking.class), eq("CARD-123"));
+            verify(bookingRepository, never()).save(any());
+            verify(eventPublisher, times(3)).publishEvent(any(BookingStatusChangedEvent.class));
+            verify(bookingMetrics, times(3)).incrementBookingsConfirmed(PaymentMode.CREDIT_CARD);
+        }
+
+        @Test
+        @DisplayName("Should leave bank transfer group bookings pending payment")
+        void shouldLeaveBankTransferPending() {
+            // Arrange
+            GroupBookingRequestDTO request = request(PaymentMode.BANK_TRANSFER, "VH-001", "VH-002");
+            when(bookingDomainService.generateBookingIds(2)).thenReturn(List.of("BKG1", "BKG2"));
+            when(pricingEngine.price(VehicleCategory.SEDAN, START, END)).thenReturn(new BigDecimal("250.00"));
+            when(paymentStrategyFactory.getStrategy(PaymentMode.BANK_TRANSFER)).thenReturn(paymentStrategy);
+            when(paymentStrategy.processPayment(any(Booking.class), eq("CARD-123")))
+                    .thenReturn(BookingStatus.PENDING_PAYMENT);
+            when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            GroupBookingResponseDTO response = groupBookingService.confirmGroupBooking(request);
+
+            // Assert
+            assertThat(response.status()).isEqualTo(BookingStatus.PENDING_PAYMENT);
+            verify(bookingMetrics, never()).incrementBookingsConfirmed(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejecting a group")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Should book nothing when any vehicle is booked or held")
+        void shouldRejectWhenAnyVehicleUnavailable() {
+            // Arrange
+            GroupBookingRequestDTO request = request(PaymentMode.CREDIT_CARD, "VH-001", "VH-002", "VH-003");
+            when(bookingRepository.findVehicleIdsWithActiveBookings(any(), eq(START), eq(END)))
+                    .thenReturn(List.of("VH-003"));
+            when(vehicleHoldStore.heldVehicles(any(), eq(START), eq(END))).thenReturn(Set.of("VH-001"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> groupBookingService.confirmGroupBooking(request))
+                    .isInstanceOf(VehicleUnavailableException.class)
+                    .hasMessageContaining("[VH-001, VH-003]");
+            verify(bookingDomainService, never()).generateBookingIds(anyInt());
+            verify(bookingRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject a vehicle listed twice")
+        void shouldRejectDuplicateVehicle() {
+            // Arrange
+            GroupBookingRequestDTO request = request(PaymentMode.CREDIT_CARD, "VH-001", "VH-001");
+
+            // Act & Assert
+            assertThatThrownBy(() -> groupBookingService.confirmGroupBooking(request))
+                    .isInstanceOf(BookingValidationException.class)
+                    .hasMessageContaining("VH-001");
+            verify(bookingRepository, never()).findVehicleIdsWithActiveBookings(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should book nothing when the payment is rejected")
+        void shouldRejectWhenPaymentFails() {
+            // Arrange
+            GroupBookingRequestDTO request = request(PaymentMode.CREDIT_CARD, "VH-001", "VH-002");
+            when(bookingDomainService.generateBookingIds(2)).thenReturn(List.of("BKG1", "BKG2"));
+            when(pricingEngine.price(VehicleCategory.SEDAN, START, END)).thenReturn(new BigDecimal("250.00"));
+            when(paymentStrategyFactory.getStrategy(PaymentMode.CREDIT_CARD)).thenReturn(paymentStrategy);
+            when(paymentStrategy.processPayment(any(Booking.class), eq("CARD-123")))
+                    .thenThrow(new PaymentFailedException("Credit card payment was not approved"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> groupBookingService.confirmGroupBooking(request))
+                    .isInstanceOf(PaymentFailedException.class);
+            verify(bookingRepository, never()).saveAll(anyList());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    private static GroupBookingRequestDTO request(PaymentMode paymentMode, String... vehicleIds) {
+        List<GroupBookingRequestDTO.Vehicle> vehicles = Arrays.stream(vehicleIds)
+                .map(vehicleId -> new GroupBookingRequestDTO.Vehicle(vehicleId, VehicleCategory.SEDAN))
+                .toList();
+        return new GroupBookingRequestDTO("Acme Corp", START, END, paymentMode, "CARD-123", vehicles);
+    }
+}
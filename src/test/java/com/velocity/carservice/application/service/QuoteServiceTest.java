@@ -0,0 +1,101 @@
+package com.velocity.carservice.application.service;
+
+import com.velocity.carservice.application.dto.request.QuoteRequestDTO;
+import com.velocity.carservice.application.dto.response.QuoteResponseDTO;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleHold;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import com.velocity.carservice.domain.service.PricingEngine;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.VehicleUnavailableException;
+import com.velocity.carservice.infrastructure.hold.VehicleHoldStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteService Unit Tests")
+class QuoteServiceTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(5);
+    private static final LocalDate END = LocalDate.now().plusDays(10);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingDomainService bookingDomainService;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private VehicleHoldStore vehicleHoldStore;
+
+    private QuoteService quoteService;
+
+    private final QuoteRequestDTO request = new QuoteRequestDTO("VH-001", VehicleCategory.SEDAN, START, END);
+
+    @BeforeEach
+    void setUp() {
+        quoteService = new QuoteService(bookingRepository, bookingDomainService, pricingEngine, vehicleHoldStore,
+                Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should price the rental and hold the vehicle")
+    void shouldPriceAndHold() {
+        // Arrange
+        when(pricingEngine.priceCents(VehicleCategory.SEDAN, START, END)).thenReturn(27_550L);
+        when(vehicleHoldStore.tryHold(any(VehicleHold.class))).thenReturn(true);
+
+        // Act
+        QuoteResponseDTO quote = quoteService.createQuote(request);
+
+        // Assert
+        ArgumentCaptor<VehicleHold> captor = ArgumentCaptor.forClass(VehicleHold.class);
+        verify(vehicleHoldStore).tryHold(captor.capture());
+        assertThat(quote.holdToken()).isEqualTo(captor.getValue().token()).isNotBlank();
+        assertThat(quote.amount()).isEqualByComparingTo("275.50");
+        assertThat(quote.expiresAt()).isAfter(Instant.now().plus(Duration.ofMinutes(9)));
+        verify(bookingDomainService).validateRentalDates(START, END);
+    }
+
+    @Test
+    @DisplayName("Should not hold a vehicle that is already booked")
+    void shouldRejectBookedVehicle() {
+        // Arrange
+        when(bookingRepository.existsActiveBookingForVehicle("VH-001", START, END)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> quoteService.createQuote(request))
+                .isInstanceOf(VehicleUnavailableException.class);
+        verify(vehicleHoldStore, never()).tryHold(any());
+    }
+
+    @Test
+    @DisplayName("Should reject the quote when another hold overlaps")
+    void shouldRejectHeldVehicle() {
+        // Arrange
+        when(vehicleHoldStore.tryHold(any(VehicleHold.class))).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> quoteService.createQuote(request))
+                .isInstanceOf(VehicleUnavailableException.class);
+    }
+}
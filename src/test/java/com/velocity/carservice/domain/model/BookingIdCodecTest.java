@@ -0,0 +1,114 @@
+package com.velocity.carservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BookingIdCodec Tests")
+class BookingIdCodecTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should encode sequence numbers as valid 10-character IDs")
+        void shouldEncodeValidIds() {
+            // Act
+            String first = BookingIdCodec.encode(0);
+            String last = BookingIdCodec.encode(BookingIdCodec.CAPACITY - 1);
+
+            // Assert
+            assertThat(first).isEqualTo("BKGA00000P");
+            assertThat(last).hasSize(10).startsWith("BKGZ");
+            assertThat(BookingIdCodec.isValid(first)).isTrue();
+            assertThat(BookingIdCodec.isValid(last)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject sequence numbers outside the format's capacity")
+        void shouldRejectOutOfRangeSequence() {
+            // Act & Assert
+            assertThatThrownBy(() -> BookingIdCodec.encode(BookingIdCodec.CAPACITY))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BookingIdCodec.encode(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should detect every single-character substitution")
+        void shouldDetectSingleCharacterErrors() {
+            // Arrange
+            String id = BookingIdCodec.encode(12_345);
+
+            // Act & Assert
+            for (int i = 3; i < id.length(); i++) {
+                for (char c : ALPHABET.toCharArray()) {
+                    if (c != id.charAt(i)) {
+                        String mistyped = id.substring(0, i) + c + id.substring(i + 1);
+                        assertThat(BookingIdCodec.isValid(mistyped)).as(mistyped).isFalse();
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should detect adjacent transpositions")
+        void shouldDetectAdjacentTranspositions() {
+            // Arrange
+            String id = BookingIdCodec.encode(12_345);
+
+            // Act & Assert
+            for (int i = 3; i < id.length() - 1; i++) {
+                if (id.charAt(i) != id.charAt(i + 1)) {
+                    String swapped = id.substring(0, i) + id.charAt(i + 1) + id.charAt(i) + id.substring(i + 2);
+                    assertThat(BookingIdCodec.isValid(swapped)).as(swapped).isFalse();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should accept legacy IDs without a check character")
+        void shouldAcceptLegacyIds() {
+            // Act & Assert
+            assertThat(BookingIdCodec.isValid("BKG0012345")).isTrue();
+            assertThat(BookingIdCodec.isLegacy("BKG0012345")).isTrue();
+            assertThat(BookingIdCodec.isLegacy(BookingIdCodec.encode(1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed IDs")
+        void shouldRejectMalformedIds() {
+            // Act & Assert
+            assertThat(BookingIdCodec.isValid(null)).isFalse();
+            assertThat(BookingIdCodec.isValid("")).isFalse();
+            assertThat(BookingIdCodec.isValid("INVALID")).isFalse();
+            assertThat(BookingIdCodec.isValid("BKG001234")).isFalse();
+            assertThat(BookingIdCodec.isValid("BKG00123456")).isFalse();
+            assertThat(BookingIdCodec.isValid("XYZ0012345")).isFalse();
+            assertThat(BookingIdCodec.isValid("BKGA00c1SA")).isFalse();
+            assertThat(BookingIdCodec.isValid("BKGI00C1SA")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should validate an ID embedded in a larger string")
+        void shouldValidateRegion() {
+            // Arrange
+            String details = "TXN987654321 BKGA00C1SA";
+
+            // Act & Assert
+            assertThat(BookingIdCodec.isValid(details, 13, details.length())).isTrue();
+            assertThat(BookingIdCodec.isValid(details, 12, details.length())).isFalse();
+        }
+    }
+}
@@ -57,41 +57,6 @@ class BookingTest {
         }
     }
 
-    @Nested
-    @DisplayName("Cancellation Eligibility Tests")
-    class CancellationEligibilityTests {
-
-        @Test
-        @DisplayName("Should allow cancellation for pending payment booking")
-        void shouldAllowCancellationForPendingPayment() {
-            // Arrange
-            Booking booking = createTestBooking(BookingStatus.PENDING_PAYMENT);
-
-            // Act & Assert
-            assertThat(booking.canBeCancelled()).isTrue();
-        }
-
-        @Test
-        @DisplayName("Should not allow cancellation for confirmed booking")
-        void shouldNotAllowCancellationForConfirmed() {
-            // Arrange
-            Booking booking = createTestBooking(BookingStatus.CONFIRMED);
-
-            // Act & Assert
-            assertThat(booking.canBeCancelled()).isFalse();
-        }
-
-        @Test
-        @DisplayName("Should not allow cancellation for already cancelled booking")
-        void shouldNotAllowCancellationForCancelled() {
-            // Arrange
-            Booking booking = createTestBooking(BookingStatus.CANCELLED);
-
-            // Act & Assert
-            assertThat(booking.canBeCancelled()).isFalse();
-        }
-    }
-
     @Nested
     @DisplayName("Pending Payment Check Tests")
     class PendingPaymentCheckTests {
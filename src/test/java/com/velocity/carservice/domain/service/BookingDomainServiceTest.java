@@ -1,6 +1,7 @@
 package com.velocity.carservice.domain.service;
 
 import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingIdCodec;
 import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.domain.model.VehicleCategory;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,6 +41,8 @@ class BookingDomainServiceTest {
             // Assert
             assertThat(bookingId).startsWith("BKG");
             assertThat(bookingId).hasSize(10);
+            assertThat(BookingIdCodec.isValid(bookingId)).isTrue();
+            assertThat(BookingIdCodec.isLegacy(bookingId)).isFalse();
         }
 
         @Test
@@ -51,6 +55,18 @@ class BookingDomainServiceTest {
             // Assert
             assertThat(bookingId1).isNotEqualTo(bookingId2);
         }
+
+        @Test
+        @DisplayName("Should generate a block of distinct valid booking IDs")
+        void shouldGenerateBlockOfBookingIds() {
+            // Act
+            List<String> bookingIds = bookingDomainService.generateBookingIds(50);
+            String next = bookingDomainService.generateBookingId();
+
+            // Assert
+            assertThat(bookingIds).hasSize(50).doesNotHaveDuplicates().doesNotContain(next);
+            assertThat(bookingIds).allMatch(BookingIdCodec::isValid);
+        }
     }
 
     @Nested
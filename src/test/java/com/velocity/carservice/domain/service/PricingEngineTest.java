@@ -0,0 +1,160 @@
+package com.velocity.carservice.domain.service;
+
+import com.velocity.carservice.domain.model.Tariff;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PricingEngine Tests")
+class PricingEngineTest {
+
+    private PricingEngine pricingEngine;
+
+    @BeforeEach
+    void setUp() {
+        pricingEngine = new PricingEngine();
+        pricingEngine.load(tariff("2026-01", Map.of("LOW", 5000L, "HIGH", 7000L, "PEAK", 9000L)));
+    }
+
+    @Nested
+    @DisplayName("Seasons")
+    class SeasonTests {
+
+        @Test
+        @DisplayName("Should charge the daily rate for each day up to the end date")
+        void shouldChargeEachRentalDay() {
+            // Act
+            long cents = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-03-02"), date("2026-03-05"));
+
+            // Assert
+            assertThat(cents).isEqualTo(3 * 5000);
+        }
+
+        @Test
+        @DisplayName("Should charge each day at the rate of its own season")
+        void shouldSplitAcrossSeasons() {
+            // Act
+            long cents = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-06-29"), date("2026-07-02"));
+
+            // Assert
+            assertThat(cents).isEqualTo(5000 + 5000 + 7000);
+        }
+
+        @Test
+        @DisplayName("Should price a season that wraps the year end")
+        void shouldPriceAcrossYearEnd() {
+            // Act
+            long cents = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-12-29"), date("2027-01-03"));
+
+            // Assert
+            assertThat(cents).isEqualTo(5000 + 4 * 9000);
+        }
+
+        @Test
+        @DisplayName("Should place seasons correctly in leap years")
+        void shouldHandleLeapYears() {
+            // Act
+            long february = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2028-02-28"), date("2028-03-01"));
+            long july = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2028-06-30"), date("2028-07-02"));
+
+            // Assert
+            assertThat(february).isEqualTo(2 * 5000);
+            assertThat(july).isEqualTo(5000 + 7000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rental length discounts")
+    class DiscountTests {
+
+        @Test
+        @DisplayName("Should apply the largest discount the rental length qualifies for")
+        void shouldApplyLengthDiscount() {
+            // Act
+            long week = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-03-01"), date("2026-03-08"));
+            long fortnight = pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-03-01"), date("2026-03-15"));
+
+            // Assert
+            assertThat(week).isEqualTo(31_500);
+            assertThat(fortnight).isEqualTo(59_500);
+        }
+
+        @Test
+        @DisplayName("Should round the discounted price half up to the cent")
+        void shouldRoundHalfUp() {
+            // Arrange
+            pricingEngine.load(tariff("2026-02", Map.of("LOW", 3333L, "HIGH", 3333L, "PEAK", 3333L)));
+
+            // Act
+            BigDecimal price = pricingEngine.price(VehicleCategory.SEDAN, date("2026-03-01"), date("2026-03-08"));
+
+            // Assert
+            assertThat(price).isEqualByComparingTo("209.98");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tariff updates")
+    class TariffUpdateTests {
+
+        @Test
+        @DisplayName("Should price with the new tariff once it is loaded")
+        void shouldSwapTariff() {
+            // Act
+            pricingEngine.load(tariff("2026-02", Map.of("LOW", 6000L, "HIGH", 8000L, "PEAK", 9500L)));
+
+            // Assert
+            assertThat(pricingEngine.tariffVersion()).isEqualTo("2026-02");
+            assertThat(pricingEngine.priceCents(VehicleCategory.SEDAN, date("2026-03-02"), date("2026-03-03")))
+                    .isEqualTo(6000);
+        }
+
+        @Test
+        @DisplayName("Should reject a tariff with a missing rate and keep the current one")
+        void shouldRejectIncompleteTariff() {
+            // Act & Assert
+            assertThatThrownBy(() -> pricingEngine.load(tariff("broken", Map.of("LOW", 6000L))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rate for season");
+            assertThat(pricingEngine.tariffVersion()).isEqualTo("2026-01");
+        }
+
+        @Test
+        @DisplayName("Should refuse to price before a tariff is loaded")
+        void shouldFailWithoutTariff() {
+            // Act & Assert
+            assertThatThrownBy(() -> new PricingEngine()
+                    .priceCents(VehicleCategory.SEDAN, date("2026-03-02"), date("2026-03-03")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static Tariff tariff(String version, Map<String, Long> sedanRates) {
+        Map<String, Long> otherRates = Map.of("LOW", 1000L, "HIGH", 1000L, "PEAK", 1000L);
+        return new Tariff(
+                version,
+                "LOW",
+                List.of(new Tariff.Season("HIGH", "07-01", "07-31"),
+                        new Tariff.Season("PEAK", "12-30", "01-02")),
+                Map.of(VehicleCategory.COMPACT, otherRates,
+                        VehicleCategory.SEDAN, sedanRates,
+                        VehicleCategory.SUV, otherRates,
+                        VehicleCategory.LUXURY, otherRates),
+                List.of(new Tariff.LengthDiscount(7, new BigDecimal("10")),
+                        new Tariff.LengthDiscount(14, new BigDecimal("15"))));
+    }
+
+    private static LocalDate date(String isoDate) {
+        return LocalDate.parse(isoDate);
+    }
+}
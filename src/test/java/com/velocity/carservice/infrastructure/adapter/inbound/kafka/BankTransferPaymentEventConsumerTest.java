@@ -2,7 +2,11 @@ package com.velocity.carservice.infrastructure.adapter.inbound.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
-import com.velocity.carservice.application.service.BookingService;
+import com.velocity.carservice.application.service.BankTransferPaymentService;
+import com.velocity.carservice.application.service.BankTransferPaymentService.PaymentOutcome;
+import com.velocity.carservice.application.service.BankTransferPaymentService.Result;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent;
+import com.velocity.carservice.domain.model.ProcessedPaymentEvent.ProcessingStatus;
 import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
 import com.velocity.carservice.infrastructure.repository.ProcessedPaymentEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +23,8 @@ import org.springframework.kafka.support.Acknowledgment;
 import java.math.BigDecimal;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,7 +38,7 @@ class BankTransferPaymentEventConsumerTest {
     private static final long TEST_OFFSET = 100L;
 
     @Mock
-    private BookingService bookingService;
+    private BankTransferPaymentService bankTransferPaymentService;
 
     @Mock
     private ProcessedPaymentEventRepository processedPaymentEventRepository;
@@ -71,13 +75,14 @@ class BankTransferPaymentEventConsumerTest {
         );
         String message = objectMapper.writeValueAsString(event);
 
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-001")).thenReturn(false);
+        when(bankTransferPaymentService.apply(event)).thenReturn(outcome(event, Result.CONFIRMED, null));
 
         // Act
         consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
-        verify(bookingService).processBankTransferPayment(eq("BKG0000001"), eq(new BigDecimal("200.00")));
+        verify(bankTransferPaymentService).apply(event);
+        verify(kafkaTemplate, never()).send(any(), any(String.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -93,13 +98,14 @@ class BankTransferPaymentEventConsumerTest {
         );
         String message = objectMapper.writeValueAsString(event);
 
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-DUPLICATE")).thenReturn(true);
+        when(bankTransferPaymentService.apply(event))
+                .thenReturn(outcome(event, Result.DUPLICATE, "Payment already processed"));
 
         // Act
         consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
-        verify(bookingService, never()).processBankTransferPayment(any(), any());
+        verify(kafkaTemplate, never()).send(any(), any(String.class));
         verify(acknowledgment).acknowledge(); // Still ack to move past duplicate
     }
 
@@ -115,19 +121,43 @@ class BankTransferPaymentEventConsumerTest {
         );
         String message = objectMapper.writeValueAsString(event);
 
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-002")).thenReturn(false);
+        when(bankTransferPaymentService.apply(event)).thenReturn(
+                outcome(event, Result.UNMATCHED, "Could not extract booking ID from transactionDetails"));
 
         // Act
         consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
-        verify(bookingService, never()).processBankTransferPayment(any(), any());
         verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"), any(String.class));
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    @DisplayName("Should send to DLQ and acknowledge when processing fails")
+    @DisplayName("Should send to DLQ when the booking does not exist")
+    void shouldSendToDlqWhenBookingUnknown() throws Exception {
+        // Arrange
+        BankTransferPaymentEvent event = new BankTransferPaymentEvent(
+                "PAY-006",
+                "NL91ABNA0417164300",
+                new BigDecimal("100.00"),
+                "TXN987654321 BKG0000404"
+        );
+        String message = objectMapper.writeValueAsString(event);
+
+        when(bankTransferPaymentService.apply(event)).thenReturn(
+                outcome(event, Result.UNKNOWN_BOOKING, "Booking not found: BKG0000404"));
+
+        // Act
+        consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
+
+        // Assert
+        verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"),
+                argThat((String dlq) -> dlq.contains("Booking not found: BKG0000404")));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should record the payment as failed, send to DLQ and acknowledge when processing fails")
     void shouldSendToDlqWhenProcessingFails() throws Exception {
         // Arrange
         BankTransferPaymentEvent event = new BankTransferPaymentEvent(
@@ -138,14 +168,16 @@ class BankTransferPaymentEventConsumerTest {
         );
         String message = objectMapper.writeValueAsString(event);
 
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-003")).thenReturn(false);
-        doThrow(new RuntimeException("Processing error"))
-                .when(bookingService).processBankTransferPayment(any(), any());
+        when(bankTransferPaymentService.apply(event)).thenThrow(new RuntimeException("Processing error"));
 
         // Act
         consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
+        verify(processedPaymentEventRepository).save(argThat((ProcessedPaymentEvent record) ->
+                record.getPaymentId().equals("PAY-003") && record.getBookingId().equals("BKG0000002")
+                        && record.getStatus() == ProcessingStatus.FAILED));
+        verify(bookingMetrics).incrementPaymentEventsFailed("processing_error");
         verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"), any(String.class));
         verify(acknowledgment).acknowledge(); // Ack after sending to DLQ
     }
@@ -160,7 +192,7 @@ class BankTransferPaymentEventConsumerTest {
         consumer.consumeBankTransferPaymentEvent(invalidJson, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
-        verify(bookingService, never()).processBankTransferPayment(any(), any());
+        verify(bankTransferPaymentService, never()).apply(any(BankTransferPaymentEvent.class));
         verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"), any(String.class));
         verify(acknowledgment).acknowledge(); // Ack poison message after DLQ
     }
@@ -170,57 +202,22 @@ class BankTransferPaymentEventConsumerTest {
     void shouldSendToDlqWhenSchemaValidationFails() throws Exception {
         // Arrange - Missing required paymentId
         String messageWithNullPaymentId = "{\"paymentId\": null, \"senderAccountNumber\": \"NL91ABNA\", \"paymentAmount\": 100.00, \"transactionDetails\": \"TXN123 BKG001\"}";
+        BankTransferPaymentEvent event = objectMapper.readValue(messageWithNullPaymentId, BankTransferPaymentEvent.class);
 
-        // Act
-        consumer.consumeBankTransferPaymentEvent(messageWithNullPaymentId, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
-
-        // Assert
-        verify(bookingService, never()).processBankTransferPayment(any(), any());
-        verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"), any(String.class));
-        verify(acknowledgment).acknowledge();
-    }
-
-    @Test
-    @DisplayName("Should extract correct booking ID from transaction details")
-    void shouldExtractCorrectBookingId() throws Exception {
-        // Arrange
-        BankTransferPaymentEvent event = new BankTransferPaymentEvent(
-                "PAY-004",
-                "DE89370400440532013000",
-                new BigDecimal("500.00"),
-                "TXN123456789 BKG9999999"
-        );
-        String message = objectMapper.writeValueAsString(event);
-
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-004")).thenReturn(false);
+        when(bankTransferPaymentService.apply(event)).thenReturn(
+                outcome(event, Result.INVALID, "paymentId is required"));
 
         // Act
-        consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
+        consumer.consumeBankTransferPaymentEvent(messageWithNullPaymentId, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
 
         // Assert
-        verify(bookingService).processBankTransferPayment(eq("BKG9999999"), eq(new BigDecimal("500.00")));
+        verify(kafkaTemplate).send(eq("bank-transfer-payment-events-dlq"),
+                argThat((String dlq) -> dlq.contains("Schema validation failed: paymentId is required")));
+        verify(processedPaymentEventRepository, never()).save(any());
         verify(acknowledgment).acknowledge();
     }
 
-    @Test
-    @DisplayName("Should record processed event for successful processing")
-    void shouldRecordProcessedEventOnSuccess() throws Exception {
-        // Arrange
-        BankTransferPaymentEvent event = new BankTransferPaymentEvent(
-                "PAY-005",
-                "NL91ABNA0417164300",
-                new BigDecimal("250.00"),
-                "TXN987654321 BKG0000005"
-        );
-        String message = objectMapper.writeValueAsString(event);
-
-        when(processedPaymentEventRepository.existsByPaymentId("PAY-005")).thenReturn(false);
-
-        // Act
-        consumer.consumeBankTransferPaymentEvent(message, acknowledgment, TEST_TOPIC, TEST_PARTITION, TEST_OFFSET);
-
-        // Assert
-        verify(processedPaymentEventRepository).save(any());
-        verify(acknowledgment).acknowledge();
+    private static PaymentOutcome outcome(BankTransferPaymentEvent event, Result result, String detail) {
+        return new PaymentOutcome(event, event.extractBookingId(), result, detail);
     }
 }
@@ -0,0 +1,155 @@
+package com.velocity.carservice.infrastructure.adapter.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.request.BookingBatchGetRequestDTO;
+import com.velocity.carservice.application.dto.response.BookingBatchGetResponseDTO;
+import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.application.dto.response.GroupBookingResponseDTO;
+import com.velocity.carservice.application.service.BookingQueryService;
+import com.velocity.carservice.application.service.GroupBookingService;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.infrastructure.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingBatchController Unit Tests")
+class BookingBatchControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BookingQueryService bookingQueryService;
+
+    @Mock
+    private GroupBookingService groupBookingService;
+
+    @InjectMocks
+    private BookingBatchController bookingBatchController;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        mockMvc = MockMvcBuilders.standaloneSetup(bookingBatchController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/bookings:batchGet - Batch Get Bookings")
+    class BatchGetTests {
+
+        @Test
+        @DisplayName("Should return found bookings and list unknown IDs")
+        void shouldReturnFoundAndNotFound() throws Exception {
+            // Arrange
+            List<String> ids = List.of("BKG0000001", "BKG0000404");
+            when(bookingQueryService.batchGetBookings(ids)).thenReturn(new BookingBatchGetResponseDTO(
+                    List.of(new BookingResponseDTO("BKG0000001", BookingStatus.CONFIRMED)),
+                    List.of("BKG0000404")));
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings:batchGet")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BookingBatchGetRequestDTO(ids))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bookings[0].bookingId").value("BKG0000001"))
+                    .andExpect(jsonPath("$.bookings[0].bookingStatus").value("CONFIRMED"))
+                    .andExpect(jsonPath("$.notFound[0]").value("BKG0000404"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when more than 500 IDs are requested")
+        void shouldReturn400WhenTooManyIds() throws Exception {
+            // Arrange
+            List<String> ids = IntStream.range(0, 501).mapToObj(i -> String.format("BKG%07d", i)).toList();
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings:batchGet")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BookingBatchGetRequestDTO(ids))))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookingQueryService, never()).batchGetBookings(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when no IDs are given")
+        void shouldReturn400WhenEmpty() throws Exception {
+            mockMvc.perform(post("/api/v1/bookings:batchGet")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"bookingIds\":[]}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/bookings:batchCreate - Group Booking")
+    class BatchCreateTests {
+
+        private static final String GROUP_REQUEST = """
+                {"customerName": "Acme Corp", "rentalStartDate": "%s", "rentalEndDate": "%s",
+                 "paymentMode": "DIGITAL_WALLET", "paymentReference": "WALLET-1",
+                 "vehicles": [%s]}
+                """;
+
+        @Test
+        @DisplayName("Should return 201 with every booking of the group")
+        void shouldCreateGroupBooking() throws Exception {
+            // Arrange
+            when(groupBookingService.confirmGroupBooking(any())).thenReturn(new GroupBookingResponseDTO(
+                    BookingStatus.CONFIRMED, new BigDecimal("500.00"), List.of(
+                            new GroupBookingResponseDTO.GroupedBooking("BKG0000001", "VH-001", new BigDecimal("250.00")),
+                            new GroupBookingResponseDTO.GroupedBooking("BKG0000002", "VH-002", new BigDecimal("250.00")))));
+            String vehicles = """
+                    {"vehicleId": "VH-001", "vehicleCategory": "SEDAN"}, {"vehicleId": "VH-002", "vehicleCategory": "SEDAN"}""";
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings:batchCreate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(GROUP_REQUEST.formatted(
+                                    LocalDate.now().plusDays(5), LocalDate.now().plusDays(10), vehicles)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                    .andExpect(jsonPath("$.totalAmount").value(500.00))
+                    .andExpect(jsonPath("$.bookings[1].bookingId").value("BKG0000002"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when no vehicles are listed")
+        void shouldReturn400WhenNoVehicles() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings:batchCreate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(GROUP_REQUEST.formatted(
+                                    LocalDate.now().plusDays(5), LocalDate.now().plusDays(10), "")))
+                    .andExpect(status().isBadRequest());
+
+            verify(groupBookingService, never()).confirmGroupBooking(any());
+        }
+    }
+}
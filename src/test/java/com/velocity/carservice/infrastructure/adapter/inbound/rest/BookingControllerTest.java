@@ -1,35 +1,71 @@
 package com.velocity.carservice.infrastructure.adapter.inbound.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
 import com.velocity.carservice.application.dto.request.BookingRequestDTO;
+import com.velocity.carservice.application.dto.response.BookingPageResponseDTO;
 import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.application.service.BookingQueryService;
 import com.velocity.carservice.application.service.BookingService;
+import com.velocity.carservice.domain.model.BookingSearchCriteria;
 import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.domain.model.VehicleCategory;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingNotFoundException;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
 import com.velocity.carservice.infrastructure.exception.CustomExceptions.PaymentFailedException;
+import com.velocity.carservice.infrastructure.events.BookingEventHub;
 import com.velocity.carservice.infrastructure.exception.GlobalExceptionHandler;
+import com.velocity.carservice.infrastructure.export.BookingExportFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +77,12 @@ class BookingControllerTest {
     @Mock
     private BookingService bookingService;
 
+    @Mock
+    private BookingQueryService bookingQueryService;
+
+    @Mock
+    private BookingEventHub bookingEventHub;
+
     @InjectMocks
     private BookingController bookingController;
 
@@ -50,8 +92,12 @@ class BookingControllerTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
+        // Same date format as spring.jackson.serialization.write-dates-as-timestamps=false in application.yml
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mockMvc = MockMvcBuilders.standaloneSetup(bookingController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new ByteArrayHttpMessageConverter(), new StringHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
     }
 
@@ -133,6 +179,56 @@ class BookingControllerTest {
                     .andExpect(jsonPath("$.errorCode").value("PAYMENT_REJECTED"));
         }
 
+        @Test
+        @DisplayName("Should return 409 when a concurrent booking took the vehicle first")
+        void shouldReturn409WhenConcurrentBookingTookVehicle() throws Exception {
+            // Arrange
+            BookingRequestDTO request = new BookingRequestDTO(
+                    "Carol King",
+                    "VH-004",
+                    VehicleCategory.SEDAN,
+                    LocalDate.now().plusDays(5),
+                    LocalDate.now().plusDays(10),
+                    PaymentMode.DIGITAL_WALLET,
+                    "WALLET-456");
+
+            when(bookingService.confirmBooking(any(BookingRequestDTO.class))).thenThrow(
+                    new DataIntegrityViolationException("could not execute statement",
+                            new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.errorCode").value("VEHICLE_UNAVAILABLE"));
+        }
+
+        @Test
+        @DisplayName("Should return 500 for other integrity violations")
+        void shouldReturn500ForOtherIntegrityViolations() throws Exception {
+            // Arrange
+            BookingRequestDTO request = new BookingRequestDTO(
+                    "Carol King",
+                    "VH-004",
+                    VehicleCategory.SEDAN,
+                    LocalDate.now().plusDays(5),
+                    LocalDate.now().plusDays(10),
+                    PaymentMode.DIGITAL_WALLET,
+                    "WALLET-456");
+
+            when(bookingService.confirmBooking(any(BookingRequestDTO.class))).thenThrow(
+                    new DataIntegrityViolationException("could not execute statement",
+                            new SQLException("duplicate key value violates unique constraint", "23505")));
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bookings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.errorCode").value("INTERNAL_SERVER_ERROR"));
+        }
+
         @Test
         @DisplayName("Should return 400 for missing required fields")
         void shouldReturn400ForMissingRequiredFields() throws Exception {
@@ -156,6 +252,130 @@ class BookingControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/bookings - Search Bookings")
+    class SearchBookingsTests {
+
+        @Test
+        @DisplayName("Should pass filters to the query service and return the page")
+        void shouldSearchWithFilters() throws Exception {
+            // Arrange
+            LocalDate from = LocalDate.of(2026, 3, 1);
+            LocalDate to = LocalDate.of(2026, 3, 31);
+            BookingSummary summary = new BookingSummary("BKG0000001", "John Doe", "VH-001",
+                    VehicleCategory.SEDAN, from, from.plusDays(3), PaymentMode.BANK_TRANSFER,
+                    BookingStatus.PENDING_PAYMENT);
+            BookingSearchCriteria expectedCriteria = new BookingSearchCriteria(
+                    null, null, BookingStatus.PENDING_PAYMENT, PaymentMode.BANK_TRANSFER, from, to);
+            when(bookingQueryService.searchBookings(eq(expectedCriteria), isNull(), eq(20)))
+                    .thenReturn(new BookingPageResponseDTO(List.of(summary), "next-cursor"));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings")
+                            .param("status", "PENDING_PAYMENT")
+                            .param("paymentMode", "BANK_TRANSFER")
+                            .param("rentalFrom", "2026-03-01")
+                            .param("rentalTo", "2026-03-31")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bookings[0].bookingId").value("BKG0000001"))
+                    .andExpect(jsonPath("$.bookings[0].rentalStartDate").value("2026-03-01"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown status value")
+        void shouldReturn400ForUnknownStatus() throws Exception {
+            mockMvc.perform(get("/api/v1/bookings").param("status", "UNKNOWN"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/bookings/export - Export Bookings")
+    class ExportBookingsTests {
+
+        @Test
+        @DisplayName("Should stream the export as an attachment")
+        void shouldStreamExportAsAttachment() throws Exception {
+            // Arrange
+            LocalDate from = LocalDate.of(2026, 1, 1);
+            LocalDate to = LocalDate.of(2026, 1, 31);
+            when(bookingQueryService.exportBookings(eq(from), eq(to), eq(BookingExportFormat.CSV), any()))
+                    .thenAnswer(invocation -> {
+                        OutputStream out = invocation.getArgument(3);
+                        out.write("booking_id\nBKG0000001\n".getBytes(StandardCharsets.UTF_8));
+                        return 1L;
+                    });
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/v1/bookings/export")
+                            .param("from", "2026-01-01")
+                            .param("to", "2026-01-31")
+                            .param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"bookings-2026-01-01-2026-01-31.csv\""))
+                    .andExpect(content().string("booking_id\nBKG0000001\n"));
+        }
+
+        @Test
+        @DisplayName("Should gzip the export only when the client's Accept-Encoding allows it")
+        void shouldHonourAcceptEncodingQuality() throws Exception {
+            // Arrange
+            when(bookingQueryService.exportBookings(any(), any(), eq(BookingExportFormat.NDJSON), any()))
+                    .thenAnswer(invocation -> {
+                        OutputStream out = invocation.getArgument(3);
+                        out.write("{}\n".getBytes(StandardCharsets.UTF_8));
+                        return 1L;
+                    });
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/v1/bookings/export")
+                            .param("from", "2026-01-01")
+                            .param("to", "2026-01-31")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andExpect(content().string("{}\n"));
+            assertThat(BookingController.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+            assertThat(BookingController.acceptsGzip("GZIP ; Q=1.0")).isTrue();
+            assertThat(BookingController.acceptsGzip("*")).isTrue();
+            assertThat(BookingController.acceptsGzip("*, gzip;q=0")).isFalse();
+            assertThat(BookingController.acceptsGzip("identity, gzip;q=0.000")).isFalse();
+            assertThat(BookingController.acceptsGzip(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should return 400 before streaming when the range is invalid")
+        void shouldReturn400ForInvalidRange() throws Exception {
+            // Arrange
+            LocalDate from = LocalDate.of(2026, 2, 1);
+            LocalDate to = LocalDate.of(2026, 1, 1);
+            doThrow(new BookingValidationException("Export range end must not be before its start"))
+                    .when(bookingQueryService).validateExportRange(from, to);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/export")
+                            .param("from", "2026-02-01")
+                            .param("to", "2026-01-01"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/bookings/{bookingId} - Get Booking")
     class GetBookingTests {
@@ -164,28 +384,135 @@ class BookingControllerTest {
         @DisplayName("Should return booking when found")
         void shouldReturnBookingWhenFound() throws Exception {
             // Arrange
-            BookingResponseDTO response = new BookingResponseDTO("BKG0000001", BookingStatus.CONFIRMED);
-            when(bookingService.getBookingById("BKG0000001")).thenReturn(response);
+            when(bookingService.getBookingById("BKG0000001"))
+                    .thenReturn(cachedResponse("BKG0000001", BookingStatus.CONFIRMED, 3L));
 
             // Act & Assert
             mockMvc.perform(get("/api/v1/bookings/BKG0000001"))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, private"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.bookingId").value("BKG0000001"))
                     .andExpect(jsonPath("$.bookingStatus").value("CONFIRMED"));
         }
 
+        @Test
+        @DisplayName("Should return 304 without a body when the ETag matches")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            // Arrange
+            when(bookingService.getBookingById("BKG0000001"))
+                    .thenReturn(cachedResponse("BKG0000001", BookingStatus.PENDING_PAYMENT, 2L));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/BKG0000001").header(HttpHeaders.IF_NONE_MATCH, "W/\"1\", \"2\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return the new representation when the booking changed")
+        void shouldReturn200WhenETagIsStale() throws Exception {
+            // Arrange
+            when(bookingService.getBookingById("BKG0000001"))
+                    .thenReturn(cachedResponse("BKG0000001", BookingStatus.CONFIRMED, 1L));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/BKG0000001").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.bookingStatus").value("CONFIRMED"));
+        }
+
         @Test
         @DisplayName("Should return 404 when booking not found")
         void shouldReturn404WhenBookingNotFound() throws Exception {
             // Arrange
-            when(bookingService.getBookingById("INVALID"))
-                    .thenThrow(new BookingNotFoundException("Booking not found: INVALID"));
+            when(bookingService.getBookingById("BKG9999999"))
+                    .thenThrow(new BookingNotFoundException("Booking not found: BKG9999999"));
 
             // Act & Assert
-            mockMvc.perform(get("/api/v1/bookings/INVALID"))
+            mockMvc.perform(get("/api/v1/bookings/BKG9999999"))
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.errorCode").value("BOOKING_NOT_FOUND"));
         }
+
+        @Test
+        @DisplayName("Should return 400 without a lookup when the check character is wrong")
+        void shouldReturn400ForMalformedBookingId() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/BKGA00C1SB"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+            verify(bookingService, never()).getBookingById(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/bookings/{bookingId}/events - Stream Booking Events")
+    class StreamBookingEventsTests {
+
+        @Test
+        @DisplayName("Should subscribe with the current status as snapshot")
+        void shouldSubscribeWithCurrentStatus() throws Exception {
+            // Arrange
+            when(bookingService.getBookingById("BKG0000001"))
+                    .thenReturn(cachedResponse("BKG0000001", BookingStatus.PENDING_PAYMENT, 0L));
+            when(bookingEventHub.subscribe(eq(List.of("BKG0000001")), any())).thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/BKG0000001/events"))
+                    .andExpect(request().asyncStarted());
+
+            ArgumentCaptor<Supplier<List<BookingStatusChangedEvent>>> snapshotCaptor = ArgumentCaptor.captor();
+            verify(bookingEventHub).subscribe(eq(List.of("BKG0000001")), snapshotCaptor.capture());
+            verify(bookingService, never()).getBookingById(anyString());
+            assertThat(snapshotCaptor.getValue().get())
+                    .extracting(BookingStatusChangedEvent::status)
+                    .containsExactly(BookingStatus.PENDING_PAYMENT);
+        }
+
+        @Test
+        @DisplayName("Should return 404 when booking not found")
+        void shouldReturn404WhenBookingNotFound() throws Exception {
+            // Arrange
+            when(bookingService.getBookingById("BKG9999999"))
+                    .thenThrow(new BookingNotFoundException("Booking not found: BKG9999999"));
+            when(bookingEventHub.subscribe(anyList(), any())).thenAnswer(invocation -> {
+                Supplier<List<BookingStatusChangedEvent>> snapshot = invocation.getArgument(1);
+                snapshot.get();
+                return new SseEmitter();
+            });
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/BKG9999999/events"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should multiplex distinct booking IDs over one stream")
+        void shouldMultiplexDistinctBookingIds() throws Exception {
+            // Arrange
+            when(bookingService.getBookingById("BKG0000001"))
+                    .thenReturn(cachedResponse("BKG0000001", BookingStatus.PENDING_PAYMENT, 0L));
+            when(bookingService.getBookingById("BKG0000002"))
+                    .thenReturn(cachedResponse("BKG0000002", BookingStatus.CONFIRMED, 1L));
+            when(bookingEventHub.subscribe(eq(List.of("BKG0000001", "BKG0000002")), any()))
+                    .thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/bookings/events").param("ids", "BKG0000001,BKG0000002,BKG0000001"))
+                    .andExpect(request().asyncStarted());
+
+            ArgumentCaptor<Supplier<List<BookingStatusChangedEvent>>> snapshotCaptor = ArgumentCaptor.captor();
+            verify(bookingEventHub).subscribe(eq(List.of("BKG0000001", "BKG0000002")), snapshotCaptor.capture());
+            assertThat(snapshotCaptor.getValue().get())
+                    .extracting(BookingStatusChangedEvent::status)
+                    .containsExactly(BookingStatus.PENDING_PAYMENT, BookingStatus.CONFIRMED);
+        }
     }
 
     @Nested
@@ -210,12 +537,26 @@ class BookingControllerTest {
         @DisplayName("Should return 404 when booking to cancel not found")
         void shouldReturn404WhenCancellingNonExistentBooking() throws Exception {
             // Arrange
-            when(bookingService.cancelBooking("INVALID"))
-                    .thenThrow(new BookingNotFoundException("Booking not found: INVALID"));
+            when(bookingService.cancelBooking("BKG9999999"))
+                    .thenThrow(new BookingNotFoundException("Booking not found: BKG9999999"));
 
             // Act & Assert
-            mockMvc.perform(delete("/api/v1/bookings/INVALID"))
+            mockMvc.perform(delete("/api/v1/bookings/BKG9999999"))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Should return 400 without cancelling when the booking ID is malformed")
+        void shouldReturn400WhenCancellingMalformedBookingId() throws Exception {
+            // Act & Assert
+            mockMvc.perform(delete("/api/v1/bookings/INVALID"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookingService, never()).cancelBooking(anyString());
+        }
+    }
+
+    private CachedBookingResponse cachedResponse(String bookingId, BookingStatus status, long version) {
+        return CachedBookingResponse.of(new BookingStatusView(bookingId, status, version), objectMapper);
     }
 }
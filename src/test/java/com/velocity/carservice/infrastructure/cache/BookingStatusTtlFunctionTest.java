@@ -0,0 +1,45 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookingStatusTtlFunction Tests")
+class BookingStatusTtlFunctionTest {
+
+    private final BookingStatusTtlFunction ttlFunction = new BookingStatusTtlFunction(
+            Map.of(BookingStatus.PENDING_PAYMENT, Duration.ofMinutes(1),
+                    BookingStatus.CANCELLED, Duration.ofHours(6)),
+            Duration.ofMinutes(15));
+
+    @Test
+    @DisplayName("Should pick the TTL from the booking status")
+    void shouldPickTtlFromStatus() {
+        // Act & Assert
+        assertThat(ttlFunction.getTimeToLive("BKG0000001", entry(BookingStatus.PENDING_PAYMENT)))
+                .isEqualTo(Duration.ofMinutes(1));
+        assertThat(ttlFunction.getTimeToLive("BKG0000001", entry(BookingStatus.CANCELLED)))
+                .isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("Should fall back for unconfigured statuses and other values")
+    void shouldFallBack() {
+        // Act & Assert
+        assertThat(ttlFunction.getTimeToLive("BKG0000001", entry(BookingStatus.CONFIRMED)))
+                .isEqualTo(Duration.ofMinutes(15));
+        assertThat(ttlFunction.getTimeToLive("customer-1", "value")).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    private static CachedBookingResponse entry(BookingStatus status) {
+        return CachedBookingResponse.of(new BookingStatusView("BKG0000001", status, 0L), new ObjectMapper());
+    }
+}
@@ -0,0 +1,63 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.application.dto.response.CachedBookingResponse;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachedBookingResponseSerializer Tests")
+class CachedBookingResponseSerializerTest {
+
+    private final CachedBookingResponseSerializer serializer = new CachedBookingResponseSerializer();
+
+    @Test
+    @DisplayName("Should round-trip the response body byte for byte")
+    void shouldRoundTrip() {
+        // Arrange
+        CachedBookingResponse response = CachedBookingResponse.of(
+                new BookingStatusView("BKGA00C1SA", BookingStatus.PENDING_PAYMENT, 4L), new ObjectMapper());
+
+        // Act
+        CachedBookingResponse restored = serializer.deserialize(serializer.serialize(response));
+
+        // Assert
+        assertThat(restored.bookingId()).isEqualTo("BKGA00C1SA");
+        assertThat(restored.status()).isEqualTo(BookingStatus.PENDING_PAYMENT);
+        assertThat(restored.eTag()).isEqualTo("\"4\"");
+        assertThat(restored.body()).isEqualTo(response.body());
+    }
+
+    @Test
+    @DisplayName("Should read entries in another format as a cache miss")
+    void shouldTreatForeignFormatAsMiss() {
+        // Arrange
+        byte[] legacyEntry = new GenericJackson2JsonRedisSerializer()
+                .serialize(new BookingStatusView("BKG0000001", BookingStatus.CONFIRMED, 1L));
+
+        // Act & Assert
+        assertThat(serializer.deserialize(legacyEntry)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail on a truncated entry")
+    void shouldFailOnTruncatedEntry() {
+        // Arrange
+        CachedBookingResponse response = CachedBookingResponse.of(
+                new BookingStatusView("BKG0000001", BookingStatus.CONFIRMED, 1L), new ObjectMapper());
+        byte[] truncated = Arrays.copyOf(serializer.serialize(response), 12);
+
+        // Act & Assert
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalCacheStore Tests")
+class LocalCacheStoreTest {
+
+    private static final byte[] VALUE = {1, 2, 3};
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        LocalCacheStore store = new LocalCacheStore(2);
+        store.put(key("A"), VALUE, null);
+        store.put(key("B"), VALUE, null);
+        store.get(key("A"));
+
+        // Act
+        store.put(key("C"), VALUE, null);
+
+        // Assert
+        assertThat(store.get(key("A"))).isEqualTo(VALUE);
+        assertThat(store.get(key("B"))).isNull();
+        assertThat(store.get(key("C"))).isEqualTo(VALUE);
+    }
+
+    @Test
+    @DisplayName("Should not return expired entries")
+    void shouldExpireEntries() {
+        // Arrange
+        LocalCacheStore store = new LocalCacheStore(10);
+
+        // Act
+        store.put(key("A"), VALUE, Duration.ofNanos(1));
+
+        // Assert
+        assertThat(store.get(key("A"))).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should remove entries matching a prefix pattern")
+    void shouldRemoveMatchingPrefix() {
+        // Arrange
+        LocalCacheStore store = new LocalCacheStore(10);
+        store.put(key("A"), VALUE, null);
+        store.put("customers::1".getBytes(), VALUE, null);
+
+        // Act
+        store.removeMatching("bookings:bytes::*".getBytes());
+
+        // Assert
+        assertThat(store.get(key("A"))).isNull();
+        assertThat(store.get("customers::1".getBytes())).isEqualTo(VALUE);
+    }
+
+    private static byte[] key(String bookingId) {
+        return ("bookings:bytes::" + bookingId).getBytes();
+    }
+}
@@ -0,0 +1,207 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientRedisCacheWriter Tests")
+class ResilientRedisCacheWriterTest {
+
+    private static final String CACHE = "bookings";
+    private static final byte[] KEY = "bookings:bytes::BKG0000001".getBytes();
+    private static final byte[] VALUE = {1, 2, 3};
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private ResilientRedisCacheWriter cacheWriter;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("redisCache");
+        cacheWriter = new ResilientRedisCacheWriter(delegate, circuitBreaker, 100);
+    }
+
+    @Nested
+    @DisplayName("While Redis is healthy")
+    class HealthyTests {
+
+        @Test
+        @DisplayName("Should read and write through Redis")
+        void shouldDelegateToRedis() {
+            // Arrange
+            when(delegate.get(CACHE, KEY)).thenReturn(VALUE);
+
+            // Act
+            byte[] result = cacheWriter.get(CACHE, KEY);
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+
+            // Assert
+            assertThat(result).isSameAs(VALUE);
+            verify(delegate).put(CACHE, KEY, VALUE, TTL);
+        }
+
+        @Test
+        @DisplayName("Should load and store a missing value")
+        void shouldLoadOnMiss() {
+            // Act
+            byte[] result = cacheWriter.get(CACHE, KEY, () -> VALUE, TTL, false);
+
+            // Assert
+            assertThat(result).isSameAs(VALUE);
+            verify(delegate).put(CACHE, KEY, VALUE, TTL);
+        }
+    }
+
+    @Nested
+    @DisplayName("When a Redis call fails")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should treat a failed lookup as a miss")
+        void shouldTreatFailedGetAsMiss() {
+            // Arrange
+            when(delegate.get(CACHE, KEY)).thenThrow(new QueryTimeoutException("timed out"));
+
+            // Act
+            byte[] result = cacheWriter.get(CACHE, KEY);
+
+            // Assert
+            assertThat(result).isNull();
+        }
+
+        @Test
+        @DisplayName("Should keep a failed write in the local fallback cache")
+        void shouldServeFailedWriteLocally() {
+            // Arrange
+            doThrow(new QueryTimeoutException("timed out")).when(delegate).put(CACHE, KEY, VALUE, TTL);
+            when(delegate.get(CACHE, KEY)).thenThrow(new QueryTimeoutException("timed out"));
+
+            // Act
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+            byte[] result = cacheWriter.get(CACHE, KEY);
+
+            // Assert
+            assertThat(result).isEqualTo(VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk eviction support")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should drop a local entry without touching Redis")
+        void shouldEvictLocally() {
+            // Arrange
+            circuitBreaker.transitionToOpenState();
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+
+            // Act
+            cacheWriter.evictLocal(KEY);
+
+            // Assert
+            assertThat(cacheWriter.get(CACHE, KEY)).isNull();
+            assertThat(cacheWriter.pendingEvictionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should queue a deferred eviction for replay")
+        void shouldQueueDeferredEviction() {
+            // Act
+            cacheWriter.evictLater(CACHE, KEY);
+            cacheWriter.replayEvictions();
+
+            // Assert
+            verify(delegate).remove(CACHE, KEY);
+            assertThat(cacheWriter.pendingEvictionCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("While the circuit is open")
+    class OpenCircuitTests {
+
+        @BeforeEach
+        void openCircuit() {
+            circuitBreaker.transitionToOpenState();
+        }
+
+        @Test
+        @DisplayName("Should serve reads and writes locally without calling Redis")
+        void shouldNotCallRedis() {
+            // Act
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+            byte[] result = cacheWriter.get(CACHE, KEY);
+
+            // Assert
+            assertThat(result).isEqualTo(VALUE);
+            verify(delegate, never()).put(any(), any(), any(), any());
+            verify(delegate, never()).get(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should remove the local entry and queue the Redis eviction")
+        void shouldQueueEviction() {
+            // Arrange
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+
+            // Act
+            cacheWriter.remove(CACHE, KEY);
+
+            // Assert
+            assertThat(cacheWriter.get(CACHE, KEY)).isNull();
+            assertThat(cacheWriter.pendingEvictionCount()).isEqualTo(1);
+            verify(delegate, never()).remove(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should replay queued evictions once the circuit closes")
+        void shouldReplayEvictionsOnRecovery() {
+            // Arrange
+            cacheWriter.remove(CACHE, KEY);
+
+            // Act
+            circuitBreaker.transitionToHalfOpenState();
+            circuitBreaker.transitionToClosedState();
+
+            // Assert
+            verify(delegate, timeout(1000)).remove(CACHE, KEY);
+        }
+
+        @Test
+        @DisplayName("Should drop locally cached entries once the circuit closes")
+        void shouldClearLocalStoreOnRecovery() {
+            // Arrange
+            cacheWriter.put(CACHE, KEY, VALUE, TTL);
+
+            // Act
+            circuitBreaker.transitionToHalfOpenState();
+            circuitBreaker.transitionToClosedState();
+            circuitBreaker.transitionToOpenState();
+
+            // Assert
+            assertThat(cacheWriter.get(CACHE, KEY)).isNull();
+        }
+    }
+}
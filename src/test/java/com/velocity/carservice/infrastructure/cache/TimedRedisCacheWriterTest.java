@@ -0,0 +1,74 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimedRedisCacheWriter Tests")
+class TimedRedisCacheWriterTest {
+
+    private static final byte[] KEY = "bookings:bytes::BKG0000001".getBytes();
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @InjectMocks
+    private TimedRedisCacheWriter cacheWriter;
+
+    @Test
+    @DisplayName("Should record a hit and the lookup latency")
+    void shouldRecordHit() {
+        // Arrange
+        byte[] value = {1, 2, 3};
+        when(delegate.get("bookings", KEY)).thenReturn(value);
+
+        // Act
+        byte[] result = cacheWriter.get("bookings", KEY);
+
+        // Assert
+        assertThat(result).isSameAs(value);
+        verify(bookingMetrics).recordCacheRequests("bookings", 1, 0);
+        verify(bookingMetrics).recordCacheLatency(eq("bookings"), eq("get"), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should record a miss")
+    void shouldRecordMiss() {
+        // Act
+        cacheWriter.get("bookings", KEY);
+
+        // Assert
+        verify(bookingMetrics).recordCacheRequests("bookings", 0, 1);
+    }
+
+    @Test
+    @DisplayName("Should time writes and evictions")
+    void shouldTimeWritesAndEvictions() {
+        // Act
+        cacheWriter.put("bookings", KEY, new byte[]{1}, Duration.ofMinutes(1));
+        cacheWriter.remove("bookings", KEY);
+
+        // Assert
+        verify(delegate).put("bookings", KEY, new byte[]{1}, Duration.ofMinutes(1));
+        verify(delegate).remove("bookings", KEY);
+        verify(bookingMetrics).recordCacheLatency(eq("bookings"), eq("put"), anyLong());
+        verify(bookingMetrics).recordCacheLatency(eq("bookings"), eq("evict"), anyLong());
+    }
+}
@@ -0,0 +1,109 @@
+package com.velocity.carservice.infrastructure.cache;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnknownBookingGuard Unit Tests")
+class UnknownBookingGuardTest {
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private UnknownBookingGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new UnknownBookingGuard(bookingMetrics, true, Duration.ofMinutes(1), 10);
+    }
+
+    @Nested
+    @DisplayName("Negative Cache Tests")
+    class NegativeCacheTests {
+
+        @Test
+        @DisplayName("Should look up IDs the database has not been asked about")
+        void shouldLookUpUnseenIds() {
+            assertThat(guard.isKnownAbsent("BKG0000001")).isFalse();
+            verifyNoInteractions(bookingMetrics);
+        }
+
+        @Test
+        @DisplayName("Should reject a recorded miss until the booking is created")
+        void shouldRejectRecordedMissUntilCreated() {
+            // Arrange
+            guard.recordMiss("BKG0000004");
+
+            // Act & Assert
+            assertThat(guard.isKnownAbsent("BKG0000004")).isTrue();
+            verify(bookingMetrics).incrementUnknownBookingLookupsRejected("negative_cache");
+            guard.recordExisting("BKG0000004");
+            assertThat(guard.isKnownAbsent("BKG0000004")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not cache a miss for a booking created since the lookup started")
+        void shouldNotCacheMissForRecentlyCreatedBooking() {
+            // Act - the booking committed while a lookup that started earlier was still reading
+            guard.onBookingStatusChanged(BookingStatusChangedEvent.of("BKG0000003", BookingStatus.PENDING_PAYMENT));
+            guard.recordMiss("BKG0000003");
+            guard.recordMiss("BKG9999999");
+
+            // Assert
+            assertThat(guard.isKnownAbsent("BKG0000003")).isFalse();
+            assertThat(guard.isKnownAbsent("BKG9999999")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should forget a miss once its TTL has passed")
+        void shouldForgetMissAfterTtl() {
+            // Arrange
+            UnknownBookingGuard shortLived = new UnknownBookingGuard(bookingMetrics, true, Duration.ZERO, 10);
+            shortLived.recordMiss("BKG0000005");
+
+            // Act & Assert
+            assertThat(shortLived.isKnownAbsent("BKG0000005")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should stop caching misses when full of unexpired entries")
+        void shouldStopCachingWhenFull() {
+            // Arrange
+            UnknownBookingGuard small = new UnknownBookingGuard(bookingMetrics, true, Duration.ofMinutes(1), 2);
+            small.recordMiss("BKG0000001");
+            small.recordMiss("BKG0000002");
+
+            // Act
+            small.recordMiss("BKG0000003");
+
+            // Assert
+            assertThat(small.isKnownAbsent("BKG0000002")).isTrue();
+            assertThat(small.isKnownAbsent("BKG0000003")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldDoNothingWhenDisabled() {
+            // Arrange
+            UnknownBookingGuard disabled = new UnknownBookingGuard(bookingMetrics, false, Duration.ofMinutes(1), 10);
+            disabled.recordMiss("BKG0000006");
+
+            // Act & Assert
+            assertThat(disabled.isKnownAbsent("BKG0000006")).isFalse();
+        }
+    }
+}
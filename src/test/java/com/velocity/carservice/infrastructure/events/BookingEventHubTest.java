@@ -0,0 +1,145 @@
+package com.velocity.carservice.infrastructure.events;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.infrastructure.exception.CustomExceptions.BookingValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BookingEventHub Unit Tests")
+class BookingEventHubTest {
+
+    private BookingEventHub bookingEventHub;
+
+    @BeforeEach
+    void setUp() {
+        // Sends run on the caller's thread, so the tests see their effect right away
+        bookingEventHub = new BookingEventHub(60_000L, 2, 3, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("Subscription Tests")
+    class SubscriptionTests {
+
+        @Test
+        @DisplayName("Should track one subscription per stream")
+        void shouldTrackSubscriptionPerStream() {
+            // Act
+            bookingEventHub.subscribe(List.of("BKG0000001"), List::of);
+            bookingEventHub.subscribe(List.of("BKG0000001", "BKG0000002"), List::of);
+
+            // Assert
+            assertThat(bookingEventHub.getActiveSubscriptionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should follow the bookings while the snapshot is read and close the stream if it fails")
+        void shouldSubscribeBeforeReadingSnapshot() {
+            // Act
+            bookingEventHub.subscribe(List.of("BKG0000001"), () -> {
+                // A change committed while the snapshot is read is queued behind it, not lost
+                bookingEventHub.deliver(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.CONFIRMED));
+                assertThat(bookingEventHub.getActiveSubscriptionCount()).isEqualTo(1);
+                return List.of(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.PENDING_PAYMENT));
+            });
+
+            // Assert
+            assertThat(bookingEventHub.getActiveSubscriptionCount()).isEqualTo(1);
+            assertThatThrownBy(() -> bookingEventHub.subscribe(List.of("BKG0000002"), () -> {
+                throw new IllegalStateException("lookup failed");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(bookingEventHub.getActiveSubscriptionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reject streams with no bookings or too many bookings")
+        void shouldRejectInvalidSubscriptions() {
+            // Act & Assert
+            assertThatThrownBy(() -> bookingEventHub.validateSubscription(List.of()))
+                    .isInstanceOf(BookingValidationException.class);
+            assertThatThrownBy(() -> bookingEventHub.validateSubscription(
+                    List.of("BKG0000001", "BKG0000002", "BKG0000003")))
+                    .isInstanceOf(BookingValidationException.class)
+                    .hasMessageContaining("at most 2");
+            assertThatCode(() -> bookingEventHub.validateSubscription(List.of("BKG0000001", "BKG0000002")))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("Delivery Tests")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("Should ignore events for bookings nobody follows")
+        void shouldIgnoreEventsWithoutFollowers() {
+            // Act & Assert
+            assertThatCode(() -> bookingEventHub.deliver(
+                    BookingStatusChangedEvent.of("BKG0000009", BookingStatus.CONFIRMED)))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should drop streams whose connection is gone")
+        void shouldDropStreamsWhoseConnectionIsGone() {
+            // Arrange - the emitter was never handed to a servlet response, so sending fails once completed
+            bookingEventHub.subscribe(List.of("BKG0000001"), List::of).complete();
+
+            // Act
+            bookingEventHub.deliver(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.CONFIRMED));
+
+            // Assert
+            assertThat(bookingEventHub.getActiveSubscriptionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should send on the executor with one drain per stream")
+        void shouldSendOnExecutor() {
+            // Arrange
+            List<Runnable> tasks = new ArrayList<>();
+            BookingEventHub hub = new BookingEventHub(60_000L, 2, 3, tasks::add);
+            hub.subscribe(List.of("BKG0000001"),
+                    () -> List.of(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.PENDING_PAYMENT)));
+
+            // Act
+            hub.deliver(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.CONFIRMED));
+            hub.sendHeartbeats();
+
+            // Assert - the snapshot started a drain and later events join its queue
+            assertThat(tasks).hasSize(1);
+            tasks.removeFirst().run();
+            hub.deliver(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.CANCELLED));
+            assertThat(tasks).hasSize(1);
+            assertThat(hub.getActiveSubscriptionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop streams that fall too far behind")
+        void shouldDropSlowStreams() {
+            // Arrange - the executor never runs, like a client that stopped reading
+            List<Runnable> tasks = new ArrayList<>();
+            BookingEventHub hub = new BookingEventHub(60_000L, 2, 3, tasks::add);
+            hub.subscribe(List.of("BKG0000001"), List::of);
+            hub.subscribe(List.of("BKG0000002"), List::of);
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                hub.deliver(BookingStatusChangedEvent.of("BKG0000001", BookingStatus.CONFIRMED));
+            }
+
+            // Assert - only the stream that overflowed is dropped
+            assertThat(hub.getActiveSubscriptionCount()).isEqualTo(1);
+            hub.deliver(BookingStatusChangedEvent.of("BKG0000002", BookingStatus.CONFIRMED));
+            assertThat(hub.getActiveSubscriptionCount()).isEqualTo(1);
+        }
+    }
+}
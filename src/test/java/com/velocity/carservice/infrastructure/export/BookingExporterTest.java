@@ -0,0 +1,148 @@
+package com.velocity.carservice.infrastructure.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookingExporter Unit Tests")
+class BookingExporterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmbeddedDatabase database;
+    private BookingExporter bookingExporter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+                CREATE TABLE bookings (
+                    booking_id VARCHAR(10) PRIMARY KEY,
+                    customer_name VARCHAR(255),
+                    vehicle_id VARCHAR(50),
+                    vehicle_category VARCHAR(50),
+                    rental_start_date DATE,
+                    rental_end_date DATE,
+                    payment_mode VARCHAR(20),
+                    payment_reference VARCHAR(255),
+                    status VARCHAR(20),
+                    payment_amount DECIMAL(10, 2),
+                    amount_received DECIMAL(10, 2),
+                    created_at TIMESTAMP,
+                    updated_at TIMESTAMP
+                )""");
+        jdbcTemplate.update("""
+                INSERT INTO bookings VALUES
+                ('BKG0000001', 'Doe, "Johnny" John', 'VH001', 'SEDAN', DATE '2026-03-05', DATE '2026-03-08',
+                 'BANK_TRANSFER', NULL, 'PENDING_PAYMENT', 300.00, NULL,
+                 TIMESTAMP '2026-02-01 10:15:30', TIMESTAMP '2026-02-01 10:15:30'),
+                ('BKG0000002', 'Jane Roe', 'VH002', 'SUV', DATE '2026-03-02', DATE '2026-03-04',
+                 'CREDIT_CARD', 'line one
+                line two', 'CONFIRMED', 150.50, 150.50,
+                 TIMESTAMP '2026-02-02 08:00:00', TIMESTAMP '2026-02-02 09:00:00'),
+                ('BKG0000003', 'Outside Range', 'VH003', 'SEDAN', DATE '2026-04-01', DATE '2026-04-02',
+                 'CREDIT_CARD', NULL, 'CONFIRMED', 100.00, 100.00,
+                 TIMESTAMP '2026-02-03 08:00:00', TIMESTAMP '2026-02-03 08:00:00')
+                """);
+        // A fetch size smaller than the result, so rows are streamed across several fetches
+        bookingExporter = new BookingExporter(database, objectMapper, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("CSV Tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should write a header and quote fields with commas, quotes and line breaks")
+        void shouldQuoteSpecialCharacters() {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            long rows = bookingExporter.export(FROM, TO, BookingExportFormat.CSV, out);
+
+            // Assert - ordered by rental start, empty fields for nulls
+            assertThat(rows).isEqualTo(2);
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "booking_id,customer_name,vehicle_id,vehicle_category,rental_start_date,rental_end_date,"
+                            + "payment_mode,payment_reference,status,payment_amount,amount_received,created_at,updated_at\n"
+                            + "BKG0000002,Jane Roe,VH002,SUV,2026-03-02,2026-03-04,CREDIT_CARD,\"line one\nline two\","
+                            + "CONFIRMED,150.50,150.50,2026-02-02T08:00,2026-02-02T09:00\n"
+                            + "BKG0000001,\"Doe, \"\"Johnny\"\" John\",VH001,SEDAN,2026-03-05,2026-03-08,BANK_TRANSFER,,"
+                            + "PENDING_PAYMENT,300.00,,2026-02-01T10:15:30,2026-02-01T10:15:30\n");
+        }
+
+        @Test
+        @DisplayName("Should write only the header when no booking matches")
+        void shouldWriteHeaderOnlyWhenEmpty() {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            long rows = bookingExporter.export(TO.plusYears(1), TO.plusYears(2), BookingExportFormat.CSV, out);
+
+            // Assert
+            assertThat(rows).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(String.join(",", BookingExporter.COLUMNS) + "\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON Tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should write one JSON object per line, each terminated by a newline")
+        void shouldFrameOneObjectPerLine() throws Exception {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            long rows = bookingExporter.export(FROM, TO, BookingExportFormat.NDJSON, out);
+
+            // Assert - line breaks inside values are escaped, so they cannot split a record
+            String body = out.toString(StandardCharsets.UTF_8);
+            assertThat(rows).isEqualTo(2);
+            assertThat(body).endsWith("}\n");
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+
+            JsonNode first = objectMapper.readTree(lines[0]);
+            assertThat(first.get("bookingId").asText()).isEqualTo("BKG0000002");
+            assertThat(first.get("paymentReference").asText()).isEqualTo("line one\nline two");
+            assertThat(first.get("paymentAmount").decimalValue()).isEqualByComparingTo("150.50");
+
+            JsonNode second = objectMapper.readTree(lines[1]);
+            assertThat(second.get("customerName").asText()).isEqualTo("Doe, \"Johnny\" John");
+            assertThat(second.get("paymentReference").isNull()).isTrue();
+            assertThat(second.get("amountReceived").isNull()).isTrue();
+            assertThat(second.get("rentalStartDate").asText()).isEqualTo("2026-03-05");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.velocity.carservice.infrastructure.hold;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleHold;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VehicleHoldStore Tests")
+class VehicleHoldStoreTest {
+
+    private static final LocalDate JUNE_10 = LocalDate.of(2026, 6, 10);
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private VehicleHoldStore holdStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisConnectionFactory.getConnection())
+                .thenThrow(new RedisConnectionFailureException("Redis down"));
+        holdStore = new VehicleHoldStore(redisConnectionFactory, new ObjectMapper().findAndRegisterModules(),
+                CircuitBreakerRegistry.ofDefaults());
+    }
+
+    @Nested
+    @DisplayName("Placing holds")
+    class PlacingTests {
+
+        @Test
+        @DisplayName("Should refuse a hold overlapping a live hold on the same vehicle")
+        void shouldRefuseOverlappingHold() {
+            // Arrange
+            holdStore.tryHold(hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+
+            // Act
+            boolean overlapping = holdStore.tryHold(
+                    hold("T2", "VH-001", JUNE_10.plusDays(4), JUNE_10.plusDays(8), inMinutes(10)));
+            boolean adjacent = holdStore.tryHold(
+                    hold("T3", "VH-001", JUNE_10.plusDays(5), JUNE_10.plusDays(8), inMinutes(10)));
+            boolean otherVehicle = holdStore.tryHold(
+                    hold("T4", "VH-002", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+
+            // Assert
+            assertThat(overlapping).isFalse();
+            assertThat(adjacent).isTrue();
+            assertThat(otherVehicle).isTrue();
+            assertThat(holdStore.isHeld("VH-001", JUNE_10.plusDays(2), JUNE_10.plusDays(3))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should ignore and replace an expired hold")
+        void shouldIgnoreExpiredHold() {
+            // Arrange
+            holdStore.tryHold(hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(-1)));
+
+            // Act
+            boolean held = holdStore.isHeld("VH-001", JUNE_10, JUNE_10.plusDays(5));
+            boolean placed = holdStore.tryHold(hold("T2", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+
+            // Assert
+            assertThat(held).isFalse();
+            assertThat(placed).isTrue();
+            assertThat(holdStore.redeem("T1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should report which of many vehicles are held for the dates")
+        void shouldReportHeldVehicles() {
+            // Arrange
+            holdStore.tryHold(hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+            holdStore.tryHold(hold("T2", "VH-002", JUNE_10.plusDays(5), JUNE_10.plusDays(8), inMinutes(10)));
+            holdStore.tryHold(hold("T3", "VH-003", JUNE_10, JUNE_10.plusDays(5), inMinutes(-1)));
+
+            // Act
+            Set<String> held = holdStore.heldVehicles(
+                    List.of("VH-001", "VH-002", "VH-003", "VH-004"), JUNE_10, JUNE_10.plusDays(5));
+
+            // Assert
+            assertThat(held).containsExactly("VH-001");
+        }
+    }
+
+    @Nested
+    @DisplayName("Redeeming holds")
+    class RedeemingTests {
+
+        @Test
+        @DisplayName("Should redeem a hold only once and free the vehicle")
+        void shouldRedeemOnce() {
+            // Arrange
+            VehicleHold hold = hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10));
+            holdStore.tryHold(hold);
+
+            // Act & Assert
+            assertThat(holdStore.redeem("T1")).contains(hold);
+            assertThat(holdStore.redeem("T1")).isEmpty();
+            assertThat(holdStore.isHeld("VH-001", JUNE_10, JUNE_10.plusDays(5))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should restore a released hold")
+        void shouldRestoreReleasedHold() {
+            // Arrange
+            VehicleHold hold = hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10));
+            holdStore.tryHold(hold);
+            holdStore.redeem("T1");
+
+            // Act
+            holdStore.release(hold);
+
+            // Assert
+            assertThat(holdStore.redeem("T1")).contains(hold);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redeeming mirrored holds")
+    class MirroredTests {
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        private VehicleHoldStore mirroredStore;
+
+        @BeforeEach
+        void setUp() {
+            when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                    .thenReturn(1L);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            mirroredStore = new VehicleHoldStore(redisTemplate, objectMapper, CircuitBreakerRegistry.ofDefaults());
+        }
+
+        @Test
+        @DisplayName("Should not honour this node's copy of a hold redeemed on another node")
+        void shouldNotRedeemLocalCopyOfHoldRedeemedElsewhere() {
+            // Arrange
+            mirroredStore.tryHold(hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+            when(valueOperations.getAndDelete(VehicleHoldStore.TOKEN_KEY_PREFIX + "T1")).thenReturn(null);
+
+            // Act & Assert
+            assertThat(mirroredStore.redeem("T1")).isEmpty();
+            assertThat(mirroredStore.localHoldCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should redeem the hold stored in Redis")
+        @SuppressWarnings("unchecked")
+        void shouldRedeemHoldFromRedis() throws Exception {
+            // Arrange
+            VehicleHold hold = hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(10));
+            mirroredStore.tryHold(hold);
+            HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(valueOperations.getAndDelete(VehicleHoldStore.TOKEN_KEY_PREFIX + "T1"))
+                    .thenReturn(objectMapper.writeValueAsString(hold));
+
+            // Act & Assert
+            assertThat(mirroredStore.redeem("T1")).contains(hold);
+            verify(hashOperations).delete(VehicleHoldStore.VEHICLE_KEY_PREFIX + "VH-001", "T1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should purge expired holds")
+    void shouldPurgeExpiredHolds() {
+        // Arrange
+        holdStore.tryHold(hold("T1", "VH-001", JUNE_10, JUNE_10.plusDays(5), inMinutes(-1)));
+        holdStore.tryHold(hold("T2", "VH-002", JUNE_10, JUNE_10.plusDays(5), inMinutes(10)));
+
+        // Act
+        holdStore.purgeExpired();
+
+        // Assert
+        assertThat(holdStore.localHoldCount()).isEqualTo(1);
+    }
+
+    private static VehicleHold hold(String token, String vehicleId, LocalDate start, LocalDate end,
+                                    long expiresAtMillis) {
+        return new VehicleHold(token, vehicleId, VehicleCategory.SEDAN, start, end, 25_000, expiresAtMillis);
+    }
+
+    private static long inMinutes(long minutes) {
+        return System.currentTimeMillis() + minutes * 60_000;
+    }
+}
@@ -0,0 +1,134 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
+import com.velocity.carservice.infrastructure.importer.BankStatementReader.Entry;
+import com.velocity.carservice.infrastructure.importer.BankStatementReader.Format;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BankStatementReader Unit Tests")
+class BankStatementReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read CSV payments by header name and report unreadable lines")
+    void shouldReadCsv() throws Exception {
+        // Arrange
+        Path file = write("""
+                paymentId,payment_amount,transaction_details,sender_account_number
+                PAY-1,200.00,TXN987654321 BKG0000001,NL91ABNA0417164300
+
+                PAY-2,abc,TXN987654321 BKG0000002,
+                PAY-3,50.00
+                "PAY-4",75.50,"TXN987654321 BKG0000003",
+                """);
+
+        // Act
+        List<Entry> entries = read(file, Format.CSV, 48);
+
+        // Assert
+        assertThat(entries).extracting(Entry::line).containsExactly(2L, 4L, 5L, 6L);
+        assertThat(entries.get(0).payment()).isEqualTo(new BankTransferPaymentEvent(
+                "PAY-1", "NL91ABNA0417164300", new BigDecimal("200.00"), "TXN987654321 BKG0000001"));
+        assertThat(entries.get(1).error()).isEqualTo("Invalid amount: abc");
+        assertThat(entries.get(2).error()).isEqualTo("Expected 4 fields, found 2");
+        assertThat(entries.get(3).payment()).isEqualTo(new BankTransferPaymentEvent(
+                "PAY-4", null, new BigDecimal("75.50"), "TXN987654321 BKG0000003"));
+    }
+
+    @Test
+    @DisplayName("Should refuse a CSV header without a required field")
+    void shouldRefuseCsvHeaderWithoutRequiredField() throws Exception {
+        // Arrange
+        Path file = write("payment_id,payment_amount\nPAY-1,200.00\n");
+
+        // Act & Assert
+        assertThatThrownBy(() -> read(file, Format.CSV, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("transactiondetails");
+    }
+
+    @Test
+    @DisplayName("Should read MT940 credits with their :86: details and skip debits")
+    void shouldReadMt940() throws Exception {
+        // Arrange
+        Path file = write("""
+                :20:EOD20260301
+                :25:NL91ABNA0417164300
+                :28C:00059/1
+                :60F:C260228EUR10000,00
+                :61:2603010301C200,00NTRFNONREF//BANKREF0001
+                :86:TXN987654321 BKG00
+                00001
+                :61:2603010301D45,10NTRFSUPPLIER-77
+                :86:Office supplies
+                :61:2603010301C100,NTRFCUSTREF2
+                :86:TXN987654321 BKG0000002
+                :61:26030X
+                :62F:C260301EUR10254,90
+                -
+                """.replace("\n", "\r\n"));
+
+        // Act
+        List<Entry> entries = read(file, Format.MT940, 40);
+
+        // Assert
+        assertThat(entries).extracting(Entry::line).containsExactly(5L, 10L, 12L);
+        assertThat(entries.get(0).payment()).isEqualTo(new BankTransferPaymentEvent(
+                "BANKREF0001", null, new BigDecimal("200.00"), "TXN987654321 BKG0000001"));
+        assertThat(entries.get(0).payment().extractBookingId()).isEqualTo("BKG0000001");
+        assertThat(entries.get(1).payment().paymentAmount()).isEqualByComparingTo("100.00");
+        assertThat(entries.get(1).payment().transactionDetails()).isEqualTo("TXN987654321 BKG0000002");
+        assertThat(entries.get(2).error()).isEqualTo("Unreadable :61: statement line");
+    }
+
+    @Test
+    @DisplayName("Should key MT940 entries without a bank reference on the entry line, not the customer reference")
+    void shouldKeyMt940EntriesWithoutBankReference() throws Exception {
+        // Arrange
+        Path file = write("""
+                :20:EOD20260301
+                :61:2603010301C100,NTRFCUSTREF2
+                :86:TXN987654321 BKG0000002
+                :61:2603020302C100,NTRFCUSTREF2
+                :86:TXN987654321 BKG0000002
+                :61:2603010301C100,NTRFCUSTREF2
+                :86:TXN987654321 BKG0000002
+                -
+                """);
+
+        // Act
+        List<String> paymentIds = read(file, Format.MT940, 1024).stream()
+                .map(entry -> entry.payment().paymentId())
+                .toList();
+
+        // Assert
+        assertThat(paymentIds).hasSize(3).allSatisfy(paymentId ->
+                assertThat(paymentId).startsWith("MT940-").hasSize(70).doesNotContain("CUSTREF2"));
+        assertThat(paymentIds.get(0)).isNotEqualTo(paymentIds.get(1)).isEqualTo(paymentIds.get(2));
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.writeString(tempDir.resolve("statement.txt"), content);
+    }
+
+    private static List<Entry> read(Path file, Format format, long windowSize) throws Exception {
+        List<Entry> entries = new ArrayList<>();
+        try (BankStatementReader reader = BankStatementReader.open(file, format, windowSize)) {
+            reader.read(entries::add);
+        }
+        return entries;
+    }
+}
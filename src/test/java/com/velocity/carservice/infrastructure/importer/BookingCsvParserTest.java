@@ -0,0 +1,112 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import com.velocity.carservice.domain.model.BookingIdCodec;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BookingCsvParser Unit Tests")
+class BookingCsvParserTest {
+
+    private static final List<String> HEADER = List.of(
+            "booking_id", "customer_name", "vehicle_id", "vehicle_category", "rental_start_date",
+            "rental_end_date", "payment_mode", "status", "payment_amount");
+
+    private final BookingDomainService bookingDomainService = new BookingDomainService();
+
+    @Test
+    @DisplayName("Should write valid rows as COPY input in staging column order")
+    void shouldWriteValidRows() {
+        // Arrange
+        BookingCsvParser parser = new BookingCsvParser(HEADER, bookingDomainService);
+        String rows = """
+                BKG0000001,"Doe, ""Johnny""\",VH-1,SUV,2026-03-01,2026-03-05,CREDIT_CARD,CONFIRMED,400.00\r
+
+                BKG0000002,Jane Smith,VH-2,COMPACT,2026-03-02,2026-03-03,BANK_TRANSFER,PENDING_PAYMENT,
+                """;
+
+        // Act
+        BookingCsvParser.ParsedChunk parsed = parse(parser, rows);
+
+        // Assert
+        assertThat(parsed.rows()).isEqualTo(2);
+        assertThat(parsed.rejected()).isZero();
+        assertThat(new String(parsed.copyData(), StandardCharsets.UTF_8)).isEqualTo("""
+                "BKG0000001","Doe, ""Johnny""\","VH-1","SUV","2026-03-01","2026-03-05","CREDIT_CARD",,"CONFIRMED","400.00",,,
+                "BKG0000002","Jane Smith","VH-2","COMPACT","2026-03-02","2026-03-03","BANK_TRANSFER",,"PENDING_PAYMENT",,,,
+                """);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows with the reason and keep the valid ones")
+    void shouldRejectInvalidRows() {
+        // Arrange
+        BookingCsvParser parser = new BookingCsvParser(HEADER, bookingDomainService);
+        String rows = """
+                BKG0000001,John Doe,VH-1,SUV,2026-03-05,2026-03-01,CREDIT_CARD,CONFIRMED,400.00
+                BKG0000002,John Doe,VH-1,TRUCK,2026-03-01,2026-03-05,CREDIT_CARD,CONFIRMED,400.00
+                BKG0000003,John Doe,VH-1,SUV,2026-03-01,2026-03-05,CREDIT_CARD,CONFIRMED,400.001
+                BKG0000004,John Doe,VH-1,SUV
+                BKG0000005,John Doe,VH-1,SUV,2026-03-01,2026-03-05,CREDIT_CARD,CONFIRMED,400.00
+                """;
+
+        // Act
+        BookingCsvParser.ParsedChunk parsed = parse(parser, rows);
+
+        // Assert
+        assertThat(parsed.rows()).isEqualTo(5);
+        assertThat(parsed.rejected()).isEqualTo(4);
+        assertThat(parsed.staged()).isEqualTo(1);
+        assertThat(parsed.sampleErrors()).hasSize(4);
+        assertThat(parsed.sampleErrors().get(0)).startsWith("row 1: Rental end date must be after");
+        assertThat(parsed.sampleErrors().get(3)).isEqualTo("row 4: Expected 9 fields, found 4");
+        assertThat(new String(parsed.copyData(), StandardCharsets.UTF_8)).startsWith("\"BKG0000005\"");
+    }
+
+    @Test
+    @DisplayName("Should reject booking IDs that are malformed or fail the check character")
+    void shouldRejectInvalidBookingIds() {
+        // Arrange
+        BookingCsvParser parser = new BookingCsvParser(HEADER, bookingDomainService);
+        String valid = BookingIdCodec.encode(42);
+        String mistyped = valid.substring(0, 9) + (valid.charAt(9) == '0' ? '1' : '0');
+        String rows = String.join("\n",
+                row(valid), row(mistyped), row("BKG000001"), row("XYZ0000001"), row("BKG0000001")) + "\n";
+
+        // Act
+        BookingCsvParser.ParsedChunk parsed = parse(parser, rows);
+
+        // Assert
+        assertThat(parsed.rows()).isEqualTo(5);
+        assertThat(parsed.rejected()).isEqualTo(3);
+        assertThat(parsed.sampleErrors()).containsExactly(
+                "row 2: booking_id " + mistyped + " is not a valid booking ID",
+                "row 3: booking_id BKG000001 is not a valid booking ID",
+                "row 4: booking_id XYZ0000001 is not a valid booking ID");
+    }
+
+    @Test
+    @DisplayName("Should refuse a header without a required column")
+    void shouldRefuseHeaderWithoutRequiredColumn() {
+        // Act & Assert
+        assertThatThrownBy(() -> new BookingCsvParser(HEADER.subList(1, HEADER.size()), bookingDomainService))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("booking_id");
+    }
+
+    private static String row(String bookingId) {
+        return bookingId + ",John Doe,VH-1,SUV,2026-03-01,2026-03-05,CREDIT_CARD,CONFIRMED,400.00";
+    }
+
+    private static BookingCsvParser.ParsedChunk parse(BookingCsvParser parser, String rows) {
+        byte[] bytes = rows.getBytes(StandardCharsets.UTF_8);
+        return parser.parse(new MappedCsvFile.Chunk(0, 0, bytes.length), ByteBuffer.wrap(bytes));
+    }
+}
@@ -0,0 +1,94 @@
+package com.velocity.carservice.infrastructure.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedCsvFile Unit Tests")
+class MappedCsvFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read the header without a byte order mark")
+    void shouldReadHeader() throws Exception {
+        // Arrange
+        Path file = write("\uFEFFbooking_id,\"customer_name\",vehicle_id\r\nBKG1,John,VH-1\r\n");
+
+        // Act & Assert
+        try (MappedCsvFile csv = MappedCsvFile.open(file)) {
+            assertThat(csv.header()).containsExactly("booking_id", "customer_name", "vehicle_id");
+            assertThat(csv.chunks(1024)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should split the data into line-aligned chunks that cover every row once")
+    void shouldSplitIntoLineAlignedChunks() throws Exception {
+        // Arrange
+        StringBuilder content = new StringBuilder("booking_id,customer_name\n");
+        for (int i = 0; i < 100; i++) {
+            content.append("BKG").append(i).append(",Customer ").append("x".repeat(i % 7)).append('\n');
+        }
+        Path file = write(content.toString());
+
+        // Act
+        try (MappedCsvFile csv = MappedCsvFile.open(file)) {
+            List<MappedCsvFile.Chunk> chunks = csv.chunks(64);
+
+            // Assert
+            assertThat(chunks).hasSizeGreaterThan(10);
+            StringBuilder data = new StringBuilder();
+            for (MappedCsvFile.Chunk chunk : chunks) {
+                byte[] bytes = new byte[chunk.length()];
+                csv.map(chunk).get(bytes);
+                String text = new String(bytes, StandardCharsets.UTF_8);
+                assertThat(text).startsWith("BKG").endsWith("\n");
+                data.append(text);
+            }
+            assertThat("booking_id,customer_name\n" + data).isEqualTo(content.toString());
+            assertThat(csv.chunks(64)).isEqualTo(chunks);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return no chunks for a file with only a header")
+    void shouldReturnNoChunksForHeaderOnly() throws Exception {
+        // Arrange
+        Path file = write("booking_id,customer_name");
+
+        // Act & Assert
+        try (MappedCsvFile csv = MappedCsvFile.open(file)) {
+            assertThat(csv.header()).containsExactly("booking_id", "customer_name");
+            assertThat(csv.chunks(64)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should identify the file by its contents, not its name")
+    void shouldHashContents() throws Exception {
+        // Arrange
+        Path file = write("booking_id,customer_name\nBKG1,John\n");
+        Path renamed = Files.copy(file, tempDir.resolve("renamed.csv"));
+        Path changed = Files.writeString(tempDir.resolve("changed.csv"), "booking_id,customer_name\nBKG1,Joan\n");
+
+        // Act & Assert
+        try (MappedCsvFile original = MappedCsvFile.open(file);
+             MappedCsvFile copy = MappedCsvFile.open(renamed);
+             MappedCsvFile other = MappedCsvFile.open(changed)) {
+            assertThat(original.sha256()).hasSize(64).isEqualTo(copy.sha256()).isNotEqualTo(other.sha256());
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.writeString(tempDir.resolve("bookings.csv"), content);
+    }
+}
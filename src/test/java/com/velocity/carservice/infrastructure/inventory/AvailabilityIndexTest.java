@@ -0,0 +1,177 @@
+package com.velocity.carservice.infrastructure.inventory;
+
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AvailabilityIndex Unit Tests")
+class AvailabilityIndexTest {
+
+    private static final LocalDate ORIGIN = LocalDate.of(2026, 1, 1);
+
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex(ORIGIN, 200);
+        index.addVehicle("SUV-1", VehicleCategory.SUV);
+        index.addVehicle("SUV-2", VehicleCategory.SUV);
+        index.addVehicle("LUX-1", VehicleCategory.LUXURY);
+    }
+
+    @Nested
+    @DisplayName("Reservation Tests")
+    class ReservationTests {
+
+        @Test
+        @DisplayName("Should take the booked days of the vehicle only")
+        void shouldTakeBookedDays() {
+            // Act
+            index.reserve(rental("B1", "SUV-1", 60, 70));
+
+            // Assert
+            assertThat(index.isVehicleFree("SUV-1", day(55), day(60))).isTrue();
+            assertThat(index.isVehicleFree("SUV-1", day(69), day(75))).isFalse();
+            assertThat(index.isVehicleFree("SUV-1", day(70), day(75))).isTrue();
+            assertThat(index.freeVehicles(VehicleCategory.SUV, day(62), day(64), 10)).containsExactly("SUV-2");
+        }
+
+        @Test
+        @DisplayName("Should report a category unavailable only when every vehicle is booked")
+        void shouldReportCategoryAvailability() {
+            // Arrange
+            index.reserve(rental("B1", "SUV-1", 10, 20));
+            index.reserve(rental("B2", "SUV-2", 15, 25));
+
+            // Act & Assert
+            assertThat(index.anyFree(VehicleCategory.SUV, day(10), day(15))).isTrue();
+            assertThat(index.anyFree(VehicleCategory.SUV, day(16), day(17))).isFalse();
+            assertThat(index.anyFree(VehicleCategory.SUV, day(5), day(30))).isFalse();
+            assertThat(index.countFree(VehicleCategory.SUV, day(20), day(21))).isEqualTo(1);
+            assertThat(index.anyFree(VehicleCategory.COMPACT, day(1), day(2))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should count every free vehicle but list only up to the limit")
+        void shouldCountAndLimit() {
+            // Arrange
+            index.addVehicle("SUV-3", VehicleCategory.SUV);
+            index.reserve(rental("B1", "SUV-2", 30, 31));
+
+            // Act
+            AvailabilityIndex.CategoryAvailability availability =
+                    index.availability(VehicleCategory.SUV, day(28), day(35), 1);
+
+            // Assert
+            assertThat(availability.fleetSize()).isEqualTo(3);
+            assertThat(availability.freeCount()).isEqualTo(2);
+            assertThat(availability.vehicleIds()).containsExactly("SUV-1");
+        }
+
+        @Test
+        @DisplayName("Should ignore rentals of unknown vehicles and clip rentals to the horizon")
+        void shouldIgnoreUnknownVehiclesAndClip() {
+            // Act
+            boolean unknown = index.reserve(rental("B1", "VH-404", 10, 20));
+            boolean clipped = index.reserve(rental("B2", "LUX-1", 190, 260));
+            boolean outside = index.reserve(rental("B3", "LUX-1", -20, -10));
+
+            // Assert
+            assertThat(unknown).isFalse();
+            assertThat(clipped).isTrue();
+            assertThat(outside).isFalse();
+            assertThat(index.isVehicleFree("LUX-1", day(199), day(200))).isFalse();
+            assertThat(index.covers(day(199), day(201))).isFalse();
+            assertThatThrownBy(() -> index.isVehicleFree("LUX-1", day(199), day(201)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should free the days of a released booking")
+        void shouldFreeReleasedDays() {
+            // Arrange
+            index.reserve(rental("B1", "SUV-1", 10, 20));
+            index.reserve(rental("B2", "SUV-2", 10, 20));
+
+            // Act
+            boolean released = index.release("B1");
+
+            // Assert
+            assertThat(released).isTrue();
+            assertThat(index.release("B1")).isFalse();
+            assertThat(index.freeVehicles(VehicleCategory.SUV, day(10), day(20), 10)).containsExactly("SUV-1");
+        }
+
+        @Test
+        @DisplayName("Should keep days still taken by an overlapping booking of the same vehicle")
+        void shouldKeepOverlappingBookings() {
+            // Arrange
+            index.reserve(rental("B1", "LUX-1", 10, 20));
+            index.reserve(rental("B2", "LUX-1", 15, 25));
+
+            // Act
+            index.release("B1");
+
+            // Assert
+            assertThat(index.isVehicleFree("LUX-1", day(10), day(15))).isTrue();
+            assertThat(index.isVehicleFree("LUX-1", day(15), day(16))).isFalse();
+            assertThat(index.anyFree(VehicleCategory.LUXURY, day(24), day(25))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should match a day-by-day evaluation for random bookings")
+    void shouldMatchDayByDayEvaluation() {
+        // Arrange
+        Random random = new Random(42);
+        boolean[][] booked = new boolean[2][200];
+        for (int i = 0; i < 40; i++) {
+            int vehicle = random.nextInt(2);
+            int from = random.nextInt(195);
+            int to = from + 1 + random.nextInt(5);
+            if (index.reserve(rental("R" + i, "SUV-" + (vehicle + 1), from, to))) {
+                for (int d = from; d < to; d++) {
+                    booked[vehicle][d] = true;
+                }
+            }
+        }
+
+        // Act & Assert
+        for (int from = 0; from < 199; from++) {
+            int to = from + 1 + random.nextInt(Math.min(70, 199 - from));
+            boolean expected = false;
+            for (int vehicle = 0; vehicle < 2; vehicle++) {
+                boolean free = true;
+                for (int d = from; d < to; d++) {
+                    free &= !booked[vehicle][d];
+                }
+                expected |= free;
+            }
+            assertThat(index.anyFree(VehicleCategory.SUV, day(from), day(to)))
+                    .as("days %d to %d", from, to)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static LocalDate day(int offset) {
+        return ORIGIN.plusDays(offset);
+    }
+
+    private static VehicleRental rental(String bookingId, String vehicleId, int from, int to) {
+        return new VehicleRental(bookingId, vehicleId, day(from), day(to));
+    }
+}
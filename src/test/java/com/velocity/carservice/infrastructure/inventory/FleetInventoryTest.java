@@ -0,0 +1,179 @@
+package com.velocity.carservice.infrastructure.inventory;
+
+import com.velocity.carservice.application.dto.event.BookingStatusChangedEvent;
+import com.velocity.carservice.domain.model.Booking;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.Vehicle;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.model.VehicleRental;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.metrics.BookingMetrics;
+import com.velocity.carservice.infrastructure.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FleetInventory Unit Tests")
+class FleetInventoryTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(10);
+    private static final LocalDate END = START.plusDays(3);
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private FleetInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new FleetInventory(vehicleRepository, bookingRepository, new NoOpTransactionManager(),
+                bookingMetrics, 90);
+    }
+
+    @Test
+    @DisplayName("Should know nothing until the first build")
+    void shouldBeEmptyBeforeFirstBuild() {
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should build the index from the fleet and active bookings")
+    void shouldBuildFromDatabase() {
+        // Arrange
+        givenFleet(new VehicleRental("BKG0000001", "SUV-1", START, END));
+
+        // Act
+        inventory.rebuild();
+
+        // Assert
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).contains(false);
+        assertThat(inventory.anyFree(VehicleCategory.SUV, END, END.plusDays(1))).contains(true);
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, START.plusDays(100))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reserve bookings created on any node and release cancelled ones")
+    void shouldFollowBookingEvents() {
+        // Arrange
+        givenFleet();
+        inventory.rebuild();
+        Booking booking = booking("BKG0000002", "SUV-1");
+
+        // Act & Assert
+        inventory.deliver(BookingStatusChangedEvent.created(booking));
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).contains(false);
+
+        inventory.deliver(BookingStatusChangedEvent.of("BKG0000002", BookingStatus.CONFIRMED));
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).contains(false);
+
+        inventory.deliver(BookingStatusChangedEvent.of("BKG0000002", BookingStatus.CANCELLED));
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).contains(true);
+        verify(bookingRepository, never()).findByBookingId(any());
+    }
+
+    @Test
+    @DisplayName("Should skip bookings of vehicles that are not part of the fleet")
+    void shouldSkipUnregisteredVehicles() {
+        // Arrange
+        givenFleet();
+        inventory.rebuild();
+
+        // Act
+        inventory.deliver(BookingStatusChangedEvent.created(booking("BKG0000004", "SUV-9")));
+
+        // Assert
+        assertThat(inventory.index()).hasValueSatisfying(index -> {
+            assertThat(index.holdsBooking("BKG0000004")).isFalse();
+            assertThat(index.bookingCount()).isZero();
+        });
+        verify(bookingRepository, never()).findByBookingId(any());
+    }
+
+    @Test
+    @DisplayName("Should report bookings the events missed when reconciling")
+    void shouldReportDrift() {
+        // Arrange
+        givenFleet(new VehicleRental("BKG0000001", "SUV-1", START, END));
+        inventory.rebuild();
+        when(bookingRepository.streamActiveRentals(any(), any())).thenReturn(Stream.of(
+                new VehicleRental("BKG0000002", "SUV-1", END, END.plusDays(2)),
+                new VehicleRental("BKG0000003", "SUV-1", END.plusDays(2), END.plusDays(4))));
+
+        // Act
+        inventory.rebuild();
+
+        // Assert
+        verify(bookingMetrics).recordInventoryDrift(2, 1);
+        assertThat(inventory.anyFree(VehicleCategory.SUV, START, END)).contains(true);
+    }
+
+    @Test
+    @DisplayName("Should ignore events before the first build")
+    void shouldIgnoreEventsBeforeFirstBuild() {
+        // Act
+        inventory.deliver(BookingStatusChangedEvent.created(booking("BKG0000003", "SUV-1")));
+
+        // Assert
+        assertThat(inventory.index()).isEmpty();
+        verify(bookingRepository, never()).findByBookingId(any());
+    }
+
+    private static Booking booking(String bookingId, String vehicleId) {
+        return Booking.builder()
+                .bookingId(bookingId)
+                .vehicleId(vehicleId)
+                .rentalStartDate(START)
+                .rentalEndDate(END)
+                .status(BookingStatus.PENDING_PAYMENT)
+                .build();
+    }
+
+    private void givenFleet(VehicleRental... rentals) {
+        when(vehicleRepository.findByActiveTrue()).thenReturn(List.of(
+                Vehicle.builder().vehicleId("SUV-1").vehicleCategory(VehicleCategory.SUV).build()));
+        when(bookingRepository.streamActiveRentals(any(), any())).thenReturn(Stream.of(rentals));
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.velocity.carservice.infrastructure.pricing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.service.PricingEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TariffLoader Tests")
+class TariffLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final PricingEngine pricingEngine = new PricingEngine();
+
+    @Test
+    @DisplayName("Should load the bundled tariff")
+    void shouldLoadBundledTariff() throws IOException {
+        // Act
+        new TariffLoader(pricingEngine, new ObjectMapper(), new DefaultResourceLoader(),
+                "classpath:pricing/tariff.json");
+
+        // Assert
+        assertThat(pricingEngine.tariffVersion()).isNotNull();
+        assertThat(pricingEngine.priceCents(VehicleCategory.SEDAN, LocalDate.of(2026, 3, 2),
+                LocalDate.of(2026, 3, 3))).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reload the tariff when the file changes")
+    void shouldReloadChangedFile() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("tariff.json");
+        writeTariff(file, "v1", 5000, Instant.parse("2026-01-01T00:00:00Z"));
+        TariffLoader loader = loader(file);
+
+        // Act
+        boolean unchanged = loader.reloadIfChanged();
+        writeTariff(file, "v2", 6000, Instant.parse("2026-02-01T00:00:00Z"));
+        boolean changed = loader.reloadIfChanged();
+
+        // Assert
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(pricingEngine.tariffVersion()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should keep the current tariff when an update is invalid")
+    void shouldKeepTariffOnInvalidUpdate() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("tariff.json");
+        writeTariff(file, "v1", 5000, Instant.parse("2026-01-01T00:00:00Z"));
+        TariffLoader loader = loader(file);
+        Files.writeString(file, "{\"version\":\"v2\",\"defaultSeason\":\"LOW\"}");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-02-01T00:00:00Z")));
+
+        // Act
+        boolean reloaded = loader.reloadIfChanged();
+
+        // Assert
+        assertThat(reloaded).isFalse();
+        assertThat(pricingEngine.tariffVersion()).isEqualTo("v1");
+    }
+
+    private TariffLoader loader(Path file) throws IOException {
+        return new TariffLoader(pricingEngine, new ObjectMapper(), new DefaultResourceLoader(),
+                file.toUri().toString());
+    }
+
+    private static void writeTariff(Path file, String version, long rateCents, Instant modified) throws IOException {
+        String rates = "{\"LOW\":" + rateCents + "}";
+        Files.writeString(file, "{\"version\":\"" + version + "\",\"defaultSeason\":\"LOW\",\"dailyRatesCents\":{"
+                + "\"COMPACT\":" + rates + ",\"SEDAN\":" + rates + ",\"SUV\":" + rates + ",\"LUXURY\":" + rates + "}}");
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+}
@@ -0,0 +1,102 @@
+package com.velocity.carservice.infrastructure.startup;
+
+import com.velocity.carservice.shared.constant.AppConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeferredInfrastructureInitializer Tests")
+class DeferredInfrastructureInitializerTest {
+
+    @Mock
+    private ObjectProvider<KafkaAdmin> kafkaAdminProvider;
+
+    @Mock
+    private ObjectProvider<KafkaListenerEndpointRegistry> registryProvider;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> redisContainerProvider;
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer deadLetterContainer;
+
+    @Mock
+    private RedisMessageListenerContainer redisContainer;
+
+    @Test
+    @DisplayName("Should provision topics, then start the DLQ listener and the Redis subscription")
+    void shouldInitializeEverything() {
+        // Arrange
+        when(redisContainerProvider.orderedStream()).thenReturn(Stream.of(redisContainer));
+        when(kafkaAdminProvider.getIfAvailable()).thenReturn(kafkaAdmin);
+        when(kafkaAdmin.initialize()).thenReturn(true);
+        when(registryProvider.getIfAvailable()).thenReturn(registry);
+        when(registry.getListenerContainer(AppConstants.LISTENER_BANK_TRANSFER_PAYMENT_EVENTS_DLQ))
+                .thenReturn(deadLetterContainer);
+
+        // Act
+        initializer(true, true).initialize();
+
+        // Assert
+        verify(redisContainer).start();
+        verify(kafkaAdmin).initialize();
+        verify(deadLetterContainer).start();
+    }
+
+    @Test
+    @DisplayName("Should leave topics and the DLQ listener alone when disabled")
+    void shouldRespectSwitches() {
+        // Arrange
+        when(redisContainerProvider.orderedStream()).thenReturn(Stream.empty());
+        when(kafkaAdminProvider.getIfAvailable()).thenReturn(kafkaAdmin);
+
+        // Act
+        initializer(false, false).initialize();
+
+        // Assert
+        verify(kafkaAdmin, never()).initialize();
+        verify(registryProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("Should carry on when Redis cannot be reached")
+    void shouldContinueWhenRedisFails() {
+        // Arrange
+        when(redisContainerProvider.orderedStream()).thenReturn(Stream.of(redisContainer));
+        doThrow(new IllegalStateException("Connection refused")).when(redisContainer).start();
+        when(kafkaAdminProvider.getIfAvailable()).thenReturn(kafkaAdmin);
+        when(kafkaAdmin.initialize()).thenReturn(false);
+
+        // Act
+        initializer(true, false).initialize();
+
+        // Assert
+        verify(kafkaAdmin).initialize();
+    }
+
+    private DeferredInfrastructureInitializer initializer(boolean provisionTopics, boolean listenersEnabled) {
+        return new DeferredInfrastructureInitializer(kafkaAdminProvider, registryProvider, redisContainerProvider,
+                provisionTopics, listenersEnabled);
+    }
+}
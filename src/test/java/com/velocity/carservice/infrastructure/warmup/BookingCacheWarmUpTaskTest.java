@@ -0,0 +1,105 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import com.velocity.carservice.domain.model.BookingKeyset;
+import com.velocity.carservice.domain.model.BookingStatus;
+import com.velocity.carservice.domain.model.BookingStatusView;
+import com.velocity.carservice.domain.model.BookingSummary;
+import com.velocity.carservice.domain.model.PaymentMode;
+import com.velocity.carservice.domain.model.VehicleCategory;
+import com.velocity.carservice.domain.repository.BookingRepository;
+import com.velocity.carservice.infrastructure.cache.BookingStatusCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingCacheWarmUpTask Tests")
+class BookingCacheWarmUpTaskTest {
+
+    private static final LocalDate RENTAL_START = LocalDate.now().plusDays(1);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingStatusCache bookingStatusCache;
+
+    @Test
+    @DisplayName("Should page through upcoming bookings and cache each page")
+    void shouldPreloadUpcomingBookings() {
+        // Arrange
+        BookingCacheWarmUpTask task = new BookingCacheWarmUpTask(bookingRepository, bookingStatusCache, 3, 10_000);
+        List<BookingSummary> firstPage = summaries(0, BookingCacheWarmUpTask.PAGE_SIZE);
+        List<BookingSummary> lastPage = summaries(BookingCacheWarmUpTask.PAGE_SIZE, 2);
+        BookingKeyset afterFirstPage = BookingKeyset.of(firstPage.get(firstPage.size() - 1));
+        when(bookingRepository.searchSummaries(any(), isNull(), eq(BookingCacheWarmUpTask.PAGE_SIZE)))
+                .thenReturn(firstPage);
+        when(bookingRepository.searchSummaries(any(), eq(afterFirstPage), eq(BookingCacheWarmUpTask.PAGE_SIZE)))
+                .thenReturn(lastPage);
+        when(bookingRepository.findStatusesByBookingIds(anyList()))
+                .thenReturn(List.of(new BookingStatusView("BKG0000001", BookingStatus.CONFIRMED, 0L)));
+
+        // Act
+        Map<String, Object> details = task.warmUp();
+
+        // Assert
+        assertThat(details).containsEntry("bookings", BookingCacheWarmUpTask.PAGE_SIZE + 2);
+        verify(bookingStatusCache, times(2)).putAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop at the preload limit")
+    void shouldStopAtLimit() {
+        // Arrange
+        BookingCacheWarmUpTask task = new BookingCacheWarmUpTask(bookingRepository, bookingStatusCache, 3, 2);
+        when(bookingRepository.searchSummaries(any(), isNull(), eq(2))).thenReturn(summaries(0, 2));
+
+        // Act
+        Map<String, Object> details = task.warmUp();
+
+        // Assert
+        assertThat(details).containsEntry("bookings", 2);
+        verify(bookingRepository).searchSummaries(any(), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should not touch the cache when nothing is upcoming")
+    void shouldSkipCacheWhenEmpty() {
+        // Arrange
+        BookingCacheWarmUpTask task = new BookingCacheWarmUpTask(bookingRepository, bookingStatusCache, 3, 10_000);
+        when(bookingRepository.searchSummaries(any(), isNull(), eq(BookingCacheWarmUpTask.PAGE_SIZE)))
+                .thenReturn(List.of());
+
+        // Act
+        Map<String, Object> details = task.warmUp();
+
+        // Assert
+        assertThat(details).containsEntry("bookings", 0);
+        verify(bookingStatusCache, never()).putAll(anyList());
+    }
+
+    private static List<BookingSummary> summaries(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> new BookingSummary(String.format("BKG%07d", i), "Customer " + i, "VH-001",
+                        VehicleCategory.SEDAN, RENTAL_START, RENTAL_START.plusDays(3),
+                        PaymentMode.BANK_TRANSFER, BookingStatus.PENDING_PAYMENT))
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocity.carservice.domain.service.BookingDomainService;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JitWarmUpTask Tests")
+class JitWarmUpTaskTest {
+
+    @Mock
+    private Validator validator;
+
+    private JitWarmUpTask task;
+
+    @BeforeEach
+    void setUp() {
+        task = new JitWarmUpTask(new ObjectMapper().findAndRegisterModules(), validator,
+                new BookingDomainService(), Duration.ofMillis(50));
+    }
+
+    @Nested
+    @DisplayName("Warm-up loop")
+    class LoopTests {
+
+        @Test
+        @DisplayName("Should drive a valid booking ID through the payment event path")
+        void shouldRunRealCodePaths() {
+            // Act
+            long result = task.iteration(12345);
+
+            // Assert - encoded body bytes plus the 10-character booking ID extracted from the event
+            assertThat(result).isGreaterThan(10);
+        }
+
+        @Test
+        @DisplayName("Should run for the budget and report iterations and steady-state timing")
+        void shouldReportProgress() {
+            // Act
+            Map<String, Object> details = task.warmUp();
+
+            // Assert
+            assertThat((long) details.get("iterations"))
+                    .isPositive()
+                    .isEqualTo((long) details.get("iterations") / JitWarmUpTask.WINDOW_ITERATIONS
+                            * JitWarmUpTask.WINDOW_ITERATIONS);
+            assertThat(details).containsKeys("firstIterationMicros", "steadyIterationMicros", "steadyStateAfterMs");
+        }
+    }
+
+    @Nested
+    @DisplayName("Steady-state detection")
+    class SteadyStateTests {
+
+        @Test
+        @DisplayName("Should average the last windows as the final level")
+        void shouldAverageLastWindows() {
+            // Act
+            long finalLevel = JitWarmUpTask.finalLevel(List.of(900L, 500L, 100L, 100L, 100L, 110L, 90L));
+
+            // Assert
+            assertThat(finalLevel).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("Should pick the first window within 10% of the final level")
+        void shouldFindFirstSteadyWindow() {
+            // Act
+            int window = JitWarmUpTask.steadyWindow(List.of(900L, 500L, 200L, 105L, 100L, 100L), 100L);
+
+            // Assert
+            assertThat(window).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.velocity.carservice.infrastructure.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.info.Info;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("StartupWarmUp Tests")
+class StartupWarmUpTest {
+
+    @Test
+    @DisplayName("Should run every task and report its details")
+    void shouldRunAllTasks() {
+        // Arrange
+        StartupWarmUp warmUp = new StartupWarmUp(List.of(
+                task("databasePool", () -> Map.of("connections", 5)),
+                task("redis", () -> Map.of("connections", 2))), Duration.ofSeconds(10));
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        WarmUpReport report = warmUp.getReport();
+        assertThat(report.status()).isEqualTo(WarmUpReport.Status.COMPLETED);
+        assertThat(report.tasks()).extracting(WarmUpReport.TaskResult::status)
+                .containsExactly(WarmUpReport.TaskStatus.DONE, WarmUpReport.TaskStatus.DONE);
+        assertThat(report.tasks().get(0).details()).containsEntry("connections", 5);
+    }
+
+    @Test
+    @DisplayName("Should report a failing task and carry on with the rest")
+    void shouldContinueAfterFailure() {
+        // Arrange
+        StartupWarmUp warmUp = new StartupWarmUp(List.of(
+                task("redis", () -> {
+                    throw new IllegalStateException("Connection refused");
+                }),
+                task("bookingCache", () -> Map.of("bookings", 42))), Duration.ofSeconds(10));
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        List<WarmUpReport.TaskResult> results = warmUp.getReport().tasks();
+        assertThat(results.get(0).status()).isEqualTo(WarmUpReport.TaskStatus.FAILED);
+        assertThat(results.get(0).details()).containsEntry("error", "Connection refused");
+        assertThat(results.get(1).status()).isEqualTo(WarmUpReport.TaskStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("Should stop a task that overruns the time budget and skip the rest")
+    void shouldStopTaskThatOverrunsBudget() {
+        // Arrange
+        AtomicBoolean interrupted = new AtomicBoolean();
+        StartupWarmUp warmUp = new StartupWarmUp(List.of(
+                task("databasePool", () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return Map.of();
+                }),
+                task("redis", Map::of)), Duration.ofMillis(50));
+
+        // Act
+        warmUp.run(new DefaultApplicationArguments());
+
+        // Assert
+        WarmUpReport report = warmUp.getReport();
+        assertThat(report.tasks()).extracting(WarmUpReport.TaskResult::status)
+                .containsExactly(WarmUpReport.TaskStatus.TIMED_OUT, WarmUpReport.TaskStatus.SKIPPED);
+        assertThat(report.durationMs()).isLessThan(5_000);
+        await().atMost(Duration.ofSeconds(5)).untilTrue(interrupted);
+    }
+
+    @Test
+    @DisplayName("Should publish the report in the info endpoint")
+    void shouldContributeInfo() {
+        // Arrange
+        StartupWarmUp warmUp = new StartupWarmUp(List.of(), Duration.ofSeconds(10));
+        Info.Builder builder = new Info.Builder();
+
+        // Act
+        warmUp.contribute(builder);
+
+        // Assert
+        assertThat(builder.build().getDetails().get("warmUp")).isEqualTo(WarmUpReport.running());
+    }
+
+    private static WarmUpTask task(String name, Supplier<Map<String, Object>> action) {
+        return new WarmUpTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Map<String, Object> warmUp() {
+                return action.get();
+            }
+        };
+    }
+}
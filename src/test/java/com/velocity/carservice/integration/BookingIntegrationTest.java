@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.velocity.carservice.application.dto.event.BankTransferPaymentEvent;
 import com.velocity.carservice.application.dto.request.BookingRequestDTO;
 import com.velocity.carservice.application.dto.response.BookingResponseDTO;
+import com.velocity.carservice.application.service.BookingCancellationService;
 import com.velocity.carservice.domain.model.BookingStatus;
 import com.velocity.carservice.domain.model.PaymentMode;
 import com.velocity.carservice.domain.model.VehicleCategory;
@@ -99,6 +100,9 @@ class BookingIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private BookingCancellationService bookingCancellationService;
+
     private String baseUrl;
 
     @BeforeEach
@@ -219,6 +223,45 @@ class BookingIntegrationTest {
                 assertThat(getResponse.getBody().bookingStatus()).isEqualTo(BookingStatus.CONFIRMED);
             });
         }
+
+        @Test
+        @DisplayName("Should change the ETag when an unpaid booking is auto-cancelled")
+        void shouldChangeETagWhenAutoCancelled() {
+            // Arrange - A pending booking starting within the payment deadline
+            BookingRequestDTO request = new BookingRequestDTO(
+                    "Auto Cancel User",
+                    "VH-INT-009",
+                    VehicleCategory.SEDAN,
+                    LocalDate.now().plusDays(1),
+                    LocalDate.now().plusDays(4),
+                    PaymentMode.BANK_TRANSFER,
+                    "BT-AUTO-001"
+            );
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            ResponseEntity<BookingResponseDTO> createResponse = restTemplate.postForEntity(
+                    baseUrl, new HttpEntity<>(request, headers), BookingResponseDTO.class);
+
+            assertThat(createResponse.getBody()).isNotNull();
+            String bookingId = createResponse.getBody().bookingId();
+            String pendingETag = restTemplate.getForEntity(baseUrl + "/" + bookingId, BookingResponseDTO.class)
+                    .getHeaders().getETag();
+
+            // Act
+            bookingCancellationService.cancelUnpaidBankTransferBookings();
+
+            // Assert - A client revalidating with the old ETag must get the cancelled booking, not a 304
+            HttpHeaders conditional = new HttpHeaders();
+            conditional.setIfNoneMatch(pendingETag);
+            ResponseEntity<BookingResponseDTO> getResponse = restTemplate.exchange(baseUrl + "/" + bookingId,
+                    HttpMethod.GET, new HttpEntity<>(conditional), BookingResponseDTO.class);
+
+            assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(getResponse.getBody()).isNotNull();
+            assertThat(getResponse.getBody().bookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+            assertThat(getResponse.getHeaders().getETag()).isNotNull().isNotEqualTo(pendingETag);
+        }
     }
 
     @Nested
@@ -264,7 +307,7 @@ class BookingIntegrationTest {
         void shouldReturn404ForNonExistentBooking() {
             // Act
             ResponseEntity<String> response = restTemplate.getForEntity(
-                    baseUrl + "/NONEXISTENT", String.class);
+                    baseUrl + "/BKG9999999", String.class);
 
             // Assert
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);